@@ -0,0 +1,105 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark;
+
+import com.tenio.core.manager.BlockingQueueManager;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the handoff through {@link BlockingQueueManager}, producers route elements by their
+ * ids to the queues and consumers drain the queues by their indexes, which mirrors the way session
+ * tickets are passed between the reader and the writer threads.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingQueueManagerBenchmark {
+
+  @Param({"2"})
+  public int cacheSize;
+
+  @Param({"4096"})
+  public int queueCapacity;
+
+  private final AtomicLong elementIds = new AtomicLong();
+  private final AtomicLong consumerIds = new AtomicLong();
+  private BlockingQueueManager<Long> queueManager;
+
+  /**
+   * Prepares the queues.
+   */
+  @Setup
+  public void setup() {
+    queueManager =
+        new BlockingQueueManager<>(cacheSize, () -> new LinkedBlockingQueue<>(queueCapacity));
+  }
+
+  /**
+   * Offers an element to the queue selected by its id.
+   *
+   * @return {@code true} if the element was accepted
+   */
+  @Benchmark
+  @Group("handoff")
+  @GroupThreads(2)
+  public boolean offer() {
+    long elementId = elementIds.getAndIncrement();
+    return queueManager.getQueueByElementId(elementId).offer(elementId);
+  }
+
+  /**
+   * Polls an element from one of the queues, it returns {@code null} when the queue is empty.
+   *
+   * @return the polled element
+   */
+  @Benchmark
+  @Group("handoff")
+  @GroupThreads(2)
+  public Long poll() {
+    int index = (int) (consumerIds.getAndIncrement() % cacheSize);
+    return queueManager.getQueueByIndex(index).poll();
+  }
+}
@@ -0,0 +1,218 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import java.io.ByteArrayOutputStream;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link BinaryPacketEncoderImpl#encode(Packet)} and
+ * {@link BinaryPacketDecoderImpl#decode(byte[])} with and without compression and encryption.
+ *
+ * <p>The repository does not ship any compressor or encryptor, so plain Deflate and AES/CTR
+ * implementations are used here as representative workloads.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+  @Param({"plain", "compressed", "encrypted", "compressed-encrypted"})
+  public String mode;
+
+  @Param({"64", "1024"})
+  public int payloadFields;
+
+  private BinaryPacketEncoderImpl encoder;
+  private BinaryPacketDecoderImpl decoder;
+  private byte[] payload;
+  private byte[] encoded;
+  private boolean encrypted;
+
+  /**
+   * Prepares the codec pair and one encoded message for the decoding benchmark.
+   */
+  @Setup
+  public void setup() {
+    boolean compressed = mode.startsWith("compressed");
+    encrypted = mode.endsWith("encrypted");
+
+    encoder = new BinaryPacketEncoderImpl();
+    decoder = new BinaryPacketDecoderImpl();
+    if (compressed) {
+      var compressor = new DeflateCompressor();
+      encoder.setCompressor(compressor);
+      decoder.setCompressor(compressor);
+      encoder.setCompressionThresholdBytes(1);
+    } else {
+      encoder.setCompressionThresholdBytes(0);
+    }
+    if (encrypted) {
+      var encryptor = new AesCtrEncryptor();
+      encoder.setEncryptor(encryptor);
+      decoder.setEncryptor(encryptor);
+    }
+
+    var map = ZeroUtility.newZeroMap();
+    for (int i = 0; i < payloadFields; i++) {
+      map.putString("key-" + i, "value-" + (i % 16));
+    }
+    payload = map.toBinaries();
+    encoded = encoder.encode(newPacket()).getData();
+  }
+
+  /**
+   * Encodes a new packet, the encoder replaces the packet's data, so a fresh one is needed for
+   * every invocation.
+   *
+   * @return the encoded binaries
+   */
+  @Benchmark
+  public byte[] encode() {
+    return encoder.encode(newPacket()).getData();
+  }
+
+  /**
+   * Decodes an already encoded message.
+   *
+   * @return the decoded message
+   */
+  @Benchmark
+  public DataCollection decode() {
+    return decoder.decode(encoded);
+  }
+
+  private Packet newPacket() {
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.needsEncrypted(encrypted);
+    packet.needsDataCounting(false);
+    packet.setData(payload);
+    return packet;
+  }
+
+  private static final class DeflateCompressor implements BinaryPacketCompressor {
+
+    @Override
+    public byte[] compress(byte[] binaries) throws PacketCompressorException {
+      var deflater = new Deflater(Deflater.BEST_SPEED);
+      try {
+        deflater.setInput(binaries);
+        deflater.finish();
+        var outputStream = new ByteArrayOutputStream(binaries.length);
+        var buffer = new byte[1024];
+        while (!deflater.finished()) {
+          outputStream.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return outputStream.toByteArray();
+      } finally {
+        deflater.end();
+      }
+    }
+
+    @Override
+    public byte[] uncompress(byte[] binaries) throws PacketCompressorException {
+      var inflater = new Inflater();
+      try {
+        inflater.setInput(binaries);
+        var outputStream = new ByteArrayOutputStream(binaries.length * 4);
+        var buffer = new byte[1024];
+        while (!inflater.finished()) {
+          int inflated = inflater.inflate(buffer);
+          if (inflated == 0 && inflater.needsInput()) {
+            break;
+          }
+          outputStream.write(buffer, 0, inflated);
+        }
+        return outputStream.toByteArray();
+      } catch (DataFormatException exception) {
+        throw new PacketCompressorException(exception.getMessage());
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+
+  private static final class AesCtrEncryptor implements BinaryPacketEncryptor {
+
+    private final SecretKeySpec key = new SecretKeySpec(new byte[16], "AES");
+    private final IvParameterSpec iv = new IvParameterSpec(new byte[16]);
+
+    @Override
+    public byte[] encrypt(byte[] binaries) throws PacketEncryptorException {
+      return process(Cipher.ENCRYPT_MODE, binaries);
+    }
+
+    @Override
+    public byte[] decrypt(byte[] binaries) throws PacketEncryptorException {
+      return process(Cipher.DECRYPT_MODE, binaries);
+    }
+
+    private byte[] process(int cipherMode, byte[] binaries) throws PacketEncryptorException {
+      try {
+        var cipher = Cipher.getInstance("AES/CTR/NoPadding");
+        cipher.init(cipherMode, key, iv);
+        return cipher.doFinal(binaries);
+      } catch (GeneralSecurityException exception) {
+        throw new PacketEncryptorException(exception.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark;
+
+import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.event.implement.EventManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatching cost of {@link EventManager#emit(ServerEvent, Object...)} and
+ * {@link EventManager#emit(ServerEvent, Object, Object)}.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventManagerBenchmark {
+
+  private final Object first = "session";
+  private final Object second = 1;
+  private EventManager eventManager;
+
+  /**
+   * Registers the subscribers.
+   */
+  @Setup
+  public void setup() {
+    eventManager = EventManager.newInstance();
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE,
+        (Object session, Object message) -> message);
+    eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER, params -> params[1]);
+    eventManager.subscribe();
+  }
+
+  /**
+   * Stops the event workers if there is any.
+   */
+  @TearDown
+  public void tearDown() {
+    eventManager.shutdown();
+  }
+
+  /**
+   * Emits two parameters to a typed subscriber.
+   *
+   * @return the subscriber's result
+   */
+  @Benchmark
+  public Object emitTyped() {
+    return eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, first, second);
+  }
+
+  /**
+   * Emits an array of parameters to a subscriber.
+   *
+   * @return the subscriber's result
+   */
+  @Benchmark
+  public Object emitVarargs() {
+    return eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, first, second, first);
+  }
+
+  /**
+   * Emits an event which has no subscriber.
+   *
+   * @return always {@code null}
+   */
+  @Benchmark
+  public Object emitWithoutSubscriber() {
+    return eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, first, second);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark;
+
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.implement.SessionImpl;
+import com.tenio.core.network.zero.handler.frame.BinaryPacketFramer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link BinaryPacketFramer#framing(Session, ByteBuffer)} for a stream of frames which
+ * arrives either coalesced in one socket read or split into small reads.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramerBenchmark {
+
+  @Param({"16"})
+  public int framesPerStream;
+
+  @Param({"7", "64"})
+  public int splitChunkBytes;
+
+  private BinaryPacketFramer framer;
+  private Session session;
+  private byte[] stream;
+
+  /**
+   * Prepares a stream of encoded frames and a framer delivering its results to the black hole.
+   *
+   * @param blackhole the {@link Blackhole} consumes the framed messages
+   */
+  @Setup
+  public void setup(Blackhole blackhole) {
+    var encoder = new BinaryPacketEncoderImpl();
+    encoder.setCompressionThresholdBytes(0);
+
+    var map = ZeroUtility.newZeroMap();
+    map.putString("command", "move");
+    map.putInteger("x", 100);
+    map.putInteger("y", 200);
+    byte[] payload = map.toBinaries();
+
+    var streamBuffer = ByteBuffer.allocate(framesPerStream * (payload.length + Integer.BYTES + 1));
+    for (int i = 0; i < framesPerStream; i++) {
+      var packet = PacketImpl.newInstance();
+      packet.setDataType(DataType.ZERO);
+      packet.needsDataCounting(true);
+      packet.setData(payload);
+      streamBuffer.put(encoder.encode(packet).getData());
+    }
+    stream = new byte[streamBuffer.position()];
+    streamBuffer.flip().get(stream);
+
+    session = SessionImpl.newInstance();
+    framer = new BinaryPacketFramer();
+    framer.setBinaryPacketDecoder(new BinaryPacketDecoderImpl());
+    framer.setPacketFramingResult((framedSession, message) -> blackhole.consume(message));
+  }
+
+  /**
+   * All frames are delivered in one read.
+   */
+  @Benchmark
+  public void coalesced() {
+    framer.framing(session, ByteBuffer.wrap(stream));
+  }
+
+  /**
+   * The same frames are delivered in small reads, so headers and payloads are split across
+   * reads.
+   */
+  @Benchmark
+  public void split() {
+    for (int offset = 0; offset < stream.length; offset += splitChunkBytes) {
+      framer.framing(session,
+          ByteBuffer.wrap(stream, offset, Math.min(splitChunkBytes, stream.length - offset)));
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark;
+
+import com.tenio.core.exception.PacketQueueFullException;
+import com.tenio.core.exception.PacketQueuePolicyViolationException;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.packet.PacketQueue;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.packet.implement.PacketQueueImpl;
+import com.tenio.core.network.entity.packet.implement.RingPacketQueueImpl;
+import com.tenio.core.network.entity.packet.policy.DefaultPacketQueuePolicy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PacketQueue#put(Packet)} and {@link PacketQueue#take()} of a session's packet
+ * queue, while the producers (responding threads) and the consumer (the socket writer) contend on
+ * the same queue.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketQueueBenchmark {
+
+  @Param({"linked", "ring"})
+  public String implementation;
+
+  @Param({"1024"})
+  public int maxSize;
+
+  private PacketQueue packetQueue;
+  private Packet packet;
+
+  /**
+   * Prepares the packet queue.
+   */
+  @Setup
+  public void setup() {
+    packetQueue = "ring".equals(implementation) ? RingPacketQueueImpl.newInstance() :
+        PacketQueueImpl.newInstance();
+    packetQueue.configureMaxSize(maxSize);
+    packetQueue.configurePacketQueuePolicy(new DefaultPacketQueuePolicy());
+    packet = PacketImpl.newInstance();
+  }
+
+  /**
+   * Puts the packet, a rejected packet is counted as a completed operation like in the server.
+   *
+   * @return {@code true} if the packet was accepted
+   */
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(3)
+  public boolean put() {
+    try {
+      packetQueue.put(packet);
+      return true;
+    } catch (PacketQueueFullException | PacketQueuePolicyViolationException exception) {
+      return false;
+    }
+  }
+
+  /**
+   * Takes the first packet, it returns {@code null} when the queue is empty.
+   *
+   * @return the taken {@link Packet}
+   */
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(1)
+  public Packet take() {
+    return packetQueue.take();
+  }
+}
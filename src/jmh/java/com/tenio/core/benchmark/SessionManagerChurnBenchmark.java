@@ -0,0 +1,124 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.benchmark;
+
+import static org.mockito.Mockito.mock;
+
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.entity.session.manager.SessionManagerImpl;
+import io.netty.channel.Channel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the connect/disconnect churn of the session registry. Several threads create and
+ * remove sessions while another one keeps reading the registry's snapshot, which mirrors the
+ * way the connection handlers and the system tasks share {@link SessionManager}.
+ *
+ * @since 0.6.7
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionManagerChurnBenchmark {
+
+  @Param({"10000"})
+  public int connectedSessions;
+
+  private SessionManager sessionManager;
+
+  /**
+   * Prepares the registry with a number of long-lived sessions.
+   */
+  @Setup
+  public void setup() {
+    sessionManager = SessionManagerImpl.newInstance(EventManager.newInstance());
+    for (int i = 0; i < connectedSessions; i++) {
+      sessionManager.createWebSocketSession(mock(Channel.class));
+    }
+  }
+
+  /**
+   * Connects a session and disconnects it right after.
+   *
+   * @param channelState the channel owned by the calling thread
+   * @return the removed session
+   */
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(4)
+  public Session connectAndDisconnect(ChannelState channelState) {
+    var session = sessionManager.createWebSocketSession(channelState.channel);
+    sessionManager.removeSession(sessionManager.getSessionByWebSocket(channelState.channel));
+    return session;
+  }
+
+  /**
+   * Reads the snapshot of all sessions while the others are churning.
+   *
+   * @return the snapshot
+   */
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(1)
+  public List<Session> readSnapshot() {
+    return sessionManager.getReadonlySessionsList();
+  }
+
+  /**
+   * Holds the channel a thread connects and disconnects repeatedly.
+   */
+  @State(Scope.Thread)
+  public static class ChannelState {
+
+    private Channel channel;
+
+    /**
+     * Prepares the channel.
+     */
+    @Setup
+    public void setup() {
+      channel = mock(Channel.class);
+    }
+  }
+}
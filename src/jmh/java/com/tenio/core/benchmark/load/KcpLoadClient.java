@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.core.network.configuration.KcpConfiguration;
+import com.tenio.core.network.define.TransportType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import kcp.KcpClient;
+import kcp.KcpListener;
+import kcp.Ukcp;
+
+/**
+ * The client logs in on TCP, then opens a KCP conversation with the conversation id granted by
+ * the server and sends the following messages on it.
+ *
+ * @since 0.6.7
+ */
+final class KcpLoadClient extends TcpLoadClient implements KcpListener {
+
+  private final KcpClient kcpClient;
+  private final InetSocketAddress kcpAddress;
+  private final BlockingQueue<ZeroMap> receivedMessages;
+  private volatile Ukcp ukcp;
+
+  KcpLoadClient(String playerName, InetSocketAddress tcpAddress, KcpClient kcpClient,
+                InetSocketAddress kcpAddress) {
+    super(playerName, TransportType.KCP, tcpAddress);
+    this.kcpClient = kcpClient;
+    this.kcpAddress = kcpAddress;
+    receivedMessages = new LinkedBlockingQueue<>();
+  }
+
+  @Override
+  void connect(int timeoutInMilliseconds) throws IOException, InterruptedException {
+    super.connect(timeoutInMilliseconds);
+
+    // the server identifies KCP conversations by their ids
+    var channelConfig = KcpConfiguration.inTurboMode();
+    channelConfig.setConv(getKcpConveyId());
+    ukcp = kcpClient.connect(kcpAddress, channelConfig, this);
+
+    send(newLoginMessage());
+    awaitCommand(LoadTestProtocol.COMMAND_KCP_READY, timeoutInMilliseconds);
+  }
+
+  @Override
+  void send(ZeroMap message) {
+    ByteBuf frame = Unpooled.wrappedBuffer(LoadTestProtocol.encode(message, false));
+    try {
+      ukcp.write(frame);
+    } finally {
+      frame.release();
+    }
+  }
+
+  @Override
+  ZeroMap receive(int timeoutInMilliseconds) throws InterruptedException {
+    return receivedMessages.poll(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  void close() {
+    if (ukcp != null) {
+      ukcp.close();
+    }
+    super.close();
+  }
+
+  @Override
+  public void onConnected(Ukcp ukcp) {
+    // nothing to do, the conversation is introduced by the first message
+  }
+
+  @Override
+  public void handleReceive(ByteBuf byteBuf, Ukcp ukcp) {
+    var binaries = new byte[byteBuf.readableBytes()];
+    byteBuf.getBytes(byteBuf.readerIndex(), binaries);
+    var message = LoadTestProtocol.decode(binaries);
+    if (message != null) {
+      receivedMessages.offer(message);
+    }
+  }
+
+  @Override
+  public void handleException(Throwable cause, Ukcp ukcp) {
+    ukcp.close();
+  }
+
+  @Override
+  public void handleClose(Ukcp ukcp) {
+    // nothing to do, the waiting messages time out
+  }
+}
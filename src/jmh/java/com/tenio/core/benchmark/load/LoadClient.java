@@ -0,0 +1,176 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.core.network.define.TransportType;
+import java.io.IOException;
+
+/**
+ * A simulated client. It logs in a player, then sends messages carrying their sending time and
+ * waits for the server to echo them back.
+ *
+ * @since 0.6.7
+ */
+abstract class LoadClient {
+
+  /**
+   * The returned round trip time when an echo did not arrive in time.
+   */
+  static final long TIMED_OUT = -1L;
+
+  private final String playerName;
+  private final TransportType transportType;
+
+  LoadClient(String playerName, TransportType transportType) {
+    this.playerName = playerName;
+    this.transportType = transportType;
+  }
+
+  /**
+   * Opens the client's channels and logs its player in, the method returns when the client is
+   * ready to send messages.
+   *
+   * @param timeoutInMilliseconds the maximum time waiting for each server's reply
+   * @throws IOException          when the server could not be reached or did not reply in time
+   * @throws InterruptedException when the waiting thread was interrupted
+   */
+  abstract void connect(int timeoutInMilliseconds) throws IOException, InterruptedException;
+
+  /**
+   * Sends a message on the client's transport.
+   *
+   * @param message the {@link ZeroMap} message
+   * @throws IOException when the message could not be sent
+   */
+  abstract void send(ZeroMap message) throws IOException;
+
+  /**
+   * Receives the next message on the client's transport.
+   *
+   * @param timeoutInMilliseconds the maximum waiting time
+   * @return the received {@link ZeroMap} message or {@code null} if nothing arrived in time
+   * @throws IOException          when the channel was broken
+   * @throws InterruptedException when the waiting thread was interrupted
+   */
+  abstract ZeroMap receive(int timeoutInMilliseconds) throws IOException, InterruptedException;
+
+  /**
+   * Closes all the client's channels.
+   */
+  abstract void close();
+
+  /**
+   * Sends an echo message.
+   *
+   * @param sequence the message's sequence number
+   * @throws IOException when the message could not be sent
+   */
+  void sendEcho(long sequence) throws IOException {
+    var message = ZeroUtility.newZeroMap();
+    message.putString(LoadTestProtocol.KEY_TRANSPORT, transportType.getValue());
+    message.putLong(LoadTestProtocol.KEY_SEQUENCE, sequence);
+    message.putLong(LoadTestProtocol.KEY_SENT_NANO_TIME, System.nanoTime());
+    send(message);
+  }
+
+  /**
+   * Waits for the echo of a message, the late echoes of previously timed out messages are
+   * skipped.
+   *
+   * @param sequence              the message's sequence number
+   * @param timeoutInMilliseconds the maximum waiting time
+   * @return the round trip time in nanoseconds or {@link #TIMED_OUT}
+   * @throws IOException          when the channel was broken
+   * @throws InterruptedException when the waiting thread was interrupted
+   */
+  long awaitEcho(long sequence, int timeoutInMilliseconds)
+      throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + timeoutInMilliseconds * 1_000_000L;
+    while (true) {
+      int remaining = (int) ((deadline - System.nanoTime()) / 1_000_000L);
+      if (remaining <= 0) {
+        return TIMED_OUT;
+      }
+      var message = receive(remaining);
+      if (message == null) {
+        return TIMED_OUT;
+      }
+      if (message.containsKey(LoadTestProtocol.KEY_SEQUENCE) &&
+          message.getLong(LoadTestProtocol.KEY_SEQUENCE) == sequence) {
+        return System.nanoTime() - message.getLong(LoadTestProtocol.KEY_SENT_NANO_TIME);
+      }
+    }
+  }
+
+  /**
+   * Waits for a command sent by the server.
+   *
+   * @param command               the expected command
+   * @param timeoutInMilliseconds the maximum waiting time
+   * @return the {@link ZeroMap} message containing the command
+   * @throws IOException          when the command did not arrive in time
+   * @throws InterruptedException when the waiting thread was interrupted
+   */
+  ZeroMap awaitCommand(String command, int timeoutInMilliseconds)
+      throws IOException, InterruptedException {
+    return expectCommand(receive(timeoutInMilliseconds), command);
+  }
+
+  /**
+   * Checks if a received message contains the expected command.
+   *
+   * @param message the received {@link ZeroMap} message, it is {@code null} when nothing arrived
+   *                in time
+   * @param command the expected command
+   * @return the message
+   * @throws IOException when the message does not contain the command
+   */
+  final ZeroMap expectCommand(ZeroMap message, String command) throws IOException {
+    if (message == null || !message.containsKey(LoadTestProtocol.KEY_COMMAND) ||
+        !command.equals(message.getString(LoadTestProtocol.KEY_COMMAND))) {
+      throw new IOException(
+          String.format("%s did not receive the command '%s' in time", playerName, command));
+    }
+    return message;
+  }
+
+  /**
+   * Creates the message which introduces the player on a new channel.
+   *
+   * @return the {@link ZeroMap} message
+   */
+  ZeroMap newLoginMessage() {
+    var message = ZeroUtility.newZeroMap();
+    message.putString(LoadTestProtocol.KEY_PLAYER_NAME, playerName);
+    return message;
+  }
+
+  String getPlayerName() {
+    return playerName;
+  }
+}
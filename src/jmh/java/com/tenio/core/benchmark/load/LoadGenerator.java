@@ -0,0 +1,256 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tenio.core.network.configuration.KcpConfiguration;
+import com.tenio.core.network.define.TransportType;
+import com.tenio.core.network.statistic.LatencyHistogram;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import kcp.KcpClient;
+
+/**
+ * Drives the simulated clients of one transport after another.
+ *
+ * <p>The clients are shared among a few threads. In every round, a thread sends one message on
+ * each of its clients, then collects their echoes, so all clients have one message in flight at
+ * the same time without needing one thread per client.
+ *
+ * @since 0.6.7
+ */
+final class LoadGenerator {
+
+  private static final String CLIENT_THREAD_PREFIX = "load-";
+  private static final String HTTP_CLIENT_THREAD_PREFIX = "HttpClient-";
+
+  private final LoadTestOptions options;
+  private final String host;
+  private final int tcpPort;
+  private final int udpPort;
+  private final int webSocketPort;
+  private final int kcpPort;
+  private final ExecutorService clientExecutor;
+  private final ExecutorService webSocketExecutor;
+
+  LoadGenerator(LoadTestOptions options, String host, int tcpPort, int udpPort,
+                int webSocketPort, int kcpPort) {
+    this.options = options;
+    this.host = host;
+    this.tcpPort = tcpPort;
+    this.udpPort = udpPort;
+    this.webSocketPort = webSocketPort;
+    this.kcpPort = kcpPort;
+    clientExecutor = Executors.newFixedThreadPool(options.numberThreads(),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("load-client-%d").build());
+    webSocketExecutor = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("load-websocket-%d").build());
+  }
+
+  /**
+   * Runs all configured transports in order.
+   *
+   * @return the list of {@link LoadTestResult}s
+   * @throws Exception when a transport could not be run
+   */
+  List<LoadTestResult> runAll() throws Exception {
+    var results = new ArrayList<LoadTestResult>();
+    try {
+      for (var transportType : options.transportTypes()) {
+        results.add(run(transportType));
+      }
+    } finally {
+      clientExecutor.shutdownNow();
+      webSocketExecutor.shutdownNow();
+    }
+    return results;
+  }
+
+  private LoadTestResult run(TransportType transportType) throws Exception {
+    KcpClient kcpClient = null;
+    HttpClient httpClient = null;
+    if (transportType == TransportType.KCP) {
+      kcpClient = new KcpClient();
+      kcpClient.init(KcpConfiguration.inTurboMode());
+    } else if (transportType == TransportType.WEB_SOCKET) {
+      httpClient = HttpClient.newBuilder().executor(webSocketExecutor).build();
+    }
+
+    var clients = new ArrayList<LoadClient>(options.numberClients());
+    for (int i = 0; i < options.numberClients(); i++) {
+      clients.add(newClient(transportType, transportType.getValue() + "-" + i, kcpClient,
+          httpClient));
+    }
+    var shares = new ArrayList<List<LoadClient>>(options.numberThreads());
+    for (int i = 0; i < options.numberThreads(); i++) {
+      shares.add(new ArrayList<>());
+    }
+    for (int i = 0; i < clients.size(); i++) {
+      shares.get(i % options.numberThreads()).add(clients.get(i));
+    }
+
+    try {
+      // connecting phase
+      long startedTime = System.nanoTime();
+      int connectedClients = (int) sum(runShares(shares, this::connect));
+      long connectNanoTime = System.nanoTime() - startedTime;
+
+      // warming up phase, nothing is measured
+      var warmupHistogram = LatencyHistogram.newInstance();
+      var warmupTimedOut = new AtomicLong();
+      runShares(shares, share -> exchange(share, 0, options.warmupMessages(), warmupHistogram,
+          warmupTimedOut));
+
+      // measured phase
+      var histogram = LatencyHistogram.newInstance();
+      var timedOutMessages = new AtomicLong();
+      var serverUsageBefore = ResourceUsage.sample(LoadGenerator::isServerThread);
+      startedTime = System.nanoTime();
+      long echoedMessages = sum(runShares(shares, share -> exchange(share,
+          options.warmupMessages(), options.messages(), histogram, timedOutMessages)));
+      long runNanoTime = System.nanoTime() - startedTime;
+      var serverUsage =
+          ResourceUsage.sample(LoadGenerator::isServerThread).minus(serverUsageBefore);
+
+      return new LoadTestResult(transportType, options.numberClients(), connectedClients,
+          connectNanoTime, echoedMessages, timedOutMessages.get(), runNanoTime,
+          histogram.getSnapshot(), serverUsage);
+    } finally {
+      clients.forEach(LoadClient::close);
+      if (kcpClient != null) {
+        kcpClient.stop();
+      }
+    }
+  }
+
+  private LoadClient newClient(TransportType transportType, String playerName,
+                               KcpClient kcpClient, HttpClient httpClient) {
+    var tcpAddress = new InetSocketAddress(host, tcpPort);
+    return switch (transportType) {
+      case TCP -> new TcpLoadClient(playerName, tcpAddress);
+      case UDP -> new UdpLoadClient(playerName, tcpAddress, new InetSocketAddress(host, udpPort));
+      case KCP -> new KcpLoadClient(playerName, tcpAddress, kcpClient,
+          new InetSocketAddress(host, kcpPort));
+      case WEB_SOCKET -> new WebSocketLoadClient(playerName, httpClient,
+          URI.create("ws://" + host + ":" + webSocketPort + "/"));
+      default -> throw new IllegalArgumentException("Unsupported transport: " + transportType);
+    };
+  }
+
+  // the clients failed to connect are removed from the share
+  private long connect(List<LoadClient> share) throws InterruptedException {
+    var iterator = share.iterator();
+    while (iterator.hasNext()) {
+      var client = iterator.next();
+      try {
+        client.connect(options.timeoutInMilliseconds());
+      } catch (IOException exception) {
+        System.err.printf("Failed to connect %s: %s%n", client.getPlayerName(),
+            exception.getMessage());
+        client.close();
+        iterator.remove();
+      }
+    }
+    return share.size();
+  }
+
+  // the broken clients are removed from the share, their messages are counted as timed out
+  private long exchange(List<LoadClient> share, long firstSequence, int rounds,
+                        LatencyHistogram histogram, AtomicLong timedOutMessages)
+      throws InterruptedException {
+    long echoedMessages = 0;
+    for (int round = 0; round < rounds; round++) {
+      long sequence = firstSequence + round;
+      var iterator = share.iterator();
+      while (iterator.hasNext()) {
+        var client = iterator.next();
+        try {
+          client.sendEcho(sequence);
+        } catch (IOException exception) {
+          client.close();
+          iterator.remove();
+          timedOutMessages.addAndGet(rounds - round);
+        }
+      }
+      iterator = share.iterator();
+      while (iterator.hasNext()) {
+        var client = iterator.next();
+        try {
+          long roundTripTime = client.awaitEcho(sequence, options.timeoutInMilliseconds());
+          if (roundTripTime == LoadClient.TIMED_OUT) {
+            timedOutMessages.incrementAndGet();
+          } else {
+            histogram.record(roundTripTime);
+            echoedMessages++;
+          }
+        } catch (IOException exception) {
+          client.close();
+          iterator.remove();
+          timedOutMessages.addAndGet(rounds - round);
+        }
+      }
+    }
+    return echoedMessages;
+  }
+
+  private List<Long> runShares(List<List<LoadClient>> shares, ShareTask task)
+      throws InterruptedException, ExecutionException {
+    var futures = new ArrayList<Future<Long>>(shares.size());
+    for (var share : shares) {
+      Callable<Long> callable = () -> task.run(share);
+      futures.add(clientExecutor.submit(callable));
+    }
+    var results = new ArrayList<Long>(futures.size());
+    for (var future : futures) {
+      results.add(future.get());
+    }
+    return results;
+  }
+
+  private static long sum(List<Long> values) {
+    return values.stream().mapToLong(Long::longValue).sum();
+  }
+
+  private static boolean isServerThread(String threadName) {
+    return !threadName.startsWith(CLIENT_THREAD_PREFIX) &&
+        !threadName.startsWith(HTTP_CLIENT_THREAD_PREFIX);
+  }
+
+  @FunctionalInterface
+  private interface ShareTask {
+    long run(List<LoadClient> share) throws InterruptedException;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.core.ApplicationLauncher;
+import com.tenio.core.bootstrap.annotation.Bootstrap;
+import com.tenio.core.configuration.define.CoreConfigurationType;
+import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.server.ServerImpl;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-process load test. It boots the server with a test configuration, then drives thousands
+ * of simulated clients over the loopback interface on TCP, UDP, WebSocket and KCP, and reports for
+ * each transport: the connect rate, the echoed messages per second, the round trip time
+ * percentiles, and the server threads' CPU time and allocated bytes per message.
+ *
+ * <p>Run it with: {@code mvn -P benchmark,load-test verify -Dload.args="--clients=2000"}, see
+ * {@link LoadTestOptions} for all arguments. The server and the clients share the same machine,
+ * so the results are meant to compare builds and configurations rather than to be absolute
+ * capacity figures.
+ *
+ * @since 0.6.7
+ */
+@Bootstrap
+public final class LoadTestApplication {
+
+  private static final int SERVER_STARTING_TIMEOUT_IN_SECONDS = 60;
+  // the network channels are activated right after the initialization event
+  private static final int SERVER_SETTLING_TIME_IN_MILLISECONDS = 1_000;
+  private static final CountDownLatch SERVER_INITIALIZATION = new CountDownLatch(1);
+
+  private LoadTestApplication() {
+  }
+
+  /**
+   * The load test's entry point.
+   *
+   * @param arguments the {@code --name=value} arguments described in {@link LoadTestOptions}
+   * @throws Exception when the load test could not be run
+   */
+  public static void main(String[] arguments) throws Exception {
+    var options = LoadTestOptions.parse(arguments);
+
+    // the launcher keeps its thread alive as long as the server is running
+    var serverThread = new Thread(() -> ApplicationLauncher.run(LoadTestApplication.class,
+        new String[] {options.configurationFile()}), "load-test-server");
+    serverThread.setDaemon(true);
+    serverThread.start();
+
+    if (!SERVER_INITIALIZATION.await(SERVER_STARTING_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("The server did not start in time");
+    }
+    Thread.sleep(SERVER_SETTLING_TIME_IN_MILLISECONDS);
+
+    var server = ServerImpl.getInstance();
+    var configuration = server.getConfiguration();
+    var generator = new LoadGenerator(options,
+        configuration.getString(CoreConfigurationType.SERVER_ADDRESS),
+        portOf(configuration.get(CoreConfigurationType.NETWORK_TCP)),
+        portOf(configuration.get(CoreConfigurationType.NETWORK_UDP)),
+        portOf(configuration.get(CoreConfigurationType.NETWORK_WEBSOCKET)),
+        portOf(configuration.get(CoreConfigurationType.NETWORK_KCP)));
+    var results = generator.runAll();
+
+    System.out.printf("%nLoad test: %d clients per transport, %d threads, %d messages per client%n",
+        options.numberClients(), options.numberThreads(), options.messages());
+    LoadTestResult.printHeader();
+    results.forEach(LoadTestResult::print);
+
+    // the server stops the JVM
+    server.shutdown();
+  }
+
+  /**
+   * Informs that the server was initialized, it is called by the server initialization handler.
+   */
+  public static void markServerInitialized() {
+    SERVER_INITIALIZATION.countDown();
+  }
+
+  private static int portOf(Object socketConfiguration) {
+    return socketConfiguration instanceof SocketConfiguration configuration ?
+        configuration.port() : 0;
+  }
+}
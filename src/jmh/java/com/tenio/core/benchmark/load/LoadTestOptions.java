@@ -0,0 +1,111 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.core.network.define.TransportType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The options of a load test run, they are given as {@code --name=value} arguments.
+ *
+ * <ul>
+ *   <li>{@code --configuration}: the server's configuration file</li>
+ *   <li>{@code --transports}: the comma separated transports to test in order, among
+ *   {@code tcp}, {@code udp}, {@code websocket} and {@code kcp}</li>
+ *   <li>{@code --clients}: the number of simulated clients per transport</li>
+ *   <li>{@code --threads}: the number of threads driving the clients</li>
+ *   <li>{@code --warmup-messages}: the number of unmeasured messages each client sends first</li>
+ *   <li>{@code --messages}: the number of measured messages each client sends</li>
+ *   <li>{@code --timeout}: the maximum waiting time for a reply in milliseconds</li>
+ * </ul>
+ *
+ * @param configurationFile     the server's configuration file
+ * @param transportTypes        the transports to test in order
+ * @param numberClients         the number of simulated clients per transport
+ * @param numberThreads         the number of threads driving the clients
+ * @param warmupMessages        the number of unmeasured messages each client sends first
+ * @param messages              the number of measured messages each client sends
+ * @param timeoutInMilliseconds the maximum waiting time for a reply
+ * @since 0.6.7
+ */
+record LoadTestOptions(String configurationFile, List<TransportType> transportTypes,
+                       int numberClients, int numberThreads, int warmupMessages, int messages,
+                       int timeoutInMilliseconds) {
+
+  private static final String DEFAULT_CONFIGURATION_FILE =
+      "src/jmh/resources/load-test/configuration.xml";
+  private static final String DEFAULT_TRANSPORTS = "tcp,udp,websocket,kcp";
+
+  /**
+   * Parses the command line arguments, the absent options take their default values.
+   *
+   * @param arguments the command line arguments
+   * @return a new instance of {@link LoadTestOptions}
+   * @throws IllegalArgumentException when an argument is unknown or malformed
+   */
+  static LoadTestOptions parse(String[] arguments) {
+    String configurationFile = DEFAULT_CONFIGURATION_FILE;
+    String transports = DEFAULT_TRANSPORTS;
+    int numberClients = 1_000;
+    int numberThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    int warmupMessages = 20;
+    int messages = 100;
+    int timeoutInMilliseconds = 2_000;
+
+    for (String argument : arguments) {
+      int separator = argument.indexOf('=');
+      if (!argument.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected an argument as --name=value: " + argument);
+      }
+      var name = argument.substring(2, separator);
+      var value = argument.substring(separator + 1);
+      switch (name) {
+        case "configuration" -> configurationFile = value;
+        case "transports" -> transports = value;
+        case "clients" -> numberClients = Integer.parseInt(value);
+        case "threads" -> numberThreads = Integer.parseInt(value);
+        case "warmup-messages" -> warmupMessages = Integer.parseInt(value);
+        case "messages" -> messages = Integer.parseInt(value);
+        case "timeout" -> timeoutInMilliseconds = Integer.parseInt(value);
+        default -> throw new IllegalArgumentException("Unknown argument: " + argument);
+      }
+    }
+
+    var transportTypes = new ArrayList<TransportType>();
+    for (String transport : transports.split(",")) {
+      var transportType = TransportType.getByValue(transport.trim());
+      if (transportType == null || transportType == TransportType.UNKNOWN ||
+          transportType == TransportType.HTTP) {
+        throw new IllegalArgumentException("Unsupported transport: " + transport);
+      }
+      transportTypes.add(transportType);
+    }
+
+    return new LoadTestOptions(configurationFile, List.copyOf(transportTypes), numberClients,
+        Math.min(numberThreads, numberClients), warmupMessages, messages, timeoutInMilliseconds);
+  }
+}
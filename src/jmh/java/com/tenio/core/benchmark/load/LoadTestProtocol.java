@@ -0,0 +1,133 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+
+/**
+ * The small application protocol spoken between the load clients and the load test server. The
+ * messages are {@link ZeroMap} instances framed by the server's own codec, so the clients go
+ * through the same {@link PacketHeader}, data counting and datagram convey id handling as real
+ * clients do.
+ *
+ * @since 0.6.7
+ */
+public final class LoadTestProtocol {
+
+  /**
+   * The player name, sent in the first message of every channel.
+   */
+  public static final String KEY_PLAYER_NAME = "n";
+  /**
+   * The command of a message sent by the server.
+   */
+  public static final String KEY_COMMAND = "c";
+  /**
+   * The transport a message was sent on, the server echoes the message on the same transport.
+   */
+  public static final String KEY_TRANSPORT = "p";
+  /**
+   * The sequence number of an echoed message.
+   */
+  public static final String KEY_SEQUENCE = "s";
+  /**
+   * The client side {@link System#nanoTime()} when an echoed message was sent.
+   */
+  public static final String KEY_SENT_NANO_TIME = "t";
+  /**
+   * The KCP conversation id granted to a player after logging in.
+   */
+  public static final String KEY_KCP_CONVEY_ID = "k";
+  /**
+   * The command informing that a player has logged in.
+   */
+  public static final String COMMAND_LOGGED_IN = "login";
+  /**
+   * The command informing that a player's UDP channel is ready.
+   */
+  public static final String COMMAND_UDP_READY = "udp";
+  /**
+   * The command informing that a player's KCP channel is ready.
+   */
+  public static final String COMMAND_KCP_READY = "kcp";
+
+  private static final BinaryPacketEncoder ENCODER = new BinaryPacketEncoderImpl();
+  private static final BinaryPacketDecoder DECODER = new BinaryPacketDecoderImpl();
+
+  private LoadTestProtocol() {
+    throw new UnsupportedOperationException("This class does not support to create new instance");
+  }
+
+  /**
+   * Encodes a message to a frame.
+   *
+   * @param message  the {@link ZeroMap} message
+   * @param counting sets to {@code true} if the frame is sent on a stream-oriented transport and
+   *                 needs the data size in its header
+   * @return the encoded frame
+   */
+  public static byte[] encode(ZeroMap message, boolean counting) {
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.needsDataCounting(counting);
+    packet.setData(message.toBinaries());
+    return ENCODER.encode(packet).getData();
+  }
+
+  /**
+   * Decodes a frame which does not carry the data size in its header.
+   *
+   * @param binaries the frame
+   * @return the decoded {@link ZeroMap} or {@code null} if the frame is not a map
+   */
+  public static ZeroMap decode(byte[] binaries) {
+    return asZeroMap(DECODER.decode(binaries));
+  }
+
+  /**
+   * Decodes the data of a stream frame whose header was already read.
+   *
+   * @param headerByte the first header byte
+   * @param binaries   the frame data without its header
+   * @return the decoded {@link ZeroMap} or {@code null} if the frame is not a map
+   */
+  public static ZeroMap decode(byte headerByte, byte[] binaries) {
+    return asZeroMap(DECODER.decode(CodecUtility.decodeFirstHeaderByte(headerByte), binaries));
+  }
+
+  private static ZeroMap asZeroMap(DataCollection dataCollection) {
+    return dataCollection instanceof ZeroMap zeroMap ? zeroMap : null;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.core.network.define.TransportType;
+import com.tenio.core.network.statistic.LatencySnapshot;
+
+/**
+ * The measurements of one transport.
+ *
+ * @param transportType     the tested {@link TransportType}
+ * @param numberClients     the number of simulated clients
+ * @param connectedClients  the number of clients which logged in successfully
+ * @param connectNanoTime   the time taken to log all clients in, in nanoseconds
+ * @param echoedMessages    the number of measured messages echoed back in time
+ * @param timedOutMessages  the number of measured messages whose echoes did not arrive in time
+ * @param runNanoTime       the duration of the measured phase in nanoseconds
+ * @param roundTripTime     the {@link LatencySnapshot} of the round trip times
+ * @param serverUsage       the {@link ResourceUsage} of the server's threads in the measured phase
+ * @since 0.6.7
+ */
+record LoadTestResult(TransportType transportType, int numberClients, int connectedClients,
+                      long connectNanoTime, long echoedMessages, long timedOutMessages,
+                      long runNanoTime, LatencySnapshot roundTripTime,
+                      ResourceUsage serverUsage) {
+
+  private static final String ROW_FORMAT =
+      "%-10s %8s %12s %12s %9s %10s %10s %10s %10s %12s %14s%n";
+
+  /**
+   * Prints the header of the results table.
+   */
+  static void printHeader() {
+    System.out.printf(ROW_FORMAT, "transport", "clients", "connects/s", "messages/s", "lost",
+        "rtt p50", "rtt p99", "rtt p999", "rtt max", "cpu/msg", "alloc/msg");
+  }
+
+  /**
+   * Prints the result as a row of the results table, durations are given in microseconds.
+   */
+  void print() {
+    long messages = Math.max(1, echoedMessages);
+    System.out.printf(ROW_FORMAT, transportType.getValue(),
+        connectedClients + "/" + numberClients,
+        format(connectedClients * 1e9 / Math.max(1, connectNanoTime)),
+        format(echoedMessages * 1e9 / Math.max(1, runNanoTime)),
+        timedOutMessages,
+        microseconds(roundTripTime.p50()), microseconds(roundTripTime.p99()),
+        microseconds(roundTripTime.p999()), microseconds(roundTripTime.max()),
+        microseconds(serverUsage.cpuNanoTime() / messages),
+        serverUsage.allocatedBytes() / messages + " B");
+  }
+
+  private static String format(double value) {
+    return String.format("%.0f", value);
+  }
+
+  private static String microseconds(long nanoseconds) {
+    return String.format("%.1fus", nanoseconds / 1_000.0);
+  }
+}
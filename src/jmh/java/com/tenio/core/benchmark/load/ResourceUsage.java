@@ -0,0 +1,96 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The CPU time and the allocated bytes accumulated by a group of live threads.
+ *
+ * <p>The figures come from {@link com.sun.management.ThreadMXBean}, so a thread which terminates
+ * between two samples takes its usage with it. Threads are told apart by their names only, the
+ * threads started by client libraries under generic names (the KCP client's event loops for
+ * instance) are counted on the server side.
+ *
+ * @param cpuNanoTime    the accumulated CPU time in nanoseconds
+ * @param allocatedBytes the accumulated allocated bytes
+ * @since 0.6.7
+ */
+record ResourceUsage(long cpuNanoTime, long allocatedBytes) {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = initialize();
+
+  /**
+   * Sums the usage of all live threads whose names are accepted by the filter.
+   *
+   * @param threadNameFilter the {@link Predicate} selects threads by their names
+   * @return a new {@link ResourceUsage}
+   */
+  static ResourceUsage sample(Predicate<String> threadNameFilter) {
+    var threadIds = THREAD_MX_BEAN.getAllThreadIds();
+    var threadInfos = THREAD_MX_BEAN.getThreadInfo(threadIds);
+    var selectedThreadIds = Arrays.stream(threadInfos)
+        .filter(threadInfo -> threadInfo != null &&
+            threadNameFilter.test(threadInfo.getThreadName()))
+        .mapToLong(threadInfo -> threadInfo.getThreadId())
+        .toArray();
+
+    long cpuNanoTime = 0;
+    for (long cpuTime : THREAD_MX_BEAN.getThreadCpuTime(selectedThreadIds)) {
+      // a terminated thread returns -1
+      cpuNanoTime += Math.max(0, cpuTime);
+    }
+    long allocatedBytes = 0;
+    for (long allocated : THREAD_MX_BEAN.getThreadAllocatedBytes(selectedThreadIds)) {
+      allocatedBytes += Math.max(0, allocated);
+    }
+    return new ResourceUsage(cpuNanoTime, allocatedBytes);
+  }
+
+  /**
+   * Calculates the usage accumulated since an earlier sample.
+   *
+   * @param earlier the earlier {@link ResourceUsage}
+   * @return a new {@link ResourceUsage} holding the differences
+   */
+  ResourceUsage minus(ResourceUsage earlier) {
+    return new ResourceUsage(cpuNanoTime - earlier.cpuNanoTime,
+        allocatedBytes - earlier.allocatedBytes);
+  }
+
+  private static com.sun.management.ThreadMXBean initialize() {
+    var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    if (threadMxBean.isThreadCpuTimeSupported()) {
+      threadMxBean.setThreadCpuTimeEnabled(true);
+    }
+    if (threadMxBean.isThreadAllocatedMemorySupported()) {
+      threadMxBean.setThreadAllocatedMemoryEnabled(true);
+    }
+    return threadMxBean;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.define.TransportType;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * The client speaking the stream framing: a header byte, the data size in 2 or 4 bytes, then the
+ * data.
+ *
+ * @since 0.6.7
+ */
+class TcpLoadClient extends LoadClient {
+
+  private final InetSocketAddress address;
+  private Socket socket;
+  private DataInputStream input;
+  private OutputStream output;
+  private int kcpConveyId;
+
+  TcpLoadClient(String playerName, InetSocketAddress address) {
+    this(playerName, TransportType.TCP, address);
+  }
+
+  TcpLoadClient(String playerName, TransportType transportType, InetSocketAddress address) {
+    super(playerName, transportType);
+    this.address = address;
+  }
+
+  @Override
+  void connect(int timeoutInMilliseconds) throws IOException, InterruptedException {
+    socket = new Socket();
+    socket.setTcpNoDelay(true);
+    socket.connect(address, timeoutInMilliseconds);
+    input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    output = socket.getOutputStream();
+
+    sendOnStream(newLoginMessage());
+    var loggedIn = awaitStreamCommand(LoadTestProtocol.COMMAND_LOGGED_IN, timeoutInMilliseconds);
+    kcpConveyId = loggedIn.getInteger(LoadTestProtocol.KEY_KCP_CONVEY_ID);
+  }
+
+  @Override
+  void send(ZeroMap message) throws IOException {
+    sendOnStream(message);
+  }
+
+  @Override
+  ZeroMap receive(int timeoutInMilliseconds) throws IOException, InterruptedException {
+    return receiveOnStream(timeoutInMilliseconds);
+  }
+
+  @Override
+  void close() {
+    if (socket != null) {
+      try {
+        socket.close();
+      } catch (IOException exception) {
+        // nothing to do, the client is being dropped
+      }
+    }
+  }
+
+  /**
+   * Sends a message on the TCP channel, it is used by the clients which log in on TCP before
+   * opening their datagram channels.
+   *
+   * @param message the {@link ZeroMap} message
+   * @throws IOException when the message could not be sent
+   */
+  final void sendOnStream(ZeroMap message) throws IOException {
+    output.write(LoadTestProtocol.encode(message, true));
+    output.flush();
+  }
+
+  /**
+   * Receives the next message on the TCP channel.
+   *
+   * @param timeoutInMilliseconds the maximum waiting time for the first byte of the frame
+   * @return the received {@link ZeroMap} message or {@code null} if nothing arrived in time
+   * @throws IOException when the channel was broken or a frame was cut in the middle
+   */
+  final ZeroMap receiveOnStream(int timeoutInMilliseconds) throws IOException {
+    byte headerByte;
+    socket.setSoTimeout(timeoutInMilliseconds);
+    try {
+      headerByte = input.readByte();
+    } catch (SocketTimeoutException exception) {
+      // nothing was consumed, the stream is still in a consistent state
+      return null;
+    }
+    // the rest of a started frame must follow
+    socket.setSoTimeout(0);
+    var packetHeader = CodecUtility.decodeFirstHeaderByte(headerByte);
+    int dataSize = packetHeader.isBigSized() ? input.readInt() : input.readUnsignedShort();
+    var binaries = new byte[dataSize];
+    input.readFully(binaries);
+    return LoadTestProtocol.decode(headerByte, binaries);
+  }
+
+  /**
+   * Waits for a command sent on the TCP channel.
+   *
+   * @param command               the expected command
+   * @param timeoutInMilliseconds the maximum waiting time
+   * @return the {@link ZeroMap} message containing the command
+   * @throws IOException when the command did not arrive in time
+   */
+  final ZeroMap awaitStreamCommand(String command, int timeoutInMilliseconds)
+      throws IOException {
+    return expectCommand(receiveOnStream(timeoutInMilliseconds), command);
+  }
+
+  /**
+   * Retrieves the KCP conversation id granted by the server when the player logged in.
+   *
+   * @return the KCP conversation id
+   */
+  final int getKcpConveyId() {
+    return kcpConveyId;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.core.configuration.constant.CoreConstant;
+import com.tenio.core.network.define.TransportType;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+
+/**
+ * The client logs in on TCP, then requests its UDP convey id and sends the following messages
+ * wrapped with that id.
+ *
+ * @since 0.6.7
+ */
+final class UdpLoadClient extends TcpLoadClient {
+
+  private static final int MAX_DATAGRAM_BYTES = 65_507;
+  private static final int ACCESS_REQUEST_ATTEMPTS = 3;
+
+  private final InetSocketAddress udpAddress;
+  private final byte[] receivingBuffer;
+  private DatagramSocket datagramSocket;
+  private int udpConveyId;
+
+  UdpLoadClient(String playerName, InetSocketAddress tcpAddress, InetSocketAddress udpAddress) {
+    super(playerName, TransportType.UDP, tcpAddress);
+    this.udpAddress = udpAddress;
+    receivingBuffer = new byte[MAX_DATAGRAM_BYTES];
+  }
+
+  @Override
+  void connect(int timeoutInMilliseconds) throws IOException, InterruptedException {
+    super.connect(timeoutInMilliseconds);
+
+    datagramSocket = new DatagramSocket();
+    datagramSocket.connect(udpAddress);
+
+    // the first datagram has no convey id, the server answers on TCP, a lost request is repeated
+    var accessRequest = ZeroUtility.newZeroMap();
+    accessRequest.putZeroMap(CoreConstant.DEFAULT_KEY_UDP_MESSAGE_DATA, newLoginMessage());
+    ZeroMap accessResult = null;
+    for (int i = 0; i < ACCESS_REQUEST_ATTEMPTS && accessResult == null; i++) {
+      sendDatagram(accessRequest);
+      accessResult = receiveOnStream(timeoutInMilliseconds);
+    }
+    udpConveyId = expectCommand(accessResult, LoadTestProtocol.COMMAND_UDP_READY)
+        .getInteger(CoreConstant.DEFAULT_KEY_UDP_CONVEY_ID);
+  }
+
+  @Override
+  void send(ZeroMap message) throws IOException {
+    var wrapper = ZeroUtility.newZeroMap();
+    wrapper.putInteger(CoreConstant.DEFAULT_KEY_UDP_CONVEY_ID, udpConveyId);
+    wrapper.putZeroMap(CoreConstant.DEFAULT_KEY_UDP_MESSAGE_DATA, message);
+    sendDatagram(wrapper);
+  }
+
+  @Override
+  ZeroMap receive(int timeoutInMilliseconds) throws IOException {
+    var datagramPacket = new DatagramPacket(receivingBuffer, receivingBuffer.length);
+    datagramSocket.setSoTimeout(timeoutInMilliseconds);
+    try {
+      datagramSocket.receive(datagramPacket);
+    } catch (SocketTimeoutException exception) {
+      return null;
+    }
+    return LoadTestProtocol.decode(Arrays.copyOfRange(datagramPacket.getData(),
+        datagramPacket.getOffset(), datagramPacket.getOffset() + datagramPacket.getLength()));
+  }
+
+  @Override
+  void close() {
+    if (datagramSocket != null) {
+      datagramSocket.close();
+    }
+    super.close();
+  }
+
+  private void sendDatagram(ZeroMap message) throws IOException {
+    byte[] binaries = LoadTestProtocol.encode(message, false);
+    datagramSocket.send(new DatagramPacket(binaries, binaries.length));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.core.network.define.TransportType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The client sends every frame as one binary WebSocket message.
+ *
+ * @since 0.6.7
+ */
+final class WebSocketLoadClient extends LoadClient implements WebSocket.Listener {
+
+  private final HttpClient httpClient;
+  private final URI uri;
+  private final BlockingQueue<ZeroMap> receivedMessages;
+  private final ByteArrayOutputStream fragments;
+  private WebSocket webSocket;
+
+  WebSocketLoadClient(String playerName, HttpClient httpClient, URI uri) {
+    super(playerName, TransportType.WEB_SOCKET);
+    this.httpClient = httpClient;
+    this.uri = uri;
+    receivedMessages = new LinkedBlockingQueue<>();
+    fragments = new ByteArrayOutputStream();
+  }
+
+  @Override
+  void connect(int timeoutInMilliseconds) throws IOException, InterruptedException {
+    try {
+      webSocket = httpClient.newWebSocketBuilder()
+          .connectTimeout(Duration.ofMillis(timeoutInMilliseconds))
+          .buildAsync(uri, this)
+          .get(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException exception) {
+      throw new IOException(exception);
+    }
+
+    send(newLoginMessage());
+    awaitCommand(LoadTestProtocol.COMMAND_LOGGED_IN, timeoutInMilliseconds);
+  }
+
+  @Override
+  void send(ZeroMap message) throws IOException {
+    // only one message can be outstanding on a WebSocket
+    try {
+      webSocket.sendBinary(ByteBuffer.wrap(LoadTestProtocol.encode(message, false)), true).get();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IOException(exception);
+    } catch (ExecutionException exception) {
+      throw new IOException(exception.getCause());
+    }
+  }
+
+  @Override
+  ZeroMap receive(int timeoutInMilliseconds) throws InterruptedException {
+    return receivedMessages.poll(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  void close() {
+    if (webSocket != null) {
+      webSocket.abort();
+    }
+  }
+
+  @Override
+  public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+    var binaries = new byte[data.remaining()];
+    data.get(binaries);
+    fragments.writeBytes(binaries);
+    if (last) {
+      var message = LoadTestProtocol.decode(fragments.toByteArray());
+      fragments.reset();
+      if (message != null) {
+        receivedMessages.offer(message);
+      }
+    }
+    webSocket.request(1);
+    return null;
+  }
+}
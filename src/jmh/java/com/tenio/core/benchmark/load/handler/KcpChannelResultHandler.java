@@ -0,0 +1,53 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.benchmark.load.handler;
+
+import com.tenio.core.benchmark.load.LoadTestProtocol;
+import com.tenio.core.bootstrap.annotation.EventHandler;
+import com.tenio.core.entity.Player;
+import com.tenio.core.entity.define.result.AccessDatagramChannelResult;
+import com.tenio.core.handler.AbstractHandler;
+import com.tenio.core.handler.event.EventAccessKcpChannelRequestValidationResult;
+
+/**
+ * Confirms an opened KCP conversation on the conversation itself.
+ *
+ * @since 0.6.7
+ */
+@EventHandler
+public final class KcpChannelResultHandler extends AbstractHandler
+    implements EventAccessKcpChannelRequestValidationResult<Player> {
+
+  @Override
+  public void handle(Player player, AccessDatagramChannelResult result) {
+    if (player == null || result != AccessDatagramChannelResult.SUCCESS) {
+      return;
+    }
+    var message = map();
+    message.putString(LoadTestProtocol.KEY_COMMAND, LoadTestProtocol.COMMAND_KCP_READY);
+    response().setContent(message).setRecipientPlayer(player).prioritizedKcp().write();
+  }
+}
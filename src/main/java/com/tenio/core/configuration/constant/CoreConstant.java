@@ -126,6 +126,30 @@ public final class CoreConstant {
    * @since 0.6.7
    */
   public static final int DELAY_BEFORE_SERVER_IS_READY_IN_MILLISECONDS = 1000;
+  /**
+   * By default, the socket writer sends packets one by one (the batch mode is disabled).
+   *
+   * @since 0.6.7
+   */
+  public static final int DEFAULT_SOCKET_WRITER_BATCH_PACKETS = 1;
+  /**
+   * The default maximum number of bytes the socket writer sends in one gathering write.
+   *
+   * @since 0.6.7
+   */
+  public static final int DEFAULT_SOCKET_WRITER_BATCH_BYTES = 65536;
+  /**
+   * By default, asynchronous events are handled on the emitting threads.
+   *
+   * @since 0.6.7
+   */
+  public static final int DEFAULT_ASYNCHRONOUS_EVENT_WORKERS = 0;
+  /**
+   * The default maximum number of asynchronous events waiting in each worker's queue.
+   *
+   * @since 0.6.7
+   */
+  public static final int DEFAULT_ASYNCHRONOUS_EVENT_QUEUE_SIZE = 8192;
 
   /**
    * Private constructor to prevent instantiation.
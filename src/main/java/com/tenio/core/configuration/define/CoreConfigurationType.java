@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.configuration.define;
 
 import com.tenio.common.configuration.ConfigurationType;
+import com.tenio.core.bootstrap.annotation.Asynchronous;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.entity.define.mode.RoomRemoveMode;
@@ -123,6 +124,13 @@ public enum CoreConfigurationType implements ConfigurationType {
    * The number of threads using for handlers to manage internal processes on the server.
    */
   WORKER_INTERNAL_PROCESSOR("internal-processor"),
+  /**
+   * The number of threads handling events marked with {@link Asynchronous}. Set the value to
+   * {@code 0} to handle these events on the emitting threads.
+   *
+   * @since 0.6.7
+   */
+  WORKER_ASYNCHRONOUS_EVENT("asynchronous-event"),
   /**
    * Sets an interval to frequently check removable rooms for removing them.
    *
@@ -169,6 +177,50 @@ public enum CoreConfigurationType implements ConfigurationType {
    * expected, some of them should be removed.
    */
   PROP_MAX_REQUEST_QUEUE_SIZE("max-request-queue-size"),
+  /**
+   * Determines whether requests of the same session (player) are always processed by the same
+   * internal processor worker in their arrival order.
+   *
+   * @since 0.6.7
+   */
+  PROP_REQUEST_SESSION_AFFINITY("request-session-affinity"),
+  /**
+   * Determines whether requests are processed on virtual threads instead of the internal
+   * processor workers, requests of the same session (player) are still processed in their
+   * arrival order. It requires Java 21 or later.
+   *
+   * @since 0.6.7
+   */
+  PROP_REQUEST_VIRTUAL_THREADS("request-virtual-threads"),
+  /**
+   * Determines whether handlers of asynchronous events run on virtual threads instead of the
+   * asynchronous event workers. It requires Java 21 or later.
+   *
+   * @since 0.6.7
+   */
+  PROP_ASYNCHRONOUS_EVENT_VIRTUAL_THREADS("asynchronous-event-virtual-threads"),
+  /**
+   * Sets the maximum number of asynchronous events waiting in each worker's queue, an event
+   * beyond the limit is dropped. The value {@code 0} means there is no restriction.
+   *
+   * @since 0.6.7
+   */
+  PROP_ASYNCHRONOUS_EVENT_QUEUE_SIZE("asynchronous-event-queue-size"),
+  /**
+   * Sets the strategy the internal processor workers use to wait for new requests, the value is
+   * one of {@code blocking}, {@code backoff} and {@code busy-spin}.
+   *
+   * @since 0.6.7
+   */
+  PROP_REQUEST_WAIT_STRATEGY("request-wait-strategy"),
+  /**
+   * Sets the capacity of the pre-allocated ring buffer each internal processor worker takes
+   * requests from. The value 0 (default) keeps the linked queues. The ring is not used when the
+   * request priority is applied.
+   *
+   * @since 0.6.7
+   */
+  PROP_REQUEST_RING_BUFFER_SIZE("request-ring-buffer-size"),
   /**
    * Sets the maximum size of a packet queue (response queue). Notes that every {@link Session} has
    * its own queue, and this setting applies for all of them.
@@ -228,10 +280,81 @@ public enum CoreConfigurationType implements ConfigurationType {
    * Sets packet handling buffer size in bytes for the socket sender.
    */
   NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE("socket-writer-buffer-size"),
+  /**
+   * Sets the maximum number of queued packets of a session which the socket sender writes in one
+   * gathering write. The value 1 disables the batch mode.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_SOCKET_WRITER_BATCH_PACKETS("socket-writer-batch-packets"),
+  /**
+   * Sets the maximum number of bytes which the socket sender writes in one gathering write.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_SOCKET_WRITER_BATCH_BYTES("socket-writer-batch-bytes"),
+  /**
+   * Sets the strategy the socket sender workers use to wait for sessions having packets to send,
+   * the value is one of {@code blocking}, {@code backoff} and {@code busy-spin}.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_SOCKET_WRITER_WAIT_STRATEGY("socket-writer-wait-strategy"),
+  /**
+   * Sets the capacity of the pre-allocated ring buffer each socket sender worker takes sessions
+   * having packets to send from. The value 0 (default) keeps the linked queues.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_SOCKET_WRITER_RING_BUFFER_SIZE("socket-writer-ring-buffer-size"),
   /**
    * Sets packet compression threshold in bytes at that the packet will be compressed.
    */
   NETWORK_PROP_PACKET_COMPRESSION_THRESHOLD_BYTES("packet-compression-threshold-bytes"),
+  /**
+   * Sets the built-in packet compressor which is used when no implementation of
+   * {@code BinaryPacketCompressor} is declared. The only supported value is "deflate".
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_COMPRESSOR("packet-compressor"),
+  /**
+   * Sets the path of a file holding the preset dictionary for the built-in packet compressor.
+   * The clients must uncompress the data with the same dictionary.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_COMPRESSION_DICTIONARY("packet-compression-dictionary"),
+  /**
+   * Determines whether each TCP or WebSocket session keeps its own compression stream, so the
+   * context is carried over from one packet to the next one (context takeover). The clients must
+   * support it too. The value is {@code false} by default.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_COMPRESSION_CONTEXT_TAKEOVER("packet-compression-context-takeover"),
+  /**
+   * Sets the minimum percentage of bytes the compression must save on average for a kind of
+   * packets (the same data type and size class), otherwise those packets are sent without
+   * compression. The value 0 (default) compresses all packets reaching the threshold.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_COMPRESSION_BREAK_EVEN_PERCENT("packet-compression-break-even-percent"),
+  /**
+   * Sets the built-in packet encryptor which is used when no implementation of
+   * {@code BinaryPacketEncryptor} is declared. The only supported value is "aes-gcm".
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_ENCRYPTOR("packet-encryptor"),
+  /**
+   * Sets the path of a file holding the raw AES key (16, 24 or 32 bytes) for the built-in packet
+   * encryptor, it is used by the sessions which have no key of their own.
+   *
+   * @since 0.6.7
+   */
+  NETWORK_PROP_PACKET_ENCRYPTION_KEY("packet-encryption-key"),
   /**
    * Sets maximum number of connections each IP address can have.
    */
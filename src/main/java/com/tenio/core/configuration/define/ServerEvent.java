@@ -35,6 +35,8 @@ import com.tenio.core.handler.event.EventConnectionEstablishedResult;
 import com.tenio.core.handler.event.EventDisconnectPlayer;
 import com.tenio.core.handler.event.EventFetchedBandwidthInfo;
 import com.tenio.core.handler.event.EventFetchedCcuInfo;
+import com.tenio.core.handler.event.EventFetchedCompressionInfo;
+import com.tenio.core.handler.event.EventFetchedLatencyInfo;
 import com.tenio.core.handler.event.EventPlayerAfterLeftRoom;
 import com.tenio.core.handler.event.EventPlayerBeforeLeaveRoom;
 import com.tenio.core.handler.event.EventPlayerJoinedRoomResult;
@@ -275,6 +277,20 @@ public enum ServerEvent {
    * @see EventFetchedBandwidthInfo
    */
   FETCHED_BANDWIDTH_INFO,
+  /**
+   * When the server provides information regarding latencies of the request/response pipeline.
+   *
+   * @see EventFetchedLatencyInfo
+   * @since 0.6.7
+   */
+  FETCHED_LATENCY_INFO,
+  /**
+   * When the server provides information regarding packet compression.
+   *
+   * @see EventFetchedCompressionInfo
+   * @since 0.6.7
+   */
+  FETCHED_COMPRESSION_INFO,
   /**
    * When the server provides information regarding system.
    *
@@ -27,11 +27,23 @@ package com.tenio.core.controller;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.common.utility.StringUtility;
 import com.tenio.core.configuration.constant.CoreConstant;
+import com.tenio.core.entity.Player;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.RequestQueueFullException;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.manager.BlockingQueueManager;
+import com.tenio.core.manager.RingBlockingQueue;
+import com.tenio.core.manager.SequentialTaskManager;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.entity.protocol.Request;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.NetworkReaderStatistic;
+import com.tenio.core.utility.VirtualThreadUtility;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -39,6 +51,7 @@ import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * An abstract base class for implementing request controllers in the application.
@@ -54,8 +67,33 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li>Service lifecycle integration</li>
  *   <li>Request validation and error handling</li>
  *   <li>Performance monitoring capabilities</li>
+ *   <li>Optional session affinity dispatching</li>
  * </ul>
  *
+ * <p>Session affinity: by default, requests are spread over the workers by their own ids. When
+ * the session affinity is enabled, requests of the same sender (session or player) are kept in
+ * one {@link RequestLane} which always belongs to the same worker, so they are processed in their
+ * arrival order. An idle worker can steal a whole lane from a busy one, a hot worker therefore
+ * cannot starve the pool. The request priority is not applied in this mode.
+ *
+ * <p>Virtual threads: when enabled and the runtime supports them (Java 21 or later), requests are
+ * not handed to a fixed pool of platform workers. Requests of the same sender form a lane which
+ * is drained by one virtual thread at a time, so a handler calling a blocking service does not
+ * hold a platform thread, and requests of a sender are still processed in their arrival order.
+ * The request priority is not applied in this mode, and on an older runtime the controller falls
+ * back to its platform workers.
+ *
+ * <p>Ring buffers: instead of linked queues, the platform workers can take requests from
+ * pre-allocated {@link RingBlockingQueue}s which hand requests over without allocating a node or
+ * taking a lock per request. A worker takes all the available requests, up to a batch, at once.
+ *
+ * <p>Waiting: a platform worker is parked until the controller is activated, then it waits for
+ * new requests following the configured {@link WaitStrategy}. A virtual lane is parked until the
+ * activation as well, so the requests are never processed earlier in either mode.
+ *
+ * <p>Latencies: once a {@link NetworkReaderStatistic} is set, the time from creating a request
+ * until queueing it, the time it waits in the queue and the time its handler takes are recorded.
+ *
  * <p>Thread safety: This class is thread-safe and handles concurrent
  * request processing through its thread pool and queue mechanisms.
  * All queue operations are synchronized to prevent race conditions.
@@ -76,13 +114,37 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public abstract class AbstractController extends AbstractManager implements Controller, Runnable {
 
+  /**
+   * The maximum number of requests a worker processes from one lane before giving the other
+   * lanes a chance.
+   */
+  private static final int MAX_REQUESTS_PER_LANE_TURN = 32;
+  /**
+   * The waiting time for a new lane on its own queue before a worker tries to steal one.
+   */
+  private static final long LANE_POLLING_INTERVAL_IN_MILLISECONDS = 10L;
+  /**
+   * The maximum number of requests a worker takes from its queue at once.
+   */
+  private static final int MAX_REQUESTS_PER_DRAIN = 32;
+
   private final AtomicInteger id;
+  private final Map<Object, RequestLane> requestLanes;
   private final AtomicBoolean stopping;
+  private final CountDownLatch activation;
   private String name;
   private ExecutorService executorService;
   private int executorSize;
   private BlockingQueueManager<Request> requestManager;
+  private BlockingQueueManager<RequestLane> laneManager;
+  private SequentialTaskManager<Object> virtualLanes;
+  private AtomicIntegerArray pendingLaneRequests;
   private int maxQueueSize;
+  private int ringBufferSize;
+  private boolean sessionAffinity;
+  private boolean virtualThreads;
+  private WaitStrategy waitStrategy;
+  private volatile NetworkReaderStatistic requestLatencyStatistic;
   private volatile boolean initialized;
   private volatile boolean activated;
 
@@ -95,21 +157,32 @@ public abstract class AbstractController extends AbstractManager implements Cont
     super(eventManager);
     id = new AtomicInteger(0);
     stopping = new AtomicBoolean(false);
+    activation = new CountDownLatch(1);
+    requestLanes = new ConcurrentHashMap<>();
     executorSize = DEFAULT_NUMBER_WORKERS;
+    waitStrategy = WaitStrategy.BLOCKING;
   }
 
   private void initializeWorkers() {
-    if (isEnabledPriority()) {
-      requestManager = new BlockingQueueManager<>(getThreadPoolSize(),
-          () -> new PriorityBlockingQueue<>(DEFAULT_INITIAL_QUEUE_SIZE,
-              RequestComparator.newInstance()));
-    } else {
-      requestManager =
-          new BlockingQueueManager<>(getThreadPoolSize(), LinkedBlockingQueue::new);
+    if (virtualThreads && !VirtualThreadUtility.isSupported()) {
+      if (isInfoEnabled()) {
+        info("VIRTUAL THREADS", buildgen(getName(), " uses platform workers, the runtime ",
+            Runtime.version(), " does not support virtual threads"));
+      }
+      virtualThreads = false;
     }
 
-    var threadFactory = new ThreadFactoryBuilder().setDaemon(true).build();
-    executorService = Executors.newFixedThreadPool(executorSize, threadFactory);
+    if (virtualThreads) {
+      executorService =
+          VirtualThreadUtility.newVirtualThreadPerTaskExecutor(getName() + "-virtual-");
+      virtualLanes = new SequentialTaskManager<>(executorService, (key, cause) -> {
+        if (isErrorEnabled()) {
+          error(cause, key);
+        }
+      });
+    } else {
+      initializePlatformWorkers();
+    }
 
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
       if (executorService != null && !executorService.isShutdown()) {
@@ -124,6 +197,33 @@ public abstract class AbstractController extends AbstractManager implements Cont
     }));
   }
 
+  private void initializePlatformWorkers() {
+    if (sessionAffinity) {
+      // a scheduled lane holds at least one pending request, so the lanes of a worker never
+      // outnumber its bounded pending requests
+      laneManager = ringBufferSize > 0 && maxQueueSize > 0 ?
+          new BlockingQueueManager<>(getThreadPoolSize(),
+              () -> new RingBlockingQueue<>(Math.max(ringBufferSize, maxQueueSize))) :
+          new BlockingQueueManager<>(getThreadPoolSize(), LinkedBlockingQueue::new);
+      pendingLaneRequests = new AtomicIntegerArray(getThreadPoolSize());
+    } else if (isEnabledPriority()) {
+      requestManager = new BlockingQueueManager<>(getThreadPoolSize(),
+          () -> new PriorityBlockingQueue<>(DEFAULT_INITIAL_QUEUE_SIZE,
+              RequestComparator.newInstance()));
+    } else if (ringBufferSize > 0) {
+      // the time a request waits in the ring is already recorded as its enqueue-to-process
+      // latency
+      requestManager = new BlockingQueueManager<>(getThreadPoolSize(),
+          () -> new RingBlockingQueue<>(ringBufferSize));
+    } else {
+      requestManager =
+          new BlockingQueueManager<>(getThreadPoolSize(), LinkedBlockingQueue::new);
+    }
+
+    var threadFactory = new ThreadFactoryBuilder().setDaemon(true).build();
+    executorService = Executors.newFixedThreadPool(executorSize, threadFactory);
+  }
+
   private void attemptToShutdown() {
     if (!stopping.compareAndSet(false, true)) {
       return;
@@ -152,26 +252,198 @@ public abstract class AbstractController extends AbstractManager implements Cont
   public void run() {
     int currentIndex = id.getAndIncrement();
     setThreadName(currentIndex);
-    processing(currentIndex);
+    if (sessionAffinity) {
+      processingLanes(currentIndex);
+    } else {
+      processing(currentIndex);
+    }
+  }
+
+  private boolean awaitActivation() {
+    try {
+      activation.await();
+      return true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 
   private void processing(int index) {
-    while (!Thread.currentThread().isInterrupted()) {
-      if (activated) {
+    var requestQueue = requestManager.getQueueByIndex(index);
+    List<Request> requests = new ArrayList<>(MAX_REQUESTS_PER_DRAIN);
+    if (!awaitActivation()) {
+      return;
+    }
+    while (!Thread.currentThread().isInterrupted() && activated) {
+      try {
+        requests.add(waitStrategy.take(requestQueue));
+        requestQueue.drainTo(requests, MAX_REQUESTS_PER_DRAIN - 1);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      for (int i = 0; i < requests.size(); i++) {
         try {
-          Request request = requestManager.getQueueByIndex(index).take();
-          processRequest(request);
+          processMeasuredRequest(requests.get(i));
         } catch (Throwable cause) {
           if (isErrorEnabled()) {
             error(cause);
           }
         }
       }
+      requests.clear();
+    }
+  }
+
+  private void processingLanes(int index) {
+    var laneQueue = laneManager.getQueueByIndex(index);
+    if (!awaitActivation()) {
+      return;
+    }
+    while (!Thread.currentThread().isInterrupted() && activated) {
+      try {
+        RequestLane lane = waitStrategy.poll(laneQueue, LANE_POLLING_INTERVAL_IN_MILLISECONDS,
+            TimeUnit.MILLISECONDS);
+        if (lane == null) {
+          lane = stealLane(index);
+        }
+        if (lane != null) {
+          processLane(lane);
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      } catch (Throwable cause) {
+        if (isErrorEnabled()) {
+          error(cause);
+        }
+      }
+    }
+  }
+
+  private RequestLane stealLane(int index) {
+    // takes a whole lane, the requests of a sender are never split between workers
+    for (int i = 1; i < executorSize; i++) {
+      var lane = laneManager.getQueueByIndex((index + i) % executorSize).poll();
+      if (lane != null) {
+        return lane;
+      }
     }
+    return null;
+  }
+
+  private void processLane(RequestLane lane) {
+    int processed = 0;
+    Request request;
+    while (processed < MAX_REQUESTS_PER_LANE_TURN && (request = lane.poll()) != null) {
+      pendingLaneRequests.decrementAndGet(lane.getHomeIndex());
+      processed++;
+      try {
+        processMeasuredRequest(request);
+      } catch (Throwable cause) {
+        if (isErrorEnabled()) {
+          error(cause);
+        }
+      }
+    }
+
+    // the lane is released only when it has no more requests. Enqueuing a request is done under
+    // the same key's lock, so no request can be left in a released lane
+    var remainingLane = requestLanes.computeIfPresent(lane.getKey(),
+        (key, currentLane) -> currentLane.isEmpty() ? null : currentLane);
+    if (remainingLane != null) {
+      laneManager.getQueueByIndex(lane.getHomeIndex()).add(remainingLane);
+    }
+  }
+
+  private void processMeasuredRequest(Request request) {
+    var statistic = requestLatencyStatistic;
+    if (statistic == null) {
+      processRequest(request);
+      return;
+    }
+    var startedTime = System.nanoTime();
+    statistic.updateEnqueueToProcessLatency(startedTime - request.getEnqueuedNanoTime());
+    try {
+      processRequest(request);
+    } finally {
+      statistic.updateHandlerExecutionLatency(System.nanoTime() - startedTime);
+    }
+  }
+
+  private void markEnqueued(Request request) {
+    var currentTime = System.nanoTime();
+    request.setEnqueuedNanoTime(currentTime);
+    var statistic = requestLatencyStatistic;
+    if (statistic != null) {
+      statistic.updateReadToEnqueueLatency(currentTime - request.getCreatedNanoTime());
+    }
+  }
+
+  private void enqueueLaneRequest(Request request) {
+    var key = getAffinityKey(request);
+    int index = Math.floorMod(key.hashCode(), executorSize);
+    // the slot is taken first, so concurrent callers can never exceed the limit together
+    int pendingRequests = pendingLaneRequests.incrementAndGet(index);
+    if (maxQueueSize > 0 && pendingRequests > maxQueueSize) {
+      pendingLaneRequests.decrementAndGet(index);
+      var exception = new RequestQueueFullException(pendingRequests - 1);
+      if (isErrorEnabled()) {
+        error(exception, exception.getMessage());
+      }
+      throw exception;
+    }
+    markEnqueued(request);
+    // a lane exists in the map as long as it is scheduled or being processed, so a new one is
+    // scheduled right at its creation
+    requestLanes.compute(key, (laneKey, lane) -> {
+      if (lane == null) {
+        lane = new RequestLane(laneKey, index);
+        lane.add(request);
+        laneManager.getQueueByIndex(index).add(lane);
+      } else {
+        lane.add(request);
+      }
+      return lane;
+    });
+  }
+
+  private void enqueueVirtualRequest(Request request) {
+    // the bound is the capacity the platform workers' queues would have had together
+    if (maxQueueSize > 0 && virtualLanes.getPendingTasks() >= maxQueueSize * executorSize) {
+      var exception = new RequestQueueFullException(virtualLanes.getPendingTasks());
+      if (isErrorEnabled()) {
+        error(exception, exception.getMessage());
+      }
+      throw exception;
+    }
+    markEnqueued(request);
+    // the lane's virtual thread is parked until the activation, as the platform workers are
+    virtualLanes.execute(getAffinityKey(request), () -> {
+      if (awaitActivation()) {
+        processMeasuredRequest(request);
+      }
+    });
+  }
+
+  private Object getAffinityKey(Request request) {
+    var sender = request.getSender();
+    if (sender instanceof Session session) {
+      return session.getId();
+    } else if (sender instanceof Player player) {
+      return player.getIdentity();
+    }
+    // no sender to keep the order for, the request is handled on its own
+    return request.getId();
   }
 
   private void destroy() {
-    requestManager.clear();
+    if (requestManager != null) {
+      requestManager.clear();
+    }
+    if (laneManager != null) {
+      laneManager.clear();
+    }
+    requestLanes.clear();
     onDestroyed();
   }
 
@@ -203,6 +475,12 @@ public abstract class AbstractController extends AbstractManager implements Cont
 
   @Override
   public void start() {
+    if (virtualThreads) {
+      if (isInfoEnabled()) {
+        info("START SERVICE", buildgen(getName(), " (virtual threads)"));
+      }
+      return;
+    }
     for (int i = 0; i < executorSize; i++) {
       executorService.execute(this);
       try {
@@ -239,6 +517,7 @@ public abstract class AbstractController extends AbstractManager implements Cont
   @Override
   public void activate() {
     activated = true;
+    activation.countDown();
   }
 
   @Override
@@ -248,6 +527,14 @@ public abstract class AbstractController extends AbstractManager implements Cont
 
   @Override
   public void enqueueRequest(Request request) {
+    if (virtualThreads) {
+      enqueueVirtualRequest(request);
+      return;
+    }
+    if (sessionAffinity) {
+      enqueueLaneRequest(request);
+      return;
+    }
     var requestQueue = requestManager.getQueueByElementId(request.getId());
     if (maxQueueSize > 0 && requestQueue.size() >= maxQueueSize) {
       var exception = new RequestQueueFullException(requestQueue.size());
@@ -256,7 +543,27 @@ public abstract class AbstractController extends AbstractManager implements Cont
       }
       throw exception;
     }
-    requestManager.getQueueByElementId(request.getId()).add(request);
+    markEnqueued(request);
+    // a ring buffer could be full even when the maximum queue size is not set
+    if (!requestQueue.offer(request)) {
+      var exception = new RequestQueueFullException(requestQueue.size());
+      if (isErrorEnabled()) {
+        error(exception, exception.getMessage());
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Sets the statistic which records the latencies of requests, see
+   * {@link NetworkReaderStatistic#updateEnqueueToProcessLatency(long)}.
+   *
+   * @param requestLatencyStatistic a {@link NetworkReaderStatistic} instance, {@code null} stops
+   *                                recording
+   * @since 0.6.7
+   */
+  protected void setRequestLatencyStatistic(NetworkReaderStatistic requestLatencyStatistic) {
+    this.requestLatencyStatistic = requestLatencyStatistic;
   }
 
   @Override
@@ -269,6 +576,61 @@ public abstract class AbstractController extends AbstractManager implements Cont
     maxQueueSize = maxSize;
   }
 
+  @Override
+  public boolean isSessionAffinity() {
+    return sessionAffinity;
+  }
+
+  @Override
+  public void setSessionAffinity(boolean enabled) {
+    sessionAffinity = enabled;
+  }
+
+  @Override
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  @Override
+  public void setVirtualThreads(boolean enabled) {
+    virtualThreads = enabled;
+  }
+
+  @Override
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  @Override
+  public void setWaitStrategy(WaitStrategy waitStrategy) {
+    this.waitStrategy = waitStrategy;
+  }
+
+  @Override
+  public int getRingBufferSize() {
+    return ringBufferSize;
+  }
+
+  @Override
+  public void setRingBufferSize(int ringBufferSize) {
+    this.ringBufferSize = ringBufferSize;
+  }
+
+  @Override
+  public int getPendingRequests() {
+    if (virtualLanes != null) {
+      return virtualLanes.getPendingTasks();
+    }
+    if (pendingLaneRequests != null) {
+      int pendingRequests = 0;
+      for (int i = 0; i < pendingLaneRequests.length(); i++) {
+        pendingRequests += pendingLaneRequests.get(i);
+      }
+      return pendingRequests;
+    }
+    return requestManager != null ? requestManager.getSize() : 0;
+  }
+
   @Override
   public int getThreadPoolSize() {
     return executorSize;
@@ -284,6 +646,9 @@ public abstract class AbstractController extends AbstractManager implements Cont
 
   @Override
   public int getMaximumStartingTimeInMilliseconds() {
+    if (virtualThreads) {
+      return 0;
+    }
     return getThreadPoolSize() * CoreConstant.DELAY_BETWEEN_STARTING_WORKER_IN_MILLISECONDS;
   }
 
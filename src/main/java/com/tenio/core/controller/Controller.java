@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.controller;
 
 import com.tenio.core.exception.RequestQueueFullException;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.entity.protocol.Request;
 import com.tenio.core.service.Service;
 import com.tenio.core.service.ServiceListener;
@@ -92,6 +93,90 @@ public interface Controller extends Service, ServiceListener {
    */
   void setMaxRequestQueueSize(int maxSize);
 
+  /**
+   * Determines whether requests of the same sender are always processed by the same worker in
+   * their arrival order.
+   *
+   * @return {@code true} if the session affinity is enabled, otherwise {@code false}
+   * @since 0.6.7
+   */
+  boolean isSessionAffinity();
+
+  /**
+   * Sets whether requests of the same sender (session or player) should be always processed by
+   * the same worker in their arrival order. This setting must be applied before the controller
+   * is initialized.
+   *
+   * @param enabled {@code true} if the session affinity is enabled, otherwise {@code false}
+   * @since 0.6.7
+   */
+  void setSessionAffinity(boolean enabled);
+
+  /**
+   * Determines whether requests are processed on virtual threads.
+   *
+   * @return {@code true} if the virtual threads are in use, otherwise {@code false}
+   * @since 0.6.7
+   */
+  boolean isVirtualThreads();
+
+  /**
+   * Sets whether requests should be processed on virtual threads instead of the fixed pool of
+   * platform workers. Requests of the same sender (session or player) are still processed in
+   * their arrival order. It requires Java 21 or later, on an older runtime the platform workers
+   * are used. This setting must be applied before the controller is initialized.
+   *
+   * @param enabled {@code true} if the virtual threads are used, otherwise {@code false}
+   * @since 0.6.7
+   */
+  void setVirtualThreads(boolean enabled);
+
+  /**
+   * Retrieves the strategy the workers use to wait for new requests.
+   *
+   * @return the current {@link WaitStrategy}
+   * @since 0.6.7
+   */
+  WaitStrategy getWaitStrategy();
+
+  /**
+   * Sets the strategy the platform workers use to wait for new requests, see
+   * {@link WaitStrategy}. It has no effect when the virtual threads are in use. This setting must
+   * be applied before the controller is started.
+   *
+   * @param waitStrategy the {@link WaitStrategy} to apply
+   * @since 0.6.7
+   */
+  void setWaitStrategy(WaitStrategy waitStrategy);
+
+  /**
+   * Retrieves the capacity of the ring buffer each worker takes requests from.
+   *
+   * @return the ring buffer capacity, {@code 0} when the linked queues are used
+   * @since 0.6.7
+   */
+  int getRingBufferSize();
+
+  /**
+   * Sets the capacity of the pre-allocated ring buffer each platform worker takes requests from,
+   * the value 0 keeps the linked queues. The ring is not used when the request priority is
+   * applied. With the session affinity, the lanes are only kept in ring buffers when the maximum
+   * request queue size is set, since the number of scheduled lanes is then bounded by it. This
+   * setting must be applied before the controller is initialized.
+   *
+   * @param ringBufferSize the capacity of each ring buffer
+   * @since 0.6.7
+   */
+  void setRingBufferSize(int ringBufferSize);
+
+  /**
+   * Retrieves the number of requests which are waiting to be processed.
+   *
+   * @return the number of pending requests
+   * @since 0.6.7
+   */
+  int getPendingRequests();
+
   /**
    * Retrieves the thread pool size using for processes.
    *
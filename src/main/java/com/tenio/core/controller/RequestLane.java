@@ -0,0 +1,86 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.controller;
+
+import com.tenio.core.network.entity.protocol.Request;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Holds pending requests of one sender (session or player) in their arrival order. A lane is
+ * processed by only one worker at a time, so the requests of the same sender are never handled
+ * concurrently or out of order, and the whole lane can be taken by an idle worker.
+ *
+ * @see AbstractController
+ * @since 0.6.7
+ */
+final class RequestLane {
+
+  private final Object key;
+  private final int homeIndex;
+  private final Queue<Request> requests;
+
+  /**
+   * Initialization.
+   *
+   * @param key       the sender's key which the lane belongs to
+   * @param homeIndex the index of the worker queue which the lane is scheduled on
+   */
+  RequestLane(Object key, int homeIndex) {
+    this.key = key;
+    this.homeIndex = homeIndex;
+    requests = new ConcurrentLinkedQueue<>();
+  }
+
+  Object getKey() {
+    return key;
+  }
+
+  int getHomeIndex() {
+    return homeIndex;
+  }
+
+  void add(Request request) {
+    requests.add(request);
+  }
+
+  Request poll() {
+    return requests.poll();
+  }
+
+  boolean isEmpty() {
+    return requests.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "RequestLane{" +
+        "key=" + key +
+        ", homeIndex=" + homeIndex +
+        ", requests=" + requests.size() +
+        '}';
+  }
+}
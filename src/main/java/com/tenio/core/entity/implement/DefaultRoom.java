@@ -36,30 +36,38 @@ import com.tenio.core.entity.setting.strategy.RoomCredentialValidatedStrategy;
 import com.tenio.core.entity.setting.strategy.RoomPlayerSlotGeneratedStrategy;
 import com.tenio.core.exception.PlayerJoinedRoomException;
 import com.tenio.core.exception.SwitchedPlayerRoleInRoomException;
-import java.util.ArrayList;
+import com.tenio.core.manager.ConcurrentIndexManager;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
  * An implemented class is for a room using in the server.
+ *
+ * <p>Participants and spectators are kept in their own indexes which are updated incrementally
+ * when a player joins, leaves or switches its role, so none of these actions needs to walk
+ * through all players. A seat of each role is reserved atomically against the role's capacity
+ * before the player is added, hence two concurrent joins can never exceed the capacity.
  */
 public class DefaultRoom implements Room {
 
   private final long id;
   private final Map<String, Object> properties;
   private final AtomicReference<RoomState> state;
+  private final ConcurrentIndexManager<String, Player> participants;
+  private final ConcurrentIndexManager<String, Player> spectators;
+  private final AtomicInteger participantSeats;
+  private final AtomicInteger spectatorSeats;
 
   private volatile String name;
   private volatile String password;
   private volatile Player owner;
-  private volatile List<Player> participants;
   private volatile int maxParticipants;
-  private volatile List<Player> spectators;
   private volatile int maxSpectators;
   private volatile RoomRemoveMode roomRemoveMode;
   private volatile boolean activated;
@@ -75,8 +83,10 @@ public class DefaultRoom implements Room {
     id = ID_COUNTER.getAndIncrement();
     properties = new ConcurrentHashMap<>();
     state = new AtomicReference<>();
-    spectators = new ArrayList<>();
-    participants = new ArrayList<>();
+    participants = new ConcurrentIndexManager<>();
+    spectators = new ConcurrentIndexManager<>();
+    participantSeats = new AtomicInteger(0);
+    spectatorSeats = new AtomicInteger(0);
     setState(null);
     setRoomRemoveMode(RoomRemoveMode.WHEN_EMPTY);
   }
@@ -204,12 +214,12 @@ public class DefaultRoom implements Room {
 
   @Override
   public int getParticipantCount() {
-    return getReadonlyParticipantsList().size();
+    return participantSeats.get();
   }
 
   @Override
   public int getSpectatorCount() {
-    return getReadonlySpectatorsList().size();
+    return spectatorSeats.get();
   }
 
   @Override
@@ -234,12 +244,12 @@ public class DefaultRoom implements Room {
 
   @Override
   public List<Player> getReadonlyParticipantsList() {
-    return participants;
+    return participants.getReadonlySnapshot();
   }
 
   @Override
   public List<Player> getReadonlySpectatorsList() {
-    return spectators;
+    return spectators.getReadonlySnapshot();
   }
 
   @Override
@@ -250,11 +260,12 @@ public class DefaultRoom implements Room {
           PlayerJoinedRoomResult.INVALID_CREDENTIALS);
     }
 
+    // checks the capacity and takes the seat in one step
     boolean validated;
     if (asSpectator) {
-      validated = getSpectatorCount() < getMaxSpectators();
+      validated = tryReserveSeat(spectatorSeats, getMaxSpectators());
     } else {
-      validated = getParticipantCount() < getMaxParticipants();
+      validated = tryReserveSeat(participantSeats, getMaxParticipants());
     }
 
     if (!validated) {
@@ -264,16 +275,22 @@ public class DefaultRoom implements Room {
           PlayerJoinedRoomResult.ROOM_IS_FULL);
     }
 
-    playerManager.addPlayer(player);
+    try {
+      playerManager.addPlayer(player);
+    } catch (RuntimeException exception) {
+      // the player was not added, gives the seat back
+      (asSpectator ? spectatorSeats : participantSeats).decrementAndGet();
+      throw exception;
+    }
 
     if (asSpectator) {
       player.setRoleInRoom(PlayerRoleInRoom.SPECTATOR);
+      addToRole(spectators, spectatorSeats, player);
     } else {
       player.setRoleInRoom(PlayerRoleInRoom.PARTICIPANT);
+      addToRole(participants, participantSeats, player);
     }
 
-    classifyPlayersByRoles();
-
     if (asSpectator) {
       player.setPlayerSlotInCurrentRoom(NIL_SLOT);
     } else {
@@ -292,7 +309,8 @@ public class DefaultRoom implements Room {
       }
     });
 
-    classifyPlayersByRoles();
+    removeFromRole(participants, participantSeats, player);
+    removeFromRole(spectators, spectatorSeats, player);
   }
 
   @Override
@@ -303,7 +321,7 @@ public class DefaultRoom implements Room {
           SwitchedPlayerRoleInRoomResult.PLAYER_WAS_NOT_IN_ROOM);
     }
 
-    if (getSpectatorCount() >= getMaxSpectators()) {
+    if (!tryReserveSeat(spectatorSeats, getMaxSpectators())) {
       throw new SwitchedPlayerRoleInRoomException("All spectator slots were already taken",
           SwitchedPlayerRoleInRoomResult.SWITCH_NO_SPECTATOR_SLOTS_AVAILABLE);
     }
@@ -312,7 +330,8 @@ public class DefaultRoom implements Room {
     player.setPlayerSlotInCurrentRoom(DEFAULT_SLOT);
     player.setRoleInRoom(PlayerRoleInRoom.SPECTATOR);
 
-    classifyPlayersByRoles();
+    removeFromRole(participants, participantSeats, player);
+    addToRole(spectators, spectatorSeats, player);
   }
 
   @Override
@@ -323,7 +342,7 @@ public class DefaultRoom implements Room {
           SwitchedPlayerRoleInRoomResult.PLAYER_WAS_NOT_IN_ROOM);
     }
 
-    if (getParticipantCount() >= getMaxParticipants()) {
+    if (!tryReserveSeat(participantSeats, getMaxParticipants())) {
       throw new SwitchedPlayerRoleInRoomException("All participant slots were already taken",
           SwitchedPlayerRoleInRoomResult.SWITCH_NO_PARTICIPANT_SLOTS_AVAILABLE);
     }
@@ -338,6 +357,7 @@ public class DefaultRoom implements Room {
         player.setPlayerSlotInCurrentRoom(targetSlot);
         player.setRoleInRoom(PlayerRoleInRoom.PARTICIPANT);
       } catch (IllegalArgumentException e) {
+        participantSeats.decrementAndGet();
         throw new SwitchedPlayerRoleInRoomException(String
             .format("Unable to set the target slot: %d for the participant: %s", targetSlot,
                 player.getIdentity()),
@@ -345,16 +365,45 @@ public class DefaultRoom implements Room {
       }
     }
 
-    classifyPlayersByRoles();
+    removeFromRole(spectators, spectatorSeats, player);
+    addToRole(participants, participantSeats, player);
+  }
+
+  /**
+   * Takes a seat if the number of taken seats is still less than the capacity.
+   *
+   * @param seats    the number of taken seats of a role
+   * @param capacity the maximum number of seats of the role
+   * @return {@code true} if a seat was taken, otherwise {@code false}
+   */
+  private boolean tryReserveSeat(AtomicInteger seats, int capacity) {
+    while (true) {
+      int current = seats.get();
+      if (current >= capacity) {
+        return false;
+      }
+      if (seats.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Puts the player into a role index, its seat was already reserved. In case the player was
+   * already in the index, the extra reserved seat is given back.
+   */
+  private void addToRole(ConcurrentIndexManager<String, Player> role, AtomicInteger seats,
+                         Player player) {
+    if (role.put(player.getIdentity(), player) != null) {
+      seats.decrementAndGet();
+    }
   }
 
-  private synchronized void classifyPlayersByRoles() {
-    participants = getReadonlyPlayersList().stream()
-        .filter(player -> player.getRoleInRoom() == PlayerRoleInRoom.PARTICIPANT)
-        .toList();
-    spectators = getReadonlyPlayersList().stream()
-        .filter(player -> player.getRoleInRoom() == PlayerRoleInRoom.SPECTATOR)
-        .toList();
+  private void removeFromRole(ConcurrentIndexManager<String, Player> role, AtomicInteger seats,
+                              Player player) {
+    if (role.remove(player.getIdentity()) != null) {
+      seats.decrementAndGet();
+    }
   }
 
   private void allocateSlotToPlayer(Player player, int targetSlot) {
@@ -451,9 +500,9 @@ public class DefaultRoom implements Room {
         ", state=" + state.get() +
         ", name='" + name + '\'' +
         ", password='" + password + '\'' +
-        ", participants=" + participants +
+        ", participants=" + participants.getReadonlySnapshot() +
         ", maxParticipants=" + maxParticipants +
-        ", spectators=" + spectators +
+        ", spectators=" + spectators.getReadonlySnapshot() +
         ", maxSpectators=" + maxSpectators +
         ", roomRemoveMode=" + roomRemoveMode +
         ", activated=" + activated +
@@ -106,7 +106,9 @@ public interface PlayerManager extends Manager {
   Player getPlayerByIdentity(String playerIdentity);
 
   /**
-   * Ensures the calculation on the player list is thread-safe.
+   * Ensures the calculation on the player list is thread-safe. The iterator is weakly consistent,
+   * it reflects the players at some point at or since its creation and never throws
+   * {@link java.util.ConcurrentModificationException}.
    *
    * @param onComputed a {@link Consumer} to handle the logic
    * @since 0.6.6
@@ -123,6 +125,19 @@ public interface PlayerManager extends Manager {
    */
   List<Player> getReadonlyPlayersList();
 
+  /**
+   * Visits the players which got in IDLE state. Every player's idle deadline is kept in a timing
+   * wheel, and a player is only re-evaluated once its deadline elapses, so players which stay
+   * active are not touched on every check. A player's activity only updates its activity time,
+   * the deadline follows it at the next evaluation.
+   *
+   * @param onIdle a {@link Consumer} to handle each IDLE player
+   * @see Player#isIdle()
+   * @see Player#isIdleNeverDeported()
+   * @since 0.6.7
+   */
+  void computeIdlePlayers(Consumer<Player> onIdle);
+
   /**
    * Removes a player from the management list.
    * This operation is atomic and thread-safe.
@@ -126,7 +126,9 @@ public interface RoomManager extends Manager {
   List<Room> getReadonlyRoomsListByName(String roomName);
 
   /**
-   * Ensures the calculation on the room list is thread-safe.
+   * Ensures the calculation on the room list is thread-safe. The iterator is weakly consistent,
+   * it reflects the rooms at some point at or since its creation and never throws
+   * {@link java.util.ConcurrentModificationException}.
    *
    * @param onComputed a {@link Consumer} to handle the logic
    * @since 0.6.6
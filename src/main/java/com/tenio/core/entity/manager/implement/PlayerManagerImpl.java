@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.entity.manager.implement;
 
+import com.tenio.common.utility.TimeUtility;
 import com.tenio.core.entity.Player;
 import com.tenio.core.entity.implement.DefaultPlayer;
 import com.tenio.core.entity.manager.PlayerManager;
@@ -31,29 +32,37 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.AddedDuplicatedPlayerException;
 import com.tenio.core.exception.RemovedNonExistentPlayerException;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.manager.ConcurrentIndexManager;
 import com.tenio.core.network.entity.session.Session;
-import java.util.ArrayList;
-import java.util.HashMap;
+import com.tenio.core.scheduler.timer.HashedTimingWheel;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
- * An implemented class is for player management.
+ * An implemented class is for player management. Players are indexed concurrently, so looking
+ * up, adding and removing players do not block each other, and the read-only players list is
+ * only materialized when it is read after a change.
+ *
+ * <p>Players' idle deadlines are kept in a {@link HashedTimingWheel}, a deadline is only
+ * re-evaluated when it elapses and then follows the player's latest activity, so the idle check
+ * does not scan the whole players list.
  */
 public final class PlayerManagerImpl extends AbstractManager implements PlayerManager {
 
-  private final Map<String, Player> players;
-  private volatile List<Player> readOnlyPlayersList;
-  private volatile int playerCount;
-  private int maxIdleTimeInSecond;
-  private int maxIdleTimeNeverDeportedInSecond;
+  private final ConcurrentIndexManager<String, Player> players;
+  private final HashedTimingWheel<Player> idleDeadlines;
+  private final Map<String, HashedTimingWheel.Timeout<Player>> idleTimeouts;
+  private volatile int maxIdleTimeInSecond;
+  private volatile int maxIdleTimeNeverDeportedInSecond;
 
   private PlayerManagerImpl(EventManager eventManager) {
     super(eventManager);
-    players = new HashMap<>();
-    readOnlyPlayersList = new ArrayList<>();
+    players = new ConcurrentIndexManager<>();
+    idleDeadlines = HashedTimingWheel.newInstance(now());
+    idleTimeouts = new ConcurrentHashMap<>();
   }
 
   /**
@@ -78,11 +87,12 @@ public final class PlayerManagerImpl extends AbstractManager implements PlayerMa
 
     configureInitialPlayer(player);
 
-    synchronized (this) {
-      players.put(player.getIdentity(), player);
-      readOnlyPlayersList = players.values().stream().toList();
-      playerCount = readOnlyPlayersList.size();
+    // the identity could be taken meanwhile
+    if (players.putIfAbsent(player.getIdentity(), player) != null) {
+      throw new AddedDuplicatedPlayerException(player);
     }
+
+    scheduleIdleDeadline(player);
   }
 
   @Override
@@ -106,43 +116,61 @@ public final class PlayerManagerImpl extends AbstractManager implements PlayerMa
   }
 
   @Override
-  public synchronized Player getPlayerByIdentity(String playerIdentity) {
+  public Player getPlayerByIdentity(String playerIdentity) {
     return players.get(playerIdentity);
   }
 
   @Override
   public void computePlayers(Consumer<Iterator<Player>> onComputed) {
-    synchronized (this) {
-      onComputed.accept(players.values().iterator());
-    }
+    onComputed.accept(players.iterator());
   }
 
   @Override
   public List<Player> getReadonlyPlayersList() {
-    return readOnlyPlayersList;
+    return players.getReadonlySnapshot();
+  }
+
+  @Override
+  public void computeIdlePlayers(Consumer<Player> onIdle) {
+    long currentTime = now();
+    idleDeadlines.advance(currentTime, timeout -> {
+      Player player = timeout.getTarget();
+      if (players.get(player.getIdentity()) != player) {
+        // the player was removed while its deadline was being scheduled
+        idleTimeouts.remove(player.getIdentity(), timeout);
+        idleDeadlines.cancel(timeout);
+        return;
+      }
+      boolean idle = player.isNeverDeported() ? player.isIdleNeverDeported() : player.isIdle();
+      if (idle) {
+        // re-armed before handling, so the player is checked again in case it is not removed
+        idleDeadlines.reschedule(timeout, currentTime);
+        onIdle.accept(player);
+      } else {
+        idleDeadlines.reschedule(timeout, getIdleDeadline(player, currentTime));
+      }
+    });
   }
 
   @Override
   public void removePlayerByIdentity(String playerIdentity) {
-    if (!containsPlayerIdentity(playerIdentity)) {
+    if (players.remove(playerIdentity) == null) {
       throw new RemovedNonExistentPlayerException(playerIdentity);
     }
-
-    synchronized (this) {
-      players.remove(playerIdentity);
-      readOnlyPlayersList = players.values().stream().toList();
-      playerCount = readOnlyPlayersList.size();
+    var timeout = idleTimeouts.remove(playerIdentity);
+    if (timeout != null) {
+      idleDeadlines.cancel(timeout);
     }
   }
 
   @Override
-  public synchronized boolean containsPlayerIdentity(String playerIdentity) {
+  public boolean containsPlayerIdentity(String playerIdentity) {
     return players.containsKey(playerIdentity);
   }
 
   @Override
   public int getPlayerCount() {
-    return playerCount;
+    return players.size();
   }
 
   @Override
@@ -156,10 +184,10 @@ public final class PlayerManagerImpl extends AbstractManager implements PlayerMa
   }
 
   @Override
-  public synchronized void clear() {
+  public void clear() {
     players.clear();
-    readOnlyPlayersList = new ArrayList<>();
-    playerCount = 0;
+    idleTimeouts.clear();
+    idleDeadlines.clear();
   }
 
   /**
@@ -174,4 +202,38 @@ public final class PlayerManagerImpl extends AbstractManager implements PlayerMa
     player.setActivated(true);
     player.setLoggedIn(true);
   }
+
+  private void scheduleIdleDeadline(Player player) {
+    if (maxIdleTimeInSecond <= 0 && maxIdleTimeNeverDeportedInSecond <= 0) {
+      return;
+    }
+    var timeout = idleDeadlines.schedule(player, getIdleDeadline(player, now()));
+    var previous = idleTimeouts.put(player.getIdentity(), timeout);
+    if (previous != null) {
+      idleDeadlines.cancel(previous);
+    }
+  }
+
+  /**
+   * Calculates the earliest time a player could get in IDLE state, based on its latest activity.
+   *
+   * @param player      the target player
+   * @param currentTime the current time in milliseconds
+   * @return the idle deadline in milliseconds
+   */
+  private long getIdleDeadline(Player player, long currentTime) {
+    int maxIdleTime =
+        player.isNeverDeported() ? maxIdleTimeNeverDeportedInSecond : maxIdleTimeInSecond;
+    if (maxIdleTime <= 0) {
+      // the player can not be idle in its current mode, but the mode could be switched later
+      return currentTime +
+          Math.max(maxIdleTimeInSecond, maxIdleTimeNeverDeportedInSecond) * 1000L;
+    }
+    // a player is idle once its inactive time in whole seconds exceeds the allowance
+    return player.getLastActivityTime() + (maxIdleTime + 1) * 1000L;
+  }
+
+  private long now() {
+    return TimeUtility.currentTimeMillis();
+  }
 }
@@ -34,29 +34,26 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.AddedDuplicatedRoomException;
 import com.tenio.core.exception.CreatedRoomException;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.manager.ConcurrentIndexManager;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
- * An implemented class is for room management.
+ * An implemented class is for room management. Rooms are indexed concurrently, so looking up,
+ * adding and removing rooms do not block each other, and the read-only rooms list is only
+ * materialized when it is read after a change.
  */
 public final class RoomManagerImpl extends AbstractManager implements RoomManager {
 
-  private final Map<Long, Room> rooms;
-  private volatile List<Room> readOnlyRoomsList;
-  private volatile int roomCount;
+  private final ConcurrentIndexManager<Long, Room> rooms;
   private int maxRooms;
 
   private RoomManagerImpl(EventManager eventManager) {
     super(eventManager);
-    rooms = new HashMap<>();
-    readOnlyRoomsList = new ArrayList<>();
+    rooms = new ConcurrentIndexManager<>();
     maxRooms = DEFAULT_MAX_ROOMS;
   }
 
@@ -72,14 +69,9 @@ public final class RoomManagerImpl extends AbstractManager implements RoomManage
 
   @Override
   public void addRoom(Room room) {
-    if (containsRoomId(room.getId())) {
+    if (rooms.putIfAbsent(room.getId(), room) != null) {
       throw new AddedDuplicatedRoomException(room);
     }
-    synchronized (this) {
-      rooms.put(room.getId(), room);
-      readOnlyRoomsList = rooms.values().stream().toList();
-      roomCount = readOnlyRoomsList.size();
-    }
   }
 
   @Override
@@ -137,45 +129,39 @@ public final class RoomManagerImpl extends AbstractManager implements RoomManage
   }
 
   @Override
-  public synchronized boolean containsRoomId(long roomId) {
+  public boolean containsRoomId(long roomId) {
     return rooms.containsKey(roomId);
   }
 
   @Override
   public boolean containsRoomName(String roomName) {
-    return readOnlyRoomsList.stream().anyMatch(room -> room.getName().equals(roomName));
+    return rooms.values().stream().anyMatch(room -> room.getName().equals(roomName));
   }
 
   @Override
-  public synchronized Room getRoomById(long roomId) {
+  public Room getRoomById(long roomId) {
     return rooms.get(roomId);
   }
 
   @Override
   public List<Room> getReadonlyRoomsListByName(String roomName) {
-    return readOnlyRoomsList.stream().filter(room -> room.getName().equals(roomName))
+    return rooms.values().stream().filter(room -> room.getName().equals(roomName))
         .collect(Collectors.toList());
   }
 
   @Override
   public void computeRooms(Consumer<Iterator<Room>> onComputed) {
-    synchronized (this) {
-      onComputed.accept(rooms.values().iterator());
-    }
+    onComputed.accept(rooms.iterator());
   }
 
   @Override
   public List<Room> getReadonlyRoomsList() {
-    return readOnlyRoomsList;
+    return rooms.getReadonlySnapshot();
   }
 
   @Override
   public void removeRoomById(long roomId) {
-    synchronized (this) {
-      rooms.remove(roomId);
-      readOnlyRoomsList = rooms.values().stream().toList();
-      roomCount = readOnlyRoomsList.size();
-    }
+    rooms.remove(roomId);
   }
 
   @Override
@@ -208,7 +194,7 @@ public final class RoomManagerImpl extends AbstractManager implements RoomManage
 
   @Override
   public int getRoomCount() {
-    return roomCount;
+    return rooms.size();
   }
 
   @Override
@@ -0,0 +1,48 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.event;
+
+/**
+ * This function interface provides one method for invoking an event with exactly two
+ * parameters. It is the fixed-arity counterpart of {@link Emitter} and lets hot events be
+ * emitted without allocating a varargs array.
+ *
+ * @param <T> the type of parameters
+ * @see Emitter
+ * @since 0.6.7
+ */
+@FunctionalInterface
+public interface BiEmitter<T> {
+
+  /**
+   * To invoke an event.
+   *
+   * @param first  the first parameter will be sent to subscribers
+   * @param second the second parameter will be sent to subscribers
+   * @return an {@link Object} subscribes' result
+   */
+  Object emit(T first, T second);
+}
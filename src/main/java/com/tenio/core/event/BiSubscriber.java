@@ -0,0 +1,50 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.event;
+
+/**
+ * This function interface provides one method for dispatching the results from an event
+ * which always carries exactly two parameters. Unlike {@link Subscriber}, the parameters are
+ * typed, so the handler does not need to cast them from an {@link Object} array.
+ *
+ * @param <A> the type of the first parameter
+ * @param <B> the type of the second parameter
+ * @see BiEmitter
+ * @since 0.6.7
+ */
+@FunctionalInterface
+public interface BiSubscriber<A, B> {
+
+  /**
+   * To dispatch results from one event.
+   *
+   * @param first  the first result from an emitter
+   * @param second the second result from an emitter
+   * @return an {@link Object} result or {@code null}
+   * @see BiEmitter
+   */
+  Object dispatch(A first, B second);
+}
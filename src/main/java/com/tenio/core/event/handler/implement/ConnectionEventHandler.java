@@ -136,15 +136,14 @@ public final class ConnectionEventHandler {
         }));
 
     eventWriteMessageToConnectionOp.ifPresent(
-        event -> eventManager.on(ServerEvent.SESSION_WRITE_MESSAGE, params -> {
-          var session = (Session) params[0];
-          var packet = (Packet) params[1];
-          session.setLastWriteTime(TimeUtility.currentTimeMillis());
+        event -> eventManager.on(ServerEvent.SESSION_WRITE_MESSAGE,
+            (Session session, Packet packet) -> {
+              session.setLastWriteTime(TimeUtility.currentTimeMillis());
 
-          event.handle(session, packet);
+              event.handle(session, packet);
 
-          return null;
-        }));
+              return null;
+            }));
 
     eventAccessDatagramChannelRequestValidationOp.ifPresent(
         event -> eventManager.on(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION, params -> {
@@ -31,10 +31,14 @@ import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.handler.event.EventFetchedBandwidthInfo;
 import com.tenio.core.handler.event.EventFetchedCcuInfo;
+import com.tenio.core.handler.event.EventFetchedCompressionInfo;
+import com.tenio.core.handler.event.EventFetchedLatencyInfo;
 import com.tenio.core.handler.event.EventServerException;
 import com.tenio.core.handler.event.EventServerInitialization;
 import com.tenio.core.handler.event.EventServerTeardown;
 import com.tenio.core.handler.event.EventSystemMonitoring;
+import com.tenio.core.network.statistic.LatencySnapshot;
+import com.tenio.core.network.statistic.RateSnapshot;
 import java.util.Optional;
 
 /**
@@ -55,6 +59,12 @@ public final class MixinsEventHandler {
   @AutowiredAcceptNull
   private EventFetchedBandwidthInfo eventFetchedBandwidthInfo;
 
+  @AutowiredAcceptNull
+  private EventFetchedLatencyInfo eventFetchedLatencyInfo;
+
+  @AutowiredAcceptNull
+  private EventFetchedCompressionInfo eventFetchedCompressionInfo;
+
   @AutowiredAcceptNull
   private EventFetchedCcuInfo eventFetchedCcuInfo;
 
@@ -77,6 +87,10 @@ public final class MixinsEventHandler {
 
     final var eventFetchedBandwidthInfoOp =
         Optional.ofNullable(eventFetchedBandwidthInfo);
+    final var eventFetchedLatencyInfoOp =
+        Optional.ofNullable(eventFetchedLatencyInfo);
+    final var eventFetchedCompressionInfoOp =
+        Optional.ofNullable(eventFetchedCompressionInfo);
     final var eventFetchedCcuInfoOp =
         Optional.ofNullable(eventFetchedCcuInfo);
     final var eventSystemMonitoringOp =
@@ -112,13 +126,13 @@ public final class MixinsEventHandler {
 
     eventFetchedBandwidthInfoOp.ifPresent(
         event -> eventManager.on(ServerEvent.FETCHED_BANDWIDTH_INFO, params -> {
-          long readBytes = (long) params[0];
-          long readPackets = (long) params[1];
-          long readDroppedPackets = (long) params[2];
-          long writtenBytes = (long) params[3];
-          long writtenPackets = (long) params[4];
-          long writtenDroppedPacketsByPolicy = (long) params[5];
-          long writtenDroppedPacketsByFull = (long) params[6];
+          var readBytes = (RateSnapshot) params[0];
+          var readPackets = (RateSnapshot) params[1];
+          var readDroppedPackets = (RateSnapshot) params[2];
+          var writtenBytes = (RateSnapshot) params[3];
+          var writtenPackets = (RateSnapshot) params[4];
+          var writtenDroppedPacketsByPolicy = (RateSnapshot) params[5];
+          var writtenDroppedPacketsByFull = (RateSnapshot) params[6];
 
           event.handle(readBytes, readPackets, readDroppedPackets, writtenBytes, writtenPackets,
               writtenDroppedPacketsByPolicy, writtenDroppedPacketsByFull);
@@ -126,6 +140,30 @@ public final class MixinsEventHandler {
           return null;
         }));
 
+    eventFetchedLatencyInfoOp.ifPresent(
+        event -> eventManager.on(ServerEvent.FETCHED_LATENCY_INFO, params -> {
+          var readToEnqueue = (LatencySnapshot) params[0];
+          var enqueueToProcess = (LatencySnapshot) params[1];
+          var handlerExecution = (LatencySnapshot) params[2];
+          var responseEnqueueToWrite = (LatencySnapshot) params[3];
+
+          event.handle(readToEnqueue, enqueueToProcess, handlerExecution, responseEnqueueToWrite);
+
+          return null;
+        }));
+
+    eventFetchedCompressionInfoOp.ifPresent(
+        event -> eventManager.on(ServerEvent.FETCHED_COMPRESSION_INFO, params -> {
+          var compressedPackets = (RateSnapshot) params[0];
+          var skippedPackets = (RateSnapshot) params[1];
+          var savedBytes = (RateSnapshot) params[2];
+          var compressionLatency = (LatencySnapshot) params[3];
+
+          event.handle(compressedPackets, skippedPackets, savedBytes, compressionLatency);
+
+          return null;
+        }));
+
     eventFetchedCcuInfoOp.ifPresent(event -> eventManager.on(ServerEvent.FETCHED_CCU_INFO,
         params -> {
           int numberPlayers = (int) params[0];
@@ -117,26 +117,24 @@ public final class PlayerEventHandler {
         }));
 
     eventReceivedMessageFromPlayerOp.ifPresent(
-        event -> eventManager.on(ServerEvent.RECEIVED_MESSAGE_FROM_PLAYER, params -> {
-          var player = (Player) params[0];
-          var message = (DataCollection) params[1];
-          player.setLastReadTime(TimeUtility.currentTimeMillis());
+        event -> eventManager.on(ServerEvent.RECEIVED_MESSAGE_FROM_PLAYER,
+            (Player player, DataCollection message) -> {
+              player.setLastReadTime(TimeUtility.currentTimeMillis());
 
-          event.handle(player, message);
+              event.handle(player, message);
 
-          return null;
-        }));
+              return null;
+            }));
 
     eventSendMessageToPlayerOp.ifPresent(
-        event -> eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER, params -> {
-          var player = (Player) params[0];
-          var message = (DataCollection) params[1];
-          player.setLastWriteTime(TimeUtility.currentTimeMillis());
+        event -> eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER,
+            (Player player, DataCollection message) -> {
+              player.setLastWriteTime(TimeUtility.currentTimeMillis());
 
-          event.handle(player, message);
+              event.handle(player, message);
 
-          return null;
-        }));
+              return null;
+            }));
 
     eventDisconnectPlayerOp.ifPresent(event -> eventManager.on(ServerEvent.DISCONNECT_PLAYER,
         params -> {
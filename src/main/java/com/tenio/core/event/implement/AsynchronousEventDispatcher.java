@@ -0,0 +1,230 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.event.implement;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.bootstrap.annotation.Asynchronous;
+import com.tenio.core.manager.SequentialTaskManager;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.utility.VirtualThreadUtility;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs the handlers of {@link Asynchronous} events off the emitting thread.
+ *
+ * <p>The dispatcher owns a fixed number of single-threaded workers. Every task comes with a key
+ * (normally the {@link Session} it belongs to) and tasks sharing a key are always handled by the
+ * same worker, so they are processed in the order they were emitted. Tasks of different keys run
+ * in parallel on different workers.
+ *
+ * <p>In the virtual threads mode, there is no fixed worker. Tasks sharing a key form a lane which
+ * is drained by one virtual thread at a time, so a handler may block without holding a platform
+ * thread while the order per key is kept.
+ *
+ * <p>Note: Dispatching never blocks the caller, which is usually a selector or writer thread.
+ * When the pending tasks reach their limit (per worker, or in total in the virtual threads mode),
+ * the new task is rejected and counted, see {@link #getRejectedTasks()}.
+ *
+ * @see EventManager
+ * @see Asynchronous
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class AsynchronousEventDispatcher extends SystemLogger {
+
+  private static final Object NO_KEY = new Object();
+
+  private final ExecutorService[] workers;
+  private final ExecutorService virtualExecutor;
+  private final SequentialTaskManager<Object> virtualLanes;
+  private final int maxPendingTasks;
+  private final AtomicInteger virtualPendingTasks;
+  private final AtomicLong rejectedTasks;
+
+  private AsynchronousEventDispatcher(int numberOfWorkers, int maxPendingTasks) {
+    workers = new ExecutorService[numberOfWorkers];
+    for (int i = 0; i < numberOfWorkers; i++) {
+      var threadFactory = new ThreadFactoryBuilder().setDaemon(true)
+          .setNameFormat("asynchronous-event-" + i).build();
+      var queue = maxPendingTasks > 0 ? new LinkedBlockingQueue<Runnable>(maxPendingTasks) :
+          new LinkedBlockingQueue<Runnable>();
+      workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue, threadFactory);
+    }
+    virtualExecutor = null;
+    virtualLanes = null;
+    this.maxPendingTasks = maxPendingTasks;
+    virtualPendingTasks = null;
+    rejectedTasks = new AtomicLong();
+  }
+
+  private AsynchronousEventDispatcher(int maxPendingTasks) {
+    workers = new ExecutorService[0];
+    virtualExecutor = VirtualThreadUtility.newVirtualThreadPerTaskExecutor("asynchronous-event-");
+    virtualLanes = new SequentialTaskManager<>(virtualExecutor,
+        (key, cause) -> error(cause, "Asynchronous event handling failed: ", key));
+    this.maxPendingTasks = maxPendingTasks;
+    virtualPendingTasks = new AtomicInteger();
+    rejectedTasks = new AtomicLong();
+  }
+
+  /**
+   * Initialization.
+   *
+   * @param numberOfWorkers the number of workers, it must be greater than {@code 0}
+   * @param maxPendingTasks the maximum number of tasks waiting in each worker's queue,
+   *                        {@code 0} means there is no restriction
+   * @return a new instance of {@link AsynchronousEventDispatcher}
+   * @throws IllegalArgumentException when the number of workers is not positive or the maximum
+   *                                  number of pending tasks is negative
+   */
+  public static AsynchronousEventDispatcher newInstance(int numberOfWorkers,
+                                                        int maxPendingTasks) {
+    if (numberOfWorkers <= 0) {
+      throw new IllegalArgumentException(
+          "The number of asynchronous event workers must be greater than 0");
+    }
+    checkMaxPendingTasks(maxPendingTasks);
+    return new AsynchronousEventDispatcher(numberOfWorkers, maxPendingTasks);
+  }
+
+  /**
+   * Initialization of a dispatcher which runs handlers on virtual threads.
+   *
+   * @param maxPendingTasks the maximum number of tasks waiting in all lanes, {@code 0} means
+   *                        there is no restriction
+   * @return a new instance of {@link AsynchronousEventDispatcher}
+   * @throws UnsupportedOperationException when the runtime does not support virtual threads
+   * @throws IllegalArgumentException      when the maximum number of pending tasks is negative
+   * @see VirtualThreadUtility#isSupported()
+   */
+  public static AsynchronousEventDispatcher newVirtualInstance(int maxPendingTasks) {
+    checkMaxPendingTasks(maxPendingTasks);
+    return new AsynchronousEventDispatcher(maxPendingTasks);
+  }
+
+  /**
+   * Retrieves the number of workers.
+   *
+   * @return the number of workers, it is {@code 0} in the virtual threads mode
+   */
+  public int getNumberOfWorkers() {
+    return workers.length;
+  }
+
+  /**
+   * Retrieves the number of tasks which were rejected since the pending tasks reached their
+   * limit or the dispatcher was shut down.
+   *
+   * @return the number of rejected tasks
+   */
+  public long getRejectedTasks() {
+    return rejectedTasks.get();
+  }
+
+  /**
+   * Hands a task over to the worker which is responsible for its key.
+   *
+   * @param key  the ordering key, tasks having the same key are processed in order, it can be
+   *             {@code null}
+   * @param task the task
+   * @return {@code true} if the task is queued, {@code false} if it is rejected because the
+   * pending tasks reached their limit or the dispatcher was shut down, then the task never runs
+   */
+  public boolean dispatch(Object key, Runnable task) {
+    try {
+      if (virtualLanes != null) {
+        dispatchToLane(key == null ? NO_KEY : key, task);
+      } else {
+        workers[indexOf(key)].execute(() -> {
+          try {
+            task.run();
+          } catch (Throwable throwable) {
+            error(throwable, "Asynchronous event handling failed: ", key);
+          }
+        });
+      }
+      return true;
+    } catch (RejectedExecutionException exception) {
+      rejectedTasks.incrementAndGet();
+      if (isDebugEnabled()) {
+        debug("ASYNCHRONOUS EVENT", "Rejected, the queue is full or shut down: ", key);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Stops all workers, the pending tasks are discarded.
+   */
+  public void shutdown() {
+    for (var worker : workers) {
+      worker.shutdownNow();
+    }
+    if (virtualExecutor != null) {
+      virtualExecutor.shutdownNow();
+    }
+  }
+
+  private void dispatchToLane(Object key, Runnable task) {
+    // the slot is taken first, so concurrent callers can never exceed the limit together
+    if (virtualPendingTasks.incrementAndGet() > maxPendingTasks && maxPendingTasks > 0) {
+      virtualPendingTasks.decrementAndGet();
+      throw new RejectedExecutionException();
+    }
+    try {
+      virtualLanes.execute(key, () -> {
+        virtualPendingTasks.decrementAndGet();
+        task.run();
+      });
+    } catch (RejectedExecutionException exception) {
+      virtualPendingTasks.decrementAndGet();
+      throw exception;
+    }
+  }
+
+  private int indexOf(Object key) {
+    if (workers.length == 1 || key == null) {
+      return 0;
+    }
+    int hash = key instanceof Session session ? Long.hashCode(session.getId()) : key.hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), workers.length);
+  }
+
+  private static void checkMaxPendingTasks(int maxPendingTasks) {
+    if (maxPendingTasks < 0) {
+      throw new IllegalArgumentException(
+          "The maximum number of pending asynchronous events must not be negative");
+    }
+  }
+}
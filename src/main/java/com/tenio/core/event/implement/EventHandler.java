@@ -25,9 +25,9 @@ THE SOFTWARE.
 package com.tenio.core.event.implement;
 
 import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.event.BiEmitter;
 import com.tenio.core.event.Emitter;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Handles events and their subscribers in a type-safe manner.
@@ -39,31 +39,41 @@ import java.util.Map;
  *   <li>Type-safe event handling with generics</li>
  *   <li>Event-emitter mapping</li>
  *   <li>Event emission with parameter passing</li>
+ *   <li>Fixed-arity emission for two-parameter events</li>
  *   <li>Event subscription management</li>
  *   <li>Event result collection</li>
  * </ul>
  *
- * <p>Note: This class maintains a mapping between events and their corresponding emitters,
- * allowing for efficient event handling and result collection.
+ * <p>Note: Emitters are stored in arrays indexed by {@link ServerEvent#ordinal()}, so looking
+ * up the handler of an event is a single array access. An event is bound to either an
+ * {@link Emitter} or a {@link BiEmitter}, a later subscription replaces the earlier one.
  *
  * @param <T> the type of data associated with the events
  * @see ServerEvent
  * @see Emitter
+ * @see BiEmitter
  * @since 0.3.0
  */
 public final class EventHandler<T> {
 
+  private static final int NUMBER_OF_EVENTS = ServerEvent.values().length;
+
+  /**
+   * Emitters which take a list of parameters, indexed by the event's ordinal.
+   */
+  private final Emitter<T>[] emitters;
   /**
-   * An instance creates a mapping between an event with its list of event
-   * handlers.
+   * Emitters which take exactly two parameters, indexed by the event's ordinal.
    */
-  private final Map<ServerEvent, Emitter<T>> delegate;
+  private final BiEmitter<T>[] biEmitters;
 
   /**
    * Constructor.
    */
+  @SuppressWarnings({"unchecked", "rawtypes"})
   public EventHandler() {
-    delegate = new HashMap<>();
+    emitters = (Emitter<T>[]) new Emitter[NUMBER_OF_EVENTS];
+    biEmitters = (BiEmitter<T>[]) new BiEmitter[NUMBER_OF_EVENTS];
   }
 
   /**
@@ -73,7 +83,20 @@ public final class EventHandler<T> {
    * @param emitter see {@link Emitter}
    */
   public void subscribe(ServerEvent event, Emitter<T> emitter) {
-    delegate.put(event, emitter);
+    emitters[event.ordinal()] = emitter;
+    biEmitters[event.ordinal()] = null;
+  }
+
+  /**
+   * Create a link between an event and its two-parameter event handler.
+   *
+   * @param event     see {@link ServerEvent}
+   * @param biEmitter see {@link BiEmitter}
+   * @since 0.6.7
+   */
+  public void subscribe(ServerEvent event, BiEmitter<T> biEmitter) {
+    biEmitters[event.ordinal()] = biEmitter;
+    emitters[event.ordinal()] = null;
   }
 
   /**
@@ -85,8 +108,37 @@ public final class EventHandler<T> {
    */
   @SafeVarargs
   public final Object emit(ServerEvent event, T... params) {
-    if (delegate.containsKey(event)) {
-      return delegate.get(event).emit(params);
+    var emitter = emitters[event.ordinal()];
+    if (emitter != null) {
+      return emitter.emit(params);
+    }
+    var biEmitter = biEmitters[event.ordinal()];
+    if (biEmitter != null) {
+      return biEmitter.emit(params.length > 0 ? params[0] : null,
+          params.length > 1 ? params[1] : null);
+    }
+    return null;
+  }
+
+  /**
+   * Emit an event with exactly two parameters. When the event is bound to a
+   * {@link BiEmitter}, no parameters array is allocated.
+   *
+   * @param event  see {@link ServerEvent}
+   * @param first  the first parameter of this event
+   * @param second the second parameter of this event
+   * @return the event result (the response of its subscribers), see {@link Object} or <b>null</b>
+   * @since 0.6.7
+   */
+  @SuppressWarnings("unchecked")
+  public Object emit(ServerEvent event, T first, T second) {
+    var biEmitter = biEmitters[event.ordinal()];
+    if (biEmitter != null) {
+      return biEmitter.emit(first, second);
+    }
+    var emitter = emitters[event.ordinal()];
+    if (emitter != null) {
+      return emitter.emit(first, second);
     }
     return null;
   }
@@ -95,8 +147,7 @@ public final class EventHandler<T> {
    * Clear all events and these handlers.
    */
   public void clear() {
-    if (!delegate.isEmpty()) {
-      delegate.clear();
-    }
+    Arrays.fill(emitters, null);
+    Arrays.fill(biEmitters, null);
   }
 }
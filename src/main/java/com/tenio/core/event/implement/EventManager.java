@@ -25,8 +25,12 @@ THE SOFTWARE.
 package com.tenio.core.event.implement;
 
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.bootstrap.annotation.Asynchronous;
+import com.tenio.core.configuration.constant.CoreConstant;
 import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.event.BiSubscriber;
 import com.tenio.core.event.Subscriber;
+import com.tenio.core.utility.VirtualThreadUtility;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -44,8 +48,18 @@ import javax.annotation.concurrent.NotThreadSafe;
  *   <li>Event tracing and debugging</li>
  *   <li>Thread-safe event handling</li>
  *   <li>Event result collection</li>
+ *   <li>Off-thread handling of {@link Asynchronous} events</li>
  * </ul>
  *
+ * <p>Events marked with {@link Asynchronous} are handed over to an
+ * {@link AsynchronousEventDispatcher} once its workers are configured, see
+ * {@link #setAsynchronousEventWorkers(int)}. They are ordered by their session (the first
+ * parameter) and their emission returns an {@link AsynchronousEmission} instead of the handlers'
+ * result. The session's lifecycle events ({@link ServerEvent#SESSION_OCCURRED_EXCEPTION} and
+ * {@link ServerEvent#SESSION_WILL_BE_CLOSED}) go through the same worker as well, so they never
+ * overtake the session's pending asynchronous events. All other events, and every event while no
+ * worker is configured, are handled on the emitting thread.
+ *
  * <p>Note: This class is not thread-safe and should be used in a single-threaded context
  * or with proper synchronization.
  *
@@ -58,6 +72,9 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class EventManager extends SystemLogger {
 
+  private static final boolean[] ASYNCHRONOUS_EVENTS = scanAsynchronousEvents();
+  private static final boolean[] SESSION_ORDERED_EVENTS = scanSessionOrderedEvents();
+
   /**
    * A list of subscribers.
    */
@@ -66,6 +83,10 @@ public final class EventManager extends SystemLogger {
    * The producer.
    */
   private final EventProducer eventProducer;
+  /**
+   * The dispatcher of asynchronous events, {@code null} when they are handled inline.
+   */
+  private volatile AsynchronousEventDispatcher asynchronousEventDispatcher;
 
   private EventManager() {
     eventSubscribers = new ArrayList<>();
@@ -86,7 +107,8 @@ public final class EventManager extends SystemLogger {
    *
    * @param event  see {@link ServerEvent}
    * @param params a list parameters of this event
-   * @return the event result (the response of its subscribers), see {@link Object} or <b>null</b>
+   * @return the event result (the response of its subscribers), see {@link Object} or <b>null</b>,
+   * or an {@link AsynchronousEmission} when the event is handed over to the asynchronous workers
    * @see EventProducer#emit(ServerEvent, Object...)
    */
   public Object emit(ServerEvent event, Object... params) {
@@ -99,9 +121,152 @@ public final class EventManager extends SystemLogger {
         debugEvent(event.toString(), params);
       }
     }
+    var dispatcher = asynchronousEventDispatcher;
+    if (dispatcher != null && isDispatched(event)) {
+      var emission = dispatch(dispatcher, event, getOrderingKey(event, params),
+          () -> eventProducer.emit(event, params));
+      if (emission != null) {
+        return emission;
+      }
+    }
     return eventProducer.emit(event, params);
   }
 
+  /**
+   * Emit an event with exactly two parameters. This is the path taken by the hot events
+   * (reading and writing messages), it allocates no parameters array unless the event is
+   * going to be logged.
+   *
+   * @param event  see {@link ServerEvent}
+   * @param first  the first parameter of this event
+   * @param second the second parameter of this event
+   * @return the event result (the response of its subscribers), see {@link Object} or <b>null</b>,
+   * or an {@link AsynchronousEmission} when the event is handed over to the asynchronous workers
+   * @see EventProducer#emit(ServerEvent, Object, Object)
+   * @since 0.6.7
+   */
+  public Object emit(ServerEvent event, Object first, Object second) {
+    if (isEventForTracing(event)) {
+      if (isTraceEnabled()) {
+        trace(event.toString(), first, second);
+      }
+    } else {
+      if (isDebugEnabled()) {
+        debugEvent(event.toString(), first, second);
+      }
+    }
+    var dispatcher = asynchronousEventDispatcher;
+    if (dispatcher != null && isDispatched(event)) {
+      var emission =
+          dispatch(dispatcher, event, first, () -> eventProducer.emit(event, first, second));
+      if (emission != null) {
+        return emission;
+      }
+    }
+    return eventProducer.emit(event, first, second);
+  }
+
+  /**
+   * Sets the number of workers handling {@link Asynchronous} events. The previous workers, if
+   * any, are stopped.
+   *
+   * @param numberOfWorkers the number of workers, {@code 0} means asynchronous events are handled
+   *                        on the emitting thread
+   * @since 0.6.7
+   */
+  public void setAsynchronousEventWorkers(int numberOfWorkers) {
+    setAsynchronousEventWorkers(numberOfWorkers, false);
+  }
+
+  /**
+   * Sets the workers handling {@link Asynchronous} events, they can run on virtual threads. The
+   * previous workers, if any, are stopped.
+   *
+   * @param numberOfWorkers the number of workers, {@code 0} means asynchronous events are handled
+   *                        on the emitting thread
+   * @param virtualThreads  {@code true} if handlers should run on virtual threads instead of the
+   *                        fixed workers, it falls back to the fixed workers when the runtime
+   *                        does not support virtual threads
+   * @since 0.6.7
+   */
+  public void setAsynchronousEventWorkers(int numberOfWorkers, boolean virtualThreads) {
+    setAsynchronousEventWorkers(numberOfWorkers, virtualThreads,
+        CoreConstant.DEFAULT_ASYNCHRONOUS_EVENT_QUEUE_SIZE);
+  }
+
+  /**
+   * Sets the workers handling {@link Asynchronous} events and the limit of their pending events.
+   * The previous workers, if any, are stopped.
+   *
+   * @param numberOfWorkers  the number of workers, {@code 0} means asynchronous events are
+   *                         handled on the emitting thread
+   * @param virtualThreads   {@code true} if handlers should run on virtual threads instead of the
+   *                         fixed workers, it falls back to the fixed workers when the runtime
+   *                         does not support virtual threads
+   * @param maxPendingEvents the maximum number of events waiting in each worker's queue (in total
+   *                         in the virtual threads mode), {@code 0} means there is no restriction.
+   *                         An asynchronous event beyond the limit is dropped
+   * @throws IllegalArgumentException when the maximum number of pending events is negative
+   * @since 0.6.7
+   */
+  public void setAsynchronousEventWorkers(int numberOfWorkers, boolean virtualThreads,
+                                          int maxPendingEvents) {
+    boolean useVirtualThreads =
+        numberOfWorkers > 0 && virtualThreads && VirtualThreadUtility.isSupported();
+    var previousDispatcher = asynchronousEventDispatcher;
+    if (numberOfWorkers <= 0) {
+      asynchronousEventDispatcher = null;
+    } else if (useVirtualThreads) {
+      asynchronousEventDispatcher =
+          AsynchronousEventDispatcher.newVirtualInstance(maxPendingEvents);
+    } else {
+      asynchronousEventDispatcher =
+          AsynchronousEventDispatcher.newInstance(numberOfWorkers, maxPendingEvents);
+    }
+    if (previousDispatcher != null) {
+      previousDispatcher.shutdown();
+    }
+    if (isInfoEnabled()) {
+      info("SERVER EVENT ASYNCHRONOUS WORKERS",
+          buildgen("Workers ", numberOfWorkers, ", Virtual Threads ", useVirtualThreads,
+              ", Max Pending Events ", maxPendingEvents));
+    }
+  }
+
+  /**
+   * Determines whether an event is handled off the emitting thread.
+   *
+   * @param event see {@link ServerEvent}
+   * @return {@code true} if the event is marked with {@link Asynchronous} and the asynchronous
+   * workers are configured
+   * @since 0.6.7
+   */
+  public boolean isAsynchronous(ServerEvent event) {
+    return asynchronousEventDispatcher != null && ASYNCHRONOUS_EVENTS[event.ordinal()];
+  }
+
+  /**
+   * Retrieves the number of events which the asynchronous workers rejected since their pending
+   * events reached the limit.
+   *
+   * @return the number of rejected events, {@code 0} when no worker is configured
+   * @since 0.6.7
+   */
+  public long getRejectedAsynchronousEvents() {
+    var dispatcher = asynchronousEventDispatcher;
+    return dispatcher == null ? 0L : dispatcher.getRejectedTasks();
+  }
+
+  /**
+   * Stops the asynchronous workers, the following asynchronous events are handled on the
+   * emitting thread.
+   *
+   * @since 0.6.7
+   */
+  public void shutdown() {
+    setAsynchronousEventWorkers(0);
+  }
+
   /**
    * Add a subscriber's handler.
    *
@@ -118,6 +283,29 @@ public final class EventManager extends SystemLogger {
     eventSubscribers.add(EventSubscriber.newInstance(event, subscriber));
   }
 
+  /**
+   * Add a subscriber's handler for an event which always carries two parameters. The
+   * parameters are delivered typed, without a parameters array.
+   *
+   * @param event        see {@link ServerEvent}
+   * @param biSubscriber see {@link BiSubscriber}
+   * @param <A>          the type of the first parameter
+   * @param <B>          the type of the second parameter
+   * @since 0.6.7
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B> void on(ServerEvent event, BiSubscriber<A, B> biSubscriber) {
+    if (hasSubscriber(event)) {
+      if (isInfoEnabled()) {
+        info("SERVER EVENT WARNING", "Duplicated", event);
+      }
+    }
+
+    // safe by contract, every emitter of the event passes parameters of exactly these types
+    eventSubscribers.add(
+        EventSubscriber.newInstance(event, (BiSubscriber<Object, Object>) biSubscriber));
+  }
+
   /**
    * Collect all subscribers and these corresponding events.
    */
@@ -130,8 +318,14 @@ public final class EventManager extends SystemLogger {
     // start handling
     eventSubscribers.forEach(eventSubscriber -> {
       events.add(eventSubscriber.getEvent());
-      eventProducer.getEventHandler().subscribe(eventSubscriber.getEvent(),
-          eventSubscriber.getSubscriber()::dispatch);
+      if (eventSubscriber.getBiSubscriber() != null) {
+        eventProducer.getEventHandler().subscribe(eventSubscriber.getEvent(),
+            eventSubscriber.getBiSubscriber()::dispatch);
+      } else {
+        var subscriber = eventSubscriber.getSubscriber();
+        eventProducer.getEventHandler().subscribe(eventSubscriber.getEvent(),
+            params -> subscriber.dispatch(params));
+      }
     });
     if (isInfoEnabled()) {
       info("SERVER EVENT SUBSCRIBERS", "Subscribers", events.toString());
@@ -161,6 +355,49 @@ public final class EventManager extends SystemLogger {
     eventProducer.clear();
   }
 
+  private boolean isDispatched(ServerEvent event) {
+    return ASYNCHRONOUS_EVENTS[event.ordinal()] || SESSION_ORDERED_EVENTS[event.ordinal()];
+  }
+
+  private AsynchronousEmission dispatch(AsynchronousEventDispatcher dispatcher, ServerEvent event,
+                                        Object key, Runnable task) {
+    if (dispatcher.dispatch(key, task)) {
+      return AsynchronousEmission.QUEUED;
+    }
+    // a lifecycle event must never be lost, it is handled inline when the worker rejects it
+    return ASYNCHRONOUS_EVENTS[event.ordinal()] ? AsynchronousEmission.DROPPED : null;
+  }
+
+  private Object getOrderingKey(ServerEvent event, Object[] params) {
+    // the datagram channel is shared, its clients are told apart by their remote addresses
+    if (event == ServerEvent.DATAGRAM_CHANNEL_READ_MESSAGE_FIRST_TIME && params.length > 1) {
+      return params[1];
+    }
+    return params.length > 0 ? params[0] : null;
+  }
+
+  private static boolean[] scanAsynchronousEvents() {
+    var events = ServerEvent.values();
+    var asynchronousEvents = new boolean[events.length];
+    for (var event : events) {
+      try {
+        asynchronousEvents[event.ordinal()] = ServerEvent.class.getField(event.name())
+            .isAnnotationPresent(Asynchronous.class);
+      } catch (NoSuchFieldException exception) {
+        // every enum constant is a public field
+        throw new IllegalStateException(exception);
+      }
+    }
+    return asynchronousEvents;
+  }
+
+  private static boolean[] scanSessionOrderedEvents() {
+    var sessionOrderedEvents = new boolean[ServerEvent.values().length];
+    sessionOrderedEvents[ServerEvent.SESSION_OCCURRED_EXCEPTION.ordinal()] = true;
+    sessionOrderedEvents[ServerEvent.SESSION_WILL_BE_CLOSED.ordinal()] = true;
+    return sessionOrderedEvents;
+  }
+
   private boolean isEventForTracing(ServerEvent event) {
     return switch (event) {
       case DATAGRAM_CHANNEL_READ_MESSAGE_FIRST_TIME, RECEIVED_MESSAGE_FROM_PLAYER, SESSION_READ_MESSAGE,
@@ -168,4 +405,23 @@ public final class EventManager extends SystemLogger {
       default -> false;
     };
   }
+
+  /**
+   * The result of emitting an event which is handed over to the asynchronous workers, it tells
+   * the emitter apart from a <b>null</b> result of the event's handlers.
+   *
+   * @since 0.6.7
+   */
+  public enum AsynchronousEmission {
+
+    /**
+     * The event is queued, its handlers run later on a worker.
+     */
+    QUEUED,
+    /**
+     * The event is dropped since the worker's queue is full or the workers were stopped, its
+     * handlers never run.
+     */
+    DROPPED
+  }
 }
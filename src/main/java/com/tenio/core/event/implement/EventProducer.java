@@ -81,6 +81,20 @@ public final class EventProducer {
     return eventHandler.emit(event, params);
   }
 
+  /**
+   * Emit an event with exactly two parameters, without allocating a parameters array.
+   *
+   * @param event  see {@link ServerEvent}
+   * @param first  the first parameter of this event
+   * @param second the second parameter of this event
+   * @return the event result (the response of its subscribers), see {@link Object} or <b>null</b>
+   * @see EventHandler#emit(ServerEvent, Object, Object)
+   * @since 0.6.7
+   */
+  public Object emit(ServerEvent event, Object first, Object second) {
+    return eventHandler.emit(event, first, second);
+  }
+
   /**
    * Clear all events and these handlers.
    *
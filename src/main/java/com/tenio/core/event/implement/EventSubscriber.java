@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.event.implement;
 
 import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.event.BiSubscriber;
 import com.tenio.core.event.Subscriber;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -42,10 +43,12 @@ import javax.annotation.concurrent.ThreadSafe;
  * </ul>
  *
  * <p>Note: This class is thread-safe and can be safely shared between multiple threads.
- * Instances should be created using the factory method {@link #newInstance(ServerEvent, Subscriber)}.
+ * Instances should be created using the factory method {@link #newInstance(ServerEvent, Subscriber)}
+ * or {@link #newInstance(ServerEvent, BiSubscriber)}, only one kind of subscriber is held.
  *
  * @see ServerEvent
  * @see Subscriber
+ * @see BiSubscriber
  * @since 0.3.0
  */
 @ThreadSafe
@@ -55,9 +58,13 @@ public final class EventSubscriber {
 
   private final Subscriber subscriber;
 
-  private EventSubscriber(ServerEvent serverEvent, Subscriber subscriber) {
+  private final BiSubscriber<Object, Object> biSubscriber;
+
+  private EventSubscriber(ServerEvent serverEvent, Subscriber subscriber,
+                          BiSubscriber<Object, Object> biSubscriber) {
     this.serverEvent = serverEvent;
     this.subscriber = subscriber;
+    this.biSubscriber = biSubscriber;
   }
 
   /**
@@ -68,7 +75,20 @@ public final class EventSubscriber {
    * @return a new instance of {@link EventSubscriber}
    */
   public static EventSubscriber newInstance(ServerEvent event, Subscriber subscriber) {
-    return new EventSubscriber(event, subscriber);
+    return new EventSubscriber(event, subscriber, null);
+  }
+
+  /**
+   * Initialization.
+   *
+   * @param event        the {@link ServerEvent} that should be subscribed
+   * @param biSubscriber the corresponding two-parameter {@link BiSubscriber} for the event
+   * @return a new instance of {@link EventSubscriber}
+   * @since 0.6.7
+   */
+  public static EventSubscriber newInstance(ServerEvent event,
+                                            BiSubscriber<Object, Object> biSubscriber) {
+    return new EventSubscriber(event, null, biSubscriber);
   }
 
   /**
@@ -83,9 +103,21 @@ public final class EventSubscriber {
   /**
    * Retrieves a server event subscriber.
    *
-   * @return an instance of {@link Subscriber} for the server event
+   * @return an instance of {@link Subscriber} for the server event, or {@code null} when the
+   * event is handled by a {@link BiSubscriber}
    */
   public Subscriber getSubscriber() {
     return subscriber;
   }
+
+  /**
+   * Retrieves a server event two-parameter subscriber.
+   *
+   * @return an instance of {@link BiSubscriber} for the server event, or {@code null} when the
+   * event is handled by a {@link Subscriber}
+   * @since 0.6.7
+   */
+  public BiSubscriber<Object, Object> getBiSubscriber() {
+    return biSubscriber;
+  }
 }
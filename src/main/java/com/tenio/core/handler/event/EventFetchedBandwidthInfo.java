@@ -30,6 +30,7 @@ import com.tenio.core.exception.PacketQueueFullException;
 import com.tenio.core.exception.PacketQueuePolicyViolationException;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
+import com.tenio.core.network.statistic.RateSnapshot;
 
 /**
  * Fetches the bandwidth information on the server.
@@ -39,24 +40,20 @@ public interface EventFetchedBandwidthInfo {
 
   /**
    * Fetches the bandwidth information on the server. The information should be frequently
-   * updated every interval time.
+   * updated every interval time. Every metric comes as a {@link RateSnapshot} holding its running
+   * total and its average rates per second over the last 1, 10 and 60 seconds, so the
+   * application does not need to compute the differences between two reports itself.
    *
-   * @param readBytes                     {@code long} value, the current total number of
-   *                                      read binary data from clients side
-   * @param readPackets                   {@code long} value, the current total number of
-   *                                      read packets from clients side
-   * @param readDroppedPackets            {@code long} value, the current total number of
-   *                                      dropped packets sent from clients side which violated
-   *                                      request queue policies and could not be processed
-   * @param writtenBytes                  {@code long} value, the current total number of
-   *                                      sending binary data to clients side
-   * @param writtenPackets                {@code long} value, the current total number of
-   *                                      sending packets to clients side
-   * @param writtenDroppedPacketsByPolicy {@code long} value, the current total number of
-   *                                      dropped packets which could not sent to clients side
+   * @param readBytes                     the read binary data from clients side
+   * @param readPackets                   the read packets from clients side
+   * @param readDroppedPackets            the dropped packets sent from clients side which
+   *                                      violated request queue policies and could not be
+   *                                      processed
+   * @param writtenBytes                  the sending binary data to clients side
+   * @param writtenPackets                the sending packets to clients side
+   * @param writtenDroppedPacketsByPolicy the dropped packets which could not sent to clients side
    *                                      because they violated the packet queue policies
-   * @param writtenDroppedPacketsByFull   {@code long} value, the current total number of
-   *                                      dropped packets which could not sent to clients side
+   * @param writtenDroppedPacketsByFull   the dropped packets which could not sent to clients side
    *                                      because packet queue is full and could not hold any
    *                                      written packet
    * @see CoreConfigurationType#INTERVAL_TRAFFIC_COUNTER
@@ -65,8 +62,10 @@ public interface EventFetchedBandwidthInfo {
    * @see PacketQueuePolicy
    * @see PacketQueuePolicyViolationException
    * @see PacketQueueFullException
+   * @see RateSnapshot
    */
-  void handle(long readBytes, long readPackets, long readDroppedPackets, long writtenBytes,
-              long writtenPackets, long writtenDroppedPacketsByPolicy,
-              long writtenDroppedPacketsByFull);
+  void handle(RateSnapshot readBytes, RateSnapshot readPackets, RateSnapshot readDroppedPackets,
+              RateSnapshot writtenBytes, RateSnapshot writtenPackets,
+              RateSnapshot writtenDroppedPacketsByPolicy,
+              RateSnapshot writtenDroppedPacketsByFull);
 }
@@ -0,0 +1,57 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.handler.event;
+
+import com.tenio.core.configuration.define.CoreConfigurationType;
+import com.tenio.core.network.codec.compression.AdaptiveCompressionPolicy;
+import com.tenio.core.network.statistic.LatencySnapshot;
+import com.tenio.core.network.statistic.RateSnapshot;
+
+/**
+ * Fetches the packet compression information on the server.
+ *
+ * @since 0.6.7
+ */
+@FunctionalInterface
+public interface EventFetchedCompressionInfo {
+
+  /**
+   * Fetches the packet compression information on the server. The information is updated every
+   * interval time, next to the bandwidth information. It is only recorded when the
+   * {@link CoreConfigurationType#NETWORK_PROP_PACKET_COMPRESSION_BREAK_EVEN_PERCENT} is set.
+   *
+   * @param compressedPackets  the packets which were passed to the compressor
+   * @param skippedPackets     the packets which were sent without compression because
+   *                           compressing their kind of data was not worth it
+   * @param savedBytes         the bytes saved by compression
+   * @param compressionLatency the times packets took to be compressed since the previous
+   *                           snapshot, in nanoseconds
+   * @see CoreConfigurationType#INTERVAL_TRAFFIC_COUNTER
+   * @see AdaptiveCompressionPolicy
+   * @see EventFetchedBandwidthInfo
+   */
+  void handle(RateSnapshot compressedPackets, RateSnapshot skippedPackets, RateSnapshot savedBytes,
+              LatencySnapshot compressionLatency);
+}
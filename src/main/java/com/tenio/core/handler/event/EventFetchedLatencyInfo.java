@@ -0,0 +1,58 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.handler.event;
+
+import com.tenio.core.configuration.define.CoreConfigurationType;
+import com.tenio.core.controller.AbstractController;
+import com.tenio.core.network.entity.packet.PacketQueue;
+import com.tenio.core.network.statistic.LatencySnapshot;
+
+/**
+ * Fetches the latency information of the request/response pipeline on the server.
+ *
+ * @since 0.6.7
+ */
+@FunctionalInterface
+public interface EventFetchedLatencyInfo {
+
+  /**
+   * Fetches the latency information on the server. The information is updated every interval
+   * time, next to the bandwidth information, and every snapshot only covers the latencies
+   * recorded since the previous one. All values are in nanoseconds.
+   *
+   * @param readToEnqueue          the time from creating a request for an incoming message until
+   *                               putting it into the processing queue
+   * @param enqueueToProcess       the time a request waits in the processing queue
+   * @param handlerExecution       the time a request handler takes
+   * @param responseEnqueueToWrite the time from queueing a response packet until it is
+   *                               completely written to the client side
+   * @see CoreConfigurationType#INTERVAL_TRAFFIC_COUNTER
+   * @see AbstractController
+   * @see PacketQueue
+   * @see EventFetchedBandwidthInfo
+   */
+  void handle(LatencySnapshot readToEnqueue, LatencySnapshot enqueueToProcess,
+              LatencySnapshot handlerExecution, LatencySnapshot responseEnqueueToWrite);
+}
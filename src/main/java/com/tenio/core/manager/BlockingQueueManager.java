@@ -42,6 +42,9 @@ import java.util.function.Supplier;
  * <p>Thread-safe: Uses {@link LinkedBlockingQueue}s, which are thread-safe
  * and suitable for high throughput scenarios.</p>
  *
+ * <p>The queues can also be pre-allocated {@link RingBlockingQueue}s, which hand elements over
+ * without allocating a node or taking a lock per element, at the cost of a fixed capacity.</p>
+ *
  * <p>Typical use cases include event dispatching, game entity updates,
  * session handling, or message routing across multiple worker threads.</p>
  *
@@ -110,6 +113,37 @@ public class BlockingQueueManager<T> implements Manager {
     }
   }
 
+  /**
+   * Retrieves the number of elements in all internal queues.
+   *
+   * @return the total number of queued elements
+   * @since 0.6.7
+   */
+  public int getSize() {
+    int size = 0;
+    for (var queue : queues) {
+      size += queue.size();
+    }
+    return size;
+  }
+
+  /**
+   * Retrieves the highest total number of queued elements since the previous call, and starts
+   * over. Only {@link RingBlockingQueue}s keep their peak occupancy, the current size is used for
+   * other queues.
+   *
+   * @return the peak number of queued elements
+   * @since 0.6.7
+   */
+  public int getPeakSizeAndReset() {
+    int size = 0;
+    for (var queue : queues) {
+      size += queue instanceof RingBlockingQueue<T> ringQueue ? ringQueue.getPeakSizeAndReset() :
+          queue.size();
+    }
+    return size;
+  }
+
   /**
    * Returns the cache size.
    *
@@ -0,0 +1,245 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.manager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A generic concurrent index which maps keys to elements and provides cheap read-only snapshots
+ * of its elements.
+ *
+ * <p>Elements are held in a {@link ConcurrentHashMap}, so adding, removing and looking up an
+ * element never block the others, and iterations are weakly consistent. The read-only snapshot
+ * is not rebuilt on every change: each change only increases an epoch, and the snapshot is
+ * materialized at the first reading after a change, then shared until the next one.</p>
+ *
+ * <p>Typical use cases include session, player and room registries which are changed
+ * constantly but whose full lists are only read from time to time.</p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of elements
+ * @since 0.6.7
+ */
+public class ConcurrentIndexManager<K, V> implements Manager {
+
+  /**
+   * The mapping between keys and elements.
+   */
+  private final Map<K, V> elements;
+  /**
+   * Increases on every change of the elements, a snapshot is only valid for its own epoch.
+   */
+  private final AtomicLong epoch;
+  /**
+   * The latest materialized snapshot.
+   */
+  private volatile Snapshot<V> snapshot;
+
+  /**
+   * Constructs an empty index.
+   */
+  public ConcurrentIndexManager() {
+    elements = new ConcurrentHashMap<>();
+    epoch = new AtomicLong(0L);
+    snapshot = new Snapshot<>(0L, List.of());
+  }
+
+  /**
+   * Retrieves the element associated with the given key.
+   *
+   * @param key the key, a {@code null} value is acceptable
+   * @return the associated element, or {@code null} if there is no element for the key
+   */
+  public V get(K key) {
+    return key == null ? null : elements.get(key);
+  }
+
+  /**
+   * Determines whether an element is associated with the given key.
+   *
+   * @param key the key, a {@code null} value is acceptable
+   * @return {@code true} if there is an element for the key, otherwise {@code false}
+   */
+  public boolean containsKey(K key) {
+    return key != null && elements.containsKey(key);
+  }
+
+  /**
+   * Associates the element with the given key.
+   *
+   * @param key     the key
+   * @param element the element
+   * @return the previous element associated with the key, or {@code null} if there was none
+   */
+  public V put(K key, V element) {
+    var previous = elements.put(key, element);
+    epoch.incrementAndGet();
+    return previous;
+  }
+
+  /**
+   * Associates the element with the given key if the key is not associated yet, the checking
+   * and associating are done atomically.
+   *
+   * @param key     the key
+   * @param element the element
+   * @return the current element associated with the key, or {@code null} if the element was
+   * added
+   */
+  public V putIfAbsent(K key, V element) {
+    var current = elements.putIfAbsent(key, element);
+    if (current == null) {
+      epoch.incrementAndGet();
+    }
+    return current;
+  }
+
+  /**
+   * Removes the element associated with the given key.
+   *
+   * @param key the key, a {@code null} value is acceptable
+   * @return the removed element, or {@code null} if there was no element for the key
+   */
+  public V remove(K key) {
+    if (key == null) {
+      return null;
+    }
+    var removed = elements.remove(key);
+    if (removed != null) {
+      epoch.incrementAndGet();
+    }
+    return removed;
+  }
+
+  /**
+   * Removes the given key only if it is currently associated with the given element.
+   *
+   * @param key     the key, a {@code null} value is acceptable
+   * @param element the expected element
+   * @return {@code true} if the element was removed, otherwise {@code false}
+   */
+  public boolean remove(K key, V element) {
+    if (key == null || element == null) {
+      return false;
+    }
+    if (elements.remove(key, element)) {
+      epoch.incrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Removes all elements.
+   */
+  public void clear() {
+    elements.clear();
+    epoch.incrementAndGet();
+  }
+
+  /**
+   * Retrieves the current number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return elements.size();
+  }
+
+  /**
+   * Retrieves a weakly consistent iterator over the elements. It reflects the elements at some
+   * point at or since its creation and never throws
+   * {@link java.util.ConcurrentModificationException}. The {@link Iterator#remove()} operation
+   * is supported and removes the current element from the index.
+   *
+   * @return an {@link Iterator} of elements
+   */
+  public Iterator<V> iterator() {
+    var iterator = elements.values().iterator();
+    return new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public V next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        epoch.incrementAndGet();
+      }
+    };
+  }
+
+  /**
+   * Retrieves an unmodifiable and weakly consistent view of the elements, no copy is made.
+   *
+   * @return a {@link Collection} view of elements
+   */
+  public Collection<V> values() {
+    return Collections.unmodifiableCollection(elements.values());
+  }
+
+  /**
+   * Retrieves a read-only snapshot of the elements. The same snapshot is shared between callers
+   * until the elements change.
+   *
+   * @return an unmodifiable {@link List} of elements
+   */
+  public List<V> getReadonlySnapshot() {
+    // the epoch is read before the elements are copied, so a snapshot never claims changes which
+    // it does not contain
+    long currentEpoch = epoch.get();
+    var currentSnapshot = snapshot;
+    if (currentSnapshot.epoch() == currentEpoch) {
+      return currentSnapshot.elements();
+    }
+    var snapshotElements = List.copyOf(elements.values());
+    snapshot = new Snapshot<>(currentEpoch, snapshotElements);
+    return snapshotElements;
+  }
+
+  /**
+   * An immutable list of elements which was materialized at an epoch.
+   *
+   * @param epoch    the epoch of changes at the materialized time
+   * @param elements the list of elements
+   * @param <V>      the type of elements
+   */
+  private record Snapshot<V>(long epoch, List<V> elements) {
+  }
+}
@@ -0,0 +1,500 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.manager;
+
+import com.tenio.core.network.statistic.LatencyHistogram;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded {@link BlockingQueue} backed by a pre-allocated array ring, which hands elements
+ * between threads without allocating a node or taking a lock per element.
+ *
+ * <p>Each slot of the ring carries a sequence number. A producer claims slots by moving the tail
+ * forward and publishes its elements by updating the slots' sequences, a consumer claims
+ * published slots by moving the head forward in the same way. Several producers and several
+ * consumers are supported, so an idle worker can still take elements from a busy worker's queue.
+ * A batch of elements is claimed and published with one move of the tail
+ * ({@link #offer(Object[], int, int)}), and {@link #drainTo(Collection, int)} claims all the
+ * published elements it takes with one move of the head.
+ *
+ * <p>The lock is only used to park a consumer waiting on an empty ring or a producer waiting on a
+ * full one, and the other side only signals when someone is parked.
+ *
+ * <p>Metrics: the number of queued elements is the ring's occupancy, its highest value is kept
+ * until it is read by {@link #getPeakSizeAndReset()}. When a {@link LatencyHistogram} is given,
+ * the time from publishing an element until a consumer claims it is recorded as the handoff
+ * latency. One histogram can be shared by all rings of a {@link BlockingQueueManager}.
+ *
+ * <p>The iterator is weakly consistent and does not support removing, so neither does
+ * {@link #remove(Object)}.
+ *
+ * @param <T> the type of elements stored in the queue
+ * @see BlockingQueueManager
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class RingBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+  /**
+   * A ring with only one slot can not distinguish a published slot from a free one.
+   */
+  private static final int MIN_CAPACITY = 2;
+
+  private final AtomicLong head;
+  private final AtomicLong tail;
+  private final AtomicReferenceArray<T> buffer;
+  private final AtomicLongArray sequences;
+  private final long[] publishedTimes;
+  private final int mask;
+  private final LatencyHistogram handoffLatency;
+  private final AtomicInteger peakSize;
+  private final AtomicInteger waitingConsumers;
+  private final AtomicInteger waitingProducers;
+  private final ReentrantLock lock;
+  private final Condition notEmpty;
+  private final Condition notFull;
+
+  /**
+   * Creates a new ring without recording the handoff latency.
+   *
+   * @param capacity the minimum capacity of the ring, it is rounded up to a power of two
+   * @throws IllegalArgumentException if {@code capacity <= 0}
+   */
+  public RingBlockingQueue(int capacity) {
+    this(capacity, null);
+  }
+
+  /**
+   * Creates a new ring.
+   *
+   * @param capacity       the minimum capacity of the ring, it is rounded up to a power of two
+   * @param handoffLatency the {@link LatencyHistogram} which records the handoff latencies, it
+   *                       can be {@code null}
+   * @throws IllegalArgumentException if {@code capacity <= 0}
+   */
+  public RingBlockingQueue(int capacity, LatencyHistogram handoffLatency) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    if (capacity > (1 << 30)) {
+      throw new IllegalArgumentException("capacity must not be greater than 2^30");
+    }
+    int ringCapacity =
+        capacity <= MIN_CAPACITY ? MIN_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    head = new AtomicLong(0L);
+    tail = new AtomicLong(0L);
+    buffer = new AtomicReferenceArray<>(ringCapacity);
+    sequences = new AtomicLongArray(ringCapacity);
+    for (int i = 0; i < ringCapacity; i++) {
+      // a slot is free for the producer when its sequence equals the producer's position
+      sequences.set(i, i);
+    }
+    publishedTimes = handoffLatency != null ? new long[ringCapacity] : null;
+    mask = ringCapacity - 1;
+    this.handoffLatency = handoffLatency;
+    peakSize = new AtomicInteger(0);
+    waitingConsumers = new AtomicInteger(0);
+    waitingProducers = new AtomicInteger(0);
+    lock = new ReentrantLock();
+    notEmpty = lock.newCondition();
+    notFull = lock.newCondition();
+  }
+
+  @Override
+  public boolean offer(T element) {
+    if (element == null) {
+      throw new NullPointerException();
+    }
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          publish(index, position, element);
+          afterPublished(1);
+          return true;
+        }
+      } else if (difference < 0) {
+        // full
+        return false;
+      }
+      position = tail.get();
+    }
+  }
+
+  /**
+   * Claims as many free slots as possible for a batch of elements with one move of the tail, then
+   * publishes them in their order.
+   *
+   * @param elements the array holding the elements, none of them can be {@code null}
+   * @param offset   the index of the first element in the array
+   * @param length   the number of elements to put
+   * @return the number of elements which were put, it is less than {@code length} when the ring
+   *     does not have enough free slots
+   */
+  public int offer(T[] elements, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      if (elements[i] == null) {
+        throw new NullPointerException();
+      }
+    }
+    while (true) {
+      long position = tail.get();
+      int count = 0;
+      while (count < length && sequences.get((int) ((position + count) & mask)) ==
+          position + count) {
+        count++;
+      }
+      if (count == 0) {
+        return 0;
+      }
+      // the free slots can only be taken by another producer moving the tail
+      if (tail.compareAndSet(position, position + count)) {
+        for (int i = 0; i < count; i++) {
+          publish((int) ((position + i) & mask), position + i, elements[offset + i]);
+        }
+        afterPublished(count);
+        return count;
+      }
+    }
+  }
+
+  @Override
+  public void put(T element) throws InterruptedException {
+    if (offer(element)) {
+      return;
+    }
+    lock.lockInterruptibly();
+    try {
+      waitingProducers.incrementAndGet();
+      try {
+        while (!offer(element)) {
+          notFull.await();
+        }
+      } finally {
+        waitingProducers.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+    if (offer(element)) {
+      return true;
+    }
+    long nanoseconds = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      waitingProducers.incrementAndGet();
+      try {
+        while (!offer(element)) {
+          if (nanoseconds <= 0L) {
+            return false;
+          }
+          nanoseconds = notFull.awaitNanos(nanoseconds);
+        }
+        return true;
+      } finally {
+        waitingProducers.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          var element = consume(index, position);
+          afterConsumed(1);
+          return element;
+        }
+      } else if (difference < 0) {
+        // empty
+        return null;
+      }
+      position = head.get();
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    var element = poll();
+    if (element != null) {
+      return element;
+    }
+    lock.lockInterruptibly();
+    try {
+      waitingConsumers.incrementAndGet();
+      try {
+        while ((element = poll()) == null) {
+          notEmpty.await();
+        }
+        return element;
+      } finally {
+        waitingConsumers.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    var element = poll();
+    if (element != null) {
+      return element;
+    }
+    long nanoseconds = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      waitingConsumers.incrementAndGet();
+      try {
+        while ((element = poll()) == null) {
+          if (nanoseconds <= 0L) {
+            return null;
+          }
+          nanoseconds = notEmpty.awaitNanos(nanoseconds);
+        }
+        return element;
+      } finally {
+        waitingConsumers.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T peek() {
+    while (true) {
+      long position = head.get();
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        return null;
+      }
+      var element = buffer.get(index);
+      // the element is only valid when it was not removed meanwhile
+      if (head.get() == position) {
+        return element;
+      }
+    }
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> collection) {
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> collection, int maxElements) {
+    if (collection == this) {
+      throw new IllegalArgumentException();
+    }
+    while (maxElements > 0) {
+      long position = head.get();
+      int count = 0;
+      while (count < maxElements && sequences.get((int) ((position + count) & mask)) ==
+          position + count + 1) {
+        count++;
+      }
+      if (count == 0) {
+        return 0;
+      }
+      // the published slots can only be taken by another consumer moving the head
+      if (head.compareAndSet(position, position + count)) {
+        for (int i = 0; i < count; i++) {
+          collection.add(consume((int) ((position + i) & mask), position + i));
+        }
+        afterConsumed(count);
+        return count;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public int size() {
+    // the head is read first, so the result is never negative
+    long currentHead = head.get();
+    long size = tail.get() - currentHead;
+    return (int) Math.max(0L, Math.min(size, mask + 1L));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return getCapacity() - size();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+
+      private long position = head.get();
+      private T next = advance();
+
+      private T advance() {
+        while (true) {
+          int index = (int) (position & mask);
+          if (sequences.get(index) != position + 1) {
+            return null;
+          }
+          var element = buffer.get(index);
+          // the slot was consumed meanwhile, continues from the current head
+          if (sequences.get(index) != position + 1) {
+            position = Math.max(position, head.get());
+            continue;
+          }
+          position++;
+          return element;
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public T next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        var current = next;
+        next = advance();
+        return current;
+      }
+    };
+  }
+
+  /**
+   * Retrieves the number of slots of the ring.
+   *
+   * @return the ring capacity
+   */
+  public int getCapacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Retrieves the highest number of queued elements since the previous call, and starts over.
+   *
+   * @return the peak occupancy of the ring
+   */
+  public int getPeakSizeAndReset() {
+    return peakSize.getAndSet(size());
+  }
+
+  /**
+   * Retrieves the histogram which records the handoff latencies.
+   *
+   * @return the {@link LatencyHistogram}, or {@code null} when the latencies are not recorded
+   */
+  public LatencyHistogram getHandoffLatency() {
+    return handoffLatency;
+  }
+
+  private void publish(int index, long position, T element) {
+    buffer.set(index, element);
+    if (publishedTimes != null) {
+      // it is visible to the consumer which reads the slot's sequence set below
+      publishedTimes[index] = System.nanoTime();
+    }
+    sequences.set(index, position + 1);
+  }
+
+  private T consume(int index, long position) {
+    var element = buffer.getAndSet(index, null);
+    if (publishedTimes != null) {
+      handoffLatency.record(System.nanoTime() - publishedTimes[index]);
+    }
+    // frees the slot for the producer of the next round
+    sequences.set(index, position + mask + 1);
+    return element;
+  }
+
+  private void afterPublished(int count) {
+    int size = size();
+    if (size > peakSize.get()) {
+      peakSize.accumulateAndGet(size, Math::max);
+    }
+    if (waitingConsumers.get() > 0) {
+      signal(notEmpty, count);
+    }
+  }
+
+  private void afterConsumed(int count) {
+    if (waitingProducers.get() > 0) {
+      signal(notFull, count);
+    }
+  }
+
+  private void signal(Condition condition, int count) {
+    lock.lock();
+    try {
+      if (count == 1) {
+        condition.signal();
+      } else {
+        condition.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "RingBlockingQueue{" +
+        "capacity=" + getCapacity() +
+        ", size=" + size() +
+        ", peakSize=" + peakSize.get() +
+        '}';
+  }
+}
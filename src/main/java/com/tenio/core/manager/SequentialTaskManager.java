@@ -0,0 +1,141 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.manager;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * A generic manager which runs tasks on an {@link Executor} while keeping the order of tasks
+ * sharing the same key.
+ *
+ * <p>Tasks of one key form a lane, and a lane is drained by one task of the executor at a time,
+ * so they are processed one after another in their submission order. Lanes of different keys
+ * run in parallel. A lane only lives while it has pending tasks, then it is released.</p>
+ *
+ * <p>Typical use cases include running the requests of each session on virtual threads, where a
+ * handler may block without holding a platform thread, and the requests' order is preserved.</p>
+ *
+ * @param <K> the type of keys
+ * @since 0.6.7
+ */
+public class SequentialTaskManager<K> implements Manager {
+
+  private final Executor executor;
+  private final Map<K, Queue<Runnable>> lanes;
+  private final AtomicInteger pendingTasks;
+  private final BiConsumer<K, Throwable> onFailed;
+
+  /**
+   * Initialization.
+   *
+   * @param executor the {@link Executor} which drains lanes
+   * @param onFailed a {@link BiConsumer} which is invoked with the key and the cause when a task
+   *                 fails, the following tasks of the lane are still processed
+   */
+  public SequentialTaskManager(Executor executor, BiConsumer<K, Throwable> onFailed) {
+    this.executor = executor;
+    this.onFailed = onFailed;
+    lanes = new ConcurrentHashMap<>();
+    pendingTasks = new AtomicInteger();
+  }
+
+  /**
+   * Submits a task, it runs after all previously submitted tasks of the same key.
+   *
+   * @param key  the ordering key
+   * @param task the task
+   * @throws java.util.concurrent.RejectedExecutionException when the executor does not accept a
+   *                                                         new lane
+   */
+  public void execute(K key, Runnable task) {
+    pendingTasks.incrementAndGet();
+    try {
+      addTask(key, task);
+    } catch (RuntimeException exception) {
+      pendingTasks.decrementAndGet();
+      throw exception;
+    }
+  }
+
+  private void addTask(K key, Runnable task) {
+    // a lane exists in the map as long as it is being drained, so a new one is handed to the
+    // executor right at its creation
+    lanes.compute(key, (laneKey, lane) -> {
+      if (lane == null) {
+        var newLane = new ConcurrentLinkedQueue<Runnable>();
+        newLane.add(task);
+        executor.execute(() -> drain(laneKey, newLane));
+        return newLane;
+      }
+      lane.add(task);
+      return lane;
+    });
+  }
+
+  /**
+   * Retrieves the number of tasks which have not been started yet.
+   *
+   * @return the number of pending tasks
+   */
+  public int getPendingTasks() {
+    return pendingTasks.get();
+  }
+
+  /**
+   * Retrieves the number of lanes which have pending or running tasks.
+   *
+   * @return the number of active lanes
+   */
+  public int getActiveLanes() {
+    return lanes.size();
+  }
+
+  private void drain(K key, Queue<Runnable> lane) {
+    while (true) {
+      Runnable task;
+      while ((task = lane.poll()) != null) {
+        pendingTasks.decrementAndGet();
+        try {
+          task.run();
+        } catch (Throwable cause) {
+          onFailed.accept(key, cause);
+        }
+      }
+      // the lane is released only when it has no more tasks. Adding a task is done under the
+      // same key's lock, so no task can be left in a released lane
+      if (lanes.computeIfPresent(key, (laneKey, current) -> current.isEmpty() ? null : current)
+          == null) {
+        return;
+      }
+    }
+  }
+}
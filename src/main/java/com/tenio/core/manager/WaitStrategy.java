@@ -0,0 +1,207 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.manager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The strategies a worker uses to wait for new elements of its {@link BlockingQueue}. They trade
+ * CPU usage for the latency of a handoff between a producer and the worker.
+ *
+ * <ul>
+ *   <li>{@link #BLOCKING} parks the worker right away, it uses no CPU while the queue is empty
+ *   but every handoff pays the park/unpark latency</li>
+ *   <li>{@link #BACKOFF} spins for a while, then yields the processor and finally parks, a busy
+ *   worker never parks while an idle one stops burning its core quickly</li>
+ *   <li>{@link #BUSY_SPIN} never parks, it gives the lowest latency but occupies a whole core per
+ *   worker, it should only be used when the number of workers is less than the number of
+ *   available processors</li>
+ * </ul>
+ *
+ * @see BlockingQueueManager
+ * @since 0.6.7
+ */
+public enum WaitStrategy {
+
+  /**
+   * Parks the worker until an element is available.
+   */
+  BLOCKING("blocking") {
+    @Override
+    public <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+      return queue.take();
+    }
+
+    @Override
+    public <T> T poll(BlockingQueue<T> queue, long timeout, TimeUnit unit)
+        throws InterruptedException {
+      return queue.poll(timeout, unit);
+    }
+  },
+  /**
+   * Spins, then yields, then parks the worker until an element is available.
+   */
+  BACKOFF("backoff") {
+    @Override
+    public <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+      T element = spinThenYield(queue);
+      return element != null ? element : queue.take();
+    }
+
+    @Override
+    public <T> T poll(BlockingQueue<T> queue, long timeout, TimeUnit unit)
+        throws InterruptedException {
+      long deadline = System.nanoTime() + unit.toNanos(timeout);
+      T element = spinThenYield(queue);
+      return element != null ? element :
+          queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+  },
+  /**
+   * Keeps polling the queue without ever parking the worker.
+   */
+  BUSY_SPIN("busy-spin") {
+    @Override
+    public <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+      T element;
+      while ((element = queue.poll()) == null) {
+        checkInterrupted();
+        Thread.onSpinWait();
+      }
+      return element;
+    }
+
+    @Override
+    public <T> T poll(BlockingQueue<T> queue, long timeout, TimeUnit unit)
+        throws InterruptedException {
+      long deadline = System.nanoTime() + unit.toNanos(timeout);
+      T element;
+      while ((element = queue.poll()) == null && System.nanoTime() - deadline < 0) {
+        checkInterrupted();
+        Thread.onSpinWait();
+      }
+      return element;
+    }
+  };
+
+  /**
+   * The number of attempts a {@link #BACKOFF} worker spins before it starts yielding.
+   */
+  private static final int SPIN_TRIES = 100;
+  /**
+   * The number of attempts a {@link #BACKOFF} worker yields before it parks.
+   */
+  private static final int YIELD_TRIES = 100;
+
+  // Reverse-lookup map for getting a strategy from a value
+  private static final Map<String, WaitStrategy> lookup = new HashMap<>();
+
+  static {
+    for (var strategy : WaitStrategy.values()) {
+      lookup.put(strategy.getValue(), strategy);
+    }
+  }
+
+  private final String value;
+
+  WaitStrategy(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the wait strategy by looking at its value.
+   *
+   * @param value the corresponding {@link String} value of wait strategy
+   * @return the corresponding {@link WaitStrategy} if it is available, otherwise {@code null}
+   */
+  public static WaitStrategy getByValue(String value) {
+    return lookup.get(value);
+  }
+
+  private static <T> T spinThenYield(BlockingQueue<T> queue) throws InterruptedException {
+    for (int i = 0; i < SPIN_TRIES + YIELD_TRIES; i++) {
+      T element = queue.poll();
+      if (element != null) {
+        return element;
+      }
+      checkInterrupted();
+      if (i < SPIN_TRIES) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    }
+    return null;
+  }
+
+  private static void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
+  /**
+   * Retrieves and removes the head of a queue, waits until an element becomes available.
+   *
+   * @param queue the {@link BlockingQueue} to take from
+   * @param <T>   the type of elements in the queue
+   * @return the head of the queue
+   * @throws InterruptedException when the worker is interrupted while waiting
+   */
+  public abstract <T> T take(BlockingQueue<T> queue) throws InterruptedException;
+
+  /**
+   * Retrieves and removes the head of a queue, waits up to the specified time if necessary for an
+   * element to become available.
+   *
+   * @param queue   the {@link BlockingQueue} to poll from
+   * @param timeout how long to wait before giving up, in units of {@code unit}
+   * @param unit    the {@link TimeUnit} determining how to interpret the {@code timeout}
+   * @param <T>     the type of elements in the queue
+   * @return the head of the queue, or {@code null} if the specified waiting time elapses before
+   *     an element is available
+   * @throws InterruptedException when the worker is interrupted while waiting
+   */
+  public abstract <T> T poll(BlockingQueue<T> queue, long timeout, TimeUnit unit)
+      throws InterruptedException;
+
+  /**
+   * Retrieves the wait strategy in text value.
+   *
+   * @return the wait strategy in {@link String} value
+   */
+  public final String getValue() {
+    return value;
+  }
+
+  @Override
+  public final String toString() {
+    return name();
+  }
+}
@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network;
 
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.entity.packet.policy.DefaultPacketQueuePolicy;
@@ -36,11 +37,13 @@ import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.codec.encryption.BinaryPacketSessionEncryptor;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.service.Service;
 import jakarta.servlet.http.HttpServlet;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Defines the core network service functionality for the game server.
@@ -192,6 +195,34 @@ public interface Network extends Service {
    */
   void setSocketWriterBufferSize(int bufferSize);
 
+  /**
+   * Sets the limits for a socket writer worker to collect several queued packets of a session
+   * into one gathering write.
+   *
+   * @param maxPackets the maximum number of packets written in one batch, the batch mode is
+   *                   disabled when this value is less than or equals to 1
+   * @param maxBytes   the maximum number of bytes written in one batch
+   * @since 0.6.7
+   */
+  void setSocketWriterBatchLimits(int maxPackets, int maxBytes);
+
+  /**
+   * Sets the strategy a socket writer worker uses to wait for sessions having packets to send.
+   *
+   * @param waitStrategy the {@link WaitStrategy} to apply
+   * @since 0.6.7
+   */
+  void setSocketWriterWaitStrategy(WaitStrategy waitStrategy);
+
+  /**
+   * Sets the capacity of the ring buffer a socket writer worker takes sessions having packets to
+   * send from. The value 0 keeps the linked queues.
+   *
+   * @param ringBufferSize the capacity of each ring buffer
+   * @since 0.6.7
+   */
+  void setSocketWriterRingBufferSize(int ringBufferSize);
+
   /**
    * Declares socket configurations for the network.
    *
@@ -232,6 +263,26 @@ public interface Network extends Service {
    */
   void setPacketQueueSize(int queueSize);
 
+  /**
+   * Determines whether the TCP and WebSocket sessions compress their packets with their own
+   * compression streams, which keep the compression context between packets (context takeover).
+   * The clients must support it too.
+   *
+   * @param enabled sets to {@code true} to enable the stateful compression
+   * @since 0.6.7
+   */
+  void setPacketCompressionContextTakeover(boolean enabled);
+
+  /**
+   * Determines whether the encrypted packets are encrypted with the keys of their recipients,
+   * then they are encoded for each recipient instead of being shared by all of them.
+   *
+   * @param enabled sets to {@code true} when the packet encryptor uses the sessions' keys
+   * @see BinaryPacketSessionEncryptor
+   * @since 0.6.7
+   */
+  void setPacketEncryptionPerSession(boolean enabled);
+
   /**
    * Sets an instance of packet encoder to encode packets for sending to clients.
    *
@@ -284,4 +335,20 @@ public interface Network extends Service {
    * @param markedAsLast marks as this writing is the last one
    */
   void write(Response response, boolean markedAsLast);
+
+  /**
+   * Writes down (binaries) data to socket/channel after a delay without blocking the caller. The
+   * content is serialized at once, the events of recipient players are emitted and the packets
+   * are handed over to the writers when they come due.
+   *
+   * <p>Note: The returned {@link ScheduledFuture} is new in 0.6.7, it replaces the former
+   * {@code void} result of {@link Response#writeInDelay(long)}.
+   *
+   * @param response            an instance of {@link Response} using to carry conveying
+   *                            information
+   * @param delayInMilliseconds the delay in milliseconds
+   * @return a {@link ScheduledFuture} which can be used to cancel the writing before it comes due
+   * @since 0.6.7
+   */
+  ScheduledFuture<?> writeInDelay(Response response, long delayInMilliseconds);
 }
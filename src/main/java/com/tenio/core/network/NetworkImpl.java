@@ -24,9 +24,12 @@ THE SOFTWARE.
 
 package com.tenio.core.network;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.packet.Packet;
@@ -52,10 +55,17 @@ import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import jakarta.servlet.http.HttpServlet;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The implementation for network service.
  *
+ * <p>Delayed writings are owned by a scheduled queue of this service. The packets of a delayed
+ * response are prepared at the calling time, and when they come due, the queue's thread only
+ * enqueues them to the transport services, so neither the caller nor the writer is blocked.
+ *
  * @see Network
  */
 public final class NetworkImpl extends AbstractManager implements Network {
@@ -67,6 +77,10 @@ public final class NetworkImpl extends AbstractManager implements Network {
   private final ZeroSocket socketService;
   private final NetworkReaderStatistic networkReaderStatistic;
   private final NetworkWriterStatistic networkWriterStatistic;
+  private final ScheduledThreadPoolExecutor delayedWriter;
+  private BinaryPacketEncoder packetEncoder;
+  private boolean packetCompressionContextTakeover;
+  private boolean packetEncryptionPerSession;
   private boolean initialized;
 
   private boolean httpServiceInitialized;
@@ -92,6 +106,11 @@ public final class NetworkImpl extends AbstractManager implements Network {
     webSocketService = NettyWebSocketImpl.newInstance(eventManager);
     socketService = ZeroSocketImpl.newInstance(eventManager);
     kcpChannelService = KcpChannelImpl.newInstance(eventManager);
+
+    // the thread is only created at the first delayed writing
+    delayedWriter = new ScheduledThreadPoolExecutor(1,
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("delayed-writer-%d").build());
+    delayedWriter.setRemoveOnCancelPolicy(true);
   }
 
   /**
@@ -166,6 +185,7 @@ public final class NetworkImpl extends AbstractManager implements Network {
     webSocketService.shutdown();
     socketService.shutdown();
     kcpChannelService.shutdown();
+    delayedWriter.shutdownNow();
   }
 
   @Override
@@ -272,6 +292,21 @@ public final class NetworkImpl extends AbstractManager implements Network {
     socketService.setWriterBufferSize(bufferSize);
   }
 
+  @Override
+  public void setSocketWriterBatchLimits(int maxPackets, int maxBytes) {
+    socketService.setWriterBatchLimits(maxPackets, maxBytes);
+  }
+
+  @Override
+  public void setSocketWriterWaitStrategy(WaitStrategy waitStrategy) {
+    socketService.setWriterWaitStrategy(waitStrategy);
+  }
+
+  @Override
+  public void setSocketWriterRingBufferSize(int ringBufferSize) {
+    socketService.setWriterRingBufferSize(ringBufferSize);
+  }
+
   @Override
   public void setSocketConfigurations(SocketConfiguration tcpSocketConfiguration,
                                       SocketConfiguration udpChannelConfiguration,
@@ -308,10 +343,23 @@ public final class NetworkImpl extends AbstractManager implements Network {
     sessionManager.configurePacketQueueSize(queueSize);
   }
 
+  @Override
+  public void setPacketCompressionContextTakeover(boolean enabled) {
+    packetCompressionContextTakeover = enabled;
+    sessionManager.configureCompressionContextTakeover(enabled);
+  }
+
+  @Override
+  public void setPacketEncryptionPerSession(boolean enabled) {
+    packetEncryptionPerSession = enabled;
+  }
+
   @Override
   public void setPacketEncoder(BinaryPacketEncoder packetEncoder) {
+    this.packetEncoder = packetEncoder;
     socketService.setPacketEncoder(packetEncoder);
     webSocketService.setPacketEncoder(packetEncoder);
+    kcpChannelService.setPacketEncoder(packetEncoder);
   }
 
   @Override
@@ -342,6 +390,24 @@ public final class NetworkImpl extends AbstractManager implements Network {
 
   @Override
   public void write(Response response, boolean markedAsLast) {
+    emitPlayerMessages(response);
+    writePackets(response, response.getContent().toBinaries(), markedAsLast);
+  }
+
+  @Override
+  public ScheduledFuture<?> writeInDelay(Response response, long delayInMilliseconds) {
+    // the content is serialized at once, so the caller can reuse it afterwards. The players'
+    // events are emitted and the packets are created when the writing comes due, so nothing
+    // happens before then, a cancelled writing leaves no trace, and the writing latency does not
+    // include the delay
+    var binaries = response.getContent().toBinaries();
+    return delayedWriter.schedule(() -> {
+      emitPlayerMessages(response);
+      writePackets(response, binaries, false);
+    }, delayInMilliseconds, TimeUnit.MILLISECONDS);
+  }
+
+  private void emitPlayerMessages(Response response) {
     var message = response.getContent();
 
     var recipientPlayers = response.getRecipientPlayers();
@@ -361,52 +427,93 @@ public final class NetworkImpl extends AbstractManager implements Network {
         eventManager.emit(ServerEvent.RECEIVED_MESSAGE_FROM_PLAYER, player, message);
       }
     }
+  }
 
+  private void writePackets(Response response, byte[] binaries, boolean markedAsLast) {
+    // the writers may release the packet's recipients, so the events are emitted to the
+    // response's ones
     var socketSessions = response.getRecipientSocketSessions();
-    if (socketSessions != null) {
-      var packet = createPacket(response, socketSessions, TransportType.TCP);
-      packet.setMarkedAsLast(markedAsLast);
-      socketService.write(packet);
-      socketSessions.forEach(
-          session -> eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, session, packet));
+    var socketPacket =
+        createPacket(response, binaries, socketSessions, TransportType.TCP, markedAsLast);
+    if (socketPacket != null) {
+      socketService.write(socketPacket);
+      emitSessionWriteMessage(socketSessions, socketPacket);
     }
 
     var datagramSessions = response.getRecipientDatagramSessions();
-    if (datagramSessions != null) {
-      var packet = createPacket(response, datagramSessions, TransportType.UDP);
-      socketService.write(packet);
-      datagramSessions.forEach(
-          session -> eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, session, packet));
+    var datagramPacket =
+        createPacket(response, binaries, datagramSessions, TransportType.UDP, false);
+    if (datagramPacket != null) {
+      socketService.write(datagramPacket);
+      emitSessionWriteMessage(datagramSessions, datagramPacket);
     }
 
     var kcpSessions = response.getRecipientKcpSessions();
-    if (kcpSessions != null) {
-      var packet = createPacket(response, kcpSessions, TransportType.KCP);
-      kcpChannelService.write(packet);
-      kcpSessions.forEach(
-          session -> eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, session, packet));
+    var kcpPacket = createPacket(response, binaries, kcpSessions, TransportType.KCP, false);
+    if (kcpPacket != null) {
+      kcpChannelService.write(kcpPacket);
+      emitSessionWriteMessage(kcpSessions, kcpPacket);
     }
 
     var webSocketSessions = response.getRecipientWebSocketSessions();
-    if (webSocketSessions != null) {
-      var packet = createPacket(response, webSocketSessions, TransportType.WEB_SOCKET);
-      packet.setMarkedAsLast(markedAsLast);
-      webSocketService.write(packet);
-      webSocketSessions.forEach(
-          session -> eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, session, packet));
+    var webSocketPacket = createPacket(response, binaries, webSocketSessions,
+        TransportType.WEB_SOCKET, markedAsLast);
+    if (webSocketPacket != null) {
+      webSocketService.write(webSocketPacket);
+      emitSessionWriteMessage(webSocketSessions, webSocketPacket);
     }
   }
 
-  private Packet createPacket(Response response, Collection<Session> recipients,
-                              TransportType transportType) {
+  private void emitSessionWriteMessage(Collection<Session> sessions, Packet packet) {
+    sessions.forEach(
+        session -> eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, session, packet));
+  }
+
+  private Packet createPacket(Response response, byte[] binaries, Collection<Session> recipients,
+                              TransportType transportType, boolean markedAsLast) {
+    if (recipients == null || recipients.isEmpty()) {
+      return null;
+    }
+
     var packet = PacketImpl.newInstance();
     packet.setDataType(response.getDataType());
-    packet.setData(response.getContent().toBinaries());
+    packet.setData(binaries);
     packet.needsEncrypted(response.needsEncrypted());
+    // only the stream-oriented transport needs the data size in the packet header
+    packet.needsDataCounting(transportType == TransportType.TCP);
     packet.setGuarantee(response.getGuarantee());
     packet.setRecipients(recipients);
     packet.setTransportType(transportType);
 
+    // a packet for several recipients is encoded once here (encryption, compression and header),
+    // then its frame is shared by all of them instead of being encoded again for each one. A
+    // packet for a single zero (TCP/UDP) recipient is left to its writer, which encodes it
+    // straight into the writing buffer without allocating a frame. When the sessions keep their
+    // own compression streams, the TCP and WebSocket packets are encoded for each session, and so
+    // are the encrypted packets when the sessions keep their own encryption keys
+    boolean writerEncodes = recipients.size() == 1 &&
+        (transportType == TransportType.TCP || transportType == TransportType.UDP);
+    if (packetCompressionContextTakeover) {
+      writerEncodes |=
+          transportType == TransportType.TCP || transportType == TransportType.WEB_SOCKET;
+    }
+    if (packetEncryptionPerSession) {
+      writerEncodes |= response.needsEncrypted();
+    }
+    if (packetEncoder != null && !writerEncodes) {
+      try {
+        packet = packetEncoder.encode(packet);
+      } catch (PacketEncryptorException exception) {
+        // the packet is dropped for all of its recipients rather than sent in plain
+        if (isErrorEnabled()) {
+          error(exception, "Error occurred in encoding for transport: ", transportType);
+        }
+        networkWriterStatistic.updateWrittenDroppedPacketsByEncoding(recipients.size());
+        return null;
+      }
+    }
+    packet.setMarkedAsLast(markedAsLast);
+
     return packet;
   }
 }
@@ -49,7 +49,8 @@ public final class CodecUtility {
         (headerByte & PacketHeaderType.BIG_SIZE.getValue()) > 0,
         (headerByte & PacketHeaderType.ENCRYPTION.getValue()) > 0,
         (headerByte & PacketHeaderType.ZERO.getValue()) > 0,
-        (headerByte & PacketHeaderType.MSG_PACK.getValue()) > 0
+        (headerByte & PacketHeaderType.MSG_PACK.getValue()) > 0,
+        (headerByte & PacketHeaderType.STREAM_COMPRESSION.getValue()) > 0
     );
   }
 
@@ -86,6 +87,10 @@ public final class CodecUtility {
       headerByte = (byte) (headerByte | PacketHeaderType.MSG_PACK.getValue());
     }
 
+    if (packetHeader.isStreamCompressed()) {
+      headerByte = (byte) (headerByte | PacketHeaderType.STREAM_COMPRESSION.getValue());
+    }
+
     return headerByte;
   }
 }
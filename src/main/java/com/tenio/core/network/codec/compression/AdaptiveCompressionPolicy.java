@@ -0,0 +1,189 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import com.tenio.common.data.DataType;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides whether a packet is worth compressing by the ratios achieved on the previous packets of
+ * the same shape. A shape is the data type of a packet together with its size class (the power of
+ * two its size falls into), packets of the same shape usually carry the same kind of messages.
+ *
+ * <p>Every shape keeps moving averages of the saved bytes ratio and of the compression time per
+ * kilobyte. Once a shape has enough samples and its average saving falls under the break-even,
+ * its packets are sent without compression. One packet out of {@value #PROBE_INTERVAL} skipped
+ * ones is still compressed, so the averages follow when the data becomes compressible again.</p>
+ *
+ * <p>Note: The averages are updated without locking, an update racing with another one may get
+ * lost, which only delays the average by one sample.</p>
+ *
+ * @see NetworkWriterStatistic#getCompressionSkippedPacketsRate()
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class AdaptiveCompressionPolicy {
+
+  /**
+   * The number of skipped packets of a shape after which a packet is compressed again.
+   */
+  public static final int PROBE_INTERVAL = 64;
+
+  private static final int WARM_UP_SAMPLES = 8;
+  private static final int SMOOTHING_SHIFT = 3;
+  private static final int SIZE_CLASSES = Integer.SIZE + 1;
+  private static final int PERMILLE = 1000;
+
+  private final Shape[] shapes;
+  private final int breakEvenPermille;
+  private final NetworkWriterStatistic networkWriterStatistic;
+
+  private AdaptiveCompressionPolicy(int breakEvenPercent,
+                                    NetworkWriterStatistic networkWriterStatistic) {
+    if (breakEvenPercent < 0 || breakEvenPercent > 100) {
+      throw new IllegalArgumentException("The break-even must be in between 0 and 100 percent");
+    }
+    breakEvenPermille = breakEvenPercent * (PERMILLE / 100);
+    this.networkWriterStatistic = networkWriterStatistic;
+    shapes = new Shape[DataType.values().length * SIZE_CLASSES];
+    for (int i = 0; i < shapes.length; i++) {
+      shapes[i] = new Shape();
+    }
+  }
+
+  /**
+   * Initialization.
+   *
+   * @param breakEvenPercent       the minimum percentage of bytes the compression of a shape
+   *                               must save on average, otherwise its packets are not
+   *                               compressed
+   * @param networkWriterStatistic the {@link NetworkWriterStatistic} the decisions and savings
+   *                               are reported to
+   * @return a new instance of {@link AdaptiveCompressionPolicy}
+   * @throws IllegalArgumentException when the break-even is out of range
+   */
+  public static AdaptiveCompressionPolicy newInstance(
+      int breakEvenPercent, NetworkWriterStatistic networkWriterStatistic) {
+    return new AdaptiveCompressionPolicy(breakEvenPercent, networkWriterStatistic);
+  }
+
+  /**
+   * Determines whether a packet should be compressed.
+   *
+   * @param dataType the {@link DataType} of the packet
+   * @param size     the size of the packet's data in bytes
+   * @return {@code true} if the packet should be compressed, otherwise {@code false}
+   */
+  public boolean shouldCompress(DataType dataType, int size) {
+    var shape = getShape(dataType, size);
+    if (shape.samples.get() < WARM_UP_SAMPLES || shape.savedPermille >= breakEvenPermille) {
+      return true;
+    }
+    if ((shape.skipped.incrementAndGet() & (PROBE_INTERVAL - 1)) == 0) {
+      return true;
+    }
+    networkWriterStatistic.updateCompressionSkippedPackets(1);
+    return false;
+  }
+
+  /**
+   * Records the result of compressing a packet.
+   *
+   * @param dataType       the {@link DataType} of the packet
+   * @param originalSize   the size of the packet's data in bytes before being compressed
+   * @param compressedSize the size of the compressed data in bytes, or {@code -1} when it did not
+   *                       get smaller
+   * @param nanoseconds    the time the compression took
+   */
+  public void record(DataType dataType, int originalSize, int compressedSize, long nanoseconds) {
+    if (originalSize <= 0) {
+      return;
+    }
+    int savedBytes = compressedSize < 0 ? 0 : Math.max(0, originalSize - compressedSize);
+    int savedPermille = (int) ((long) savedBytes * PERMILLE / originalSize);
+    long nanosPerKilobyte = nanoseconds * 1024L / originalSize;
+
+    var shape = getShape(dataType, originalSize);
+    if (shape.samples.get() < WARM_UP_SAMPLES && shape.samples.getAndIncrement() == 0) {
+      shape.savedPermille = savedPermille;
+      shape.nanosPerKilobyte = nanosPerKilobyte;
+    } else {
+      shape.savedPermille += (savedPermille - shape.savedPermille) >> SMOOTHING_SHIFT;
+      shape.nanosPerKilobyte += (nanosPerKilobyte - shape.nanosPerKilobyte) >> SMOOTHING_SHIFT;
+    }
+
+    networkWriterStatistic.updateCompressedPackets(1);
+    networkWriterStatistic.updateCompressionSavedBytes(savedBytes);
+    networkWriterStatistic.updateCompressionLatency(nanoseconds);
+  }
+
+  /**
+   * Retrieves the average percentage of bytes saved by compressing the packets of a shape.
+   *
+   * @param dataType the {@link DataType} of the packets
+   * @param size     a size in bytes of the packets' data
+   * @return the average percentage of saved bytes, or {@code -1} if no packet of the shape was
+   *     compressed yet
+   */
+  public double getSavedPercent(DataType dataType, int size) {
+    var shape = getShape(dataType, size);
+    return shape.samples.get() == 0 ? -1 : shape.savedPermille / (double) (PERMILLE / 100);
+  }
+
+  /**
+   * Retrieves the average time compressing a kilobyte of the packets of a shape takes.
+   *
+   * @param dataType the {@link DataType} of the packets
+   * @param size     a size in bytes of the packets' data
+   * @return the average time in nanoseconds, or {@code -1} if no packet of the shape was
+   *     compressed yet
+   */
+  public long getNanosPerKilobyte(DataType dataType, int size) {
+    var shape = getShape(dataType, size);
+    return shape.samples.get() == 0 ? -1 : shape.nanosPerKilobyte;
+  }
+
+  private Shape getShape(DataType dataType, int size) {
+    int sizeClass = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(0, size));
+    return shapes[dataType.ordinal() * SIZE_CLASSES + sizeClass];
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveCompressionPolicy{" +
+        "breakEvenPermille=" + breakEvenPermille +
+        '}';
+  }
+
+  private static final class Shape {
+
+    private final AtomicInteger samples = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private volatile int savedPermille;
+    private volatile long nanosPerKilobyte;
+  }
+}
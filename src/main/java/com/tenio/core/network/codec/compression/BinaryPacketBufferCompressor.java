@@ -0,0 +1,65 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import com.tenio.core.exception.PacketCompressorException;
+import java.nio.ByteBuffer;
+
+/**
+ * The APIs designed for compressing binary packets from one buffer into another one, so neither
+ * intermediate arrays nor compression contexts have to be created for each packet.
+ *
+ * <p>The encoder puts the compressed data of a packet straight into the writer's buffer when its
+ * compressor implements this interface, the {@code byte[]} APIs are still used otherwise.</p>
+ *
+ * @see DeflatePacketCompressor
+ * @since 0.6.7
+ */
+public interface BinaryPacketBufferCompressor extends BinaryPacketCompressor {
+
+  /**
+   * Compresses the remaining bytes of the source buffer into the target buffer at its current
+   * position. On success, both positions are advanced.
+   *
+   * @param source the {@link ByteBuffer} holding the original data
+   * @param target the {@link ByteBuffer} to put the compressed data into
+   * @return the number of bytes put into the target buffer, or {@code -1} when the target buffer
+   *     has no room for the whole compressed data, in that case both positions are left unchanged
+   * @throws PacketCompressorException when an exception occurred during the compression process
+   */
+  int compress(ByteBuffer source, ByteBuffer target) throws PacketCompressorException;
+
+  /**
+   * Uncompresses the remaining bytes of the source buffer into the target buffer at its current
+   * position. On success, both positions are advanced.
+   *
+   * @param source the {@link ByteBuffer} holding the compressed data
+   * @param target the {@link ByteBuffer} to put the original data into
+   * @return the number of bytes put into the target buffer, or {@code -1} when the target buffer
+   *     has no room for the whole original data, in that case both positions are left unchanged
+   * @throws PacketCompressorException when an exception occurred during the compression process
+   */
+  int uncompress(ByteBuffer source, ByteBuffer target) throws PacketCompressorException;
+}
@@ -0,0 +1,221 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import com.tenio.core.exception.PacketCompressorException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compression stream of a session. Unlike a {@link BinaryPacketCompressor}, it keeps the
+ * compression context from one packet to the next one in each direction (context takeover, as
+ * the WebSocket's permessage-deflate extension does), so the redundancy between successive
+ * packets of a session, such as the same keys and similar state updates, is compressed away.
+ *
+ * <p>Each packet is compressed by the raw deflate format and flushed with a sync flush, the
+ * trailing {@code 0x00 0x00 0xFF 0xFF} bytes of the flush are removed. The other side must keep
+ * its own stream for the session, and handle the packets in the same order.</p>
+ *
+ * <p>The outgoing packets must be compressed in the order they are sent. The stream's monitor
+ * guards the compression, a caller can hold it to compress and send a packet at once. The
+ * incoming packets are guarded by another lock, so reading does not wait for writing.</p>
+ *
+ * <p>An incoming packet can not be uncompressed into more than a maximum size, so a small packet
+ * crafted to inflate into a huge one can not make the server allocate a lot of memory.</p>
+ *
+ * <p>A stream holds about 300KB of native memory until it is closed, it should be closed when
+ * its session is closed.</p>
+ *
+ * @since 0.6.7
+ */
+public final class CompressionStream {
+
+  /**
+   * The default maximum size in bytes of an uncompressed incoming packet.
+   */
+  public static final int DEFAULT_MAX_UNCOMPRESSED_BYTES = 1024 * 1024;
+  private static final byte[] SYNC_FLUSH_TAIL = {0x00, 0x00, (byte) 0xFF, (byte) 0xFF};
+  private static final int DEFAULT_SCRATCH_BYTES = 1024;
+
+  private final Deflater deflater;
+  private final Inflater inflater;
+  private final int maxUncompressedBytes;
+  private byte[] compressingScratch;
+  private byte[] uncompressingScratch;
+  private boolean closed;
+
+  private CompressionStream(int level, int maxUncompressedBytes) {
+    if (maxUncompressedBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid maximum uncompressed size: " + maxUncompressedBytes);
+    }
+    deflater = new Deflater(level, true);
+    inflater = new Inflater(true);
+    this.maxUncompressedBytes = maxUncompressedBytes;
+  }
+
+  /**
+   * Creates a new compression stream using the fastest compression level, an incoming packet is
+   * uncompressed into {@link #DEFAULT_MAX_UNCOMPRESSED_BYTES} bytes at most.
+   *
+   * @return a new instance of {@link CompressionStream}
+   */
+  public static CompressionStream newInstance() {
+    return new CompressionStream(Deflater.BEST_SPEED, DEFAULT_MAX_UNCOMPRESSED_BYTES);
+  }
+
+  /**
+   * Creates a new compression stream using the fastest compression level.
+   *
+   * @param maxUncompressedBytes the maximum size in bytes an incoming packet is uncompressed into
+   * @return a new instance of {@link CompressionStream}
+   * @throws IllegalArgumentException when the maximum size is not positive
+   */
+  public static CompressionStream newInstance(int maxUncompressedBytes) {
+    return new CompressionStream(Deflater.BEST_SPEED, maxUncompressedBytes);
+  }
+
+  /**
+   * Compresses an outgoing packet's data with the context of the previous ones.
+   *
+   * @param binaries an array of {@code byte}
+   * @return the compressed {@code byte} array
+   * @throws PacketCompressorException when the stream was closed
+   */
+  public synchronized byte[] compress(byte[] binaries) throws PacketCompressorException {
+    if (closed) {
+      throw new PacketCompressorException("The compression stream was closed");
+    }
+    deflater.setInput(binaries);
+    byte[] scratch = compressingScratch(binaries.length + SYNC_FLUSH_TAIL.length * 2);
+    int length = 0;
+    // the flush is completed once the output is not filled up
+    do {
+      if (length == scratch.length) {
+        scratch = compressingScratch(scratch.length * 2);
+      }
+      length += deflater.deflate(scratch, length, scratch.length - length, Deflater.SYNC_FLUSH);
+    } while (length == scratch.length);
+
+    if (endsWithSyncFlushTail(scratch, length)) {
+      length -= SYNC_FLUSH_TAIL.length;
+    }
+    return Arrays.copyOf(scratch, length);
+  }
+
+  /**
+   * Uncompresses an incoming packet's data with the context of the previous ones.
+   *
+   * @param binaries compressed array of {@code byte}
+   * @return the original data of {@code byte} array
+   * @throws PacketCompressorException when the stream was closed, the data is corrupted or it
+   *                                   is uncompressed into more than the maximum size
+   */
+  public byte[] uncompress(byte[] binaries) throws PacketCompressorException {
+    synchronized (inflater) {
+      if (closed) {
+        throw new PacketCompressorException("The compression stream was closed");
+      }
+      try {
+        int length = inflate(binaries, 0);
+        length = inflate(SYNC_FLUSH_TAIL, length);
+        return Arrays.copyOf(uncompressingScratch, length);
+      } catch (DataFormatException exception) {
+        throw new PacketCompressorException(exception.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Closes the stream and releases its native resources, the stream can not be used anymore.
+   */
+  public void close() {
+    synchronized (this) {
+      synchronized (inflater) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        deflater.end();
+        inflater.end();
+      }
+    }
+  }
+
+  private int inflate(byte[] binaries, int length) throws DataFormatException {
+    inflater.setInput(binaries);
+    // the scratch array grows up to one byte over the maximum size, that byte tells the data
+    // exceeds it
+    int maxScratchBytes = (int) Math.min(maxUncompressedBytes + 1L, Integer.MAX_VALUE);
+    byte[] scratch = uncompressingScratch(Math.min(binaries.length * 4, maxScratchBytes));
+    while (true) {
+      if (length == scratch.length) {
+        scratch = uncompressingScratch(Math.min(scratch.length * 2, maxScratchBytes));
+      }
+      int inflatedBytes = inflater.inflate(scratch, length, scratch.length - length);
+      length += inflatedBytes;
+      if (length > maxUncompressedBytes) {
+        throw new PacketCompressorException(
+            "The uncompressed data exceeds " + maxUncompressedBytes + " bytes");
+      }
+      if (inflatedBytes == 0) {
+        if (inflater.finished() || inflater.needsDictionary()) {
+          throw new PacketCompressorException("Unexpected end of the compression stream");
+        }
+        if (inflater.needsInput()) {
+          return length;
+        }
+      }
+    }
+  }
+
+  private boolean endsWithSyncFlushTail(byte[] scratch, int length) {
+    if (length < SYNC_FLUSH_TAIL.length) {
+      return false;
+    }
+    return Arrays.equals(scratch, length - SYNC_FLUSH_TAIL.length, length, SYNC_FLUSH_TAIL, 0,
+        SYNC_FLUSH_TAIL.length);
+  }
+
+  private byte[] compressingScratch(int size) {
+    compressingScratch = growScratch(compressingScratch, size);
+    return compressingScratch;
+  }
+
+  private byte[] uncompressingScratch(int size) {
+    uncompressingScratch = growScratch(uncompressingScratch, size);
+    return uncompressingScratch;
+  }
+
+  private byte[] growScratch(byte[] scratch, int size) {
+    size = Math.max(size, DEFAULT_SCRATCH_BYTES);
+    if (scratch == null) {
+      return new byte[size];
+    }
+    return scratch.length < size ? Arrays.copyOf(scratch, size) : scratch;
+  }
+}
@@ -0,0 +1,381 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import com.tenio.core.exception.PacketCompressorException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The built-in compressor using the raw deflate format.
+ *
+ * <p>A compression context (a {@link Deflater}, an {@link Inflater} and a scratch array) is
+ * borrowed from a small pool for each call and given back afterward, so a context is only used by
+ * one thread at a time and the native resources are not created for each packet.</p>
+ *
+ * <p>A preset dictionary can be shared by both sides. Small and repetitive messages (same keys,
+ * similar values) then compress well since their common parts are found in the dictionary, see
+ * {@link #trainDictionary(Collection, int)}. The clients must uncompress the data with the same
+ * dictionary. The dictionary is loaded into the context for every packet, so a few kilobytes are
+ * usually enough.</p>
+ *
+ * <p>A packet can not be uncompressed into more than a maximum size, so a small packet crafted to
+ * inflate into a huge one can not make the server allocate a lot of memory.</p>
+ *
+ * @since 0.6.7
+ */
+public final class DeflatePacketCompressor implements BinaryPacketBufferCompressor {
+
+  /**
+   * The maximum size in bytes of a preset dictionary, only this last part of a dictionary can be
+   * referenced by the deflate format.
+   */
+  public static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+  /**
+   * The default maximum size in bytes of an uncompressed packet.
+   */
+  public static final int DEFAULT_MAX_UNCOMPRESSED_BYTES = 1024 * 1024;
+  private static final int DICTIONARY_SEGMENT_BYTES = 8;
+  private static final int MAX_POOLED_CONTEXTS = 64;
+  private static final int DEFAULT_SCRATCH_BYTES = 1024;
+  private static final int MAX_POOLED_SCRATCH_BYTES = 64 * 1024;
+
+  private final int level;
+  private final byte[] dictionary;
+  private final int maxUncompressedBytes;
+  private final BlockingQueue<Context> contexts;
+
+  private DeflatePacketCompressor(int level, byte[] dictionary, int maxUncompressedBytes) {
+    if (level != Deflater.DEFAULT_COMPRESSION &&
+        (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+      throw new IllegalArgumentException("Invalid compression level: " + level);
+    }
+    if (maxUncompressedBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid maximum uncompressed size: " + maxUncompressedBytes);
+    }
+    if (dictionary != null && dictionary.length > MAX_DICTIONARY_BYTES) {
+      dictionary = Arrays.copyOfRange(dictionary, dictionary.length - MAX_DICTIONARY_BYTES,
+          dictionary.length);
+    }
+    this.level = level;
+    this.dictionary = dictionary != null && dictionary.length > 0 ? dictionary : null;
+    this.maxUncompressedBytes = maxUncompressedBytes;
+    contexts = new ArrayBlockingQueue<>(MAX_POOLED_CONTEXTS);
+  }
+
+  /**
+   * Creates a new instance using the fastest compression level and no dictionary.
+   *
+   * @return a new instance of {@link DeflatePacketCompressor}
+   */
+  public static DeflatePacketCompressor newInstance() {
+    return new DeflatePacketCompressor(Deflater.BEST_SPEED, null, DEFAULT_MAX_UNCOMPRESSED_BYTES);
+  }
+
+  /**
+   * Creates a new instance, a packet is uncompressed into {@link #DEFAULT_MAX_UNCOMPRESSED_BYTES}
+   * bytes at most.
+   *
+   * @param level      the compression level, from {@link Deflater#NO_COMPRESSION} to
+   *                   {@link Deflater#BEST_COMPRESSION}, or {@link Deflater#DEFAULT_COMPRESSION}
+   * @param dictionary the preset dictionary shared with the clients, it can be {@code null}. Only
+   *                   its last {@link #MAX_DICTIONARY_BYTES} bytes are used
+   * @return a new instance of {@link DeflatePacketCompressor}
+   * @throws IllegalArgumentException when the compression level is invalid
+   */
+  public static DeflatePacketCompressor newInstance(int level, byte[] dictionary) {
+    return new DeflatePacketCompressor(level, dictionary, DEFAULT_MAX_UNCOMPRESSED_BYTES);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param level                the compression level, from {@link Deflater#NO_COMPRESSION} to
+   *                             {@link Deflater#BEST_COMPRESSION}, or
+   *                             {@link Deflater#DEFAULT_COMPRESSION}
+   * @param dictionary           the preset dictionary shared with the clients, it can be
+   *                             {@code null}. Only its last {@link #MAX_DICTIONARY_BYTES} bytes
+   *                             are used
+   * @param maxUncompressedBytes the maximum size in bytes a packet is uncompressed into
+   * @return a new instance of {@link DeflatePacketCompressor}
+   * @throws IllegalArgumentException when the compression level or the maximum size is invalid
+   */
+  public static DeflatePacketCompressor newInstance(int level, byte[] dictionary,
+                                                    int maxUncompressedBytes) {
+    return new DeflatePacketCompressor(level, dictionary, maxUncompressedBytes);
+  }
+
+  /**
+   * Builds a preset dictionary from samples of the real traffic. The byte sequences which appear
+   * in many samples are collected, and the most common ones are put at the end of the dictionary
+   * where they are referenced with the shortest distances.
+   *
+   * @param samples the collection of sample messages
+   * @param maxSize the maximum size in bytes of the dictionary, it never exceeds
+   *                {@link #MAX_DICTIONARY_BYTES}
+   * @return the dictionary, it is empty when no sequence is shared by enough samples
+   */
+  public static byte[] trainDictionary(Collection<byte[]> samples, int maxSize) {
+    if (samples == null || samples.isEmpty() || maxSize <= 0) {
+      return new byte[0];
+    }
+    maxSize = Math.min(maxSize, MAX_DICTIONARY_BYTES);
+
+    // counts the number of samples each segment appears in
+    Map<String, Integer> counters = new HashMap<>();
+    for (byte[] sample : samples) {
+      var segments = new HashSet<String>();
+      for (int i = 0; i + DICTIONARY_SEGMENT_BYTES <= sample.length; i++) {
+        segments.add(new String(sample, i, DICTIONARY_SEGMENT_BYTES, StandardCharsets.ISO_8859_1));
+      }
+      segments.forEach(segment -> counters.merge(segment, 1, Integer::sum));
+    }
+
+    // a rare segment hardly saves anything but makes the dictionary longer to load
+    int minSamples = Math.max(2, samples.size() / 64);
+    List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+    counters.entrySet().stream().filter(entry -> entry.getValue() >= minSamples)
+        .forEach(candidates::add);
+    candidates.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+    // the most common segments are picked first, a segment already covered is skipped
+    var selected = new ArrayList<String>();
+    var covered = new StringBuilder();
+    for (var candidate : candidates) {
+      if (covered.length() + DICTIONARY_SEGMENT_BYTES > maxSize) {
+        break;
+      }
+      if (covered.indexOf(candidate.getKey()) < 0) {
+        selected.add(candidate.getKey());
+        covered.append(candidate.getKey());
+      }
+    }
+
+    var dictionary = new StringBuilder(covered.length());
+    for (int i = selected.size() - 1; i >= 0; i--) {
+      dictionary.append(selected.get(i));
+    }
+    return dictionary.toString().getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  @Override
+  public byte[] compress(byte[] binaries) throws PacketCompressorException {
+    var context = borrowContext();
+    try {
+      var deflater = context.deflater();
+      deflater.setInput(binaries);
+      deflater.finish();
+      byte[] scratch = context.scratch(binaries.length + Short.BYTES);
+      int length = 0;
+      while (!deflater.finished()) {
+        if (length == scratch.length) {
+          scratch = context.scratch(scratch.length * 2);
+        }
+        length += deflater.deflate(scratch, length, scratch.length - length);
+      }
+      return Arrays.copyOf(scratch, length);
+    } finally {
+      releaseContext(context);
+    }
+  }
+
+  @Override
+  public byte[] uncompress(byte[] binaries) throws PacketCompressorException {
+    var context = borrowContext();
+    try {
+      var inflater = context.inflater();
+      inflater.setInput(binaries);
+      // the scratch array grows up to one byte over the maximum size, that byte tells the data
+      // exceeds it
+      int maxScratchBytes = (int) Math.min(maxUncompressedBytes + 1L, Integer.MAX_VALUE);
+      byte[] scratch = context.scratch(Math.min(binaries.length * 4, maxScratchBytes));
+      int length = 0;
+      while (!inflater.finished()) {
+        if (length == scratch.length) {
+          scratch = context.scratch(Math.min(scratch.length * 2, maxScratchBytes));
+        }
+        int inflatedBytes = inflater.inflate(scratch, length, scratch.length - length);
+        if (inflatedBytes == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new PacketCompressorException("Unable to uncompress the truncated data");
+        }
+        length += inflatedBytes;
+        if (length > maxUncompressedBytes) {
+          throw new PacketCompressorException(
+              "The uncompressed data exceeds " + maxUncompressedBytes + " bytes");
+        }
+      }
+      return Arrays.copyOf(scratch, length);
+    } catch (DataFormatException exception) {
+      throw new PacketCompressorException(exception.getMessage());
+    } finally {
+      releaseContext(context);
+    }
+  }
+
+  @Override
+  public int compress(ByteBuffer source, ByteBuffer target) throws PacketCompressorException {
+    int sourcePosition = source.position();
+    int targetPosition = target.position();
+    var context = borrowContext();
+    try {
+      var deflater = context.deflater();
+      deflater.setInput(source);
+      deflater.finish();
+      while (!deflater.finished()) {
+        if (!target.hasRemaining()) {
+          source.position(sourcePosition);
+          target.position(targetPosition);
+          return -1;
+        }
+        deflater.deflate(target);
+      }
+      return target.position() - targetPosition;
+    } finally {
+      releaseContext(context);
+    }
+  }
+
+  @Override
+  public int uncompress(ByteBuffer source, ByteBuffer target) throws PacketCompressorException {
+    int sourcePosition = source.position();
+    int targetPosition = target.position();
+    var context = borrowContext();
+    try {
+      var inflater = context.inflater();
+      inflater.setInput(source);
+      while (!inflater.finished()) {
+        if (!target.hasRemaining()) {
+          source.position(sourcePosition);
+          target.position(targetPosition);
+          return -1;
+        }
+        int inflatedBytes = inflater.inflate(target);
+        if (inflatedBytes == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new PacketCompressorException("Unable to uncompress the truncated data");
+        }
+      }
+      return target.position() - targetPosition;
+    } catch (DataFormatException exception) {
+      throw new PacketCompressorException(exception.getMessage());
+    } finally {
+      releaseContext(context);
+    }
+  }
+
+  private Context borrowContext() {
+    var context = contexts.poll();
+    return context != null ? context : new Context();
+  }
+
+  private void releaseContext(Context context) {
+    // the context drops its references to the data, then goes back to the pool if there is room
+    context.reset();
+    if (!contexts.offer(context)) {
+      context.end();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DeflatePacketCompressor{" +
+        "level=" + level +
+        ", dictionary=" + (dictionary != null ? dictionary.length : 0) +
+        ", maxUncompressedBytes=" + maxUncompressedBytes +
+        '}';
+  }
+
+  /**
+   * The compression context, it is used by one thread at a time.
+   */
+  private final class Context {
+
+    private Deflater deflater;
+    private Inflater inflater;
+    private byte[] scratch;
+
+    Deflater deflater() {
+      if (deflater == null) {
+        deflater = new Deflater(level, true);
+      }
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary);
+      }
+      return deflater;
+    }
+
+    Inflater inflater() {
+      if (inflater == null) {
+        inflater = new Inflater(true);
+      }
+      if (dictionary != null) {
+        inflater.setDictionary(dictionary);
+      }
+      return inflater;
+    }
+
+    byte[] scratch(int size) {
+      size = Math.max(size, DEFAULT_SCRATCH_BYTES);
+      if (scratch == null || scratch.length < size) {
+        scratch = scratch == null ? new byte[size] : Arrays.copyOf(scratch, size);
+      }
+      return scratch;
+    }
+
+    void reset() {
+      if (deflater != null) {
+        deflater.reset();
+      }
+      if (inflater != null) {
+        inflater.reset();
+      }
+      // a rarely big scratch array is not kept in the pool
+      if (scratch != null && scratch.length > MAX_POOLED_SCRATCH_BYTES) {
+        scratch = null;
+      }
+    }
+
+    void end() {
+      if (deflater != null) {
+        deflater.end();
+      }
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
+}
@@ -28,6 +28,7 @@ import com.tenio.common.data.DataCollection;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
 import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.entity.session.Session;
 
 /**
  * The APIs designed for decoding binary packets.
@@ -55,6 +56,33 @@ public interface BinaryPacketDecoder {
    */
   DataCollection decode(PacketHeader packetHeader, byte[] binaries) throws RuntimeException;
 
+  /**
+   * Decodes binaries data received from a session. The data compressed by the session's
+   * compression stream is uncompressed by that stream, so the packets of a session must be
+   * decoded in the order they are received.
+   *
+   * @param session  the sender {@link Session}
+   * @param binaries the receiving {@code byte} data
+   * @return an instance of {@link DataCollection}, or {@code null} if the binaries' length is 0
+   * @throws RuntimeException whenever an issue occurred
+   * @see Session#getCompressionStream()
+   * @since 0.6.7
+   */
+  DataCollection decode(Session session, byte[] binaries) throws RuntimeException;
+
+  /**
+   * Decodes binaries data received from a session, see {@link #decode(Session, byte[])}.
+   *
+   * @param session      the sender {@link Session}
+   * @param packetHeader instance of {@link PacketHeader}
+   * @param binaries     the receiving {@code byte} data
+   * @return an instance of {@link DataCollection}, or {@code null} if the binaries' length is 0
+   * @throws RuntimeException whenever an issue occurred
+   * @since 0.6.7
+   */
+  DataCollection decode(Session session, PacketHeader packetHeader, byte[] binaries)
+      throws RuntimeException;
+
   /**
    * Sets the compressor for compressing/uncompressing packets.
    *
@@ -31,7 +31,9 @@ import com.tenio.common.utility.ByteUtility;
 import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
+import com.tenio.core.network.codec.encryption.BinaryPacketSessionEncryptor;
 import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.entity.session.Session;
 
 /**
  * The default implementation for the binary packet decoding.
@@ -43,21 +45,40 @@ public final class BinaryPacketDecoderImpl implements BinaryPacketDecoder {
 
   @Override
   public DataCollection decode(byte[] binaries) throws RuntimeException {
+    return decode((Session) null, binaries);
+  }
+
+  @Override
+  public DataCollection decode(PacketHeader packetHeader, byte[] binaries) throws RuntimeException {
+    return decode(null, packetHeader, binaries);
+  }
+
+  @Override
+  public DataCollection decode(Session session, byte[] binaries) throws RuntimeException {
     var packetHeader = CodecUtility.decodeFirstHeaderByte(binaries[0]);
     binaries = ByteUtility.resizeBytesArray(binaries, 1, binaries.length - 1);
 
-    return decode(packetHeader, binaries);
+    return decode(session, packetHeader, binaries);
   }
 
   @Override
-  public DataCollection decode(PacketHeader packetHeader, byte[] binaries) throws RuntimeException {
+  public DataCollection decode(Session session, PacketHeader packetHeader, byte[] binaries)
+      throws RuntimeException {
     if (binaries == null || binaries.length == 0) {
       return null;
     }
 
     // Order: uncompression -> decryption (It must be reversed in Encoder)
     // 1. checks if data needs to be uncompressed
-    if (packetHeader.isCompressed()) {
+    if (packetHeader.isStreamCompressed()) {
+      var compressionStream = session != null ? session.getCompressionStream() : null;
+      if (compressionStream != null) {
+        binaries = compressionStream.uncompress(binaries);
+      } else {
+        throw new IllegalStateException("Expected the session kept a compression stream due to " +
+            "the packet-compression-context-takeover configuration, but it is null");
+      }
+    } else if (packetHeader.isCompressed()) {
       if (compressor != null) {
         binaries = compressor.uncompress(binaries);
       } else {
@@ -69,7 +90,9 @@ public final class BinaryPacketDecoderImpl implements BinaryPacketDecoder {
 
     // 2. checks if data needs to be unencrypted
     if (packetHeader.isEncrypted()) {
-      if (encryptor != null) {
+      if (encryptor instanceof BinaryPacketSessionEncryptor sessionEncryptor) {
+        binaries = sessionEncryptor.decrypt(session, binaries);
+      } else if (encryptor != null) {
         binaries = encryptor.decrypt(binaries);
       } else {
         throw new IllegalStateException("Expected the interface BinaryPacketEncryptor was " +
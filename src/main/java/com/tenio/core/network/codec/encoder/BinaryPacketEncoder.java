@@ -26,9 +26,12 @@ package com.tenio.core.network.codec.encoder;
 
 import com.tenio.core.exception.PacketCompressorException;
 import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.codec.compression.AdaptiveCompressionPolicy;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
 import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
 
 /**
  * Provides APIs for encoding network packets into binary format.
@@ -78,7 +81,9 @@ public interface BinaryPacketEncoder {
 
   /**
    * Encodes a packet for transmission to clients. This method performs the complete encoding
-   * process including compression and encryption if configured.
+   * process including compression and encryption if configured. A packet which is already
+   * encoded (see {@link Packet#isEncoded()}) is returned as is, so its frame can be shared by
+   * several recipients.
    *
    * @param packet the incoming {@link Packet} to be encoded
    * @return the encoded {@link Packet} ready for transmission
@@ -88,6 +93,58 @@ public interface BinaryPacketEncoder {
    */
   Packet encode(Packet packet);
 
+  /**
+   * Encodes a packet straight into a buffer, so no frame is allocated for it. The header byte,
+   * the data size (in case of stream-oriented type) and the data are put at the buffer's current
+   * position. A packet which is already encoded only has its frame copied. The packet's data is
+   * left untouched.
+   *
+   * <p>When the remaining space of the buffer is not enough for the frame, nothing is put into
+   * the buffer, the packet is encoded as {@link #encode(Packet)} does instead, and its frame can
+   * be retrieved by {@link Packet#getData()}.
+   *
+   * @param packet the {@link Packet} to be encoded
+   * @param buffer the {@link ByteBuffer} to put the frame into
+   * @return the number of bytes put into the buffer, or {@code -1} when the buffer has no room
+   *     for the frame
+   * @throws PacketCompressorException if compression fails
+   * @throws PacketEncryptorException  if encryption fails
+   * @since 0.6.7
+   */
+  int encodeInto(Packet packet, ByteBuffer buffer);
+
+  /**
+   * Encodes a packet for only one recipient session. When the session keeps a compression
+   * stream, the packet's data which should be compressed (see
+   * {@link #setCompressionThresholdBytes(int)}) is compressed by that stream instead of the
+   * compressor, so the packets of a session must be encoded in the order they are sent. A stream
+   * which fails is closed, the packet must not be sent then.
+   *
+   * @param packet  the incoming {@link Packet} to be encoded
+   * @param session the recipient {@link Session}
+   * @return the encoded {@link Packet} ready for transmission
+   * @throws PacketCompressorException if compression fails
+   * @throws PacketEncryptorException  if encryption fails
+   * @see Session#getCompressionStream()
+   * @since 0.6.7
+   */
+  Packet encode(Packet packet, Session session);
+
+  /**
+   * Encodes a packet for only one recipient session straight into a buffer, see
+   * {@link #encodeInto(Packet, ByteBuffer)} and {@link #encode(Packet, Session)}.
+   *
+   * @param packet  the {@link Packet} to be encoded
+   * @param session the recipient {@link Session}
+   * @param buffer  the {@link ByteBuffer} to put the frame into
+   * @return the number of bytes put into the buffer, or {@code -1} when the buffer has no room
+   *     for the frame
+   * @throws PacketCompressorException if compression fails
+   * @throws PacketEncryptorException  if encryption fails
+   * @since 0.6.7
+   */
+  int encodeInto(Packet packet, Session session, ByteBuffer buffer);
+
   /**
    * Sets the compressor for packet compression/decompression.
    * The compressor is used to reduce packet size before transmission.
@@ -112,4 +169,15 @@ public interface BinaryPacketEncoder {
    * @param numberBytes the minimum packet size in bytes to trigger compression
    */
   void setCompressionThresholdBytes(int numberBytes);
+
+  /**
+   * Sets the policy which decides whether a packet is worth compressing by the ratios achieved on
+   * the previous packets of the same shape. Without a policy, all packets reaching the
+   * compression threshold are compressed.
+   *
+   * @param compressionPolicy the {@link AdaptiveCompressionPolicy} instance to use, it can be
+   *                          {@code null}
+   * @since 0.6.7
+   */
+  void setCompressionPolicy(AdaptiveCompressionPolicy compressionPolicy);
 }
@@ -26,11 +26,19 @@ package com.tenio.core.network.codec.encoder;
 
 import com.tenio.common.data.DataType;
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.codec.compression.AdaptiveCompressionPolicy;
+import com.tenio.core.network.codec.compression.BinaryPacketBufferCompressor;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.network.codec.compression.CompressionStream;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
+import com.tenio.core.network.codec.encryption.BinaryPacketSessionEncryptor;
 import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
 import java.nio.ByteBuffer;
 
 /**
@@ -40,9 +48,13 @@ import java.nio.ByteBuffer;
  */
 public final class BinaryPacketEncoderImpl extends SystemLogger implements BinaryPacketEncoder {
 
+  private static final int NO_ROOM_FOR_FRAME = -1;
+  private static final int NOT_COMPRESSED = -2;
+
   private BinaryPacketCompressor compressor;
   private BinaryPacketEncryptor encryptor;
   private int compressionThresholdBytes;
+  private AdaptiveCompressionPolicy compressionPolicy;
 
   /**
    * Initialization.
@@ -53,22 +65,85 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
 
   @Override
   public Packet encode(Packet packet) {
+    return encode(packet, null);
+  }
+
+  @Override
+  public Packet encode(Packet packet, Session session) {
+    // the packet data was encoded once and is now shared, nothing else to do
+    if (packet.isEncoded()) {
+      return packet;
+    }
+
+    encodeFrame(packet, session, null);
+
+    return packet;
+  }
+
+  @Override
+  public int encodeInto(Packet packet, ByteBuffer buffer) {
+    return encodeInto(packet, null, buffer);
+  }
+
+  @Override
+  public int encodeInto(Packet packet, Session session, ByteBuffer buffer) {
+    // the shared frame is only copied
+    if (packet.isEncoded()) {
+      byte[] frame = packet.getData();
+      if (buffer.remaining() < frame.length) {
+        return -1;
+      }
+      buffer.put(frame);
+      return frame.length;
+    }
+
+    return encodeFrame(packet, session, buffer);
+  }
+
+  /**
+   * Forms the frame of a packet. It is written into the buffer when there is enough room,
+   * otherwise it is allocated and set as the packet's data.
+   *
+   * @return the number of bytes written into the buffer, or {@code -1} if the frame was set as
+   *     the packet's data
+   */
+  private int encodeFrame(Packet packet, Session session, ByteBuffer buffer) {
     // retrieve the packet original data first
     byte[] binaries = packet.getData();
     if (binaries == null || binaries.length == 0) {
       throw new IllegalArgumentException("Th packet has empty data to encode");
     }
 
+    // the compression stream only works on the ordered and reliable transports
+    var compressionStream = session != null && (packet.getTransportType() == TransportType.TCP ||
+        packet.getTransportType() == TransportType.WEB_SOCKET) ?
+        session.getCompressionStream() : null;
+
     // Order: encryption -> compression (It must be reversed in Decoder)
-    // 1. check if the data needs to be encrypted
+    // 1. check if the data needs to be encrypted, a packet which can not be encrypted (e.g. its
+    // session has no key) is never sent in plain
     boolean needsEncrypted = packet.needsEncrypted();
     if (needsEncrypted) {
-      if (encryptor != null) {
+      if (encryptor instanceof BinaryPacketSessionEncryptor sessionEncryptor) {
+        // the encrypted data is put straight into the buffer when it will not be compressed
+        if (buffer != null && (compressionThresholdBytes <= 0 ||
+            sessionEncryptor.getEncryptedSize(binaries.length) < compressionThresholdBytes)) {
+          int encryptedFrameSize =
+              encryptInto(packet, session, binaries, sessionEncryptor, buffer);
+          if (encryptedFrameSize >= 0) {
+            return encryptedFrameSize;
+          }
+        }
+        try {
+          binaries = sessionEncryptor.encrypt(session, binaries);
+        } catch (Exception exception) {
+          throw toEncryptorException(exception);
+        }
+      } else if (encryptor != null) {
         try {
           binaries = encryptor.encrypt(binaries);
         } catch (Exception exception) {
-          error(exception);
-          needsEncrypted = false;
+          throw toEncryptorException(exception);
         }
       } else {
         throw new IllegalStateException("Expected the interface BinaryPacketEncryptor was " +
@@ -76,20 +151,49 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
       }
     }
 
-    // 2. check if the data needs to be compressed
+    // 2. check if the data needs to be compressed, the session's compression stream carries its
+    // context over from the previous packets. Each packet is passed to the stream at most once,
+    // in the order they are sent, the other packets are sent as they are
     boolean needsCompressed = false;
-    if (compressionThresholdBytes > 0 && binaries.length >= compressionThresholdBytes) {
-      if (compressor != null) {
-        try {
-          binaries = compressor.compress(binaries);
-          needsCompressed = true;
-        } catch (Exception exception) {
-          error(exception);
-        }
+    boolean needsStreamCompressed = false;
+    if (compressionThresholdBytes > 0 && binaries.length >= compressionThresholdBytes &&
+        (compressionPolicy == null ||
+            compressionPolicy.shouldCompress(packet.getDataType(), binaries.length))) {
+      if (compressionStream != null) {
+        binaries = compressStream(packet, binaries, compressionStream);
+        needsStreamCompressed = true;
       } else {
-        throw new IllegalStateException("Expected the interface BinaryPacketCompressor was " +
-            "implemented due to the packet-compression-threshold-bytes configuration, but it is" +
-            " null");
+        // a buffer compressor puts the compressed data straight into the buffer
+        int compressedFrameSize = NO_ROOM_FOR_FRAME;
+        if (buffer != null && compressor instanceof BinaryPacketBufferCompressor bufferCompressor) {
+          compressedFrameSize =
+              compressInto(packet, binaries, needsEncrypted, bufferCompressor, buffer);
+          if (compressedFrameSize >= 0) {
+            return compressedFrameSize;
+          }
+        }
+        // the data which does not get smaller is sent as it is
+        if (compressedFrameSize != NOT_COMPRESSED) {
+          if (compressor != null) {
+            try {
+              long startedNanos = System.nanoTime();
+              byte[] compressedBinaries = compressor.compress(binaries);
+              boolean smaller = compressedBinaries.length < binaries.length;
+              recordCompression(packet, binaries.length,
+                  smaller ? compressedBinaries.length : -1, startedNanos);
+              if (smaller) {
+                binaries = compressedBinaries;
+                needsCompressed = true;
+              }
+            } catch (Exception exception) {
+              error(exception);
+            }
+          } else {
+            throw new IllegalStateException("Expected the interface BinaryPacketCompressor was " +
+                "implemented due to the packet-compression-threshold-bytes configuration, but it" +
+                " is null");
+          }
+        }
       }
     }
 
@@ -109,11 +213,15 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
     PacketHeader packetHeader =
         PacketHeader.newInstance(packet.needsDataCounting(), needsCompressed,
             headerSize > Short.BYTES, needsEncrypted, packet.getDataType() == DataType.ZERO,
-            packet.getDataType() == DataType.MSG_PACK);
+            packet.getDataType() == DataType.MSG_PACK, needsStreamCompressed);
     byte headerByte = CodecUtility.encodeFirstHeaderByte(packetHeader);
 
-    // allocate bytes for the new data and put all value to form a new packet
-    var packetBuffer = ByteBuffer.allocate(Byte.BYTES + headerSize + binaries.length);
+    // the header size is known now, so the whole frame size is checked up front
+    int frameSize = Byte.BYTES + headerSize + binaries.length;
+    boolean intoBuffer = buffer != null && buffer.remaining() >= frameSize;
+
+    // otherwise, allocate bytes for the new data and put all value to form a new packet
+    var packetBuffer = intoBuffer ? buffer : ByteBuffer.allocate(frameSize);
 
     // 1. put header byte indicator
     packetBuffer.put(headerByte);
@@ -130,10 +238,157 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
     // 3. put original data
     packetBuffer.put(binaries);
 
+    if (intoBuffer) {
+      return frameSize;
+    }
+
     // form new data for the packet
     packet.setData(packetBuffer.array());
+    packet.setEncoded(true);
 
-    return packet;
+    return -1;
+  }
+
+  /**
+   * Puts a frame holding the compressed data into the buffer. The header is written after the
+   * data, the size header is sized for the original data which is always bigger.
+   *
+   * @return the size of frame, {@link #NO_ROOM_FOR_FRAME} when the buffer may have no room for
+   *     it, or {@link #NOT_COMPRESSED} when the data does not get smaller, the buffer is left
+   *     untouched in both cases
+   */
+  private int compressInto(Packet packet, byte[] binaries, boolean needsEncrypted,
+                           BinaryPacketBufferCompressor bufferCompressor, ByteBuffer buffer) {
+    int headerSize = 0;
+    if (packet.needsDataCounting()) {
+      headerSize = binaries.length > MAX_BYTES_FOR_NORMAL_SIZE ? Integer.BYTES : Short.BYTES;
+    }
+    int start = buffer.position();
+    int dataStart = start + Byte.BYTES + headerSize;
+    int limit = buffer.limit();
+    if ((long) dataStart + binaries.length - 1 > limit) {
+      return NO_ROOM_FOR_FRAME;
+    }
+
+    // the compressed data is only useful when it is smaller than the original one
+    int compressedBytes;
+    long startedNanos = System.nanoTime();
+    buffer.position(dataStart);
+    buffer.limit(dataStart + binaries.length - 1);
+    try {
+      compressedBytes = bufferCompressor.compress(ByteBuffer.wrap(binaries), buffer);
+      recordCompression(packet, binaries.length, compressedBytes, startedNanos);
+    } catch (Exception exception) {
+      error(exception);
+      compressedBytes = -1;
+    } finally {
+      buffer.limit(limit);
+    }
+    if (compressedBytes < 0) {
+      buffer.position(start);
+      return NOT_COMPRESSED;
+    }
+
+    PacketHeader packetHeader =
+        PacketHeader.newInstance(packet.needsDataCounting(), true,
+            headerSize > Short.BYTES, needsEncrypted, packet.getDataType() == DataType.ZERO,
+            packet.getDataType() == DataType.MSG_PACK);
+    buffer.put(start, CodecUtility.encodeFirstHeaderByte(packetHeader));
+    if (headerSize > Short.BYTES) {
+      buffer.putInt(start + Byte.BYTES, compressedBytes);
+    } else if (headerSize > 0) {
+      buffer.putShort(start + Byte.BYTES, (short) compressedBytes);
+    }
+
+    return Byte.BYTES + headerSize + compressedBytes;
+  }
+
+  /**
+   * Puts a frame holding the encrypted data into the buffer, the data is encrypted straight
+   * after the header without any intermediate array.
+   *
+   * @return the size of frame, or {@link #NO_ROOM_FOR_FRAME} when the buffer has no room for
+   *     it, the buffer is left untouched then
+   * @throws PacketEncryptorException when the encryption fails, the buffer is left untouched
+   */
+  private int encryptInto(Packet packet, Session session, byte[] binaries,
+                          BinaryPacketSessionEncryptor sessionEncryptor, ByteBuffer buffer) {
+    int encryptedBytes = sessionEncryptor.getEncryptedSize(binaries.length);
+    int headerSize = 0;
+    if (packet.needsDataCounting()) {
+      headerSize = encryptedBytes > MAX_BYTES_FOR_NORMAL_SIZE ? Integer.BYTES : Short.BYTES;
+    }
+    int start = buffer.position();
+    if (buffer.remaining() < Byte.BYTES + headerSize + encryptedBytes) {
+      return NO_ROOM_FOR_FRAME;
+    }
+
+    PacketHeader packetHeader =
+        PacketHeader.newInstance(packet.needsDataCounting(), false,
+            headerSize > Short.BYTES, true, packet.getDataType() == DataType.ZERO,
+            packet.getDataType() == DataType.MSG_PACK);
+    buffer.put(CodecUtility.encodeFirstHeaderByte(packetHeader));
+    if (headerSize > Short.BYTES) {
+      buffer.putInt(encryptedBytes);
+    } else if (headerSize > 0) {
+      buffer.putShort((short) encryptedBytes);
+    }
+
+    try {
+      if (sessionEncryptor.encrypt(session, ByteBuffer.wrap(binaries), buffer) < 0) {
+        buffer.position(start);
+        return NO_ROOM_FOR_FRAME;
+      }
+    } catch (Exception exception) {
+      buffer.position(start);
+      throw toEncryptorException(exception);
+    }
+
+    return Byte.BYTES + headerSize + encryptedBytes;
+  }
+
+  /**
+   * Compresses the data by the session's compression stream. A stream which failed can not be
+   * used anymore, the other side's one may be out of step with it, so it is closed.
+   *
+   * @return the compressed data
+   * @throws PacketCompressorException when the stream fails or was closed
+   */
+  private byte[] compressStream(Packet packet, byte[] binaries,
+                                CompressionStream compressionStream) {
+    long startedNanos = System.nanoTime();
+    byte[] compressedBinaries;
+    try {
+      compressedBinaries = compressionStream.compress(binaries);
+    } catch (PacketCompressorException exception) {
+      compressionStream.close();
+      throw exception;
+    } catch (RuntimeException exception) {
+      compressionStream.close();
+      throw new PacketCompressorException(
+          "The compression stream failed: " + exception.getMessage());
+    }
+    // the stream's output is always sent, so it is only recorded as not smaller
+    recordCompression(packet, binaries.length,
+        compressedBinaries.length < binaries.length ? compressedBinaries.length : -1,
+        startedNanos);
+    return compressedBinaries;
+  }
+
+  private PacketEncryptorException toEncryptorException(Exception exception) {
+    if (exception instanceof PacketEncryptorException encryptorException) {
+      return encryptorException;
+    }
+    return new PacketEncryptorException("The packet could not be encrypted: " +
+        exception.getMessage());
+  }
+
+  private void recordCompression(Packet packet, int originalSize, int compressedSize,
+                                 long startedNanos) {
+    if (compressionPolicy != null) {
+      compressionPolicy.record(packet.getDataType(), originalSize, compressedSize,
+          System.nanoTime() - startedNanos);
+    }
   }
 
   @Override
@@ -150,4 +405,9 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
   public void setCompressionThresholdBytes(int numberBytes) {
     compressionThresholdBytes = numberBytes;
   }
+
+  @Override
+  public void setCompressionPolicy(AdaptiveCompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+  }
 }
@@ -0,0 +1,187 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.encryption;
+
+import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * The built-in AES-GCM implementation for the packet encryption.
+ *
+ * <p>Each session uses its own {@link EncryptionKey}, the key which is given to the constructor
+ * is only used for the sessions have no key. An encrypted data takes the layout:</p>
+ * <pre>
+ * | nonce (12 bytes) | cipher text (same size as the data) | authentication tag (16 bytes) |
+ * </pre>
+ *
+ * <p>A {@link Cipher} is costly to create, so each thread keeps one and initializes it again for
+ * every packet. The nonces of outgoing packets are generated by the key, the incoming packets must
+ * carry the nonces which have the highest bit unset.</p>
+ *
+ * @see EncryptionKey
+ * @since 0.6.7
+ */
+public final class AesGcmPacketEncryptor implements BinaryPacketSessionEncryptor {
+
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int TAG_BITS = 128;
+  private static final int TAG_BYTES = TAG_BITS / Byte.SIZE;
+  private static final int OVERHEAD_BYTES = EncryptionKey.NONCE_BYTES + TAG_BYTES;
+
+  private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+    try {
+      return Cipher.getInstance(TRANSFORMATION);
+    } catch (GeneralSecurityException exception) {
+      throw new IllegalStateException("The " + TRANSFORMATION + " cipher is not supported",
+          exception);
+    }
+  });
+
+  private final EncryptionKey defaultKey;
+
+  private AesGcmPacketEncryptor(EncryptionKey defaultKey) {
+    this.defaultKey = defaultKey;
+  }
+
+  /**
+   * Creates a new encryptor which only works with the sessions have their own keys.
+   *
+   * @return a new instance of {@link AesGcmPacketEncryptor}
+   * @throws IllegalStateException when the AES-GCM cipher is not supported by the platform
+   */
+  public static AesGcmPacketEncryptor newInstance() {
+    return newInstance(null);
+  }
+
+  /**
+   * Creates a new encryptor with a key for the sessions have no key of their own.
+   *
+   * @param defaultKey the raw key in 16, 24 or 32 bytes, it can be {@code null}
+   * @return a new instance of {@link AesGcmPacketEncryptor}
+   * @throws IllegalArgumentException when the key size is invalid
+   * @throws IllegalStateException    when the AES-GCM cipher is not supported by the platform
+   */
+  public static AesGcmPacketEncryptor newInstance(byte[] defaultKey) {
+    // fails fast when the platform lacks the cipher
+    CIPHER.get();
+    return new AesGcmPacketEncryptor(
+        defaultKey != null ? EncryptionKey.newInstance(defaultKey) : null);
+  }
+
+  @Override
+  public int getEncryptedSize(int dataSize) {
+    return dataSize + OVERHEAD_BYTES;
+  }
+
+  @Override
+  public byte[] encrypt(byte[] binaries) throws PacketEncryptorException {
+    return encrypt(null, binaries);
+  }
+
+  @Override
+  public byte[] decrypt(byte[] binaries) throws PacketEncryptorException {
+    return decrypt(null, binaries);
+  }
+
+  @Override
+  public byte[] encrypt(Session session, byte[] binaries) throws PacketEncryptorException {
+    var key = getKey(session);
+    byte[] encrypted = new byte[getEncryptedSize(binaries.length)];
+    key.nextNonce(encrypted, 0);
+    try {
+      var cipher = initCipher(Cipher.ENCRYPT_MODE, key, encrypted, 0);
+      cipher.doFinal(binaries, 0, binaries.length, encrypted, EncryptionKey.NONCE_BYTES);
+    } catch (GeneralSecurityException exception) {
+      throw new PacketEncryptorException("Unable to encrypt the packet: " + exception.getMessage());
+    }
+    return encrypted;
+  }
+
+  @Override
+  public byte[] decrypt(Session session, byte[] binaries) throws PacketEncryptorException {
+    if (binaries.length < OVERHEAD_BYTES) {
+      throw new PacketEncryptorException("The encrypted packet is too short: " + binaries.length);
+    }
+    if ((binaries[0] & EncryptionKey.SERVER_NONCE_BIT) != 0) {
+      throw new PacketEncryptorException("The packet carries a nonce of the server");
+    }
+    var key = getKey(session);
+    try {
+      var cipher = initCipher(Cipher.DECRYPT_MODE, key, binaries, 0);
+      return cipher.doFinal(binaries, EncryptionKey.NONCE_BYTES,
+          binaries.length - EncryptionKey.NONCE_BYTES);
+    } catch (GeneralSecurityException exception) {
+      throw new PacketEncryptorException("Unable to decrypt the packet: " + exception.getMessage());
+    }
+  }
+
+  @Override
+  public int encrypt(Session session, ByteBuffer source, ByteBuffer target)
+      throws PacketEncryptorException {
+    int encryptedSize = getEncryptedSize(source.remaining());
+    if (target.remaining() < encryptedSize) {
+      return -1;
+    }
+    var key = getKey(session);
+    byte[] nonce = new byte[EncryptionKey.NONCE_BYTES];
+    key.nextNonce(nonce, 0);
+    int sourcePosition = source.position();
+    int targetPosition = target.position();
+    try {
+      var cipher = initCipher(Cipher.ENCRYPT_MODE, key, nonce, 0);
+      target.put(nonce);
+      cipher.doFinal(source, target);
+    } catch (GeneralSecurityException exception) {
+      source.position(sourcePosition);
+      target.position(targetPosition);
+      throw new PacketEncryptorException("Unable to encrypt the packet: " + exception.getMessage());
+    }
+    return encryptedSize;
+  }
+
+  private EncryptionKey getKey(Session session) {
+    var key = session != null ? session.getEncryptionKey() : null;
+    if (key == null) {
+      key = defaultKey;
+    }
+    if (key == null) {
+      throw new PacketEncryptorException("There is no encryption key for the session: " +
+          (session != null ? session.getId() : null));
+    }
+    return key;
+  }
+
+  private Cipher initCipher(int mode, EncryptionKey key, byte[] nonce, int offset)
+      throws GeneralSecurityException {
+    var cipher = CIPHER.get();
+    cipher.init(mode, key.getSecretKey(),
+        new GCMParameterSpec(TAG_BITS, nonce, offset, EncryptionKey.NONCE_BYTES));
+    return cipher;
+  }
+}
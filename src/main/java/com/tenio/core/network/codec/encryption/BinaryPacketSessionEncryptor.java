@@ -0,0 +1,85 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.encryption;
+
+import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
+
+/**
+ * The APIs designed for encrypting and decrypting packets with the keys of their sessions, the
+ * encrypted data can be put straight into a buffer.
+ *
+ * <p>A packet encrypted by a session's key is only meaningful to that session, so its frame is
+ * encoded for each recipient instead of being shared by all of them.</p>
+ *
+ * @see AesGcmPacketEncryptor
+ * @see Session#getEncryptionKey()
+ * @since 0.6.7
+ */
+public interface BinaryPacketSessionEncryptor extends BinaryPacketEncryptor {
+
+  /**
+   * Retrieves the size of data after being encrypted.
+   *
+   * @param dataSize the size of original data in bytes
+   * @return the size of encrypted data in bytes
+   */
+  int getEncryptedSize(int dataSize);
+
+  /**
+   * Encrypts the binary data in a packet sent to a session.
+   *
+   * @param session  the recipient {@link Session}, it can be {@code null}
+   * @param binaries an array of {@code byte} data for encrypting
+   * @return an array of encrypted {@code byte} data
+   * @throws PacketEncryptorException when any issue emerged while encrypting process
+   */
+  byte[] encrypt(Session session, byte[] binaries) throws PacketEncryptorException;
+
+  /**
+   * Decrypts the binary data in a packet received from a session.
+   *
+   * @param session  the sender {@link Session}, it can be {@code null}
+   * @param binaries an array of {@code byte} data for decrypting
+   * @return an array of decrypted {@code byte} data
+   * @throws PacketEncryptorException when any issue emerged while decrypting process
+   */
+  byte[] decrypt(Session session, byte[] binaries) throws PacketEncryptorException;
+
+  /**
+   * Encrypts the remaining bytes of the source buffer into the target buffer at its current
+   * position. On success, both positions are advanced.
+   *
+   * @param session the recipient {@link Session}, it can be {@code null}
+   * @param source  the {@link ByteBuffer} holding the original data
+   * @param target  the {@link ByteBuffer} to put the encrypted data into
+   * @return the number of bytes put into the target buffer, or {@code -1} when the target buffer
+   *     has no room for the encrypted data, in that case both buffers are left untouched
+   * @throws PacketEncryptorException when any issue emerged while encrypting process
+   */
+  int encrypt(Session session, ByteBuffer source, ByteBuffer target)
+      throws PacketEncryptorException;
+}
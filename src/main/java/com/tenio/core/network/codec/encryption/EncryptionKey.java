@@ -0,0 +1,137 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.encryption;
+
+import com.tenio.core.exception.PacketEncryptorException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * The AES key of a session together with the sequence of nonces for the packets it sends.
+ *
+ * <p>A nonce takes 12 bytes: a random 4 bytes prefix chosen when the key is created, then an
+ * 8 bytes counter which is increased for each packet, so a nonce is never reused with the same
+ * key. The highest bit of the prefix is always set, the clients must keep it unset for their
+ * nonces, so the two directions never share a nonce and a packet can not be reflected back.</p>
+ *
+ * @since 0.6.7
+ */
+public final class EncryptionKey {
+
+  /**
+   * The number of bytes of a nonce.
+   */
+  public static final int NONCE_BYTES = 12;
+  /**
+   * The bit of a nonce's first byte which marks the packets sent by the server.
+   */
+  public static final int SERVER_NONCE_BIT = 0x80;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private final SecretKey secretKey;
+  private final int noncePrefix;
+  private final AtomicLong nonceCounter;
+
+  private EncryptionKey(byte[] key) {
+    if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+      throw new IllegalArgumentException("An AES key must have 16, 24 or 32 bytes");
+    }
+    secretKey = new SecretKeySpec(key, "AES");
+    noncePrefix = SECURE_RANDOM.nextInt() | (SERVER_NONCE_BIT << 24);
+    nonceCounter = new AtomicLong();
+  }
+
+  /**
+   * Creates a new key from its raw bytes, which were agreed with the client.
+   *
+   * @param key the raw key in 16, 24 or 32 bytes
+   * @return a new instance of {@link EncryptionKey}
+   * @throws IllegalArgumentException when the key size is invalid
+   */
+  public static EncryptionKey newInstance(byte[] key) {
+    return new EncryptionKey(key);
+  }
+
+  /**
+   * Creates a new random 256 bits key, its raw bytes can be handed to the client through a
+   * secured channel by {@link #getEncoded()}.
+   *
+   * @return a new instance of {@link EncryptionKey}
+   */
+  public static EncryptionKey generate() {
+    byte[] key = new byte[32];
+    SECURE_RANDOM.nextBytes(key);
+    return new EncryptionKey(key);
+  }
+
+  /**
+   * Retrieves the secret key.
+   *
+   * @return the {@link SecretKey}
+   */
+  public SecretKey getSecretKey() {
+    return secretKey;
+  }
+
+  /**
+   * Retrieves a copy of the raw key.
+   *
+   * @return the raw key in an array of {@code byte}
+   */
+  public byte[] getEncoded() {
+    return secretKey.getEncoded();
+  }
+
+  /**
+   * Puts the next nonce into an array.
+   *
+   * @param target the array of {@code byte} to put the nonce into
+   * @param offset the position to put the nonce at
+   * @throws PacketEncryptorException when all nonces of the key were used
+   */
+  public void nextNonce(byte[] target, int offset) {
+    long counter = nonceCounter.getAndIncrement();
+    if (counter < 0) {
+      throw new PacketEncryptorException("All nonces of the key were used, it must be renewed");
+    }
+    target[offset] = (byte) (noncePrefix >>> 24);
+    target[offset + 1] = (byte) (noncePrefix >>> 16);
+    target[offset + 2] = (byte) (noncePrefix >>> 8);
+    target[offset + 3] = (byte) noncePrefix;
+    for (int i = 0; i < Long.BYTES; i++) {
+      target[offset + 4 + i] = (byte) (counter >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "EncryptionKey{" +
+        "algorithm=" + secretKey.getAlgorithm() +
+        ", nonceCounter=" + nonceCounter.get() +
+        '}';
+  }
+}
@@ -37,15 +37,18 @@ public final class PacketHeader {
   private final boolean encrypted;
   private final boolean zero;
   private final boolean msgpack;
+  private final boolean streamCompressed;
 
   private PacketHeader(boolean counting, boolean compressed, boolean bigSized,
-                       boolean encrypted, boolean zero, boolean msgpack) {
+                       boolean encrypted, boolean zero, boolean msgpack,
+                       boolean streamCompressed) {
     this.counting = counting;
     this.compressed = compressed;
     this.bigSized = bigSized;
     this.encrypted = encrypted;
     this.zero = zero;
     this.msgpack = msgpack;
+    this.streamCompressed = streamCompressed;
   }
 
   /**
@@ -78,7 +81,43 @@ public final class PacketHeader {
     if (!zero && !msgpack) {
       throw new IllegalArgumentException("Either zero or msgpack flag should be enabled");
     }
-    return new PacketHeader(counting, compressed, bigSized, encrypted, zero, msgpack);
+    return newInstance(counting, compressed, bigSized, encrypted, zero, msgpack, false);
+  }
+
+  /**
+   * Initialization. Only the one of zero or msgpack flag must be enabled, and a packet's data can
+   * not be compressed by both the compressor and the session's compression stream.
+   *
+   * @param counting         sets to {@code true} if the packet needs to include the total number
+   *                         of bytes for data in the header, otherwise {@code false}
+   * @param compressed       sets to {@code true} if the data is compressed, otherwise
+   *                         {@code false}
+   * @param bigSized         sets to {@code true} if the data size is considered big size,
+   *                         otherwise returns {@code false}
+   * @param encrypted        sets to {@code true} if the data is encrypted, otherwise
+   *                         {@code false}
+   * @param zero             sets to {@code true} if the data is encoded/decoded in Zero Type.
+   * @param msgpack          sets to {@code true} if the data is encoded/decoded in MsgPack Type.
+   * @param streamCompressed sets to {@code true} if the data is compressed by the session's
+   *                         compression stream, otherwise {@code false}
+   * @return a new instance of {@link PacketHeader}
+   * @since 0.6.7
+   */
+  public static PacketHeader newInstance(boolean counting, boolean compressed, boolean bigSized,
+                                         boolean encrypted, boolean zero, boolean msgpack,
+                                         boolean streamCompressed) {
+    if (zero && msgpack) {
+      throw new IllegalArgumentException("Only one of zero or msgpack flag should be enabled");
+    }
+    if (!zero && !msgpack) {
+      throw new IllegalArgumentException("Either zero or msgpack flag should be enabled");
+    }
+    if (compressed && streamCompressed) {
+      throw new IllegalArgumentException(
+          "Only one of compressed or stream compressed flag should be enabled");
+    }
+    return new PacketHeader(counting, compressed, bigSized, encrypted, zero, msgpack,
+        streamCompressed);
   }
 
   /**
@@ -141,6 +180,17 @@ public final class PacketHeader {
     return msgpack;
   }
 
+  /**
+   * Determines whether the data is compressed by the session's compression stream.
+   *
+   * @return {@code true} if the data is compressed by the session's compression stream,
+   *     otherwise returns {@code false}
+   * @since 0.6.7
+   */
+  public boolean isStreamCompressed() {
+    return streamCompressed;
+  }
+
   @Override
   public String toString() {
     return "PacketHeader{" +
@@ -150,6 +200,7 @@ public final class PacketHeader {
         ", encrypted=" + encrypted +
         ", zero=" + zero +
         ", msgpack=" + msgpack +
+        ", streamCompressed=" + streamCompressed +
         '}';
   }
 }
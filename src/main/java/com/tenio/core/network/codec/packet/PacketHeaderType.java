@@ -36,11 +36,12 @@ import java.util.Map;
 public enum PacketHeaderType {
 
   /**
-   * This slot is reserved.
+   * The data is compressed by the session's compression stream, which keeps its context from
+   * the previous packets of the same session (context takeover).
    *
    * @since 0.6.7
    */
-  RESERVED_1(1),
+  STREAM_COMPRESSION(1),
   /**
    * The packet needs data counting which show the total number of bytes for data.
    *
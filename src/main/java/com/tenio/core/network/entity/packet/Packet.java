@@ -159,6 +159,25 @@ public interface Packet {
    */
   void needsDataCounting(boolean counting);
 
+  /**
+   * Determines whether the packet data is already encoded (encrypted, compressed and prefixed by
+   * the packet header). An encoded packet's data is immutable, so it can be shared by all the
+   * recipients' packet queues without being encoded again.
+   *
+   * @return {@code true} if the packet data is encoded, otherwise returns {@code false}
+   * @since 0.6.7
+   */
+  boolean isEncoded();
+
+  /**
+   * Marks the packet data is encoded or not.
+   *
+   * @param encoded is set to {@code true} if the packet data is encoded, otherwise
+   *                {@code false}
+   * @since 0.6.7
+   */
+  void setEncoded(boolean encoded);
+
   /**
    * Retrieves a collection of sessions which play roles as recipients.
    *
@@ -182,6 +201,15 @@ public interface Packet {
    */
   long getCreatedTime();
 
+  /**
+   * Retrieves the creation time of packet in nanoseconds, it is only meaningful for measuring
+   * elapsed time on this server.
+   *
+   * @return the creation time from {@link System#nanoTime()}
+   * @since 0.6.7
+   */
+  long getCreatedNanoTime();
+
   /**
    * Retrieves the real size of packet's data in bytes.
    *
@@ -246,7 +274,9 @@ public interface Packet {
   void setMarkedAsLast(boolean markedAsLast);
 
   /**
-   * Retrieves the Packet's clone instance.
+   * Retrieves the Packet's clone instance. The clone shares the (immutable) data of the original
+   * packet and keeps its own sending state, so it can be used as a per-recipient view of the
+   * same frame.
    *
    * @return the {@link Packet}'s clone instance
    */
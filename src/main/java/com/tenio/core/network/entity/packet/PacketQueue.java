@@ -57,16 +57,27 @@ import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
 public interface PacketQueue {
 
   /**
-   * Retrieves the last-in packet in the queue.
+   * Retrieves the first-in packet in the queue.
    *
-   * @return the last-in {@link Packet} in the queue
+   * @return the first-in {@link Packet} in the queue
    */
   Packet peek();
 
   /**
-   * Retrieves the last-in packet in the queue and removes it as well.
+   * Retrieves several packets from the head of the queue without removing them. The packets are
+   * filled in the given array in their queued order.
    *
-   * @return the last-in {@link Packet} in the queue
+   * @param packets an array used to hold the retrieved {@link Packet}s, its length is the
+   *                maximum number of packets that can be retrieved
+   * @return the number of packets filled in the array
+   * @since 0.6.7
+   */
+  int peek(Packet[] packets);
+
+  /**
+   * Retrieves the first-in packet in the queue and removes it as well.
+   *
+   * @return the first-in {@link Packet} in the queue
    */
   Packet take();
 
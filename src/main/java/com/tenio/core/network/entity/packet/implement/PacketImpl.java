@@ -41,11 +41,13 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
 
   private final long id;
   private final long createdTime;
+  private final long createdNanoTime;
   private byte[] data;
   private DataType dataType;
   private ResponseGuarantee guarantee;
   private boolean encrypted;
   private boolean counting;
+  private boolean encoded;
   private TransportType transportType;
   private int originalSize;
   private Collection<Session> recipients;
@@ -53,8 +55,13 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
   private boolean last;
 
   private PacketImpl() {
+    this(TimeUtility.currentTimeMillis(), System.nanoTime());
+  }
+
+  private PacketImpl(long createdTime, long createdNanoTime) {
     id = ID_COUNTER.getAndIncrement();
-    createdTime = TimeUtility.currentTimeMillis();
+    this.createdTime = createdTime;
+    this.createdNanoTime = createdNanoTime;
     transportType = TransportType.UNKNOWN;
     guarantee = ResponseGuarantee.NORMAL;
   }
@@ -134,6 +141,16 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
     this.counting = counting;
   }
 
+  @Override
+  public boolean isEncoded() {
+    return encoded;
+  }
+
+  @Override
+  public void setEncoded(boolean encoded) {
+    this.encoded = encoded;
+  }
+
   @Override
   public Collection<Session> getRecipients() {
     return recipients;
@@ -149,6 +166,11 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
     return createdTime;
   }
 
+  @Override
+  public long getCreatedNanoTime() {
+    return createdNanoTime;
+  }
+
   @Override
   public int getOriginalSize() {
     return originalSize;
@@ -222,6 +244,7 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
         ", guarantee=" + guarantee +
         ", encrypted=" + encrypted +
         ", counting=" + counting +
+        ", encoded=" + encoded +
         ", transportType=" + transportType +
         ", originalSize=" + originalSize +
         ", recipients=" + recipients +
@@ -230,14 +253,17 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
         '}';
   }
 
+  @Override
   public Packet deepCopy() {
-    Packet packet = PacketImpl.newInstance();
+    // the copy keeps the original creation time and shares the same data
+    Packet packet = new PacketImpl(createdTime, createdNanoTime);
     packet.setDataType(dataType);
     packet.setData(data);
     packet.setFragmentBuffer(fragmentBuffer);
     packet.setGuarantee(guarantee);
     packet.needsEncrypted(encrypted);
     packet.needsDataCounting(counting);
+    packet.setEncoded(encoded);
     packet.setRecipients(recipients);
     packet.setTransportType(transportType);
     packet.setMarkedAsLast(last);
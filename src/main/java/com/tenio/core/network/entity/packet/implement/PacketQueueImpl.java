@@ -69,6 +69,20 @@ public final class PacketQueueImpl implements PacketQueue {
     return null;
   }
 
+  @Override
+  public int peek(Packet[] packets) {
+    int count = 0;
+    synchronized (queue) {
+      for (Packet packet : queue) {
+        if (count == packets.length) {
+          break;
+        }
+        packets[count++] = packet;
+      }
+    }
+    return count;
+  }
+
   @Override
   public Packet take() {
     synchronized (queue) {
@@ -0,0 +1,224 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.entity.packet.implement;
+
+import com.tenio.core.exception.PacketQueueFullException;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.packet.PacketQueue;
+import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The lock-free implementation for packet queue, backed by a bounded array ring.
+ *
+ * <p>Packets are put by several producers (the threads generating responses) and drained by the
+ * writer thread which the session belongs to. Each slot of the ring carries a sequence number, a
+ * producer claims a slot by moving the tail forward and publishes its packet by updating the
+ * slot's sequence, so neither a lock nor a node allocation is needed for each packet. Removing
+ * operations move the head forward in the same way, so the queue can still be safely cleared by
+ * the thread which closes the session.
+ *
+ * <p>The ring capacity is the power of two which is not less than the configured maximum size, so
+ * the {@link #configureMaxSize(int)} method must be called before the queue is used.
+ *
+ * @see PacketQueue
+ * @since 0.6.7
+ */
+public final class RingPacketQueueImpl implements PacketQueue {
+
+  /**
+   * A ring with only one slot can not distinguish a published slot from a free one.
+   */
+  private static final int MIN_CAPACITY = 2;
+
+  private final AtomicLong head;
+  private final AtomicLong tail;
+  private volatile AtomicReferenceArray<Packet> buffer;
+  private volatile AtomicLongArray sequences;
+  private volatile int mask;
+  private PacketQueuePolicy packetQueuePolicy;
+  private int maxSize;
+
+  private RingPacketQueueImpl() {
+    head = new AtomicLong(0L);
+    tail = new AtomicLong(0L);
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * Creates a new instance of a lock-free packet queue.
+   *
+   * @return a new instance of {@link RingPacketQueueImpl}
+   */
+  public static RingPacketQueueImpl newInstance() {
+    return new RingPacketQueueImpl();
+  }
+
+  private void allocate(int size) {
+    int capacity = size <= MIN_CAPACITY ? MIN_CAPACITY : Integer.highestOneBit(size - 1) << 1;
+    var newSequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      // a slot is free for the producer when its sequence equals the producer's position
+      newSequences.set(i, i);
+    }
+    head.set(0L);
+    tail.set(0L);
+    buffer = new AtomicReferenceArray<>(capacity);
+    mask = capacity - 1;
+    sequences = newSequences;
+  }
+
+  @Override
+  public Packet peek() {
+    while (true) {
+      long position = head.get();
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        return null;
+      }
+      var packet = buffer.get(index);
+      // the packet is only valid when it was not removed meanwhile
+      if (head.get() == position) {
+        return packet;
+      }
+    }
+  }
+
+  @Override
+  public int peek(Packet[] packets) {
+    while (true) {
+      long position = head.get();
+      int count = 0;
+      while (count < packets.length) {
+        int index = (int) ((position + count) & mask);
+        if (sequences.get(index) != position + count + 1) {
+          break;
+        }
+        packets[count++] = buffer.get(index);
+      }
+      // the packets are only valid when none of them was removed meanwhile
+      if (head.get() == position) {
+        return count;
+      }
+    }
+  }
+
+  @Override
+  public Packet take() {
+    long position = head.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          var packet = buffer.getAndSet(index, null);
+          // frees the slot for the producer of the next round
+          sequences.set(index, position + mask + 1);
+          return packet;
+        }
+      } else if (difference < 0) {
+        // empty
+        return null;
+      }
+      position = head.get();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return getSize() == 0;
+  }
+
+  @Override
+  public boolean isFull() {
+    return getSize() >= maxSize;
+  }
+
+  @Override
+  public int getSize() {
+    // the head is read first, so the result is never negative
+    long currentHead = head.get();
+    long size = tail.get() - currentHead;
+    return (int) Math.max(0L, Math.min(size, mask + 1L));
+  }
+
+  @Override
+  public void configureMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    allocate(maxSize);
+  }
+
+  @Override
+  public void configurePacketQueuePolicy(PacketQueuePolicy packetQueuePolicy) {
+    this.packetQueuePolicy = packetQueuePolicy;
+  }
+
+  @Override
+  public float getPercentageUsed() {
+    return maxSize == 0 ? 0.0f : (((float) getSize() * 100) / maxSize);
+  }
+
+  @Override
+  public void put(Packet packet) {
+    packetQueuePolicy.applyPolicy(this, packet);
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          buffer.set(index, packet);
+          // publishes the packet to the consumer
+          sequences.set(index, position + 1);
+          return;
+        }
+      } else if (difference < 0) {
+        // the policy checking and putting are not atomic, the ring could be full meanwhile
+        throw new PacketQueueFullException(getSize());
+      }
+      position = tail.get();
+    }
+  }
+
+  @Override
+  public void clear() {
+    while (take() != null) {
+      // removes all published packets
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "RingPacketQueue{" +
+        "capacity=" + (mask + 1) +
+        ", packetQueuePolicy=" + packetQueuePolicy +
+        ", maxSize=" + maxSize +
+        ", size=" + getSize() +
+        '}';
+  }
+}
@@ -132,4 +132,31 @@ public interface Request {
    * @return the creation timestamp in milliseconds ({@code long} value)
    */
   long getCreatedTimestamp();
+
+  /**
+   * Retrieves the creation time in nanoseconds, it is only meaningful for measuring elapsed
+   * time on this server.
+   *
+   * @return the creation time from {@link System#nanoTime()}
+   * @since 0.6.7
+   */
+  long getCreatedNanoTime();
+
+  /**
+   * Retrieves the time the request was put into a processing queue.
+   *
+   * @return the enqueued time from {@link System#nanoTime()}, or {@code 0} when it is not queued
+   * yet
+   * @since 0.6.7
+   */
+  long getEnqueuedNanoTime();
+
+  /**
+   * Sets the time the request is put into a processing queue.
+   *
+   * @param enqueuedNanoTime the enqueued time from {@link System#nanoTime()}
+   * @return the pointer of request
+   * @since 0.6.7
+   */
+  Request setEnqueuedNanoTime(long enqueuedNanoTime);
 }
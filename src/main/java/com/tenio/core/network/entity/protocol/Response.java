@@ -31,6 +31,7 @@ import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entity.session.Session;
 import java.util.Collection;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * The response is created when the server wants to send a message to client side.
@@ -197,11 +198,18 @@ public interface Response {
   void write();
 
   /**
-   * Writes down the content data to sessions for sending to client sides.
+   * Writes down the content data to sessions for sending to client sides after a delay. The
+   * caller is not blocked, the events of recipient players are emitted and the packets are
+   * handed over to the writers when they come due.
+   *
+   * <p>Note: Before 0.6.7, this method returned nothing and blocked the caller during the delay.
+   * It now returns a {@link ScheduledFuture}, cancelling it stops both the events and the
+   * packets.
    *
    * @param delayInMilliseconds allows delaying in the number of milliseconds
+   * @return a {@link ScheduledFuture} which can be used to cancel the writing before it comes due
    */
-  void writeInDelay(long delayInMilliseconds);
+  ScheduledFuture<?> writeInDelay(long delayInMilliseconds);
 
   /**
    * Writes down the content data to sessions for sending to client sides then disconnect them
@@ -40,6 +40,8 @@ public class DatagramRequest implements Request {
 
   private final long id;
   private final long timestamp;
+  private final long createdNanoTime;
+  private volatile long enqueuedNanoTime;
   private ServerEvent event;
   private DatagramChannel datagramChannel;
   private SocketAddress datagramRemoteAddress;
@@ -49,6 +51,7 @@ public class DatagramRequest implements Request {
   private DatagramRequest() {
     id = ID_COUNTER.getAndIncrement();
     timestamp = TimeUtility.currentTimeMillis();
+    createdNanoTime = System.nanoTime();
   }
 
   /**
@@ -114,6 +117,22 @@ public class DatagramRequest implements Request {
     return timestamp;
   }
 
+  @Override
+  public long getCreatedNanoTime() {
+    return createdNanoTime;
+  }
+
+  @Override
+  public long getEnqueuedNanoTime() {
+    return enqueuedNanoTime;
+  }
+
+  @Override
+  public Request setEnqueuedNanoTime(long enqueuedNanoTime) {
+    this.enqueuedNanoTime = enqueuedNanoTime;
+    return this;
+  }
+
   @Override
   public ServerEvent getEvent() {
     return event;
@@ -34,7 +34,7 @@ import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.server.ServerImpl;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * The implementation for response.
@@ -195,13 +195,9 @@ public final class ResponseImpl extends SystemLogger implements Response {
   }
 
   @Override
-  public void writeInDelay(long delayInMilliseconds) {
-    try {
-      TimeUnit.MILLISECONDS.sleep(delayInMilliseconds);
-      write();
-    } catch (InterruptedException exception) {
-      error(exception);
-    }
+  public ScheduledFuture<?> writeInDelay(long delayInMilliseconds) {
+    constructRecipientPlayers();
+    return ServerImpl.getInstance().writeInDelay(this, delayInMilliseconds);
   }
 
   @Override
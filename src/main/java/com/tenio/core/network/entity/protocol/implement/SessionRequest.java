@@ -40,6 +40,8 @@ public class SessionRequest implements Request {
 
   private final long id;
   private final long timestamp;
+  private final long createdNanoTime;
+  private volatile long enqueuedNanoTime;
   private ServerEvent event;
   private Session session;
   private DataCollection message;
@@ -48,6 +50,7 @@ public class SessionRequest implements Request {
   private SessionRequest() {
     id = ID_COUNTER.getAndIncrement();
     timestamp = TimeUtility.currentTimeMillis();
+    createdNanoTime = System.nanoTime();
   }
 
   /**
@@ -112,6 +115,22 @@ public class SessionRequest implements Request {
     return timestamp;
   }
 
+  @Override
+  public long getCreatedNanoTime() {
+    return createdNanoTime;
+  }
+
+  @Override
+  public long getEnqueuedNanoTime() {
+    return enqueuedNanoTime;
+  }
+
+  @Override
+  public Request setEnqueuedNanoTime(long enqueuedNanoTime) {
+    this.enqueuedNanoTime = enqueuedNanoTime;
+    return this;
+  }
+
   @Override
   public ServerEvent getEvent() {
     return event;
@@ -27,6 +27,9 @@ package com.tenio.core.network.entity.session;
 import com.tenio.core.entity.Player;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.network.codec.compression.CompressionStream;
+import com.tenio.core.network.codec.encryption.BinaryPacketSessionEncryptor;
+import com.tenio.core.network.codec.encryption.EncryptionKey;
 import com.tenio.core.network.codec.packet.PacketReadState;
 import com.tenio.core.network.codec.packet.PendingPacket;
 import com.tenio.core.network.codec.packet.ProcessedPacket;
@@ -159,6 +162,42 @@ public interface Session {
    */
   void configurePacketQueue(PacketQueue packetQueue) throws IllegalStateException;
 
+  /**
+   * Retrieves the compression stream of session which keeps the compression context between its
+   * packets (context takeover).
+   *
+   * @return an instance of {@link CompressionStream}, or {@code null} if the stateful compression
+   *     is not enabled for the session
+   * @since 0.6.7
+   */
+  CompressionStream getCompressionStream();
+
+  /**
+   * Sets a compression stream to session, it is closed when the session is closed.
+   *
+   * @param compressionStream an instance of {@link CompressionStream}
+   * @since 0.6.7
+   */
+  void configureCompressionStream(CompressionStream compressionStream);
+
+  /**
+   * Retrieves the encryption key of session which is used by a
+   * {@link BinaryPacketSessionEncryptor} for its packets.
+   *
+   * @return an instance of {@link EncryptionKey}, or {@code null} if the session has no key of
+   *     its own
+   * @since 0.6.7
+   */
+  EncryptionKey getEncryptionKey();
+
+  /**
+   * Sets an encryption key to session, the key must be agreed with the client side beforehand.
+   *
+   * @param encryptionKey an instance of {@link EncryptionKey}
+   * @since 0.6.7
+   */
+  void configureEncryptionKey(EncryptionKey encryptionKey);
+
   /**
    * Retrieves the transportation type of session.
    *
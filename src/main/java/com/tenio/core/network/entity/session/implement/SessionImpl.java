@@ -28,6 +28,8 @@ import com.tenio.common.utility.TimeUtility;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.network.codec.compression.CompressionStream;
+import com.tenio.core.network.codec.encryption.EncryptionKey;
 import com.tenio.core.network.codec.packet.PacketReadState;
 import com.tenio.core.network.codec.packet.PendingPacket;
 import com.tenio.core.network.codec.packet.ProcessedPacket;
@@ -69,6 +71,8 @@ public class SessionImpl implements Session {
   private ConnectionFilter connectionFilter;
 
   private PacketQueue packetQueue;
+  private volatile CompressionStream compressionStream;
+  private volatile EncryptionKey encryptionKey;
   private ProcessedPacket processedPacket;
   private volatile PendingPacket pendingPacket;
   private volatile PacketReadState packetReadState;
@@ -169,6 +173,26 @@ public class SessionImpl implements Session {
     this.packetQueue = packetQueue;
   }
 
+  @Override
+  public CompressionStream getCompressionStream() {
+    return compressionStream;
+  }
+
+  @Override
+  public void configureCompressionStream(CompressionStream compressionStream) {
+    this.compressionStream = compressionStream;
+  }
+
+  @Override
+  public EncryptionKey getEncryptionKey() {
+    return encryptionKey;
+  }
+
+  @Override
+  public void configureEncryptionKey(EncryptionKey encryptionKey) {
+    this.encryptionKey = encryptionKey;
+  }
+
   @Override
   public TransportType getTransportType() {
     return transportType;
@@ -460,6 +484,10 @@ public class SessionImpl implements Session {
       packetQueue.clear();
     }
 
+    if (compressionStream != null) {
+      compressionStream.close();
+    }
+
     switch (transportType) {
       case TCP:
         SocketUtility.closeSocket(socketChannel, socketSelectionKey);
@@ -29,6 +29,7 @@ import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.Manager;
+import com.tenio.core.network.codec.compression.CompressionStream;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.entity.packet.policy.DefaultPacketQueuePolicy;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
@@ -54,7 +55,9 @@ public interface SessionManager extends Manager {
   int DEFAULT_MAX_PACKET_QUEUE_SIZE = 100;
 
   /**
-   * Ensures the calculation on the session list is thread-safe.
+   * Ensures the calculation on the session list is thread-safe. The iterator is weakly
+   * consistent, it reflects the sessions at some point at or since its creation and never throws
+   * {@link java.util.ConcurrentModificationException}.
    *
    * @param onComputed a {@link Consumer} to handle the logic
    * @since 0.6.6
@@ -176,6 +179,16 @@ public interface SessionManager extends Manager {
    */
   void configurePacketQueueSize(int queueSize);
 
+  /**
+   * Determines whether every new TCP or WebSocket session gets its own compression stream, which
+   * keeps the compression context between the session's packets (context takeover).
+   *
+   * @param enabled sets to {@code true} to enable the stateful compression
+   * @see CompressionStream
+   * @since 0.6.7
+   */
+  void configureCompressionContextTakeover(boolean enabled);
+
   /**
    * Removes a session from its manager, this method should not be invoked directly. Calls
    * instead the method {@link Session#close(ConnectionDisconnectMode, PlayerDisconnectMode)}
@@ -186,14 +199,26 @@ public interface SessionManager extends Manager {
   void removeSession(Session session);
 
   /**
-   * Retrieves a fresh copy of current sessions' list.
+   * Retrieves a read-only snapshot of current sessions' list. The same snapshot is shared between
+   * callers until the sessions change.
    *
-   * @return a fresh copy of list of sessions
+   * @return a read-only snapshot of list of sessions
    * @see List
    * @since 0.5.0
    */
   List<Session> getReadonlySessionsList();
 
+  /**
+   * Visits the sessions which became orphan. Every session's orphan deadline is kept in a timing
+   * wheel when it is created, and a session is only evaluated once its deadline elapses, so
+   * sessions which have been associated to players are never touched by this check.
+   *
+   * @param onOrphan a {@link Consumer} to handle each orphan session
+   * @see Session#isOrphan()
+   * @since 0.6.7
+   */
+  void computeOrphanSessions(Consumer<Session> onOrphan);
+
   /**
    * Retrieves the current number of sessions in the management list.
    *
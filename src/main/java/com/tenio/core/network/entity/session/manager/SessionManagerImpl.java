@@ -24,60 +24,65 @@ THE SOFTWARE.
 
 package com.tenio.core.network.entity.session.manager;
 
+import com.tenio.common.utility.TimeUtility;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.manager.ConcurrentIndexManager;
+import com.tenio.core.network.codec.compression.CompressionStream;
 import com.tenio.core.network.entity.packet.PacketQueue;
-import com.tenio.core.network.entity.packet.implement.PacketQueueImpl;
+import com.tenio.core.network.entity.packet.implement.RingPacketQueueImpl;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.implement.SessionImpl;
 import com.tenio.core.network.security.filter.ConnectionFilter;
+import com.tenio.core.scheduler.timer.HashedTimingWheel;
 import io.netty.channel.Channel;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import javax.annotation.concurrent.GuardedBy;
 import kcp.Ukcp;
 
 /**
  * The implementation for session manager.
  *
+ * <p>Sessions are indexed in concurrent maps, so neither creating, removing nor looking up a
+ * session needs a global lock. The read-only sessions list is not rebuilt on every change, it is
+ * materialized lazily at the first reading after a change, and then shared until the next one.
+ *
+ * <p>Orphan deadlines are kept in a {@link HashedTimingWheel}. A session's deadline is fixed at
+ * its creation, and a removed session is simply dropped when its deadline elapses, so neither
+ * creating nor removing a session takes more than an O(1) step for it.
+ *
  * @see SessionManager
  */
 public final class SessionManagerImpl extends AbstractManager implements SessionManager {
 
-  @GuardedBy("this")
-  private final Map<Long, Session> sessionByIds;
-  @GuardedBy("this")
+  private final ConcurrentIndexManager<Long, Session> sessionByIds;
   private final Map<SocketChannel, Session> sessionBySockets;
-  @GuardedBy("this")
   private final Map<Channel, Session> sessionByWebSockets;
-  @GuardedBy("this")
   private final Map<Integer, Session> sessionByDatagrams;
-  @GuardedBy("this")
   private final Map<Integer, Session> sessionByKcps;
-  private volatile List<Session> readonlySessionsList;
-  private volatile int sessionCount;
+  private final HashedTimingWheel<Session> orphanDeadlines;
   private PacketQueuePolicy packetQueuePolicy;
   private ConnectionFilter connectionFilter;
   private int packetQueueSize;
   private int maxIdleTimeInSeconds;
+  private boolean compressionContextTakeover;
 
   private SessionManagerImpl(EventManager eventManager) {
     super(eventManager);
-    sessionByIds = new HashMap<>();
-    sessionBySockets = new HashMap<>();
-    sessionByWebSockets = new HashMap<>();
-    sessionByDatagrams = new HashMap<>();
-    sessionByKcps = new HashMap<>();
-    readonlySessionsList = new ArrayList<>();
+    sessionByIds = new ConcurrentIndexManager<>();
+    sessionBySockets = new ConcurrentHashMap<>();
+    sessionByWebSockets = new ConcurrentHashMap<>();
+    sessionByDatagrams = new ConcurrentHashMap<>();
+    sessionByKcps = new ConcurrentHashMap<>();
+    orphanDeadlines = HashedTimingWheel.newInstance(TimeUtility.currentTimeMillis());
     packetQueueSize = DEFAULT_MAX_PACKET_QUEUE_SIZE;
   }
 
@@ -93,9 +98,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
   @Override
   public void computeSessions(Consumer<Iterator<Session>> onComputed) {
-    synchronized (this) {
-      onComputed.accept(sessionByIds.values().iterator());
-    }
+    onComputed.accept(sessionByIds.iterator());
   }
 
   @Override
@@ -103,13 +106,8 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     Session session = SessionImpl.newInstance();
     session.configureSocketChannel(socketChannel, selectionKey);
     configureSession(session);
-    synchronized (this) {
-      sessionByIds.put(session.getId(), session);
-      sessionBySockets.put(session.fetchSocketChannel(), session);
-      readonlySessionsList = sessionByIds.values().stream().toList();
-      sessionCount = readonlySessionsList.size();
-      session.activate();
-    }
+    sessionBySockets.put(session.fetchSocketChannel(), session);
+    addSession(session);
     return session;
   }
 
@@ -121,9 +119,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
   @Override
   public Session getSessionBySocket(SocketChannel socketChannel) {
-    synchronized (sessionBySockets) {
-      return sessionBySockets.get(socketChannel);
-    }
+    return socketChannel == null ? null : sessionBySockets.get(socketChannel);
   }
 
   @Override
@@ -133,17 +129,13 @@ public final class SessionManagerImpl extends AbstractManager implements Session
       throw new IllegalArgumentException(
           String.format("Unable to add kcp channel for the non-TCP session: %s", session));
     }
-    synchronized (sessionByDatagrams) {
-      session.configureDatagramChannel(datagramChannel, udpConvey);
-      sessionByDatagrams.put(udpConvey, session);
-    }
+    session.configureDatagramChannel(datagramChannel, udpConvey);
+    sessionByDatagrams.put(udpConvey, session);
   }
 
   @Override
   public Session getSessionByDatagram(int udpConvey) {
-    synchronized (sessionByDatagrams) {
-      return sessionByDatagrams.get(udpConvey);
-    }
+    return sessionByDatagrams.get(udpConvey);
   }
 
   @Override
@@ -152,17 +144,13 @@ public final class SessionManagerImpl extends AbstractManager implements Session
       throw new IllegalArgumentException(
           String.format("Unable to add datagram channel for the non-TCP session: %s", session));
     }
-    synchronized (sessionByKcps) {
-      session.setKcpChannel(kcpChannel);
-      sessionByKcps.put(kcpChannel.getConv(), session);
-    }
+    session.setKcpChannel(kcpChannel);
+    sessionByKcps.put(kcpChannel.getConv(), session);
   }
 
   @Override
   public Session getSessionByKcp(Ukcp kcpChannel) {
-    synchronized (sessionByKcps) {
-      return sessionByKcps.get(kcpChannel.getConv());
-    }
+    return sessionByKcps.get(kcpChannel.getConv());
   }
 
   @Override
@@ -175,13 +163,8 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     Session session = SessionImpl.newInstance();
     session.configureWebSocketChannel(webSocketChannel);
     configureSession(session);
-    synchronized (this) {
-      sessionByIds.put(session.getId(), session);
-      sessionByWebSockets.put(webSocketChannel, session);
-      readonlySessionsList = sessionByIds.values().stream().toList();
-      sessionCount = readonlySessionsList.size();
-      session.activate();
-    }
+    sessionByWebSockets.put(webSocketChannel, session);
+    addSession(session);
     return session;
   }
 
@@ -193,9 +176,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
   @Override
   public Session getSessionByWebSocket(Channel webSocketChannel) {
-    synchronized (sessionByWebSockets) {
-      return sessionByWebSockets.get(webSocketChannel);
-    }
+    return webSocketChannel == null ? null : sessionByWebSockets.get(webSocketChannel);
   }
 
   @Override
@@ -208,39 +189,67 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     packetQueueSize = queueSize;
   }
 
+  @Override
+  public void configureCompressionContextTakeover(boolean enabled) {
+    compressionContextTakeover = enabled;
+  }
+
   @Override
   public void removeSession(Session session) {
-    synchronized (this) {
-      switch (session.getTransportType()) {
-        case TCP -> {
-          if (session.containsUdp()) {
-            sessionByDatagrams.remove(session.getUdpConveyId());
-            session.configureDatagramChannel(null, Session.EMPTY_DATAGRAM_CONVEY_ID);
-          }
-          if (session.containsKcp()) {
-            sessionByKcps.remove(session.getKcpChannel().getConv());
-            session.setKcpChannel(null);
-          }
-          sessionBySockets.remove(session.fetchSocketChannel());
+    switch (session.getTransportType()) {
+      case TCP -> {
+        if (session.containsUdp()) {
+          sessionByDatagrams.remove(session.getUdpConveyId(), session);
+          session.configureDatagramChannel(null, Session.EMPTY_DATAGRAM_CONVEY_ID);
         }
-        case WEB_SOCKET -> sessionByWebSockets.remove(session.fetchWebSocketChannel());
-        default -> {
+        if (session.containsKcp()) {
+          sessionByKcps.remove(session.getKcpChannel().getConv(), session);
+          session.setKcpChannel(null);
         }
+        if (session.fetchSocketChannel() != null) {
+          sessionBySockets.remove(session.fetchSocketChannel(), session);
+        }
+      }
+      case WEB_SOCKET -> {
+        if (session.fetchWebSocketChannel() != null) {
+          sessionByWebSockets.remove(session.fetchWebSocketChannel(), session);
+        }
+      }
+      default -> {
       }
-      sessionByIds.remove(session.getId());
-      readonlySessionsList = sessionByIds.values().stream().toList();
-      sessionCount = readonlySessionsList.size();
     }
+    sessionByIds.remove(session.getId(), session);
   }
 
   @Override
   public List<Session> getReadonlySessionsList() {
-    return readonlySessionsList;
+    return sessionByIds.getReadonlySnapshot();
+  }
+
+  @Override
+  public void computeOrphanSessions(Consumer<Session> onOrphan) {
+    long currentTime = TimeUtility.currentTimeMillis();
+    orphanDeadlines.advance(currentTime, timeout -> {
+      Session session = timeout.getTarget();
+      // removed, closed or associated sessions are dropped from the wheel
+      if (sessionByIds.get(session.getId()) != session || !session.isActivated() ||
+          session.isAssociatedToPlayer(Session.AssociatedState.DONE)) {
+        orphanDeadlines.cancel(timeout);
+        return;
+      }
+      if (session.isOrphan()) {
+        // re-armed before handling, so the session is checked again in case it is not closed
+        orphanDeadlines.reschedule(timeout, currentTime);
+        onOrphan.accept(session);
+      } else {
+        orphanDeadlines.reschedule(timeout, getOrphanDeadline(session));
+      }
+    });
   }
 
   @Override
   public int getSessionCount() {
-    return sessionCount;
+    return sessionByIds.size();
   }
 
   @Override
@@ -253,8 +262,18 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     eventManager.emit(event, params);
   }
 
+  private void addSession(Session session) {
+    sessionByIds.put(session.getId(), session);
+    session.activate();
+    orphanDeadlines.schedule(session, getOrphanDeadline(session));
+  }
+
+  private long getOrphanDeadline(Session session) {
+    return session.getCreatedTime() + Session.ORPHAN_ALLOWANCE_TIME_IN_MILLISECONDS;
+  }
+
   private PacketQueue configureNewPacketQueue() {
-    PacketQueue packetQueue = PacketQueueImpl.newInstance();
+    PacketQueue packetQueue = RingPacketQueueImpl.newInstance();
     packetQueue.configureMaxSize(packetQueueSize);
     packetQueue.configurePacketQueuePolicy(packetQueuePolicy);
     return packetQueue;
@@ -265,5 +284,8 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     session.configurePacketQueue(configureNewPacketQueue());
     session.configureConnectionFilter(connectionFilter);
     session.configureMaxIdleTimeInSeconds(maxIdleTimeInSeconds);
+    if (compressionContextTakeover) {
+      session.configureCompressionStream(CompressionStream.newInstance());
+    }
   }
 }
@@ -27,6 +27,7 @@ package com.tenio.core.network.kcp;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.exception.ServiceRuntimeException;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
@@ -34,6 +35,7 @@ import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.configuration.KcpConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.kcp.handler.KcpHandler;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
@@ -162,35 +164,85 @@ public class KcpChannelImpl extends AbstractManager implements KcpChannel {
 
   @Override
   public void write(Packet packet) {
+    // a packet which was not encoded yet is encoded for each recipient, so the sessions' own
+    // encryption keys can be used
+    if (!packet.isEncoded()) {
+      writeForEachSession(packet);
+      return;
+    }
+
+    // the same encoded frame is sent to all recipients, it is wrapped once and released after
+    // being written to all of them
+    ByteBuf frame = Unpooled.wrappedBuffer(packet.getData());
+    try {
+      var iterator = packet.getRecipients().iterator();
+      while (iterator.hasNext()) {
+        var session = iterator.next();
+        if (packet.isMarkedAsLast()) {
+          closeSession(session);
+          return;
+        }
+        if (session.isActivated()) {
+          session.getKcpChannel().write(frame.duplicate());
+          updateWrittenStatistic(session, packet);
+        } else {
+          if (isDebugEnabled()) {
+            debug("WRITE KCP CHANNEL", "Session is inactivated: ", session.toString());
+          }
+        }
+      }
+    } finally {
+      frame.release();
+    }
+  }
+
+  private void writeForEachSession(Packet packet) {
     var iterator = packet.getRecipients().iterator();
     while (iterator.hasNext()) {
       var session = iterator.next();
       if (packet.isMarkedAsLast()) {
-        try {
-          if (session.isActivated()) {
-            session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
-                PlayerDisconnectMode.CLIENT_REQUEST);
-          }
-        } catch (IOException exception) {
-          if (isErrorEnabled()) {
-            error(exception, session.toString());
-          }
-        }
+        closeSession(session);
         return;
       }
-      if (session.isActivated()) {
-        packet = binaryPacketEncoder.encode(packet);
-        ByteBuf byteBuf = Unpooled.wrappedBuffer(packet.getData());
-        session.getKcpChannel().write(byteBuf);
-        byteBuf.release();
-        session.addWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenPackets(1);
-      } else {
+      if (!session.isActivated()) {
         if (isDebugEnabled()) {
           debug("WRITE KCP CHANNEL", "Session is inactivated: ", session.toString());
         }
+        continue;
+      }
+      Packet sessionPacket;
+      try {
+        sessionPacket = binaryPacketEncoder.encode(packet.deepCopy(), session);
+      } catch (PacketEncryptorException exception) {
+        // the packet is dropped rather than sent in plain
+        if (isErrorEnabled()) {
+          error(exception, "Error occurred in encoding on session: ", session.toString());
+        }
+        networkWriterStatistic.updateWrittenDroppedPacketsByEncoding(1);
+        continue;
+      }
+      session.getKcpChannel().write(Unpooled.wrappedBuffer(sessionPacket.getData()));
+      updateWrittenStatistic(session, sessionPacket);
+    }
+  }
+
+  private void closeSession(Session session) {
+    try {
+      if (session.isActivated()) {
+        session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
+            PlayerDisconnectMode.CLIENT_REQUEST);
+      }
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, session.toString());
       }
     }
   }
+
+  private void updateWrittenStatistic(Session session, Packet packet) {
+    session.addWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenPackets(1);
+    networkWriterStatistic.updateWriteLatency(System.nanoTime() - packet.getCreatedNanoTime());
+  }
 }
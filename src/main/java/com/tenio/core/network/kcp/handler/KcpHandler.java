@@ -81,9 +81,9 @@ public class KcpHandler implements KcpListener {
   public void handleReceive(ByteBuf byteBuf, Ukcp ukcp) {
     var binaries = new byte[byteBuf.readableBytes()];
     byteBuf.getBytes(byteBuf.readerIndex(), binaries);
-    var dataCollection = binaryPacketDecoder.decode(binaries);
-
     Session session = sessionManager.getSessionByKcp(ukcp);
+    var dataCollection = binaryPacketDecoder.decode(session, binaries);
+
     if (session == null) {
       processDatagramChannelReadMessageForTheFirstTime(ukcp, dataCollection);
     } else {
@@ -27,10 +27,13 @@ package com.tenio.core.network.netty;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.exception.ServiceRuntimeException;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.netty.websocket.NettyWsInitializer;
 import com.tenio.core.network.security.filter.ConnectionFilter;
@@ -40,6 +43,7 @@ import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -317,34 +321,114 @@ public final class NettyWebSocketImpl extends AbstractManager
 
   @Override
   public void write(Packet packet) {
+    // a packet which was not encoded yet is encoded for each recipient, so the sessions' own
+    // compression streams and encryption keys can be used
+    if (!packet.isEncoded()) {
+      writeForEachSession(packet);
+      return;
+    }
+
+    // the same encoded frame is sent to all recipients, it is wrapped once and every recipient
+    // receives a retained duplicate of it, which is released by Netty after being written
+    packet = binaryPacketEncoder.encode(packet);
+    ByteBuf frame = Unpooled.wrappedBuffer(packet.getData());
+    try {
+      var iterator = packet.getRecipients().iterator();
+      while (iterator.hasNext()) {
+        var session = iterator.next();
+        if (packet.isMarkedAsLast()) {
+          closeSession(session);
+          return;
+        }
+        if (session.isActivated()) {
+          session.fetchWebSocketChannel()
+              .writeAndFlush(new BinaryWebSocketFrame(frame.retainedDuplicate()));
+          updateWrittenStatistic(session, packet);
+        } else {
+          if (isDebugEnabled()) {
+            debug("WRITE WEBSOCKET CHANNEL", "Session is inactivated: ", session.toString());
+          }
+        }
+      }
+    } finally {
+      frame.release();
+    }
+  }
+
+  private void writeForEachSession(Packet packet) {
     var iterator = packet.getRecipients().iterator();
     while (iterator.hasNext()) {
       var session = iterator.next();
       if (packet.isMarkedAsLast()) {
-        try {
-          if (session.isActivated()) {
-            session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
-                PlayerDisconnectMode.CLIENT_REQUEST);
-          }
-        } catch (IOException exception) {
-          if (isErrorEnabled()) {
-            error(exception, session.toString());
-          }
-        }
+        closeSession(session);
         return;
       }
-      if (session.isActivated()) {
-        packet = binaryPacketEncoder.encode(packet);
-        session.fetchWebSocketChannel()
-            .writeAndFlush(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(packet.getData())));
-        session.addWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenPackets(1);
-      } else {
+      if (!session.isActivated()) {
         if (isDebugEnabled()) {
           debug("WRITE WEBSOCKET CHANNEL", "Session is inactivated: ", session.toString());
         }
+        continue;
+      }
+      Packet sessionPacket;
+      var compressionStream = session.getCompressionStream();
+      try {
+        if (compressionStream != null) {
+          // the stream's context is carried over, so the packets of a session must be written
+          // in the same order they are compressed
+          synchronized (compressionStream) {
+            sessionPacket = binaryPacketEncoder.encode(packet.deepCopy(), session);
+            session.fetchWebSocketChannel().writeAndFlush(
+                new BinaryWebSocketFrame(Unpooled.wrappedBuffer(sessionPacket.getData())));
+          }
+        } else {
+          sessionPacket = binaryPacketEncoder.encode(packet.deepCopy(), session);
+          session.fetchWebSocketChannel().writeAndFlush(
+              new BinaryWebSocketFrame(Unpooled.wrappedBuffer(sessionPacket.getData())));
+        }
+      } catch (PacketCompressorException | PacketEncryptorException exception) {
+        dropOnEncodingFailure(session, exception);
+        continue;
       }
+      updateWrittenStatistic(session, sessionPacket);
     }
   }
+
+  private void closeSession(Session session) {
+    try {
+      if (session.isActivated()) {
+        session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
+            PlayerDisconnectMode.CLIENT_REQUEST);
+      }
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, session.toString());
+      }
+    }
+  }
+
+  private void dropOnEncodingFailure(Session session, RuntimeException exception) {
+    if (isErrorEnabled()) {
+      error(exception, "Error occurred in encoding on session: ", session.toString());
+    }
+    // the session's compression stream or encryption can not be trusted anymore, so the session
+    // is closed
+    networkWriterStatistic.updateWrittenDroppedPacketsByEncoding(1);
+    try {
+      if (session.isActivated()) {
+        session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+            PlayerDisconnectMode.CONNECTION_LOST);
+      }
+    } catch (IOException ioException) {
+      if (isErrorEnabled()) {
+        error(ioException, session.toString());
+      }
+    }
+  }
+
+  private void updateWrittenStatistic(Session session, Packet packet) {
+    session.addWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenPackets(1);
+    networkWriterStatistic.updateWriteLatency(System.nanoTime() - packet.getCreatedNanoTime());
+  }
 }
@@ -151,7 +151,7 @@ public final class NettyWsHandler extends ChannelInboundHandlerAdapter {
       networkReaderStatistic.updateReadBytes(binaries.length);
       networkReaderStatistic.updateReadPackets(1);
 
-      var dataCollection = binaryPacketDecoder.decode(binaries);
+      var dataCollection = binaryPacketDecoder.decode(session, binaries);
 
       if (session.isAssociatedToPlayer(Session.AssociatedState.NONE)) {
         eventManager.emit(ServerEvent.SESSION_REQUEST_CONNECTION, session, dataCollection);
@@ -0,0 +1,178 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.statistic;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A fixed-size, log-linear histogram of latencies in nanoseconds.
+ *
+ * <p>Every power of two is split into 8 linear sub-buckets, so a recorded value is reported with
+ * a relative error of at most 12.5% while the whole {@code long} range fits into a few hundred
+ * counters. Recording is a single atomic increment without any allocation. Each thread updates
+ * its own stripe of counters, which keeps concurrent recorders off each other's cache lines;
+ * the stripes are only summed up when a snapshot is taken.
+ *
+ * <p>Histograms are mergeable: the counters of one histogram can be added into another one, for
+ * example, to combine the histograms of several stages or servers.
+ *
+ * @see LatencySnapshot
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+  private static final int MAX_STRIPES = 16;
+
+  private final AtomicLongArray counts;
+  private final AtomicLong max;
+  private final int stripeMask;
+
+  private LatencyHistogram(int stripes) {
+    counts = new AtomicLongArray(stripes * NUMBER_OF_BUCKETS);
+    max = new AtomicLong();
+    stripeMask = stripes - 1;
+  }
+
+  /**
+   * Initialization.
+   *
+   * @return a new instance of {@link LatencyHistogram}
+   */
+  public static LatencyHistogram newInstance() {
+    var processors = Runtime.getRuntime().availableProcessors();
+    var stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1)) << 1);
+    return new LatencyHistogram(stripes);
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanoseconds the latency in nanoseconds, negative values are recorded as {@code 0}
+   */
+  public void record(long nanoseconds) {
+    var value = Math.max(nanoseconds, 0L);
+    var stripe = (int) Thread.currentThread().getId() & stripeMask;
+    counts.incrementAndGet(stripe * NUMBER_OF_BUCKETS + indexOf(value));
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /**
+   * Adds all recorded latencies of another histogram into this one. The other histogram is not
+   * changed.
+   *
+   * @param other the other {@link LatencyHistogram}
+   */
+  public void merge(LatencyHistogram other) {
+    var otherCounts = other.collect(false);
+    for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+      if (otherCounts[i] != 0L) {
+        counts.addAndGet(i, otherCounts[i]);
+      }
+    }
+    max.accumulateAndGet(other.max.get(), Math::max);
+  }
+
+  /**
+   * Takes a snapshot of all latencies recorded so far.
+   *
+   * @return a new {@link LatencySnapshot}
+   */
+  public LatencySnapshot getSnapshot() {
+    return toSnapshot(collect(false), max.get());
+  }
+
+  /**
+   * Takes a snapshot of all latencies recorded so far and starts over, so that the next snapshot
+   * only covers the latencies recorded after this call.
+   *
+   * @return a new {@link LatencySnapshot}
+   */
+  public LatencySnapshot getSnapshotAndReset() {
+    var currentMax = max.getAndSet(0L);
+    return toSnapshot(collect(true), currentMax);
+  }
+
+  private long[] collect(boolean reset) {
+    var merged = new long[NUMBER_OF_BUCKETS];
+    for (int i = 0; i < counts.length(); i++) {
+      merged[i % NUMBER_OF_BUCKETS] += reset ? counts.getAndSet(i, 0L) : counts.get(i);
+    }
+    return merged;
+  }
+
+  private static LatencySnapshot toSnapshot(long[] buckets, long max) {
+    long count = 0L;
+    for (var bucket : buckets) {
+      count += bucket;
+    }
+    if (count == 0L) {
+      return new LatencySnapshot(0L, 0L, 0L, 0L, 0L);
+    }
+    return new LatencySnapshot(count, valueAt(buckets, count, 0.5, max),
+        valueAt(buckets, count, 0.99, max), valueAt(buckets, count, 0.999, max), max);
+  }
+
+  private static long valueAt(long[] buckets, long count, double quantile, long max) {
+    var rank = Math.max(1L, (long) Math.ceil(count * quantile));
+    long seen = 0L;
+    for (int i = 0; i < buckets.length; i++) {
+      seen += buckets[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max);
+      }
+    }
+    return max;
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    var exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    var subBucket = index % SUB_BUCKETS;
+    var shift = exponent - SUB_BUCKET_BITS;
+    var upperBound = ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1L;
+    // the last sub-bucket of the highest exponent reaches Long.MAX_VALUE
+    return upperBound < 0L ? Long.MAX_VALUE : upperBound;
+  }
+}
@@ -31,23 +31,35 @@ package com.tenio.core.network.statistic;
  *
  * <p>Key features:
  * <ul>
- *   <li>Thread-safe counters</li>
+ *   <li>Thread-safe counters, contention-free under concurrent updates</li>
  *   <li>Bytes read tracking</li>
  *   <li>Packet count monitoring</li>
  *   <li>Dropped packet statistics</li>
+ *   <li>Rates over the last 1, 10 and 60 seconds</li>
+ *   <li>Latency histograms of the request pipeline</li>
  *   <li>Singleton instance management</li>
  * </ul>
  *
  * @see NetworkWriterStatistic
+ * @see RateCounter
  * @since 0.3.0
  */
 public final class NetworkReaderStatistic {
 
-  private volatile long readBytes;
-  private volatile long readPackets;
-  private volatile long readDroppedPackets;
+  private final RateCounter readBytes;
+  private final RateCounter readPackets;
+  private final RateCounter readDroppedPackets;
+  private final LatencyHistogram readToEnqueueLatency;
+  private final LatencyHistogram enqueueToProcessLatency;
+  private final LatencyHistogram handlerExecutionLatency;
 
   private NetworkReaderStatistic() {
+    readBytes = RateCounter.newInstance();
+    readPackets = RateCounter.newInstance();
+    readDroppedPackets = RateCounter.newInstance();
+    readToEnqueueLatency = LatencyHistogram.newInstance();
+    enqueueToProcessLatency = LatencyHistogram.newInstance();
+    handlerExecutionLatency = LatencyHistogram.newInstance();
   }
 
   /**
@@ -65,7 +77,7 @@ public final class NetworkReaderStatistic {
    * @param numberBytes the additional bytes received from client sides ({@code long} value)
    */
   public void updateReadBytes(long numberBytes) {
-    readBytes += numberBytes;
+    readBytes.add(numberBytes);
   }
 
   /**
@@ -75,7 +87,7 @@ public final class NetworkReaderStatistic {
    *                      value)
    */
   public void updateReadPackets(long numberPackets) {
-    readPackets += numberPackets;
+    readPackets.add(numberPackets);
   }
 
   /**
@@ -85,7 +97,7 @@ public final class NetworkReaderStatistic {
    *                      ({@code long} value)
    */
   public void updateReadDroppedPackets(long numberPackets) {
-    readDroppedPackets += numberPackets;
+    readDroppedPackets.add(numberPackets);
   }
 
   /**
@@ -94,7 +106,7 @@ public final class NetworkReaderStatistic {
    * @return the current number of received bytes data ({@code long} value)
    */
   public long getReadBytes() {
-    return readBytes;
+    return readBytes.getTotal();
   }
 
   /**
@@ -103,7 +115,7 @@ public final class NetworkReaderStatistic {
    * @return the current number of received packets ({@code long} value)
    */
   public long getReadPackets() {
-    return readPackets;
+    return readPackets.getTotal();
   }
 
   /**
@@ -112,15 +124,107 @@ public final class NetworkReaderStatistic {
    * @return the current number of dropped packets ({@code long} value)
    */
   public long getReadDroppedPackets() {
-    return readDroppedPackets;
+    return readDroppedPackets.getTotal();
+  }
+
+  /**
+   * Retrieves the total and the rates of received bytes data from clients side.
+   *
+   * @return a {@link RateSnapshot} of received bytes data
+   * @since 0.6.7
+   */
+  public RateSnapshot getReadBytesRate() {
+    return readBytes.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of received packets from clients side.
+   *
+   * @return a {@link RateSnapshot} of received packets
+   * @since 0.6.7
+   */
+  public RateSnapshot getReadPacketsRate() {
+    return readPackets.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of dropped packets which are refused to handle.
+   *
+   * @return a {@link RateSnapshot} of dropped packets
+   * @since 0.6.7
+   */
+  public RateSnapshot getReadDroppedPacketsRate() {
+    return readDroppedPackets.getSnapshot();
+  }
+
+  /**
+   * Records the time a request takes from being created for an incoming message until it is put
+   * into the processing queue.
+   *
+   * @param nanoseconds the latency in nanoseconds
+   * @since 0.6.7
+   */
+  public void updateReadToEnqueueLatency(long nanoseconds) {
+    readToEnqueueLatency.record(nanoseconds);
+  }
+
+  /**
+   * Records the time a request waits in the processing queue.
+   *
+   * @param nanoseconds the latency in nanoseconds
+   * @since 0.6.7
+   */
+  public void updateEnqueueToProcessLatency(long nanoseconds) {
+    enqueueToProcessLatency.record(nanoseconds);
+  }
+
+  /**
+   * Records the time a request handler takes.
+   *
+   * @param nanoseconds the latency in nanoseconds
+   * @since 0.6.7
+   */
+  public void updateHandlerExecutionLatency(long nanoseconds) {
+    handlerExecutionLatency.record(nanoseconds);
+  }
+
+  /**
+   * Retrieves the histogram of latencies from creating a request until putting it into the
+   * processing queue.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getReadToEnqueueLatency() {
+    return readToEnqueueLatency;
+  }
+
+  /**
+   * Retrieves the histogram of latencies requests wait in the processing queue.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getEnqueueToProcessLatency() {
+    return enqueueToProcessLatency;
+  }
+
+  /**
+   * Retrieves the histogram of request handlers' execution latencies.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getHandlerExecutionLatency() {
+    return handlerExecutionLatency;
   }
 
   @Override
   public String toString() {
     return "NetworkReaderStatistic{" +
-        "readBytes=" + readBytes +
-        ", readPackets=" + readPackets +
-        ", readDroppedPackets=" + readDroppedPackets +
+        "readBytes=" + readBytes.getTotal() +
+        ", readPackets=" + readPackets.getTotal() +
+        ", readDroppedPackets=" + readDroppedPackets.getTotal() +
         '}';
   }
 }
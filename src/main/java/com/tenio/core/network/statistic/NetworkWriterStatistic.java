@@ -30,30 +30,52 @@ import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
 /**
  * Tracks and manages network writing statistics for the server.
  * This class provides thread-safe counters for monitoring bytes written,
- * packets sent, and dropped packets due to policy violations or queue overflow.
+ * packets sent, and dropped packets due to policy violations, queue overflow or encoding failures.
  *
  * <p>Key features:
  * <ul>
- *   <li>Thread-safe counters</li>
+ *   <li>Thread-safe counters, contention-free under concurrent updates</li>
  *   <li>Bytes written tracking</li>
  *   <li>Packet count monitoring</li>
- *   <li>Dropped packet statistics (policy and queue overflow)</li>
+ *   <li>Dropped packet statistics (policy, queue overflow and encoding failure)</li>
+ *   <li>Rates over the last 1, 10 and 60 seconds</li>
+ *   <li>Latency histogram of queued responses</li>
+ *   <li>Compression decisions, saved bytes and compression time</li>
  *   <li>Singleton instance management</li>
  * </ul>
  *
  * @see NetworkReaderStatistic
  * @see PacketQueue
  * @see PacketQueuePolicy
+ * @see RateCounter
  * @since 0.3.0
  */
 public final class NetworkWriterStatistic {
 
-  private volatile long writtenBytes;
-  private volatile long writtenPackets;
-  private volatile long writtenDroppedPacketsByPolicy;
-  private volatile long writtenDroppedPacketsByFull;
+  private final RateCounter writtenBytes;
+  private final RateCounter writtenPackets;
+  private final RateCounter writtenDroppedPacketsByPolicy;
+  private final RateCounter writtenDroppedPacketsByFull;
+  private final RateCounter writtenDroppedPacketsByEncoding;
+  private final LatencyHistogram writeLatency;
+  private final LatencyHistogram writerHandoffLatency;
+  private final RateCounter compressedPackets;
+  private final RateCounter compressionSkippedPackets;
+  private final RateCounter compressionSavedBytes;
+  private final LatencyHistogram compressionLatency;
 
   private NetworkWriterStatistic() {
+    writtenBytes = RateCounter.newInstance();
+    writtenPackets = RateCounter.newInstance();
+    writtenDroppedPacketsByPolicy = RateCounter.newInstance();
+    writtenDroppedPacketsByFull = RateCounter.newInstance();
+    writtenDroppedPacketsByEncoding = RateCounter.newInstance();
+    writeLatency = LatencyHistogram.newInstance();
+    writerHandoffLatency = LatencyHistogram.newInstance();
+    compressedPackets = RateCounter.newInstance();
+    compressionSkippedPackets = RateCounter.newInstance();
+    compressionSavedBytes = RateCounter.newInstance();
+    compressionLatency = LatencyHistogram.newInstance();
   }
 
   /**
@@ -71,7 +93,7 @@ public final class NetworkWriterStatistic {
    * @param numberBytes {@code long} value, the number of sent bytes data to clients side
    */
   public void updateWrittenBytes(long numberBytes) {
-    writtenBytes += numberBytes;
+    writtenBytes.add(numberBytes);
   }
 
   /**
@@ -80,7 +102,7 @@ public final class NetworkWriterStatistic {
    * @param numberPackets {@code long} value, the number of sent packets to clients side
    */
   public void updateWrittenPackets(long numberPackets) {
-    writtenPackets += numberPackets;
+    writtenPackets.add(numberPackets);
   }
 
   /**
@@ -92,7 +114,7 @@ public final class NetworkWriterStatistic {
    * @see PacketQueuePolicy
    */
   public void updateWrittenDroppedPacketsByPolicy(long numberPackets) {
-    writtenDroppedPacketsByPolicy += numberPackets;
+    writtenDroppedPacketsByPolicy.add(numberPackets);
   }
 
   /**
@@ -104,7 +126,19 @@ public final class NetworkWriterStatistic {
    * @see PacketQueuePolicy
    */
   public void updateWrittenDroppedPacketsByFull(long numberPackets) {
-    writtenDroppedPacketsByFull += numberPackets;
+    writtenDroppedPacketsByFull.add(numberPackets);
+  }
+
+  /**
+   * Updates the number of dropped packets which could not be encoded safely, such as when a
+   * session's compression stream failed, and not be able to send to clients side.
+   *
+   * @param numberPackets {@code long} value, the number of dropped packets which could not be
+   *                      encoded
+   * @since 0.6.7
+   */
+  public void updateWrittenDroppedPacketsByEncoding(long numberPackets) {
+    writtenDroppedPacketsByEncoding.add(numberPackets);
   }
 
   /**
@@ -113,7 +147,7 @@ public final class NetworkWriterStatistic {
    * @return {@code long} value, the current number of sending bytes data to clients side
    */
   public long getWrittenBytes() {
-    return writtenBytes;
+    return writtenBytes.getTotal();
   }
 
   /**
@@ -122,7 +156,7 @@ public final class NetworkWriterStatistic {
    * @return {@code long} value, the current number of sending packets to clients side
    */
   public long getWrittenPackets() {
-    return writtenPackets;
+    return writtenPackets.getTotal();
   }
 
   /**
@@ -133,7 +167,7 @@ public final class NetworkWriterStatistic {
    * @see PacketQueuePolicy
    */
   public long getWrittenDroppedPacketsByPolicy() {
-    return writtenDroppedPacketsByPolicy;
+    return writtenDroppedPacketsByPolicy.getTotal();
   }
 
   /**
@@ -144,7 +178,18 @@ public final class NetworkWriterStatistic {
    * @see PacketQueuePolicy
    */
   public long getWrittenDroppedPacketsByFull() {
-    return writtenDroppedPacketsByFull;
+    return writtenDroppedPacketsByFull.getTotal();
+  }
+
+  /**
+   * Retrieves the current number of dropped packets which could not be encoded safely and not be
+   * able to send to clients side.
+   *
+   * @return the number of dropped packets which could not be encoded
+   * @since 0.6.7
+   */
+  public long getWrittenDroppedPacketsByEncoding() {
+    return writtenDroppedPacketsByEncoding.getTotal();
   }
 
   /**
@@ -153,18 +198,189 @@ public final class NetworkWriterStatistic {
    * @return the number of dropped packets which are not able to send to clients side
    * @see #getWrittenDroppedPacketsByPolicy
    * @see #getWrittenDroppedPacketsByFull
+   * @see #getWrittenDroppedPacketsByEncoding
    */
   public long getWrittenDroppedPackets() {
-    return writtenDroppedPacketsByPolicy + writtenDroppedPacketsByFull;
+    return writtenDroppedPacketsByPolicy.getTotal() + writtenDroppedPacketsByFull.getTotal() +
+        writtenDroppedPacketsByEncoding.getTotal();
+  }
+
+  /**
+   * Retrieves the total and the rates of sending bytes data to clients side.
+   *
+   * @return a {@link RateSnapshot} of sending bytes data
+   * @since 0.6.7
+   */
+  public RateSnapshot getWrittenBytesRate() {
+    return writtenBytes.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of sending packets to clients side.
+   *
+   * @return a {@link RateSnapshot} of sending packets
+   * @since 0.6.7
+   */
+  public RateSnapshot getWrittenPacketsRate() {
+    return writtenPackets.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of dropped packets which violated policies.
+   *
+   * @return a {@link RateSnapshot} of dropped packets which violated policies
+   * @see PacketQueuePolicy
+   * @since 0.6.7
+   */
+  public RateSnapshot getWrittenDroppedPacketsByPolicyRate() {
+    return writtenDroppedPacketsByPolicy.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of dropped packets which cannot append to a full queue.
+   *
+   * @return a {@link RateSnapshot} of dropped packets which cannot append to a full queue
+   * @since 0.6.7
+   */
+  public RateSnapshot getWrittenDroppedPacketsByFullRate() {
+    return writtenDroppedPacketsByFull.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of dropped packets which could not be encoded.
+   *
+   * @return a {@link RateSnapshot} of dropped packets which could not be encoded
+   * @since 0.6.7
+   */
+  public RateSnapshot getWrittenDroppedPacketsByEncodingRate() {
+    return writtenDroppedPacketsByEncoding.getSnapshot();
+  }
+
+  /**
+   * Records the time a response packet takes from being created (and put into the packet
+   * queue) until it is completely written to the client side.
+   *
+   * @param nanoseconds the latency in nanoseconds
+   * @since 0.6.7
+   */
+  public void updateWriteLatency(long nanoseconds) {
+    writeLatency.record(nanoseconds);
+  }
+
+  /**
+   * Retrieves the histogram of latencies from queueing response packets until writing them.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getWriteLatency() {
+    return writeLatency;
+  }
+
+  /**
+   * Retrieves the histogram of latencies from scheduling a session for sending until a writer
+   * worker picks it up. It is only recorded when the writers' tickets queues are ring buffers.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getWriterHandoffLatency() {
+    return writerHandoffLatency;
+  }
+
+  /**
+   * Updates the number of packets which were passed to the compressor.
+   *
+   * @param numberPackets {@code long} value, the number of compressed packets
+   * @since 0.6.7
+   */
+  public void updateCompressedPackets(long numberPackets) {
+    compressedPackets.add(numberPackets);
+  }
+
+  /**
+   * Updates the number of packets which were sent without compression because compressing
+   * their kind of data was not worth it.
+   *
+   * @param numberPackets {@code long} value, the number of packets skipped compression
+   * @since 0.6.7
+   */
+  public void updateCompressionSkippedPackets(long numberPackets) {
+    compressionSkippedPackets.add(numberPackets);
+  }
+
+  /**
+   * Updates the number of bytes saved by compression.
+   *
+   * @param numberBytes {@code long} value, the number of saved bytes
+   * @since 0.6.7
+   */
+  public void updateCompressionSavedBytes(long numberBytes) {
+    compressionSavedBytes.add(numberBytes);
+  }
+
+  /**
+   * Records the time a packet takes to be compressed.
+   *
+   * @param nanoseconds the compression time in nanoseconds
+   * @since 0.6.7
+   */
+  public void updateCompressionLatency(long nanoseconds) {
+    compressionLatency.record(nanoseconds);
+  }
+
+  /**
+   * Retrieves the total and the rates of packets which were passed to the compressor.
+   *
+   * @return a {@link RateSnapshot} of compressed packets
+   * @since 0.6.7
+   */
+  public RateSnapshot getCompressedPacketsRate() {
+    return compressedPackets.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of packets which were sent without compression because
+   * compressing their kind of data was not worth it.
+   *
+   * @return a {@link RateSnapshot} of packets skipped compression
+   * @since 0.6.7
+   */
+  public RateSnapshot getCompressionSkippedPacketsRate() {
+    return compressionSkippedPackets.getSnapshot();
+  }
+
+  /**
+   * Retrieves the total and the rates of bytes saved by compression.
+   *
+   * @return a {@link RateSnapshot} of saved bytes
+   * @since 0.6.7
+   */
+  public RateSnapshot getCompressionSavedBytesRate() {
+    return compressionSavedBytes.getSnapshot();
+  }
+
+  /**
+   * Retrieves the histogram of times packets take to be compressed.
+   *
+   * @return a {@link LatencyHistogram} instance
+   * @since 0.6.7
+   */
+  public LatencyHistogram getCompressionLatency() {
+    return compressionLatency;
   }
 
   @Override
   public String toString() {
     return "NetworkWriterStatistic{" +
-        "writtenBytes=" + writtenBytes +
-        ", writtenPackets=" + writtenPackets +
-        ", writtenDroppedPacketsByPolicy=" + writtenDroppedPacketsByPolicy +
-        ", writtenDroppedPacketsByFull=" + writtenDroppedPacketsByFull +
+        "writtenBytes=" + writtenBytes.getTotal() +
+        ", writtenPackets=" + writtenPackets.getTotal() +
+        ", writtenDroppedPacketsByPolicy=" + writtenDroppedPacketsByPolicy.getTotal() +
+        ", writtenDroppedPacketsByFull=" + writtenDroppedPacketsByFull.getTotal() +
+        ", writtenDroppedPacketsByEncoding=" + writtenDroppedPacketsByEncoding.getTotal() +
+        ", compressedPackets=" + compressedPackets.getTotal() +
+        ", compressionSkippedPackets=" + compressionSkippedPackets.getTotal() +
+        ", compressionSavedBytes=" + compressionSavedBytes.getTotal() +
         '}';
   }
 }
@@ -0,0 +1,170 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.statistic;
+
+import com.tenio.common.utility.TimeUtility;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A counter which keeps an exact running total and answers the average rate of increments over
+ * the last seconds.
+ *
+ * <p>Increments go to a {@link LongAdder}, so concurrent updates from many threads never get
+ * lost and do not fight over one cache line. Once per second, the first caller that notices a new
+ * second records the running total into a small ring of per-second samples; a rate is then the
+ * difference between the current total and the sample taken at the beginning of the window.
+ *
+ * <p>Note: Rates are approximations, an increment racing with the per-second sampling may be
+ * accounted to the neighbour second. The total is always exact.
+ *
+ * @see RateSnapshot
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class RateCounter {
+
+  /**
+   * The longest window (in seconds) a rate can be measured over.
+   */
+  public static final int MAX_WINDOW_SECONDS = 60;
+
+  private static final int HISTORY_SIZE = 64;
+  private static final int HISTORY_MASK = HISTORY_SIZE - 1;
+
+  private final LongAdder total;
+  private final LongSupplier clock;
+  private final long createdMillis;
+  /**
+   * The running total seen at the beginning of each second, indexed by the second.
+   */
+  private final long[] history;
+  private long lastSampledSecond;
+  private volatile long nextSampleMillis;
+
+  private RateCounter(LongSupplier clock) {
+    this.clock = clock;
+    total = new LongAdder();
+    history = new long[HISTORY_SIZE];
+    createdMillis = clock.getAsLong();
+    lastSampledSecond = createdMillis / 1000L;
+    nextSampleMillis = (lastSampledSecond + 1) * 1000L;
+  }
+
+  /**
+   * Initialization.
+   *
+   * @return a new instance of {@link RateCounter}
+   */
+  public static RateCounter newInstance() {
+    return new RateCounter(TimeUtility::currentTimeMillis);
+  }
+
+  /**
+   * Initialization with a custom clock, mostly for testing.
+   *
+   * @param clock supplies the current time in milliseconds
+   * @return a new instance of {@link RateCounter}
+   */
+  static RateCounter newInstance(LongSupplier clock) {
+    return new RateCounter(clock);
+  }
+
+  /**
+   * Increases the counter.
+   *
+   * @param value the increment
+   */
+  public void add(long value) {
+    total.add(value);
+    var currentMillis = clock.getAsLong();
+    if (currentMillis >= nextSampleMillis) {
+      sample(currentMillis);
+    }
+  }
+
+  /**
+   * Retrieves the exact running total.
+   *
+   * @return the sum of all increments
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * Retrieves the average rate over the last seconds.
+   *
+   * @param windowSeconds the window in seconds, in range [1, {@link #MAX_WINDOW_SECONDS}]
+   * @return the average number of increments per second over the window
+   * @throws IllegalArgumentException when the window is out of range
+   */
+  public double getRate(int windowSeconds) {
+    if (windowSeconds < 1 || windowSeconds > MAX_WINDOW_SECONDS) {
+      throw new IllegalArgumentException("The window must be in range [1, " +
+          MAX_WINDOW_SECONDS + "] seconds: " + windowSeconds);
+    }
+    long currentMillis;
+    long base;
+    long currentSecond;
+    synchronized (this) {
+      currentMillis = clock.getAsLong();
+      sample(currentMillis);
+      currentSecond = lastSampledSecond;
+      base = history[(int) ((currentSecond - windowSeconds) & HISTORY_MASK)];
+    }
+    var current = total.sum();
+    // the window begins at the start of a second, it can not begin before the counter existed
+    var beginMillis = Math.max((currentSecond - windowSeconds) * 1000L, createdMillis);
+    var elapsedMillis = Math.max(currentMillis - beginMillis, 1L);
+    return (current - base) * 1000.0 / elapsedMillis;
+  }
+
+  /**
+   * Takes the total and the rates over 1, 10 and 60 seconds at once.
+   *
+   * @return a new {@link RateSnapshot}
+   */
+  public RateSnapshot getSnapshot() {
+    return new RateSnapshot(getTotal(), getRate(1), getRate(10), getRate(MAX_WINDOW_SECONDS));
+  }
+
+  private synchronized void sample(long currentMillis) {
+    var currentSecond = currentMillis / 1000L;
+    if (currentSecond <= lastSampledSecond) {
+      return;
+    }
+    var current = total.sum();
+    // nothing was recorded in the skipped seconds, they all start with the same total
+    var fromSecond = Math.max(lastSampledSecond + 1, currentSecond - HISTORY_MASK);
+    for (var second = fromSecond; second <= currentSecond; second++) {
+      history[(int) (second & HISTORY_MASK)] = current;
+    }
+    lastSampledSecond = currentSecond;
+    nextSampleMillis = (currentSecond + 1) * 1000L;
+  }
+}
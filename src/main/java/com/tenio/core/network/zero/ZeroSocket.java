@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero;
 
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.configuration.SocketConfiguration;
@@ -91,6 +92,34 @@ public interface ZeroSocket extends Service {
    */
   void setWriterBufferSize(int bufferSize);
 
+  /**
+   * Sets the limits for a writer worker to collect several queued packets of a session into one
+   * gathering write.
+   *
+   * @param maxPackets the maximum number of packets written in one batch, the batch mode is
+   *                   disabled when this value is less than or equals to 1
+   * @param maxBytes   the maximum number of bytes written in one batch
+   * @since 0.6.7
+   */
+  void setWriterBatchLimits(int maxPackets, int maxBytes);
+
+  /**
+   * Sets the strategy a writer worker uses to wait for sessions having packets to send.
+   *
+   * @param waitStrategy the {@link WaitStrategy} to apply
+   * @since 0.6.7
+   */
+  void setWriterWaitStrategy(WaitStrategy waitStrategy);
+
+  /**
+   * Sets the capacity of the ring buffer a writer worker takes sessions having packets to send
+   * from. The value 0 keeps the linked queues.
+   *
+   * @param ringBufferSize the capacity of each ring buffer
+   * @since 0.6.7
+   */
+  void setWriterRingBufferSize(int ringBufferSize);
+
   /**
    * Sets the number of writer workers for the socket (TCP) which are using to send packets to
    * clients side.
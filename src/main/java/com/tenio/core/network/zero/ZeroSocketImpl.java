@@ -26,6 +26,7 @@ package com.tenio.core.network.zero;
 
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.session.manager.SessionManager;
@@ -190,6 +191,21 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     writer.setMaxBufferSize(bufferSize);
   }
 
+  @Override
+  public void setWriterBatchLimits(int maxPackets, int maxBytes) {
+    writer.setBatchLimits(maxPackets, maxBytes);
+  }
+
+  @Override
+  public void setWriterWaitStrategy(WaitStrategy waitStrategy) {
+    writer.setWaitStrategy(waitStrategy);
+  }
+
+  @Override
+  public void setWriterRingBufferSize(int ringBufferSize) {
+    writer.setRingBufferSize(ringBufferSize);
+  }
+
   @Override
   public void setWriterWorkerSize(int workerSize) {
     writer.setThreadPoolSize(workerSize);
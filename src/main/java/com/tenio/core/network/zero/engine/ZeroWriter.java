@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine;
 
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
@@ -64,4 +65,32 @@ public interface ZeroWriter extends ZeroEngine {
    * @param packetEncoder an instance of {@link BinaryPacketEncoder}
    */
   void setPacketEncoder(BinaryPacketEncoder packetEncoder);
+
+  /**
+   * Sets the limits for collecting several queued packets of a session into one gathering write.
+   *
+   * @param maxPackets the maximum number of packets written in one batch, the batch mode is
+   *                   disabled when this value is less than or equals to 1
+   * @param maxBytes   the maximum number of bytes written in one batch
+   * @since 0.6.7
+   */
+  void setBatchLimits(int maxPackets, int maxBytes);
+
+  /**
+   * Sets the strategy the writer workers use to wait for sessions having packets to send.
+   *
+   * @param waitStrategy the {@link WaitStrategy} to apply
+   * @since 0.6.7
+   */
+  void setWaitStrategy(WaitStrategy waitStrategy);
+
+  /**
+   * Sets the capacity of the pre-allocated ring buffer each writer worker takes session tickets
+   * from. The value 0 keeps the linked queues. This setting must be applied before the writer is
+   * initialized.
+   *
+   * @param ringBufferSize the capacity of each ring buffer
+   * @since 0.6.7
+   */
+  void setRingBufferSize(int ringBufferSize);
 }
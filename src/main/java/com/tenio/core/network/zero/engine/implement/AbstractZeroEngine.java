@@ -34,6 +34,7 @@ import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.zero.engine.ZeroEngine;
 import com.tenio.core.network.zero.handler.DatagramIoHandler;
 import com.tenio.core.network.zero.handler.SocketIoHandler;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -51,6 +52,7 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
   private final AtomicInteger id;
   private final AtomicBoolean stopping;
   private final AtomicInteger countExtraWorkers;
+  private final CountDownLatch activation;
   private String name;
   private ExecutorService executorService;
   private int executorSize;
@@ -72,6 +74,7 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
     executorSize = DEFAULT_NUMBER_WORKERS;
     bufferSize = DEFAULT_BUFFER_SIZE;
     countExtraWorkers = new AtomicInteger(0);
+    activation = new CountDownLatch(1);
   }
 
   private void initializeWorkers() {
@@ -216,12 +219,42 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
   @Override
   public void activate() {
     activated = true;
+    activation.countDown();
   }
 
   public boolean isActivated() {
     return activated;
   }
 
+  /**
+   * Parks the current worker until the engine is activated, a worker therefore does not burn its
+   * core while the server is starting.
+   *
+   * @return {@code true} if the engine is activated, {@code false} if the worker was interrupted
+   *     while waiting
+   * @since 0.6.7
+   */
+  protected boolean awaitActivation() {
+    try {
+      activation.await();
+      return true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Determines whether the current worker should keep running, it stops once the worker is
+   * interrupted or the engine is shut down.
+   *
+   * @return {@code true} if the worker should keep running, otherwise {@code false}
+   * @since 0.6.7
+   */
+  protected boolean isRunning() {
+    return !Thread.currentThread().isInterrupted() && activated;
+  }
+
   /**
    * Retrieves the number of extra workers. This value must be less than {@link #executorSize}.
    *
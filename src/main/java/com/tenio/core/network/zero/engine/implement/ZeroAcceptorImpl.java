@@ -97,14 +97,15 @@ public final class ZeroAcceptorImpl extends AbstractZeroEngine implements ZeroAc
         tcpSocketConfiguration, getSocketIoHandler());
     acceptorHandlers.add(acceptorHandler);
 
-    while (!Thread.currentThread().isInterrupted()) {
-      if (isActivated()) {
-        try {
-          acceptorHandler.running();
-        } catch (Throwable cause) {
-          if (isErrorEnabled()) {
-            error(cause);
-          }
+    if (!awaitActivation()) {
+      return;
+    }
+    while (isRunning()) {
+      try {
+        acceptorHandler.running();
+      } catch (Throwable cause) {
+        if (isErrorEnabled()) {
+          error(cause);
         }
       }
     }
@@ -134,14 +134,15 @@ public final class ZeroReaderImpl extends AbstractZeroEngine
   public void onStarted() {
     if (datagramReaderHandler != null) {
       runningExtraWorking(() -> {
-        while (!Thread.currentThread().isInterrupted()) {
-          if (isActivated()) {
-            try {
-              datagramReaderHandler.running();
-            } catch (Throwable cause) {
-              if (isErrorEnabled()) {
-                error(cause);
-              }
+        if (!awaitActivation()) {
+          return;
+        }
+        while (isRunning()) {
+          try {
+            datagramReaderHandler.running();
+          } catch (Throwable cause) {
+            if (isErrorEnabled()) {
+              error(cause);
             }
           }
         }
@@ -157,14 +158,15 @@ public final class ZeroReaderImpl extends AbstractZeroEngine
               getSessionManager(), getNetworkReaderStatistic(), getSocketIoHandler());
       socketReaderHandlers.add(readerHandler);
 
-      while (!Thread.currentThread().isInterrupted()) {
-        if (isActivated()) {
-          try {
-            readerHandler.running();
-          } catch (Throwable cause) {
-            if (isErrorEnabled()) {
-              error(cause);
-            }
+      if (!awaitActivation()) {
+        return;
+      }
+      while (isRunning()) {
+        try {
+          readerHandler.running();
+        } catch (Throwable cause) {
+          if (isErrorEnabled()) {
+            error(cause);
           }
         }
       }
@@ -24,9 +24,11 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine.implement;
 
+import com.tenio.core.configuration.constant.CoreConstant;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.PacketQueueFullException;
 import com.tenio.core.exception.PacketQueuePolicyViolationException;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
@@ -36,6 +38,8 @@ import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
 import com.tenio.core.network.zero.engine.writer.WriterHandler;
 import com.tenio.core.network.zero.engine.writer.implement.DatagramWriterHandler;
 import com.tenio.core.network.zero.engine.writer.implement.SocketWriterHandler;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -46,14 +50,26 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWriter {
 
+  /**
+   * The maximum number of session tickets a worker takes from its queue at once.
+   */
+  private static final int MAX_TICKETS_PER_DRAIN = 64;
+
   private final AtomicInteger id;
   private SessionTicketsQueueManager sessionTicketsQueueManager;
   private NetworkWriterStatistic networkWriterStatistic;
   private BinaryPacketEncoder binaryPacketEncoder;
+  private int maxBatchPackets;
+  private int maxBatchBytes;
+  private WaitStrategy waitStrategy;
+  private int ringBufferSize;
 
   private ZeroWriterImpl(EventManager eventManager) {
     super(eventManager);
     id = new AtomicInteger(0);
+    maxBatchPackets = CoreConstant.DEFAULT_SOCKET_WRITER_BATCH_PACKETS;
+    maxBatchBytes = CoreConstant.DEFAULT_SOCKET_WRITER_BATCH_BYTES;
+    waitStrategy = WaitStrategy.BLOCKING;
     setName("writer");
   }
 
@@ -73,6 +89,7 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     socketWriterHandler.setSessionTicketsQueueManager(sessionTicketsQueueManager);
     socketWriterHandler.setPacketEncoder(binaryPacketEncoder);
     socketWriterHandler.allocateBuffer(getMaxBufferSize());
+    socketWriterHandler.setBatchLimits(maxBatchPackets, maxBatchBytes);
 
     return socketWriterHandler;
   }
@@ -87,17 +104,34 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     return datagramWriterHandler;
   }
 
-  private void writing(BlockingQueue<Session> sessionTicketsQueue,
-                       WriterHandler socketWriterHandler,
+  private void writing(int index, BlockingQueue<Session> sessionTicketsQueue,
+                       List<Session> sessionTickets, WriterHandler socketWriterHandler,
                        WriterHandler datagramWriterHandler) {
     try {
-      Session session = sessionTicketsQueue.take();
-      processSessionQueue(session, socketWriterHandler, datagramWriterHandler);
-    } catch (Throwable cause) {
-      if (isErrorEnabled()) {
-        error(cause, "Interruption occurred when process a session and its packet");
+      // tickets spilled from a full ring must be checked before parking on the ring
+      Session session;
+      while (sessionTickets.size() < MAX_TICKETS_PER_DRAIN &&
+          (session = sessionTicketsQueueManager.pollSpilledTicket(index)) != null) {
+        sessionTickets.add(session);
+      }
+      if (sessionTickets.isEmpty()) {
+        sessionTickets.add(waitStrategy.take(sessionTicketsQueue));
+      }
+      sessionTicketsQueue.drainTo(sessionTickets, MAX_TICKETS_PER_DRAIN - sessionTickets.size());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+
+    for (int i = 0; i < sessionTickets.size(); i++) {
+      try {
+        processSessionQueue(sessionTickets.get(i), socketWriterHandler, datagramWriterHandler);
+      } catch (Throwable cause) {
+        if (isErrorEnabled()) {
+          error(cause, "Interruption occurred when process a session and its packet");
+        }
       }
     }
+    sessionTickets.clear();
   }
 
   private void processSessionQueue(Session session, WriterHandler socketWriterHandler,
@@ -151,7 +185,8 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     } else {
       var sessionIterator = recipients.iterator();
 
-      // one session needs one packet in its queue, need to clone the packet
+      // one session needs one packet in its queue, need to clone the packet. The clone is a
+      // lightweight view which shares the encoded data and only keeps its own sending state
       while (sessionIterator.hasNext()) {
         Session session = sessionIterator.next();
         enqueuePacket(session, packet.deepCopy());
@@ -174,7 +209,7 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
         packetQueue.put(packet);
 
         // duplicated entries are expected
-        sessionTicketsQueueManager.getQueueByElementId(session.getId()).add(session);
+        sessionTicketsQueueManager.addTicket(session);
 
         packet.setRecipients(null);
       } catch (PacketQueuePolicyViolationException exception) {
@@ -202,9 +237,28 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     this.binaryPacketEncoder = packetEncoder;
   }
 
+  @Override
+  public void setBatchLimits(int maxPackets, int maxBytes) {
+    maxBatchPackets = maxPackets;
+    maxBatchBytes = maxBytes;
+  }
+
+  @Override
+  public void setWaitStrategy(WaitStrategy waitStrategy) {
+    this.waitStrategy = waitStrategy;
+  }
+
+  @Override
+  public void setRingBufferSize(int ringBufferSize) {
+    this.ringBufferSize = ringBufferSize;
+  }
+
   @Override
   public void onInitialized() {
-    sessionTicketsQueueManager = new SessionTicketsQueueManager(getThreadPoolSize());
+    sessionTicketsQueueManager = ringBufferSize > 0 ?
+        new SessionTicketsQueueManager(getThreadPoolSize(), ringBufferSize,
+            networkWriterStatistic.getWriterHandoffLatency()) :
+        new SessionTicketsQueueManager(getThreadPoolSize());
   }
 
   @Override
@@ -216,12 +270,16 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
   public void onRunning() {
     var socketWriterHandler = createSocketWriterHandler();
     var datagramWriterHandler = createDatagramWriterHandler();
-    var sessionTicketsQueue = sessionTicketsQueueManager.getQueueByIndex(id.getAndIncrement());
+    var index = id.getAndIncrement();
+    var sessionTicketsQueue = sessionTicketsQueueManager.getQueueByIndex(index);
+    var sessionTickets = new ArrayList<Session>(MAX_TICKETS_PER_DRAIN);
 
-    while (!Thread.currentThread().isInterrupted()) {
-      if (isActivated()) {
-        writing(sessionTicketsQueue, socketWriterHandler, datagramWriterHandler);
-      }
+    if (!awaitActivation()) {
+      return;
+    }
+    while (isRunning()) {
+      writing(index, sessionTicketsQueue, sessionTickets, socketWriterHandler,
+          datagramWriterHandler);
     }
   }
 
@@ -25,7 +25,11 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engine.manager;
 
 import com.tenio.core.manager.BlockingQueueManager;
+import com.tenio.core.manager.RingBlockingQueue;
 import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -45,10 +49,17 @@ import java.util.concurrent.LinkedBlockingQueue;
  * <p>Thread-safe: The use of {@link ConcurrentLinkedQueue} or {@link LinkedBlockingQueue} ensures
  * thread-safe access to each individual queue.</p>
  *
+ * <p>When a ring buffer size is given, every queue is a pre-allocated {@link RingBlockingQueue}
+ * instead, and the time a ticket waits until a worker picks it up can be recorded. A ticket which
+ * does not fit into its full ring is spilled into a side queue of the same worker, see
+ * {@link #addTicket(Session)}, so neither the producer is blocked nor the ticket is lost.</p>
+ *
  * @since 0.6.6
  */
 public final class SessionTicketsQueueManager extends BlockingQueueManager<Session> {
 
+  private final List<Queue<Session>> spilledTickets;
+
   /**
    * Constructs a {@code SessionTicketsQueueManager} with the specified number of queues.
    *
@@ -57,5 +68,69 @@ public final class SessionTicketsQueueManager extends BlockingQueueManager<Sessi
    */
   public SessionTicketsQueueManager(int cacheSize) {
     super(cacheSize, LinkedBlockingQueue::new);
+    spilledTickets = null;
+  }
+
+  /**
+   * Constructs a {@code SessionTicketsQueueManager} with the specified number of ring buffers.
+   *
+   * @param cacheSize      the number of queues to create. Must be &gt; 0.
+   * @param ringBufferSize the capacity of each {@link RingBlockingQueue}. Must be &gt; 0.
+   * @param handoffLatency the {@link LatencyHistogram} recording the time a ticket waits in its
+   *                       queue, it can be {@code null}
+   * @throws IllegalArgumentException if {@code cacheSize} or {@code ringBufferSize} is less than
+   *                                  or equal to 0
+   * @since 0.6.7
+   */
+  public SessionTicketsQueueManager(int cacheSize, int ringBufferSize,
+                                    LatencyHistogram handoffLatency) {
+    super(cacheSize, () -> new RingBlockingQueue<>(ringBufferSize, handoffLatency));
+    spilledTickets = new ArrayList<>(cacheSize);
+    for (int i = 0; i < cacheSize; i++) {
+      spilledTickets.add(new ConcurrentLinkedQueue<>());
+    }
+  }
+
+  /**
+   * Adds a ticket of a session to the queue the session belongs to, duplicated tickets are
+   * expected.
+   *
+   * <p>When the queue is a full ring buffer, the ticket is spilled into the side queue of the same
+   * index, then it is offered to the ring once more. The ring was full, so its worker can not park
+   * before taking all the tickets, and it checks the side queue before it parks again, see
+   * {@link #pollSpilledTicket(int)}. A ticket which gets into both queues is just a duplicate.</p>
+   *
+   * @param session the {@link Session} having packets to send
+   */
+  public void addTicket(Session session) {
+    var queue = getQueueByElementId(session.getId());
+    if (spilledTickets == null) {
+      queue.add(session);
+      return;
+    }
+    if (!queue.offer(session)) {
+      spilledTickets.get(Math.floorMod(session.getId(), getCacheSize())).add(session);
+      queue.offer(session);
+    }
+  }
+
+  /**
+   * Retrieves and removes a ticket which was spilled from a full ring buffer.
+   *
+   * @param index the index of the queue
+   * @return a spilled {@link Session} ticket, or {@code null} if there is none
+   */
+  public Session pollSpilledTicket(int index) {
+    return spilledTickets == null ? null : spilledTickets.get(index).poll();
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    if (spilledTickets != null) {
+      for (var queue : spilledTickets) {
+        queue.clear();
+      }
+    }
   }
 }
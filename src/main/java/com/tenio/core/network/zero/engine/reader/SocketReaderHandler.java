@@ -234,11 +234,8 @@ public final class SocketReaderHandler extends SystemLogger {
         networkReaderStatistic.updateReadBytes(byteCount);
         // ready to read data from buffer
         readerBuffer.flip();
-        // reads data from buffer and transfers them to the next process
-        byte[] binaries = new byte[readerBuffer.limit()];
-        readerBuffer.get(binaries);
-
-        socketIoHandler.sessionRead(session, binaries);
+        // transfers the buffer to the next process, its data is framed in place without copying
+        socketIoHandler.sessionRead(session, readerBuffer);
       }
     }
   }
@@ -49,6 +49,17 @@ public abstract class AbstractWriterHandler extends SystemLogger implements Writ
     return sessionTicketsQueueManager.getQueueByElementId(sessionId);
   }
 
+  /**
+   * Puts a session which still has packets to send back to its tickets queue.
+   *
+   * @param session the {@link Session} to schedule again
+   * @see SessionTicketsQueueManager#addTicket(Session)
+   * @since 0.6.7
+   */
+  protected void putBackSession(Session session) {
+    sessionTicketsQueueManager.addTicket(session);
+  }
+
   @Override
   public void setSessionTicketsQueueManager(SessionTicketsQueueManager sessionTicketsQueueManager) {
     this.sessionTicketsQueueManager = sessionTicketsQueueManager;
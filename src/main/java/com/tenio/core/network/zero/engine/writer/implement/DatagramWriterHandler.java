@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine.writer.implement;
 
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.entity.session.Session;
@@ -48,11 +49,6 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
 
   @Override
   public void send(PacketQueue packetQueue, Session session, Packet packet) {
-    packet = getPacketEncoder().encode(packet);
-
-    // the datagram channel will send data by packet, so no fragment using here
-    byte[] sendingData = packet.getData();
-
     // retrieve the datagram channel instance from session
     var datagramChannel = session.fetchDatagramChannel();
 
@@ -79,17 +75,41 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
     // clear the buffer first
     getBuffer().clear();
 
-    // buffer size is not enough, need to be allocated more bytes
-    if (getBuffer().capacity() < sendingData.length) {
-      if (isDebugEnabled()) {
-        debug("DATAGRAM CHANNEL SEND", "Allocate new buffer from ", getBuffer().capacity(),
-            " to ", sendingData.length, " bytes");
+    // the datagram channel will send data by packet, so no fragment using here. The packet is
+    // encoded straight into the buffer, a packet shared by several recipients was already
+    // encoded once, so its frame is copied
+    boolean encodedIntoBuffer;
+    try {
+      encodedIntoBuffer =
+          !packet.isEncoded() && getPacketEncoder().encodeInto(packet, session, getBuffer()) >= 0;
+    } catch (PacketEncryptorException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Error occurred in encoding on session: ", session.toString());
       }
-      allocateBuffer(sendingData.length);
+      // the packet is dropped rather than sent in plain
+      getNetworkWriterStatistic().updateWrittenDroppedPacketsByEncoding(1);
+      packetQueue.take();
+      if (session.isActivated() && !packetQueue.isEmpty()) {
+        putBackSession(session);
+      }
+      return;
     }
+    if (!encodedIntoBuffer) {
+      // the frame is held by the packet's data
+      byte[] sendingData = packet.getData();
+
+      // buffer size is not enough, need to be allocated more bytes
+      if (getBuffer().capacity() < sendingData.length) {
+        if (isDebugEnabled()) {
+          debug("DATAGRAM CHANNEL SEND", "Allocate new buffer from ", getBuffer().capacity(),
+              " to ", sendingData.length, " bytes");
+        }
+        allocateBuffer(sendingData.length);
+      }
 
-    // put data to buffer
-    getBuffer().put(sendingData);
+      // put data to buffer
+      getBuffer().put(sendingData);
+    }
 
     // ready to send
     getBuffer().flip();
@@ -108,6 +128,7 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
     // update statistic data
     getNetworkWriterStatistic().updateWrittenBytes(writtenBytes);
     getNetworkWriterStatistic().updateWrittenPackets(1);
+    getNetworkWriterStatistic().updateWriteLatency(System.nanoTime() - packet.getCreatedNanoTime());
 
     // update statistic data for session
     session.addWrittenBytes(writtenBytes);
@@ -118,7 +139,7 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
     // if the packet queue still contains more packets, session is activated, then put the
     // session back to the tickets queue
     if (session.isActivated() && !packetQueue.isEmpty()) {
-      getSessionTicketsQueue(session.getId()).add(session);
+      putBackSession(session);
     }
   }
 }
@@ -26,18 +26,37 @@ package com.tenio.core.network.zero.engine.writer.implement;
 
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.exception.PacketEncryptorException;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.packet.PacketQueue;
 import com.tenio.core.network.entity.session.Session;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 
 /**
  * The Socket writing handler.
+ *
+ * <p>In the batch mode (the maximum number of packets per batch is greater than 1), the handler
+ * collects several queued packets of a session and flushes them at once by using
+ * {@link GatheringByteChannel#write(ByteBuffer[], int, int)}, so a chatty session pays one system
+ * call for many small messages.
  */
 public final class SocketWriterHandler extends AbstractWriterHandler {
 
+  private static final byte[] EMPTY_BINARIES = new byte[0];
+
+  private int maxBatchPackets;
+  private int maxBatchBytes;
+  private Packet[] batchPackets;
+  private ByteBuffer[] batchBuffers;
+
   private SocketWriterHandler() {
+    maxBatchPackets = 1;
   }
 
   /**
@@ -49,6 +68,27 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
     return new SocketWriterHandler();
   }
 
+  /**
+   * Sets the limits for collecting packets of a session into one gathering write.
+   *
+   * @param maxPackets the maximum number of packets written in one batch, the batch mode is
+   *                   disabled when this value is less than or equals to 1
+   * @param maxBytes   the maximum number of bytes written in one batch. A batch always contains
+   *                   at least one packet, even if that packet is bigger than this value
+   * @since 0.6.7
+   */
+  public void setBatchLimits(int maxPackets, int maxBytes) {
+    maxBatchPackets = Math.max(1, maxPackets);
+    maxBatchBytes = Math.max(0, maxBytes);
+    if (maxBatchPackets > 1) {
+      batchPackets = new Packet[maxBatchPackets];
+      batchBuffers = new ByteBuffer[maxBatchPackets];
+    } else {
+      batchPackets = null;
+      batchBuffers = null;
+    }
+  }
+
   @Override
   public void send(PacketQueue packetQueue, Session session, Packet packet) {
     var channel = session.fetchSocketChannel();
@@ -63,7 +103,8 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       try {
         packetQueue.clear();
         if (session.isActivated()) {
-          session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN, PlayerDisconnectMode.CONNECTION_LOST);
+          session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+              PlayerDisconnectMode.CONNECTION_LOST);
         }
       } catch (IOException exception) {
         if (isErrorEnabled()) {
@@ -74,12 +115,35 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       return;
     }
 
-    // encode the packet
-    packet.needsDataCounting(true);
-    packet = getPacketEncoder().encode(packet);
-    // set priority for packet left unsent data (fragment)
-    byte[] sendingData = packet.isFragmented() ? packet.getFragmentBuffer() : packet.getData();
-    if (sendingData == null || sendingData.length == 0) {
+    if (maxBatchPackets > 1) {
+      sendBatch(packetQueue, session, channel);
+      return;
+    }
+
+    // clear the buffer first
+    getBuffer().clear();
+
+    // set priority for packet left unsent data (fragment), a packet shared by several recipients
+    // was already encoded once, otherwise the packet is encoded straight into the buffer
+    byte[] sendingData = null;
+    if (packet.isFragmented() || packet.isEncoded()) {
+      sendingData = packet.isFragmented() ? packet.getFragmentBuffer() : packet.getData();
+    } else if (packet.getData() != null && packet.getData().length > 0) {
+      packet.needsDataCounting(true);
+      try {
+        if (getPacketEncoder().encodeInto(packet, session, getBuffer()) < 0) {
+          // the buffer has no room for the frame, it was formed in the packet's data instead
+          sendingData = packet.getData();
+        }
+      } catch (PacketCompressorException | PacketEncryptorException exception) {
+        dropOnEncodingFailure(packetQueue, session, exception);
+        return;
+      }
+    }
+    if (sendingData != null && sendingData.length == 0) {
+      sendingData = null;
+    }
+    if (sendingData == null && getBuffer().position() == 0) {
       if (isDebugEnabled()) {
         debug("SOCKET CHANNEL SEND", "Empty data, nothing to write for session: ", session);
       }
@@ -88,20 +152,20 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       return;
     }
 
-    // buffer size is not enough, need to be allocated more bytes
-    if (getBuffer().capacity() < sendingData.length) {
-      if (isDebugEnabled()) {
-        debug("SOCKET CHANNEL SEND", "Allocate new buffer from ", getBuffer().capacity(), " to ",
-            sendingData.length, " bytes");
+    if (sendingData != null) {
+      // buffer size is not enough, need to be allocated more bytes
+      if (getBuffer().capacity() < sendingData.length) {
+        if (isDebugEnabled()) {
+          debug("SOCKET CHANNEL SEND", "Allocate new buffer from ", getBuffer().capacity(), " to ",
+              sendingData.length, " bytes");
+        }
+        allocateBuffer(sendingData.length);
       }
-      allocateBuffer(sendingData.length);
-    }
-
-    // clear the buffer first
-    getBuffer().clear();
 
-    // start to read data to buffer
-    getBuffer().put(sendingData);
+      // start to read data to buffer
+      getBuffer().clear();
+      getBuffer().put(sendingData);
+    }
 
     // ready to write on socket
     getBuffer().flip();
@@ -113,20 +177,7 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
     // but it's up to the channel, so it's possible to get left unsent bytes
     try {
       realWrittenBytes = channel.write(getBuffer());
-      var selectionKey = session.fectchSocketSelectionKey();
-      int currentOps = selectionKey.interestOps();
-      // in this case, the channel is not interested in writing, so we are asking for it
-      if (getBuffer().hasRemaining()) {
-        if ((currentOps & SelectionKey.OP_WRITE) == 0) {
-          selectionKey.interestOps(currentOps | SelectionKey.OP_WRITE);
-        }
-      } else {
-        // nothing left to be written, the channel should not wait for that action, remove it
-        if ((currentOps & SelectionKey.OP_WRITE) != 0) {
-          selectionKey.interestOps(currentOps & ~SelectionKey.OP_WRITE);
-        }
-      }
-
+      updateWriteInterest(session, getBuffer().hasRemaining());
     } catch (IOException exception) {
       if (isErrorEnabled()) {
         error(exception, "Error occurred in writing on session: ", session.toString());
@@ -135,7 +186,8 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       try {
         packetQueue.clear();
         if (session.isActivated()) {
-          session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN, PlayerDisconnectMode.CONNECTION_LOST);
+          session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+              PlayerDisconnectMode.CONNECTION_LOST);
         }
       } catch (IOException exception1) {
         if (isErrorEnabled()) {
@@ -165,6 +217,8 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
     } else {
       // update the statistic data
       getNetworkWriterStatistic().updateWrittenPackets(1);
+      getNetworkWriterStatistic().updateWriteLatency(
+          System.nanoTime() - packet.getCreatedNanoTime());
 
       // now the packet can be safely removed
       packetQueue.take();
@@ -174,7 +228,8 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
         packetQueue.clear();
         try {
           if (session.isActivated()) {
-            session.close(ConnectionDisconnectMode.CLIENT_REQUEST, PlayerDisconnectMode.CLIENT_REQUEST);
+            session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
+                PlayerDisconnectMode.CLIENT_REQUEST);
           }
         } catch (IOException exception) {
           error(exception, "Error occurred in writing on session: ", session.toString());
@@ -186,7 +241,214 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       // is alive, then put the session back to the tickets queue
       if (session.isActivated() && channel.isOpen() && channel.isConnected() &&
           !packetQueue.isEmpty()) {
-        getSessionTicketsQueue(session.getId()).add(session);
+        putBackSession(session);
+      }
+    }
+  }
+
+  private void sendBatch(PacketQueue packetQueue, Session session, SocketChannel channel) {
+    int numberPackets = packetQueue.peek(batchPackets);
+    if (numberPackets == 0) {
+      return;
+    }
+    int numberBuffers = 0;
+    long batchBytes = 0;
+    var buffer = getBuffer();
+    buffer.clear();
+
+    // collects the packets' encoded data, the left unsent data of a fragmented packet goes first.
+    // A packet which is not encoded yet is encoded straight into the writer buffer, then written
+    // from its own slice of that buffer
+    for (int i = 0; i < numberPackets; i++) {
+      var packet = batchPackets[i];
+      // a datagram packet is handled by its own writer, the batch stops here to keep the order
+      if (!packet.isTcp()) {
+        break;
+      }
+      ByteBuffer sendingBuffer = null;
+      if (!packet.isFragmented() && !packet.isEncoded() && packet.getData() != null &&
+          packet.getData().length > 0) {
+        packet.needsDataCounting(true);
+        // the room left in the buffer never exceeds the batch's limit, a frame which does not fit
+        // is formed in the packet's data instead
+        int start = buffer.position();
+        if (numberBuffers > 0) {
+          long batchRoom = Math.max(0, maxBatchBytes - batchBytes);
+          buffer.limit((int) Math.min(buffer.capacity(), start + batchRoom));
+        }
+        int written;
+        try {
+          written = getPacketEncoder().encodeInto(packet, session, buffer);
+        } catch (PacketCompressorException | PacketEncryptorException exception) {
+          releaseBatch(numberPackets);
+          dropOnEncodingFailure(packetQueue, session, exception);
+          return;
+        } finally {
+          buffer.limit(buffer.capacity());
+        }
+        if (written >= 0) {
+          sendingBuffer = buffer.slice(start, written);
+        }
+      }
+      if (sendingBuffer == null) {
+        byte[] sendingData =
+            packet.isFragmented() ? packet.getFragmentBuffer() : packet.getData();
+        if (sendingData == null) {
+          sendingData = EMPTY_BINARIES;
+        }
+        if (numberBuffers > 0 && batchBytes + sendingData.length > maxBatchBytes) {
+          break;
+        }
+        sendingBuffer = ByteBuffer.wrap(sendingData);
+      }
+      batchBuffers[numberBuffers++] = sendingBuffer;
+      batchBytes += sendingBuffer.remaining();
+      // nothing should be sent after the last packet
+      if (packet.isMarkedAsLast()) {
+        break;
+      }
+    }
+
+    // the head packet is not a TCP one, the session goes back to be handled by the right writer
+    if (numberBuffers == 0) {
+      releaseBatch(numberPackets);
+      putBackSession(session);
+      return;
+    }
+
+    long realWrittenBytes;
+    boolean hasRemaining;
+    // all buffers are written in one call, but it's up to the channel, so it's possible to get
+    // left unsent bytes
+    try {
+      realWrittenBytes = channel.write(batchBuffers, 0, numberBuffers);
+      hasRemaining = batchBuffers[numberBuffers - 1].hasRemaining();
+      updateWriteInterest(session, hasRemaining);
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Error occurred in writing on session: ", session.toString());
+      }
+      releaseBatch(numberPackets);
+      // in this case, just disconnect the session, it's no longer help writing data
+      try {
+        packetQueue.clear();
+        if (session.isActivated()) {
+          session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+              PlayerDisconnectMode.CONNECTION_LOST);
+        }
+      } catch (IOException exception1) {
+        if (isErrorEnabled()) {
+          error(exception1, "Error occurred in writing on session: ", session.toString());
+        }
+      }
+      return;
+    }
+
+    // update statistic data
+    getNetworkWriterStatistic().updateWrittenBytes(realWrittenBytes);
+
+    // update statistic data for the session too
+    session.addWrittenBytes(realWrittenBytes);
+
+    // completely written packets can be safely removed, the first partially written one keeps its
+    // left unwritten bytes for the next process
+    for (int i = 0; i < numberBuffers; i++) {
+      var packet = batchPackets[i];
+      var sentBuffer = batchBuffers[i];
+      if (sentBuffer.hasRemaining()) {
+        byte[] leftUnwrittenBytes = new byte[sentBuffer.remaining()];
+        sentBuffer.get(leftUnwrittenBytes);
+        packet.setFragmentBuffer(leftUnwrittenBytes);
+        keepUnwrittenFrames(i + 1, numberBuffers);
+        break;
+      }
+
+      // update the statistic data
+      getNetworkWriterStatistic().updateWrittenPackets(1);
+      getNetworkWriterStatistic().updateWriteLatency(
+          System.nanoTime() - packet.getCreatedNanoTime());
+
+      // now the packet can be safely removed
+      packetQueue.take();
+
+      // in case this packet is the last one, it closes the session
+      if (packet.isMarkedAsLast()) {
+        releaseBatch(numberPackets);
+        packetQueue.clear();
+        try {
+          if (session.isActivated()) {
+            session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
+                PlayerDisconnectMode.CLIENT_REQUEST);
+          }
+        } catch (IOException exception) {
+          error(exception, "Error occurred in writing on session: ", session.toString());
+        }
+        return;
+      }
+    }
+    releaseBatch(numberPackets);
+
+    // if the packet queue still contains more packets, session is activated, and its channel
+    // is alive, then put the session back to the tickets queue
+    if (!hasRemaining && session.isActivated() && channel.isOpen() && channel.isConnected() &&
+        !packetQueue.isEmpty()) {
+      putBackSession(session);
+    }
+  }
+
+  private void dropOnEncodingFailure(PacketQueue packetQueue, Session session,
+                                     RuntimeException exception) {
+    if (isErrorEnabled()) {
+      error(exception, "Error occurred in encoding on session: ", session.toString());
+    }
+    // the session's compression stream or encryption can not be trusted anymore, none of its
+    // packets is sent and the session is closed
+    getNetworkWriterStatistic().updateWrittenDroppedPacketsByEncoding(packetQueue.getSize());
+    packetQueue.clear();
+    try {
+      if (session.isActivated()) {
+        session.close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+            PlayerDisconnectMode.CONNECTION_LOST);
+      }
+    } catch (IOException exception1) {
+      if (isErrorEnabled()) {
+        error(exception1, "Error occurred in writing on session: ", session.toString());
+      }
+    }
+  }
+
+  private void keepUnwrittenFrames(int fromIndex, int toIndex) {
+    // the unwritten packets encoded into the writer buffer keep their frames, so they are never
+    // encoded again, a session's compression stream must see each packet only once
+    for (int i = fromIndex; i < toIndex; i++) {
+      var packet = batchPackets[i];
+      if (!packet.isEncoded() && !packet.isFragmented()) {
+        byte[] frame = new byte[batchBuffers[i].remaining()];
+        batchBuffers[i].get(frame);
+        packet.setData(frame);
+        packet.setEncoded(true);
+      }
+    }
+  }
+
+  private void releaseBatch(int numberPackets) {
+    // does not hold references of the sent packets until the next batch
+    Arrays.fill(batchPackets, 0, numberPackets, null);
+    Arrays.fill(batchBuffers, 0, numberPackets, null);
+  }
+
+  private void updateWriteInterest(Session session, boolean hasRemaining) {
+    var selectionKey = session.fectchSocketSelectionKey();
+    int currentOps = selectionKey.interestOps();
+    // in this case, the channel is not interested in writing, so we are asking for it
+    if (hasRemaining) {
+      if ((currentOps & SelectionKey.OP_WRITE) == 0) {
+        selectionKey.interestOps(currentOps | SelectionKey.OP_WRITE);
+      }
+    } else {
+      // nothing left to be written, the channel should not wait for that action, remove it
+      if ((currentOps & SelectionKey.OP_WRITE) != 0) {
+        selectionKey.interestOps(currentOps & ~SelectionKey.OP_WRITE);
       }
     }
   }
@@ -27,6 +27,7 @@ package com.tenio.core.network.zero.handler;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 
@@ -43,6 +44,16 @@ public interface SocketIoHandler extends BaseIoHandler {
    */
   void sessionRead(Session session, byte[] binaries);
 
+  /**
+   * When a new message comes from a session then this method is invoked. The data is processed in
+   * place, so the buffer can be reused for the next socket read once this method returns.
+   *
+   * @param session the {@link Session} using to communicate to client side
+   * @param buffer  the {@link ByteBuffer} in read mode, holding data sent by client side
+   * @since 0.6.7
+   */
+  void sessionRead(Session session, ByteBuffer buffer);
+
   /**
    * When the first connection signal sent from client side to the server via socket (TCP) channel
    * then this method is invoked.
@@ -25,19 +25,23 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.handler.frame;
 
 import com.tenio.common.data.DataCollection;
-import com.tenio.common.utility.ByteUtility;
 import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.packet.PacketHeader;
 import com.tenio.core.network.codec.packet.PacketReadState;
 import com.tenio.core.network.codec.packet.PendingPacket;
-import com.tenio.core.network.codec.packet.ProcessedPacket;
 import com.tenio.core.network.entity.session.Session;
 import java.nio.ByteBuffer;
 
 /**
  * Streaming packets must be processed in this framing steps.
  *
+ * <p>The framer parses headers and payloads in place from the incoming {@link ByteBuffer}. Only
+ * when a packet is split across several socket reads, its bytes are accumulated in the session's
+ * {@link PendingPacket} buffer, which is reused for the following packets and only grows when a
+ * larger packet arrives. A byte array is allocated once per completed frame, right before it is
+ * handed to the {@link BinaryPacketDecoder}.
+ *
  * @since 0.6.7
  */
 public final class BinaryPacketFramer {
@@ -53,37 +57,35 @@ public final class BinaryPacketFramer {
    *                 will ensure it chunks or waits for the data to finally provide a full packet
    */
   public void framing(Session session, byte[] binaries) {
+    framing(session, ByteBuffer.wrap(binaries));
+  }
+
+  /**
+   * Processes streaming binaries data sent from sessions without copying the read bytes.
+   *
+   * @param session the {@link Session} sends data
+   * @param buffer  the {@link ByteBuffer} in read mode, its content between the current position
+   *                and the limit is being sent. This might not be completed, so the process will
+   *                ensure it chunks or waits for the data to finally provide a full packet. When
+   *                the method returns, all remaining bytes of the buffer are consumed
+   * @since 0.6.7
+   */
+  public void framing(Session session, ByteBuffer buffer) {
     PacketReadState readState = session.getPacketReadState();
 
     try {
-      while (binaries.length > 0) {
-        ProcessedPacket processedPacket;
-        if (readState == PacketReadState.WAIT_NEW_PACKET) {
-          processedPacket = handleNewPacket(session, binaries);
-          readState = processedPacket.getPacketReadState();
-          binaries = processedPacket.getData();
-        }
-
-        if (readState == PacketReadState.WAIT_DATA_SIZE) {
-          processedPacket = handleDataSize(session, binaries);
-          readState = processedPacket.getPacketReadState();
-          binaries = processedPacket.getData();
-        }
-
-        if (readState == PacketReadState.WAIT_DATA_SIZE_FRAGMENT) {
-          processedPacket = handleDataSizeFragment(session, binaries);
-          readState = processedPacket.getPacketReadState();
-          binaries = processedPacket.getData();
-        }
-
-        if (readState == PacketReadState.WAIT_DATA) {
-          processedPacket = handlePacketData(session, binaries);
-          readState = processedPacket.getPacketReadState();
-          binaries = processedPacket.getData();
+      while (buffer.hasRemaining()) {
+        switch (readState) {
+          case WAIT_NEW_PACKET -> readState = handleNewPacket(session, buffer);
+          case WAIT_DATA_SIZE -> readState = handleDataSize(session, buffer);
+          case WAIT_DATA_SIZE_FRAGMENT -> readState = handleDataSizeFragment(session, buffer);
+          case WAIT_DATA -> readState = handlePacketData(session, buffer);
+          default -> throw new IllegalStateException("Unexpected read state: " + readState);
         }
       }
     } catch (Exception exception) {
-      // swallows the exception as it's expected
+      // swallows the exception as it's expected, the broken bytes are dropped
+      buffer.position(buffer.limit());
       readState = PacketReadState.WAIT_NEW_PACKET;
     }
 
@@ -117,171 +119,137 @@ public final class BinaryPacketFramer {
     this.packetFramingListener = packetFramingListener;
   }
 
-  private ProcessedPacket handleNewPacket(Session session, byte[] binaries) {
-    PacketHeader packetHeader = CodecUtility.decodeFirstHeaderByte(binaries[0]);
+  private PacketReadState handleNewPacket(Session session, ByteBuffer buffer) {
+    PacketHeader packetHeader = CodecUtility.decodeFirstHeaderByte(buffer.get());
     if (!packetHeader.needsCounting()) {
       throw new IllegalArgumentException("The packet must have data counting attached in the " +
           "header to process");
     }
     session.getPendingPacket().setPacketHeader(packetHeader);
-    binaries = ByteUtility.resizeBytesArray(binaries, 1, binaries.length - 1);
-
-    ProcessedPacket processedPacket = session.getProcessedPacket();
-    processedPacket.setPacketReadState(PacketReadState.WAIT_DATA_SIZE);
-    processedPacket.setData(binaries);
 
-    return processedPacket;
+    return PacketReadState.WAIT_DATA_SIZE;
   }
 
-  private ProcessedPacket handleDataSize(Session session, byte[] binaries) {
-    PacketReadState packetReadState = PacketReadState.WAIT_DATA;
-
+  private PacketReadState handleDataSize(Session session, ByteBuffer buffer) {
     PendingPacket pendingPacket = session.getPendingPacket();
-    int dataSize = -1;
     // default header bytes are Short.BYTES, we consider it's big size on the next
     // step
-    int headerBytes = Short.BYTES;
-
-    if (pendingPacket.getPacketHeader().isBigSized()) {
-      if (binaries.length >= Integer.BYTES) {
-        dataSize = ByteUtility.bytesToInt(binaries);
-      }
-      headerBytes = Integer.BYTES;
-    } else {
-      if (binaries.length >= Short.BYTES) {
-        dataSize = ByteUtility.bytesToShort(binaries);
-      }
-    }
+    boolean bigSized = pendingPacket.getPacketHeader().isBigSized();
+    int headerBytes = bigSized ? Integer.BYTES : Short.BYTES;
 
     // got data size, can wait to collect packet data bytes
-    if (dataSize != -1) {
-      // this.validateIncomingDataSize(session, dataSize);
-      pendingPacket.setExpectedLength(dataSize);
-      // we allocate an enough size of bytes for the buffer to handle packet data
-      // later
-      pendingPacket.setBuffer(ByteBuffer.allocate(dataSize));
-      binaries = ByteUtility.resizeBytesArray(binaries, headerBytes, binaries.length - headerBytes);
-    } else {
-      // still need to wait to know the length of packet data
-      packetReadState = PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
-      // put the current data bytes to the pending packet to use later
-      ByteBuffer headerBytesBuffer = ByteBuffer.allocate(headerBytes);
-      headerBytesBuffer.put(binaries);
-      pendingPacket.setBuffer(headerBytesBuffer);
-      // now we should create an empty array to prevent processing later
-      // we need to wait until the socket reads more bytes
-      binaries = new byte[0];
+    if (buffer.remaining() >= headerBytes) {
+      int dataSize = bigSized ? buffer.getInt() : Short.toUnsignedInt(buffer.getShort());
+      return prepareData(session, buffer, dataSize);
     }
 
-    ProcessedPacket processedPacket = session.getProcessedPacket();
-    processedPacket.setPacketReadState(packetReadState);
-    processedPacket.setData(binaries);
+    // still need to wait to know the length of packet data, put the current data bytes to the
+    // pending packet to use later
+    ByteBuffer headerBytesBuffer = reserveBuffer(pendingPacket, headerBytes);
+    headerBytesBuffer.put(buffer);
 
-    return processedPacket;
+    return PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
   }
 
-  private ProcessedPacket handleDataSizeFragment(Session session, byte[] binaries) {
-    PacketReadState packetReadState = PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
+  private PacketReadState handleDataSizeFragment(Session session, ByteBuffer buffer) {
     PendingPacket pendingPacket = session.getPendingPacket();
     ByteBuffer headerBytesBuffer = pendingPacket.getBuffer();
 
-    int remainingBytesNeedForHeader = pendingPacket.getPacketHeader().isBigSized()
-        ? Integer.BYTES - headerBytesBuffer.position()
-        : Short.BYTES - headerBytesBuffer.position();
-
     // can retrieve left necessary bytes to form a headerBytes
-    if (binaries.length >= remainingBytesNeedForHeader) {
-      // put more bytes
-      headerBytesBuffer.put(binaries, 0, remainingBytesNeedForHeader);
-      // now can get bytes array from buffer
-      headerBytesBuffer.flip();
-
-      // we now have exactly the number of bytes in need, no need to use bitwise
-      // method here, just feel free to use utility functions of ByteBuffer
-      int dataSize = pendingPacket.getPacketHeader().isBigSized() ? headerBytesBuffer.getInt()
-          : headerBytesBuffer.getShort();
-
-      // got data size, can wait to collect packet data bytes
-      // this.validateIncomingDataSize(session, dataSize);
-      pendingPacket.setExpectedLength(dataSize);
-      // we allocate an enough size of bytes for the buffer to handle packet data
-      // later
-      pendingPacket.setBuffer(ByteBuffer.allocate(dataSize));
-      packetReadState = PacketReadState.WAIT_DATA;
-
-      // the left bytes, that no need for the header bytes must be saved for the next
-      // process
-      if (binaries.length > remainingBytesNeedForHeader) {
-        binaries = ByteUtility.resizeBytesArray(binaries, remainingBytesNeedForHeader,
-            binaries.length - remainingBytesNeedForHeader);
-      } else {
-        binaries = new byte[0];
-      }
-    } else {
+    transfer(buffer, headerBytesBuffer);
+    if (headerBytesBuffer.hasRemaining()) {
       // still need to wait more bytes for forming headerBytes
-      headerBytesBuffer.put(binaries);
-      // ignore the current data of this method, wait for more bytes come from socket
-      binaries = new byte[0];
+      return PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
     }
 
-    ProcessedPacket processedPacket = session.getProcessedPacket();
-    processedPacket.setPacketReadState(packetReadState);
-    processedPacket.setData(binaries);
+    // we now have exactly the number of bytes in need, no need to use bitwise
+    // method here, just feel free to use utility functions of ByteBuffer
+    headerBytesBuffer.flip();
+    int dataSize = pendingPacket.getPacketHeader().isBigSized() ? headerBytesBuffer.getInt()
+        : Short.toUnsignedInt(headerBytesBuffer.getShort());
 
-    return processedPacket;
+    return prepareData(session, buffer, dataSize);
   }
 
-  private ProcessedPacket handlePacketData(Session session, byte[] binaries) {
-    PacketReadState packetReadState = PacketReadState.WAIT_DATA;
-    PendingPacket pendingPacket = session.getPendingPacket();
-    PacketHeader packetHeader = pendingPacket.getPacketHeader();
-    ByteBuffer dataBuffer = pendingPacket.getBuffer();
-
-    int inNeedPacketLength = dataBuffer.remaining();
-    boolean isThereMore = binaries.length > inNeedPacketLength;
-
-    // when we receive enough bytes to create packet data
-    if (binaries.length >= inNeedPacketLength) {
-      // put bytes data to buffer, from position 0 with the length of packet data
-      dataBuffer.put(binaries, 0, inNeedPacketLength);
+  private PacketReadState prepareData(Session session, ByteBuffer buffer, int dataSize) {
+    if (dataSize < 0) {
+      throw new IllegalArgumentException("Invalid packet data size: " + dataSize);
+    }
 
-      // something went wrong here
-      if (pendingPacket.getExpectedLength() != dataBuffer.capacity()) {
-        throw new IllegalStateException(
-            "Expected data size differs from the buffer capacity! Expected: "
-                + pendingPacket.getExpectedLength() + ", Buffer size: " + dataBuffer.capacity());
-      }
+    PendingPacket pendingPacket = session.getPendingPacket();
+    pendingPacket.setExpectedLength(dataSize);
+
+    // the whole packet data is already available, frames it in place
+    if (buffer.remaining() >= dataSize) {
+      byte[] binaries = new byte[dataSize];
+      buffer.get(binaries);
+      notifyFramedResult(session, pendingPacket.getPacketHeader(), binaries);
+      return PacketReadState.WAIT_NEW_PACKET;
+    }
 
-      // now the packet data is completely collected
-      DataCollection dataCollection = binaryPacketDecoder.decode(packetHeader, binaries);
+    // otherwise, the packet data must be collected across the next socket reads
+    ByteBuffer dataBuffer = reserveBuffer(pendingPacket, dataSize);
+    dataBuffer.put(buffer);
 
-      // result a framed packet data
-      packetFramingListener.onFramedResult(session, dataCollection);
+    return PacketReadState.WAIT_DATA;
+  }
 
-      // change state for the next process, a new cycle
-      packetReadState = PacketReadState.WAIT_NEW_PACKET;
+  private PacketReadState handlePacketData(Session session, ByteBuffer buffer) {
+    PendingPacket pendingPacket = session.getPendingPacket();
+    ByteBuffer dataBuffer = pendingPacket.getBuffer();
 
-    } else {
+    transfer(buffer, dataBuffer);
+    if (dataBuffer.hasRemaining()) {
       // need to wait more data to generate packet data
-      dataBuffer.put(binaries);
+      return PacketReadState.WAIT_DATA;
     }
 
-    // in this case, we have more than bytes in need to construct packet data, so
-    // save the left bytes for the next step (WAIT_NEW_PACKET)
-    // those bytes should be used to produce header bytes for the next packets
-    if (isThereMore) {
-      binaries =
-          ByteUtility.resizeBytesArray(binaries, inNeedPacketLength,
-              binaries.length - inNeedPacketLength);
-    } else {
-      // reset data to wait more bytes from socket
-      binaries = new byte[0];
+    // something went wrong here
+    if (pendingPacket.getExpectedLength() != dataBuffer.position()) {
+      throw new IllegalStateException(
+          "Expected data size differs from the collected data size! Expected: "
+              + pendingPacket.getExpectedLength() + ", Collected size: " + dataBuffer.position());
     }
 
-    ProcessedPacket processedPacket = session.getProcessedPacket();
-    processedPacket.setPacketReadState(packetReadState);
-    processedPacket.setData(binaries);
+    // now the packet data is completely collected
+    dataBuffer.flip();
+    byte[] binaries = new byte[dataBuffer.remaining()];
+    dataBuffer.get(binaries);
+    notifyFramedResult(session, pendingPacket.getPacketHeader(), binaries);
 
-    return processedPacket;
+    // change state for the next process, a new cycle
+    return PacketReadState.WAIT_NEW_PACKET;
+  }
+
+  private void notifyFramedResult(Session session, PacketHeader packetHeader, byte[] binaries) {
+    DataCollection dataCollection = binaryPacketDecoder.decode(session, packetHeader, binaries);
+    // result a framed packet data
+    packetFramingListener.onFramedResult(session, dataCollection);
+  }
+
+  /**
+   * Reuses the session's accumulation buffer when it is large enough, otherwise replaces it by a
+   * bigger one. The returned buffer is cleared and limited to the expected number of bytes.
+   */
+  private ByteBuffer reserveBuffer(PendingPacket pendingPacket, int expectedBytes) {
+    ByteBuffer accumulationBuffer = pendingPacket.getBuffer();
+    if (accumulationBuffer == null || accumulationBuffer.capacity() < expectedBytes) {
+      accumulationBuffer = ByteBuffer.allocate(expectedBytes);
+      pendingPacket.setBuffer(accumulationBuffer);
+    }
+    accumulationBuffer.clear();
+    accumulationBuffer.limit(expectedBytes);
+    return accumulationBuffer;
+  }
+
+  /**
+   * Moves as many bytes as possible from the source to the destination without overflowing it.
+   */
+  private void transfer(ByteBuffer source, ByteBuffer destination) {
+    int length = Math.min(source.remaining(), destination.remaining());
+    int sourceLimit = source.limit();
+    source.limit(source.position() + length);
+    destination.put(source);
+    source.limit(sourceLimit);
   }
 }
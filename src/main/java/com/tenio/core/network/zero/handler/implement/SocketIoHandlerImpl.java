@@ -37,6 +37,7 @@ import com.tenio.core.network.zero.handler.SocketIoHandler;
 import com.tenio.core.network.zero.handler.frame.BinaryPacketFramer;
 import com.tenio.core.network.zero.handler.frame.PacketFramingListener;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 
@@ -100,6 +101,11 @@ public final class SocketIoHandlerImpl extends AbstractIoHandler
     binaryPacketFramer.framing(session, binaries);
   }
 
+  @Override
+  public void sessionRead(Session session, ByteBuffer buffer) {
+    binaryPacketFramer.framing(session, buffer);
+  }
+
   @Override
   public void channelInactive(SocketChannel socketChannel,
                               SelectionKey selectionKey,
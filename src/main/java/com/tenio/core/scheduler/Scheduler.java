@@ -31,7 +31,9 @@ import com.tenio.core.entity.manager.RoomManager;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.scheduler.task.TaskMetrics;
 import com.tenio.core.service.Service;
+import java.util.Map;
 
 /**
  * All APIs designed to schedule tasks.
@@ -90,6 +92,15 @@ public interface Scheduler extends Service {
    */
   void setSystemMonitoringInterval(int interval);
 
+  /**
+   * Retrieves the metrics of every started system task, such as its run durations and the
+   * number of runs skipped because the previous one was still active.
+   *
+   * @return a map of task ids and their {@link TaskMetrics}
+   * @since 0.6.7
+   */
+  Map<String, TaskMetrics> getTaskMetrics();
+
   /**
    * Sets an instance of session manager to the service.
    *
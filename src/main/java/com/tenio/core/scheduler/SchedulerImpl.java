@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.common.task.TaskManager;
 import com.tenio.common.task.implement.TaskManagerImpl;
 import com.tenio.core.entity.manager.PlayerManager;
@@ -33,6 +34,8 @@ import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.scheduler.task.AbstractSystemTask;
+import com.tenio.core.scheduler.task.TaskMetrics;
 import com.tenio.core.scheduler.task.core.AutoCleanOrphanSessionTask;
 import com.tenio.core.scheduler.task.core.AutoDisconnectPlayerTask;
 import com.tenio.core.scheduler.task.core.AutoRemoveRoomTask;
@@ -40,14 +43,30 @@ import com.tenio.core.scheduler.task.core.CcuReportTask;
 import com.tenio.core.scheduler.task.core.DeadlockScanTask;
 import com.tenio.core.scheduler.task.core.SystemMonitoringTask;
 import com.tenio.core.scheduler.task.core.TrafficCounterTask;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The implementation for the schedule service.
  *
+ * <p>All system tasks share one scheduled thread which only triggers them, and a small bounded
+ * worker pool which performs their runs. A task never has more than one active run, so the
+ * worker queue never needs to hold more than one run per task.
+ *
  * @see Scheduler
  */
 public final class SchedulerImpl extends AbstractManager implements Scheduler {
 
+  private static final int WORKER_THREADS = 2;
+  // a task has at most one pending run, so the queue only needs one slot per task
+  private static final int WORKER_QUEUE_SIZE = 7;
+
   private final AutoDisconnectPlayerTask autoDisconnectPlayerTask;
   private final AutoCleanOrphanSessionTask autoCleanOrphanSessionTask;
   private final AutoRemoveRoomTask autoRemoveRoomTask;
@@ -55,7 +74,10 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
   private final DeadlockScanTask deadlockScanTask;
   private final SystemMonitoringTask systemMonitoringTask;
   private final TrafficCounterTask trafficCounterTask;
+  private final Map<String, AbstractSystemTask> startedTasks;
   private TaskManager taskManager;
+  private ScheduledExecutorService scheduledExecutor;
+  private ThreadPoolExecutor workerExecutor;
   private boolean enableCcuReportTask;
   private boolean enableDeadLockScanTask;
   private boolean enableSystemMonitoringTask;
@@ -73,6 +95,7 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
     deadlockScanTask = DeadlockScanTask.newInstance(this.eventManager);
     systemMonitoringTask = SystemMonitoringTask.newInstance(this.eventManager);
     trafficCounterTask = TrafficCounterTask.newInstance(this.eventManager);
+    startedTasks = Collections.synchronizedMap(new LinkedHashMap<>());
 
     initialized = false;
     stopping = false;
@@ -96,6 +119,11 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
 
   private void initializeTasks() {
     taskManager = TaskManagerImpl.newInstance();
+    scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("system-task-scheduler").build());
+    workerExecutor = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(WORKER_QUEUE_SIZE),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("system-task-worker-%d").build());
   }
 
   @Override
@@ -104,23 +132,29 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
       info("START SERVICE", buildgen(getName(), " (", 1, ")"));
     }
 
-    taskManager.create("auto-disconnect-player", autoDisconnectPlayerTask.run());
-    taskManager.create("auto-clean-orphan-session", autoCleanOrphanSessionTask.run());
-    taskManager.create("auto-remove-room", autoRemoveRoomTask.run());
+    startTask("auto-disconnect-player", autoDisconnectPlayerTask);
+    startTask("auto-clean-orphan-session", autoCleanOrphanSessionTask);
+    startTask("auto-remove-room", autoRemoveRoomTask);
     if (enableCcuReportTask) {
-      taskManager.create("ccu-report", ccuReportTask.run());
+      startTask("ccu-report", ccuReportTask);
     }
     if (enableDeadLockScanTask) {
-      taskManager.create("dead-lock", deadlockScanTask.run());
+      startTask("dead-lock", deadlockScanTask);
     }
     if (enableSystemMonitoringTask) {
-      taskManager.create("system-monitoring", systemMonitoringTask.run());
+      startTask("system-monitoring", systemMonitoringTask);
     }
     if (enableTrafficCounterTask) {
-      taskManager.create("traffic-counter", trafficCounterTask.run());
+      startTask("traffic-counter", trafficCounterTask);
     }
   }
 
+  private void startTask(String id, AbstractSystemTask task) {
+    task.configureExecutors(scheduledExecutor, workerExecutor);
+    taskManager.create(id, task.run());
+    startedTasks.put(id, task);
+  }
+
   @Override
   public void shutdown() {
     if (!initialized) {
@@ -140,6 +174,8 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
 
   private void attemptToShutdown() {
     taskManager.clear();
+    scheduledExecutor.shutdownNow();
+    workerExecutor.shutdownNow();
     if (isInfoEnabled()) {
       info("STOPPED SERVICE", buildgen(getName(), " (", 1, ")"));
     }
@@ -200,6 +236,15 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
     enableSystemMonitoringTask = (interval > 0);
   }
 
+  @Override
+  public Map<String, TaskMetrics> getTaskMetrics() {
+    Map<String, TaskMetrics> metrics = new LinkedHashMap<>();
+    synchronized (startedTasks) {
+      startedTasks.forEach((id, task) -> metrics.put(id, task.getMetrics()));
+    }
+    return metrics;
+  }
+
   @Override
   public void setSessionManager(SessionManager sessionManager) {
     autoCleanOrphanSessionTask.setSessionManager(sessionManager);
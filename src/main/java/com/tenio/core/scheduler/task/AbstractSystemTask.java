@@ -24,12 +24,27 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.common.logger.SystemLogger;
 import com.tenio.common.task.Task;
 import com.tenio.core.event.implement.EventManager;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The abstract task for system related schedule.
+ *
+ * <p>A task is triggered by a shared scheduled executor and its work is handed to a shared worker
+ * executor, both are owned by the scheduler service. A trigger is skipped while the previous run
+ * of the same task is still active, so a slow run never piles up workers, it is counted as an
+ * overrun instead. When no executors are configured, the task falls back to its own single
+ * thread.
  */
 public abstract class AbstractSystemTask extends SystemLogger implements Task {
 
@@ -49,6 +64,15 @@ public abstract class AbstractSystemTask extends SystemLogger implements Task {
    */
   protected int interval;
 
+  private final AtomicBoolean running;
+  private final AtomicLong runs;
+  private final AtomicLong overruns;
+  private final AtomicLong lastDuration;
+  private final AtomicLong maxDuration;
+  private final AtomicLong totalDuration;
+  private ScheduledExecutorService scheduledExecutor;
+  private Executor workerExecutor;
+
   /**
    * Initialization.
    *
@@ -58,6 +82,12 @@ public abstract class AbstractSystemTask extends SystemLogger implements Task {
     this.eventManager = eventManager;
     initialDelay = DEFAULT_INITIAL_DELAY_IN_SECONDS;
     interval = DEFAULT_INTERVAL_IN_SECONDS;
+    running = new AtomicBoolean(false);
+    runs = new AtomicLong();
+    overruns = new AtomicLong();
+    lastDuration = new AtomicLong();
+    maxDuration = new AtomicLong();
+    totalDuration = new AtomicLong();
   }
 
   /**
@@ -68,4 +98,90 @@ public abstract class AbstractSystemTask extends SystemLogger implements Task {
   public void setInterval(int interval) {
     this.interval = interval;
   }
+
+  /**
+   * Sets the shared executors which trigger and run the task.
+   *
+   * @param scheduledExecutor the {@link ScheduledExecutorService} which triggers runs
+   * @param workerExecutor    the {@link Executor} which performs runs
+   * @since 0.6.7
+   */
+  public void configureExecutors(ScheduledExecutorService scheduledExecutor,
+                                 Executor workerExecutor) {
+    this.scheduledExecutor = scheduledExecutor;
+    this.workerExecutor = workerExecutor;
+  }
+
+  @Override
+  public ScheduledFuture<?> run() {
+    if (scheduledExecutor == null) {
+      var threadFactory = new ThreadFactoryBuilder().setDaemon(true)
+          .setNameFormat(getClass().getSimpleName() + "-%d").build();
+      configureExecutors(Executors.newSingleThreadScheduledExecutor(threadFactory),
+          Runnable::run);
+    }
+    return scheduledExecutor.scheduleAtFixedRate(this::trigger, initialDelay, interval,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Retrieves the metrics of this task's runs.
+   *
+   * @return a {@link TaskMetrics} instance
+   * @since 0.6.7
+   */
+  public TaskMetrics getMetrics() {
+    return new TaskMetrics(runs.get(), overruns.get(), lastDuration.get(), maxDuration.get(),
+        totalDuration.get());
+  }
+
+  /**
+   * Performs one run of the task.
+   *
+   * @since 0.6.7
+   */
+  protected abstract void execute();
+
+  private void trigger() {
+    if (!running.compareAndSet(false, true)) {
+      overruns.incrementAndGet();
+      if (isInfoEnabled()) {
+        info("SYSTEM TASK", getClass().getSimpleName(),
+            " was skipped, the previous run is still active");
+      }
+      return;
+    }
+    try {
+      workerExecutor.execute(this::perform);
+    } catch (RejectedExecutionException exception) {
+      running.set(false);
+      overruns.incrementAndGet();
+      if (isErrorEnabled()) {
+        error(exception, getClass().getSimpleName());
+      }
+    }
+  }
+
+  private void perform() {
+    long startTime = System.nanoTime();
+    try {
+      execute();
+    } catch (Exception exception) {
+      // keeps the task alive, an escaped exception would cancel an inline periodic trigger
+      if (isErrorEnabled()) {
+        error(exception, getClass().getSimpleName());
+      }
+    } finally {
+      long duration = System.nanoTime() - startTime;
+      runs.incrementAndGet();
+      lastDuration.set(duration);
+      maxDuration.accumulateAndGet(duration, Math::max);
+      totalDuration.addAndGet(duration);
+      running.set(false);
+      if (isDebugEnabled()) {
+        debug("SYSTEM TASK", getClass().getSimpleName(), " took ",
+            TimeUnit.NANOSECONDS.toMicros(duration), " us");
+      }
+    }
+  }
 }
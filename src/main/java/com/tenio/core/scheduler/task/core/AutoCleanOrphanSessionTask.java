@@ -24,23 +24,19 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
-import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * For a session which is no longer associated to any player (orphan), this task
- * will scan in period time and force them to disconnect.
+ * will check in period time and force them to disconnect. Only sessions whose orphan deadline
+ * has elapsed are checked.
  *
+ * @see SessionManager#computeOrphanSessions(java.util.function.Consumer)
  * @since 0.5.0
  */
 public final class AutoCleanOrphanSessionTask extends AbstractSystemTask {
@@ -62,41 +58,25 @@ public final class AutoCleanOrphanSessionTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-clean-orphan-session-task")
-            .build();
-    var threadFactoryWorker =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-clean-orphan-worker")
-            .build();
-    var executors = Executors.newCachedThreadPool(threadFactoryWorker);
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> {
-          if (isDebugEnabled()) {
-            debug("AUTO CLEAN ORPHAN SESSION",
-                "Checking orphan sessions in ", sessionManager.getSessionCount(), " entities");
-          }
-          executors.execute(() -> {
-            Iterator<Session> iterator = sessionManager.getReadonlySessionsList().listIterator();
-            while (iterator.hasNext()) {
-              Session session = iterator.next();
-              if (session.isActivated() && session.isOrphan()) {
-                try {
-                  if (isDebugEnabled()) {
-                    debug("AUTO CLEAN ORPHAN SESSION",
-                        "Session ", session.getId(),
-                        " is going to be forced to remove by the cleaning task");
-                  }
-                  session.close(ConnectionDisconnectMode.ORPHAN, PlayerDisconnectMode.CONNECTION_LOST);
-                } catch (IOException exception) {
-                  if (isErrorEnabled()) {
-                    error(exception, session.toString());
-                  }
-                }
-              }
-            }
-          });
-        }, initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    if (isDebugEnabled()) {
+      debug("AUTO CLEAN ORPHAN SESSION",
+          "Checking orphan sessions in ", sessionManager.getSessionCount(), " entities");
+    }
+    sessionManager.computeOrphanSessions(session -> {
+      try {
+        if (isDebugEnabled()) {
+          debug("AUTO CLEAN ORPHAN SESSION",
+              "Session ", session.getId(),
+              " is going to be forced to remove by the cleaning task");
+        }
+        session.close(ConnectionDisconnectMode.ORPHAN, PlayerDisconnectMode.CONNECTION_LOST);
+      } catch (IOException exception) {
+        if (isErrorEnabled()) {
+          error(exception, session.toString());
+        }
+      }
+    });
   }
 
   /**
@@ -24,24 +24,20 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.tenio.core.entity.Player;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 import com.tenio.core.server.ServerImpl;
-import java.util.Iterator;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * For a player which is in IDLE mode, that means for a long time without
  * receiving or sending any data from the server or from a client. This task
- * will scan those IDLE players in period time and force them to log out. Those
- * players got a "timeout" error.
+ * will check those IDLE players in period time and force them to log out. Those
+ * players got a "timeout" error. Only players whose idle deadline has elapsed are checked.
+ *
+ * @see PlayerManager#computeIdlePlayers(java.util.function.Consumer)
  */
 public final class AutoDisconnectPlayerTask extends AbstractSystemTask {
 
@@ -62,48 +58,20 @@ public final class AutoDisconnectPlayerTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-disconnect-player-task")
-            .build();
-    var threadFactoryWorker =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-disconnect-player-worker")
-            .build();
-    var executors = Executors.newCachedThreadPool(threadFactoryWorker);
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> {
-          if (isDebugEnabled()) {
-            debug("AUTO DISCONNECT PLAYER",
-                "Checking IDLE players in ", playerManager.getPlayerCount(), " entities");
-          }
-          executors.execute(() -> {
-            Iterator<Player> iterator = playerManager.getReadonlyPlayersList().listIterator();
-            while (iterator.hasNext()) {
-              Player player = iterator.next();
-              if (player.isNeverDeported()) {
-                if (player.isIdleNeverDeported()) {
-                  if (isDebugEnabled()) {
-                    debug("AUTO DISCONNECT PLAYER",
-                        player.getIdentity(),
-                        " (never deported) is going to be forced to remove by the cleaning task");
-                  }
-                  ServerImpl.getInstance().getApi().logout(player, ConnectionDisconnectMode.IDLE,
-                      PlayerDisconnectMode.IDLE);
-                }
-              } else {
-                if (player.isIdle()) {
-                  if (isDebugEnabled()) {
-                    debug("AUTO DISCONNECT PLAYER",
-                        player.getIdentity(),
-                        " is going to be forced to remove by the cleaning task");
-                  }
-                  ServerImpl.getInstance().getApi().logout(player, ConnectionDisconnectMode.IDLE,
-                      PlayerDisconnectMode.IDLE);
-                }
-              }
-            }
-          });
-        }, initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    if (isDebugEnabled()) {
+      debug("AUTO DISCONNECT PLAYER",
+          "Checking IDLE players in ", playerManager.getPlayerCount(), " entities");
+    }
+    playerManager.computeIdlePlayers(player -> {
+      if (isDebugEnabled()) {
+        debug("AUTO DISCONNECT PLAYER",
+            player.getIdentity(), player.isNeverDeported() ? " (never deported)" : "",
+            " is going to be forced to remove by the cleaning task");
+      }
+      ServerImpl.getInstance().getApi().logout(player, ConnectionDisconnectMode.IDLE,
+          PlayerDisconnectMode.IDLE);
+    });
   }
 
   /**
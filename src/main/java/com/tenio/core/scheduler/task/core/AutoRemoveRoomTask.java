@@ -24,7 +24,6 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.entity.Room;
 import com.tenio.core.entity.define.mode.RoomRemoveMode;
@@ -33,9 +32,6 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 import com.tenio.core.server.ServerImpl;
 import java.util.Iterator;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * To remove the empty room (a room without any players) in period time. You can
@@ -60,33 +56,23 @@ public final class AutoRemoveRoomTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-remove-room-task").build();
-    var threadFactoryWorker =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("auto-remove-room-worker").build();
-    var executors = Executors.newCachedThreadPool(threadFactoryWorker);
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> {
-          if (isDebugEnabled()) {
-            debug("AUTO REMOVE ROOM",
-                "Checking empty rooms in ", roomManager.getRoomCount(), " entities");
-          }
-          executors.execute(() -> {
-            Iterator<Room> iterator = roomManager.getReadonlyRoomsList().listIterator();
-            while (iterator.hasNext()) {
-              Room room = iterator.next();
-              if (room.getRoomRemoveMode() == RoomRemoveMode.WHEN_EMPTY && room.isEmpty() &&
-                  room.getState().isIdle()) {
-                if (isDebugEnabled()) {
-                  debug("AUTO REMOVE ROOM", "Room ", room.getId(),
-                      " is going to be forced to remove by the cleaning task");
-                }
-                ServerImpl.getInstance().getApi().removeRoom(room, RoomRemoveMode.WHEN_EMPTY);
-              }
-            }
-          });
-        }, initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    if (isDebugEnabled()) {
+      debug("AUTO REMOVE ROOM",
+          "Checking empty rooms in ", roomManager.getRoomCount(), " entities");
+    }
+    Iterator<Room> iterator = roomManager.getReadonlyRoomsList().listIterator();
+    while (iterator.hasNext()) {
+      Room room = iterator.next();
+      if (room.getRoomRemoveMode() == RoomRemoveMode.WHEN_EMPTY && room.isEmpty() &&
+          room.getState().isIdle()) {
+        if (isDebugEnabled()) {
+          debug("AUTO REMOVE ROOM", "Room ", room.getId(),
+              " is going to be forced to remove by the cleaning task");
+        }
+        ServerImpl.getInstance().getApi().removeRoom(room, RoomRemoveMode.WHEN_EMPTY);
+      }
+    }
   }
 
   /**
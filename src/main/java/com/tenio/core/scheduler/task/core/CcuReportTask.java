@@ -24,15 +24,11 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * To retrieve the CCU in period time. You can configure this time in your own
@@ -57,12 +53,8 @@ public final class CcuReportTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ccu-report-task").build();
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> eventManager.emit(ServerEvent.FETCHED_CCU_INFO, playerManager.getPlayerCount()),
-        initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    eventManager.emit(ServerEvent.FETCHED_CCU_INFO, playerManager.getPlayerCount());
   }
 
   /**
@@ -24,16 +24,12 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * To detect deadlock in period time. You can configure this time in your own
@@ -60,11 +56,8 @@ public final class DeadlockScanTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("deadlock-scan-task").build();
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        this::checkForDeadlockedThreads, initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    checkForDeadlockedThreads();
   }
 
   private void checkForDeadlockedThreads() {
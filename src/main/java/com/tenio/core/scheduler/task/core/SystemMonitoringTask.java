@@ -24,15 +24,11 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.monitoring.system.SystemMonitoring;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * To retrieve the current system information in period time. You can configure
@@ -59,14 +55,11 @@ public final class SystemMonitoringTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("system-monitoring-task").build();
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> eventManager.emit(ServerEvent.SYSTEM_MONITORING, systemMonitoring.getCpuUsage(),
-            systemMonitoring.getTotalMemory(), systemMonitoring.getUsedMemory(),
-            systemMonitoring.getFreeMemory(),
-            systemMonitoring.countRunningThreads()),
-        initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    eventManager.emit(ServerEvent.SYSTEM_MONITORING, systemMonitoring.getCpuUsage(),
+        systemMonitoring.getTotalMemory(), systemMonitoring.getUsedMemory(),
+        systemMonitoring.getFreeMemory(),
+        systemMonitoring.countRunningThreads());
   }
+
 }
@@ -24,18 +24,23 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task.core;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.statistic.LatencySnapshot;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.network.statistic.RateSnapshot;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Collecting the traffic data like the amount of reader and writer binary.
+ * Collecting the traffic data like the amount of reader and writer binary. Every metric is
+ * reported with its running total and its rates over the last 1, 10 and 60 seconds. The latency
+ * histograms of the request/response pipeline and the packet compression information are
+ * reported at the same time, each latency report covers the latencies recorded since the previous
+ * one.
+ *
+ * @see RateSnapshot
+ * @see LatencySnapshot
  */
 public final class TrafficCounterTask extends AbstractSystemTask {
 
@@ -57,18 +62,25 @@ public final class TrafficCounterTask extends AbstractSystemTask {
   }
 
   @Override
-  public ScheduledFuture<?> run() {
-    var threadFactoryTask =
-        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("traffic-counter-task").build();
-    return Executors.newSingleThreadScheduledExecutor(threadFactoryTask).scheduleAtFixedRate(
-        () -> eventManager.emit(ServerEvent.FETCHED_BANDWIDTH_INFO,
-            networkReaderStatistic.getReadBytes(),
-            networkReaderStatistic.getReadPackets(),
-            networkReaderStatistic.getReadDroppedPackets(),
-            networkWriterStatistic.getWrittenBytes(), networkWriterStatistic.getWrittenPackets(),
-            networkWriterStatistic.getWrittenDroppedPacketsByPolicy(),
-            networkWriterStatistic.getWrittenDroppedPacketsByFull()),
-        initialDelay, interval, TimeUnit.SECONDS);
+  protected void execute() {
+    eventManager.emit(ServerEvent.FETCHED_BANDWIDTH_INFO,
+        networkReaderStatistic.getReadBytesRate(),
+        networkReaderStatistic.getReadPacketsRate(),
+        networkReaderStatistic.getReadDroppedPacketsRate(),
+        networkWriterStatistic.getWrittenBytesRate(),
+        networkWriterStatistic.getWrittenPacketsRate(),
+        networkWriterStatistic.getWrittenDroppedPacketsByPolicyRate(),
+        networkWriterStatistic.getWrittenDroppedPacketsByFullRate());
+    eventManager.emit(ServerEvent.FETCHED_LATENCY_INFO,
+        networkReaderStatistic.getReadToEnqueueLatency().getSnapshotAndReset(),
+        networkReaderStatistic.getEnqueueToProcessLatency().getSnapshotAndReset(),
+        networkReaderStatistic.getHandlerExecutionLatency().getSnapshotAndReset(),
+        networkWriterStatistic.getWriteLatency().getSnapshotAndReset());
+    eventManager.emit(ServerEvent.FETCHED_COMPRESSION_INFO,
+        networkWriterStatistic.getCompressedPacketsRate(),
+        networkWriterStatistic.getCompressionSkippedPacketsRate(),
+        networkWriterStatistic.getCompressionSavedBytesRate(),
+        networkWriterStatistic.getCompressionLatency().getSnapshotAndReset());
   }
 
   /**
@@ -0,0 +1,291 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.scheduler.timer;
+
+import java.util.function.Consumer;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A hashed timing wheel which keeps deadlines of a large number of entities and only visits those
+ * whose deadline has elapsed.
+ *
+ * <p>Time is divided into ticks, and every deadline is hashed into one of the wheel's buckets by
+ * its tick. Each bucket is an intrusive doubly linked list of {@link Timeout} nodes, so
+ * scheduling, rescheduling and cancelling a deadline are all O(1), and rescheduling an existing
+ * node never allocates. Advancing the wheel only walks the buckets of the elapsed ticks, a node
+ * whose deadline lies further than one revolution away simply stays in its bucket until its own
+ * tick comes.</p>
+ *
+ * <p>A node expires at the first advancing at or after its deadline, so the precision is one tick.
+ * Expired nodes are unlinked before the callback is invoked, the callback is free to reschedule
+ * or to cancel them.</p>
+ *
+ * @param <T> the type of the entity which owns a deadline
+ * @since 0.6.7
+ */
+@ThreadSafe
+public final class HashedTimingWheel<T> {
+
+  /**
+   * The default duration of a tick in milliseconds.
+   */
+  public static final long DEFAULT_TICK_DURATION_IN_MILLISECONDS = 1000L;
+  /**
+   * The default number of buckets, must be a power of two.
+   */
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private static final int UNLINKED = -1;
+
+  private final Timeout<T>[] buckets;
+  private final long tickDuration;
+  private final int mask;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private HashedTimingWheel(long tickDuration, int wheelSize, long currentTime) {
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("The tick duration must be positive");
+    }
+    if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("The wheel size must be a positive power of two");
+    }
+    this.tickDuration = tickDuration;
+    buckets = (Timeout<T>[]) new Timeout[wheelSize];
+    mask = wheelSize - 1;
+    currentTick = currentTime / tickDuration;
+  }
+
+  /**
+   * Creates a new timing wheel.
+   *
+   * @param tickDuration the duration of a tick in milliseconds
+   * @param wheelSize    the number of buckets, must be a power of two
+   * @param currentTime  the current time in milliseconds, the wheel starts from here
+   * @param <T>          the type of the entity which owns a deadline
+   * @return a new instance of {@link HashedTimingWheel}
+   * @throws IllegalArgumentException when the tick duration or the wheel size is invalid
+   */
+  public static <T> HashedTimingWheel<T> newInstance(long tickDuration, int wheelSize,
+                                                     long currentTime) {
+    return new HashedTimingWheel<>(tickDuration, wheelSize, currentTime);
+  }
+
+  /**
+   * Creates a new timing wheel with the default tick duration and wheel size.
+   *
+   * @param currentTime the current time in milliseconds, the wheel starts from here
+   * @param <T>         the type of the entity which owns a deadline
+   * @return a new instance of {@link HashedTimingWheel}
+   */
+  public static <T> HashedTimingWheel<T> newInstance(long currentTime) {
+    return newInstance(DEFAULT_TICK_DURATION_IN_MILLISECONDS, DEFAULT_WHEEL_SIZE, currentTime);
+  }
+
+  /**
+   * Schedules a new deadline for an entity. This is the only operation which allocates, the
+   * returned node should be kept and reused for later rescheduling.
+   *
+   * @param target   the entity which owns the deadline
+   * @param deadline the deadline in milliseconds
+   * @return a new {@link Timeout} node linked into the wheel
+   */
+  public synchronized Timeout<T> schedule(T target, long deadline) {
+    var timeout = new Timeout<>(target);
+    link(timeout, deadline);
+    return timeout;
+  }
+
+  /**
+   * Moves a node to a new deadline, whether it is still linked or has just expired.
+   *
+   * @param timeout  the node returned by {@link #schedule(Object, long)}
+   * @param deadline the new deadline in milliseconds
+   * @return {@code true} if the node is rescheduled, {@code false} if it was cancelled
+   */
+  public synchronized boolean reschedule(Timeout<T> timeout, long deadline) {
+    if (timeout.cancelled) {
+      return false;
+    }
+    if (timeout.bucket != UNLINKED) {
+      unlink(timeout);
+    }
+    link(timeout, deadline);
+    return true;
+  }
+
+  /**
+   * Cancels a node, it is unlinked from the wheel and can no longer be rescheduled.
+   *
+   * @param timeout the node returned by {@link #schedule(Object, long)}
+   */
+  public synchronized void cancel(Timeout<T> timeout) {
+    timeout.cancelled = true;
+    if (timeout.bucket != UNLINKED) {
+      unlink(timeout);
+    }
+  }
+
+  /**
+   * Advances the wheel to the current time and hands every node whose deadline has elapsed to the
+   * callback. Only the buckets of the elapsed ticks are walked, and at most one revolution is
+   * walked however long the wheel was not advanced.
+   *
+   * @param currentTime the current time in milliseconds
+   * @param onExpired   a {@link Consumer} to handle each expired node, it is invoked outside of
+   *                    the wheel's lock
+   */
+  public void advance(long currentTime, Consumer<Timeout<T>> onExpired) {
+    Timeout<T> expired = null;
+    synchronized (this) {
+      long targetTick = currentTime / tickDuration;
+      if (targetTick <= currentTick) {
+        return;
+      }
+      long ticks = Math.min(targetTick - currentTick, buckets.length);
+      for (long i = 1; i <= ticks; i++) {
+        var timeout = buckets[(int) ((currentTick + i) & mask)];
+        while (timeout != null) {
+          var next = timeout.next;
+          if (timeout.deadlineTick <= targetTick) {
+            unlink(timeout);
+            timeout.nextExpired = expired;
+            expired = timeout;
+          }
+          timeout = next;
+        }
+      }
+      currentTick = targetTick;
+    }
+
+    while (expired != null) {
+      var next = expired.nextExpired;
+      expired.nextExpired = null;
+      onExpired.accept(expired);
+      expired = next;
+    }
+  }
+
+  /**
+   * Retrieves the number of nodes which are currently linked into the wheel.
+   *
+   * @return the number of pending deadlines
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Unlinks all nodes, they are left cancelled.
+   */
+  public synchronized void clear() {
+    for (int i = 0; i < buckets.length; i++) {
+      var timeout = buckets[i];
+      while (timeout != null) {
+        var next = timeout.next;
+        timeout.cancelled = true;
+        timeout.bucket = UNLINKED;
+        timeout.previous = null;
+        timeout.next = null;
+        timeout = next;
+      }
+      buckets[i] = null;
+    }
+    size = 0;
+  }
+
+  private void link(Timeout<T> timeout, long deadline) {
+    // rounds up, so a node never expires before its deadline, and a deadline which is already
+    // in the past lands on the next tick instead of a bucket that has been walked
+    long deadlineTick = Math.max(Math.floorDiv(deadline + tickDuration - 1, tickDuration),
+        currentTick + 1);
+    int index = (int) (deadlineTick & mask);
+    timeout.deadlineTick = deadlineTick;
+    timeout.bucket = index;
+    timeout.previous = null;
+    timeout.next = buckets[index];
+    if (timeout.next != null) {
+      timeout.next.previous = timeout;
+    }
+    buckets[index] = timeout;
+    size++;
+  }
+
+  private void unlink(Timeout<T> timeout) {
+    if (timeout.previous != null) {
+      timeout.previous.next = timeout.next;
+    } else {
+      buckets[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.previous = timeout.previous;
+    }
+    timeout.previous = null;
+    timeout.next = null;
+    timeout.bucket = UNLINKED;
+    size--;
+  }
+
+  /**
+   * A node of the wheel, it holds the deadline of one entity.
+   *
+   * @param <T> the type of the entity which owns the deadline
+   */
+  public static final class Timeout<T> {
+
+    private final T target;
+    private Timeout<T> previous;
+    private Timeout<T> next;
+    private Timeout<T> nextExpired;
+    private long deadlineTick;
+    private int bucket;
+    private volatile boolean cancelled;
+
+    private Timeout(T target) {
+      this.target = target;
+      bucket = UNLINKED;
+    }
+
+    /**
+     * Retrieves the entity which owns this deadline.
+     *
+     * @return the entity
+     */
+    public T getTarget() {
+      return target;
+    }
+
+    /**
+     * Determines whether this node is cancelled.
+     *
+     * @return {@code true} if the node is cancelled, otherwise {@code false}
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+}
@@ -36,6 +36,7 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.entity.protocol.Response;
 import com.tenio.core.network.zero.engine.manager.DatagramChannelManager;
 import io.netty.bootstrap.Bootstrap;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * This class manages the workflow of the current server. The instruction's orders are important,
@@ -140,4 +141,20 @@ public interface Server {
    * @param markedAsLast marks as this writing is the last one
    */
   void write(Response response, boolean markedAsLast);
+
+  /**
+   * Writes down data to socket/channel to send them to client sides after a delay, the caller is
+   * not blocked. The events of recipient players are emitted and the packets are handed over to
+   * the writers when they come due.
+   *
+   * <p>Note: The returned {@link ScheduledFuture} is new in 0.6.7, it replaces the former
+   * {@code void} result of {@link Response#writeInDelay(long)}.
+   *
+   * @param response            an instance of {@link Response} using to carry conveying
+   *                            information
+   * @param delayInMilliseconds the delay in milliseconds
+   * @return a {@link ScheduledFuture} which can be used to cancel the writing
+   * @since 0.6.7
+   */
+  ScheduledFuture<?> writeInDelay(Response response, long delayInMilliseconds);
 }
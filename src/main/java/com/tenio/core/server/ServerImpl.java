@@ -42,15 +42,21 @@ import com.tenio.core.entity.manager.RoomManager;
 import com.tenio.core.entity.manager.implement.ChannelManagerImpl;
 import com.tenio.core.entity.manager.implement.PlayerManagerImpl;
 import com.tenio.core.entity.manager.implement.RoomManagerImpl;
+import com.tenio.core.exception.ConfigurationException;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.Network;
 import com.tenio.core.network.NetworkImpl;
+import com.tenio.core.network.codec.compression.AdaptiveCompressionPolicy;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.network.codec.compression.DeflatePacketCompressor;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.codec.encryption.AesGcmPacketEncryptor;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
+import com.tenio.core.network.codec.encryption.BinaryPacketSessionEncryptor;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.entity.packet.policy.DefaultPacketQueuePolicy;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
@@ -68,6 +74,11 @@ import com.tenio.core.server.core.ZeroProcessorImpl;
 import com.tenio.core.server.setting.ConfigurationAssessment;
 import com.tenio.core.utility.CommandUtility;
 import java.io.IOError;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledFuture;
+import java.util.zip.Deflater;
 import javax.annotation.concurrent.ThreadSafe;
 import org.jline.reader.EndOfFileException;
 import org.jline.reader.LineReaderBuilder;
@@ -164,6 +175,7 @@ public final class ServerImpl extends SystemLogger implements Server {
     assessment.assess();
 
     setupClientCommands(bootstrapHandler.getClientCommandManager());
+    setupEventService(configuration);
     setupEntitiesManagementService(configuration);
     setupNetworkService(configuration, bootstrapHandler);
     setupInternalProcessorService(configuration, bootstrapHandler);
@@ -213,6 +225,16 @@ public final class ServerImpl extends SystemLogger implements Server {
     this.clientCommandManager = clientCommandManager;
   }
 
+  private void setupEventService(Configuration configuration) {
+    eventManager.setAsynchronousEventWorkers(
+        getIntOrDefault(configuration, CoreConfigurationType.WORKER_ASYNCHRONOUS_EVENT,
+            CoreConstant.DEFAULT_ASYNCHRONOUS_EVENT_WORKERS),
+        isEnabled(configuration,
+            CoreConfigurationType.PROP_ASYNCHRONOUS_EVENT_VIRTUAL_THREADS),
+        getIntOrDefault(configuration, CoreConfigurationType.PROP_ASYNCHRONOUS_EVENT_QUEUE_SIZE,
+            CoreConstant.DEFAULT_ASYNCHRONOUS_EVENT_QUEUE_SIZE));
+  }
+
   private void setupEntitiesManagementService(Configuration configuration) {
     playerManager.configureMaxIdleTimeInSeconds(
         configuration.getInt(CoreConfigurationType.PROP_MAX_PLAYER_IDLE_TIME));
@@ -304,6 +326,17 @@ public final class ServerImpl extends SystemLogger implements Server {
         configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE));
     network.setSocketWriterWorkers(
         configuration.getInt(CoreConfigurationType.WORKER_SOCKET_WRITER));
+    network.setSocketWriterBatchLimits(
+        getIntOrDefault(configuration,
+            CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BATCH_PACKETS,
+            CoreConstant.DEFAULT_SOCKET_WRITER_BATCH_PACKETS),
+        getIntOrDefault(configuration,
+            CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BATCH_BYTES,
+            CoreConstant.DEFAULT_SOCKET_WRITER_BATCH_BYTES));
+    network.setSocketWriterWaitStrategy(getWaitStrategy(configuration,
+        CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_WAIT_STRATEGY));
+    network.setSocketWriterRingBufferSize(getIntOrDefault(configuration,
+        CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_RING_BUFFER_SIZE, 0));
 
     network
         .setWebSocketConsumerWorkers(
@@ -340,8 +373,14 @@ public final class ServerImpl extends SystemLogger implements Server {
 
     BinaryPacketCompressor binaryPacketCompressor =
         bootstrapHandler.getBeanByClazz(BinaryPacketCompressor.class);
+    if (binaryPacketCompressor == null) {
+      binaryPacketCompressor = createBuiltInCompressor(configuration);
+    }
     BinaryPacketEncryptor binaryPacketEncryptor =
         bootstrapHandler.getBeanByClazz(BinaryPacketEncryptor.class);
+    if (binaryPacketEncryptor == null) {
+      binaryPacketEncryptor = createBuiltInEncryptor(configuration);
+    }
     BinaryPacketEncoder binaryPacketEncoder = new BinaryPacketEncoderImpl();
     BinaryPacketDecoder binaryPacketDecoder = new BinaryPacketDecoderImpl();
 
@@ -349,7 +388,21 @@ public final class ServerImpl extends SystemLogger implements Server {
         configuration.getInt(
             CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_THRESHOLD_BYTES));
     binaryPacketEncoder.setCompressor(binaryPacketCompressor);
+    int compressionBreakEvenPercent = getIntOrDefault(configuration,
+        CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_BREAK_EVEN_PERCENT, 0);
+    if (compressionBreakEvenPercent < 0 || compressionBreakEvenPercent > 100) {
+      throw new ConfigurationException("The break-even must be in between 0 and 100 percent for " +
+          CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_BREAK_EVEN_PERCENT);
+    }
+    if (compressionBreakEvenPercent > 0) {
+      binaryPacketEncoder.setCompressionPolicy(AdaptiveCompressionPolicy.newInstance(
+          compressionBreakEvenPercent, network.getNetworkWriterStatistic()));
+    }
+    network.setPacketCompressionContextTakeover(isEnabled(configuration,
+        CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_CONTEXT_TAKEOVER));
     binaryPacketEncoder.setEncryptor(binaryPacketEncryptor);
+    network.setPacketEncryptionPerSession(
+        binaryPacketEncryptor instanceof BinaryPacketSessionEncryptor);
 
     binaryPacketDecoder.setCompressor(binaryPacketCompressor);
     binaryPacketDecoder.setEncryptor(binaryPacketEncryptor);
@@ -358,6 +411,81 @@ public final class ServerImpl extends SystemLogger implements Server {
     network.setPacketEncoder(binaryPacketEncoder);
   }
 
+  private BinaryPacketCompressor createBuiltInCompressor(Configuration configuration) {
+    if (configuration.get(CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSOR) == null) {
+      return null;
+    }
+    var compressor = configuration.getString(CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSOR);
+    if (!"deflate".equalsIgnoreCase(compressor)) {
+      throw new ConfigurationException("Unknown packet compressor: " + compressor + " for " +
+          CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSOR);
+    }
+
+    byte[] dictionary = null;
+    if (configuration.get(CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_DICTIONARY) !=
+        null) {
+      var dictionaryPath = configuration.getString(
+          CoreConfigurationType.NETWORK_PROP_PACKET_COMPRESSION_DICTIONARY);
+      try {
+        dictionary = Files.readAllBytes(Path.of(dictionaryPath));
+      } catch (IOException exception) {
+        throw new ConfigurationException(
+            "Unable to read the packet compression dictionary: " + dictionaryPath);
+      }
+    }
+    return DeflatePacketCompressor.newInstance(Deflater.BEST_SPEED, dictionary);
+  }
+
+  private BinaryPacketEncryptor createBuiltInEncryptor(Configuration configuration) {
+    if (configuration.get(CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTOR) == null) {
+      return null;
+    }
+    var encryptor = configuration.getString(CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTOR);
+    if (!"aes-gcm".equalsIgnoreCase(encryptor)) {
+      throw new ConfigurationException("Unknown packet encryptor: " + encryptor + " for " +
+          CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTOR);
+    }
+
+    byte[] key = null;
+    if (configuration.get(CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTION_KEY) != null) {
+      var keyPath =
+          configuration.getString(CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTION_KEY);
+      try {
+        key = Files.readAllBytes(Path.of(keyPath));
+      } catch (IOException exception) {
+        throw new ConfigurationException("Unable to read the packet encryption key: " + keyPath);
+      }
+    }
+    try {
+      return AesGcmPacketEncryptor.newInstance(key);
+    } catch (IllegalArgumentException exception) {
+      throw new ConfigurationException(exception.getMessage() + " for " +
+          CoreConfigurationType.NETWORK_PROP_PACKET_ENCRYPTION_KEY);
+    }
+  }
+
+  private int getIntOrDefault(Configuration configuration, CoreConfigurationType type,
+                              int defaultValue) {
+    return configuration.get(type) != null ? configuration.getInt(type) : defaultValue;
+  }
+
+  private boolean isEnabled(Configuration configuration, CoreConfigurationType type) {
+    return configuration.get(type) != null && configuration.getBoolean(type);
+  }
+
+  private WaitStrategy getWaitStrategy(Configuration configuration,
+                                       CoreConfigurationType type) {
+    if (configuration.get(type) == null) {
+      return WaitStrategy.BLOCKING;
+    }
+    var waitStrategy = WaitStrategy.getByValue(configuration.getString(type));
+    if (waitStrategy == null) {
+      throw new ConfigurationException(
+          "Unknown wait strategy: " + configuration.getString(type) + " for " + type);
+    }
+    return waitStrategy;
+  }
+
   private void setupInternalProcessorService(Configuration configuration,
                                              BootstrapHandler bootstrapHandler) {
     RequestPolicy requestPolicy = bootstrapHandler.getBeanByClazz(RequestPolicy.class);
@@ -371,6 +499,14 @@ public final class ServerImpl extends SystemLogger implements Server {
             configuration.getInt(CoreConfigurationType.PROP_MAX_REQUEST_QUEUE_SIZE));
     zeroProcessor
         .setThreadPoolSize(configuration.getInt(CoreConfigurationType.WORKER_INTERNAL_PROCESSOR));
+    zeroProcessor.setSessionAffinity(
+        isEnabled(configuration, CoreConfigurationType.PROP_REQUEST_SESSION_AFFINITY));
+    zeroProcessor.setVirtualThreads(
+        isEnabled(configuration, CoreConfigurationType.PROP_REQUEST_VIRTUAL_THREADS));
+    zeroProcessor.setWaitStrategy(
+        getWaitStrategy(configuration, CoreConfigurationType.PROP_REQUEST_WAIT_STRATEGY));
+    zeroProcessor.setRingBufferSize(getIntOrDefault(configuration,
+        CoreConfigurationType.PROP_REQUEST_RING_BUFFER_SIZE, 0));
     zeroProcessor.setKeepPlayerOnDisconnection(
         configuration.getBoolean(CoreConfigurationType.PROP_KEEP_PLAYER_ON_DISCONNECTION));
 
@@ -441,6 +577,7 @@ public final class ServerImpl extends SystemLogger implements Server {
     zeroProcessor.shutdown();
     network.shutdown();
     scheduler.shutdown();
+    eventManager.shutdown();
   }
 
   @Override
@@ -497,4 +634,9 @@ public final class ServerImpl extends SystemLogger implements Server {
   public void write(Response response, boolean markedAsLast) {
     network.write(response, markedAsLast);
   }
+
+  @Override
+  public ScheduledFuture<?> writeInDelay(Response response, long delayInMilliseconds) {
+    return network.writeInDelay(response, delayInMilliseconds);
+  }
 }
@@ -120,12 +120,11 @@ public final class ZeroProcessorImpl extends AbstractController
       return null;
     });
 
-    eventManager.on(ServerEvent.SESSION_READ_MESSAGE, params -> {
-      var session = (Session) params[0];
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE, (Session session, DataCollection message) -> {
       var request =
           SessionRequest.newInstance().setEvent(ServerEvent.SESSION_READ_MESSAGE);
       request.setSender(session);
-      request.setMessage((DataCollection) params[1]);
+      request.setMessage(message);
       session.setLastReadTime(TimeUtility.currentTimeMillis());
       session.increaseReadMessages();
       if (requestPolicy != null) {
@@ -401,7 +400,7 @@ public final class ZeroProcessorImpl extends AbstractController
 
   @Override
   public void setNetworkReaderStatistic(NetworkReaderStatistic networkReaderStatistic) {
-    // do nothing
+    setRequestLatencyStatistic(networkReaderStatistic);
   }
 
   @Override
@@ -32,7 +32,16 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.RequestQueueFullException;
+import com.tenio.core.manager.WaitStrategy;
 import com.tenio.core.network.entity.protocol.Request;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.utility.VirtualThreadUtility;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -108,8 +117,165 @@ class ControllerTest {
     assertThrows(Exception.class, () -> controller.enqueueRequest(req2));
   }
 
+  @Test
+  @DisplayName("Requests of one session should be processed in their arrival order")
+  void testSessionAffinityKeepsOrder() throws InterruptedException {
+    int numberRequests = 200;
+    controller.setSessionAffinity(true);
+    controller.setThreadPoolSize(3);
+    controller.initialize();
+    controller.start();
+    controller.activate();
+    controller.latch = new CountDownLatch(numberRequests * 2);
+
+    Session session1 = mock(Session.class);
+    when(session1.getId()).thenReturn(1L);
+    Session session2 = mock(Session.class);
+    when(session2.getId()).thenReturn(2L);
+    List<Request> requests1 = new ArrayList<>();
+    List<Request> requests2 = new ArrayList<>();
+    for (int i = 0; i < numberRequests; i++) {
+      Request request1 = mock(Request.class);
+      when(request1.getSender()).thenReturn(session1);
+      requests1.add(request1);
+      controller.enqueueRequest(request1);
+      Request request2 = mock(Request.class);
+      when(request2.getSender()).thenReturn(session2);
+      requests2.add(request2);
+      controller.enqueueRequest(request2);
+    }
+
+    assertTrue(controller.latch.await(10, TimeUnit.SECONDS));
+    List<Request> processed = new ArrayList<>(controller.processedRequests);
+    processed.removeIf(request -> request.getSender() != session1);
+    assertEquals(requests1, processed);
+    processed = new ArrayList<>(controller.processedRequests);
+    processed.removeIf(request -> request.getSender() != session2);
+    assertEquals(requests2, processed);
+    controller.shutdown();
+  }
+
+  @Test
+  @DisplayName("Virtual threads should keep the order of a session's requests, or fall back")
+  void testVirtualThreadsKeepOrder() throws InterruptedException {
+    int numberRequests = 200;
+    controller.setName("Test");
+    controller.setVirtualThreads(true);
+    controller.setThreadPoolSize(1);
+    controller.initialize();
+    assertEquals(VirtualThreadUtility.isSupported(), controller.isVirtualThreads());
+    controller.start();
+    controller.activate();
+    controller.latch = new CountDownLatch(numberRequests);
+
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(1L);
+    List<Request> requests = new ArrayList<>();
+    for (int i = 0; i < numberRequests; i++) {
+      Request request = mock(Request.class);
+      when(request.getId()).thenReturn(0L);
+      when(request.getSender()).thenReturn(session);
+      requests.add(request);
+      controller.enqueueRequest(request);
+    }
+
+    assertTrue(controller.latch.await(10, TimeUnit.SECONDS));
+    assertEquals(requests, new ArrayList<>(controller.processedRequests));
+    controller.shutdown();
+  }
+
+  @Test
+  @DisplayName("Virtual lanes should wait for the activation like the platform workers")
+  void testVirtualThreadsWaitForActivation() throws InterruptedException {
+    int numberRequests = 100;
+    controller.setName("Test");
+    controller.setVirtualThreads(true);
+    controller.setThreadPoolSize(1);
+    controller.initialize();
+    controller.start();
+    controller.latch = new CountDownLatch(numberRequests);
+    for (int i = 0; i < numberRequests; i++) {
+      Session session = mock(Session.class);
+      when(session.getId()).thenReturn((long) i);
+      Request request = mock(Request.class);
+      when(request.getId()).thenReturn((long) i);
+      when(request.getSender()).thenReturn(session);
+      controller.enqueueRequest(request);
+    }
+
+    assertFalse(controller.latch.await(50, TimeUnit.MILLISECONDS));
+    assertTrue(controller.processedRequests.isEmpty());
+    controller.activate();
+    assertTrue(controller.latch.await(10, TimeUnit.SECONDS));
+    controller.shutdown();
+  }
+
+  @Test
+  @DisplayName("Workers should wait for the activation, then process requests by the wait strategy")
+  void testWaitStrategyAfterActivation() throws InterruptedException {
+    int numberRequests = 100;
+    controller.setName("Test");
+    controller.setWaitStrategy(WaitStrategy.BACKOFF);
+    controller.setThreadPoolSize(2);
+    controller.initialize();
+    controller.start();
+    controller.latch = new CountDownLatch(numberRequests);
+    for (int i = 0; i < numberRequests; i++) {
+      Request request = mock(Request.class);
+      when(request.getId()).thenReturn((long) i);
+      controller.enqueueRequest(request);
+    }
+
+    assertFalse(controller.latch.await(50, TimeUnit.MILLISECONDS));
+    assertTrue(controller.processedRequests.isEmpty());
+    controller.activate();
+    assertTrue(controller.latch.await(10, TimeUnit.SECONDS));
+    assertEquals(WaitStrategy.BACKOFF, controller.getWaitStrategy());
+    controller.shutdown();
+  }
+
+  @Test
+  @DisplayName("Add a request into a full ring buffer should throw exception")
+  void testEnqueueRequestRingBufferFull() {
+    controller.setThreadPoolSize(1);
+    controller.setRingBufferSize(2);
+    controller.initialize();
+    assertEquals(2, controller.getRingBufferSize());
+    for (int i = 0; i < 2; i++) {
+      Request request = mock(Request.class);
+      when(request.getId()).thenReturn(0L);
+      controller.enqueueRequest(request);
+    }
+    assertEquals(2, controller.getPendingRequests());
+    Request request = mock(Request.class);
+    when(request.getId()).thenReturn(0L);
+    assertThrows(RequestQueueFullException.class, () -> controller.enqueueRequest(request));
+  }
+
+  @Test
+  @DisplayName("Add a request of one session into its full request queue should throw exception")
+  void testEnqueueSessionRequestQueueFull() {
+    controller.setSessionAffinity(true);
+    controller.setThreadPoolSize(1);
+    controller.setMaxRequestQueueSize(1);
+    controller.initialize();
+    assertTrue(controller.isSessionAffinity());
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(1L);
+    Request req1 = mock(Request.class);
+    when(req1.getSender()).thenReturn(session);
+    Request req2 = mock(Request.class);
+    when(req2.getSender()).thenReturn(session);
+    controller.enqueueRequest(req1);
+    assertThrows(Exception.class, () -> controller.enqueueRequest(req2));
+  }
+
   static class TestController extends AbstractController {
 
+    private final List<Request> processedRequests =
+        Collections.synchronizedList(new ArrayList<>());
+    private CountDownLatch latch;
+
     TestController(EventManager eventManager) {
       super(eventManager);
     }
@@ -125,6 +291,10 @@ class ControllerTest {
 
     @Override
     public void processRequest(Request request) {
+      processedRequests.add(request);
+      if (latch != null) {
+        latch.countDown();
+      }
     }
 
     @Override
@@ -36,9 +36,15 @@ import com.tenio.core.entity.Player;
 import com.tenio.core.entity.Room;
 import com.tenio.core.entity.RoomState;
 import com.tenio.core.entity.define.mode.RoomRemoveMode;
+import com.tenio.core.entity.define.room.PlayerRoleInRoom;
 import com.tenio.core.entity.manager.PlayerManager;
+import com.tenio.core.entity.manager.implement.PlayerManagerImpl;
 import com.tenio.core.entity.setting.strategy.RoomCredentialValidatedStrategy;
 import com.tenio.core.entity.setting.strategy.RoomPlayerSlotGeneratedStrategy;
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.PlayerJoinedRoomException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -195,4 +201,71 @@ class DefaultRoomTest {
     room.setPassword("pass");
     assertThrows(Exception.class, () -> room.addPlayer(player, "wrong", false, 0));
   }
+
+  @Test
+  @DisplayName("Concurrent joins should never exceed the room capacity")
+  void testConcurrentJoinsRespectCapacity() throws InterruptedException {
+    DefaultRoom room = createRoomWithPlayerManager(5, 0);
+    int numberPlayers = 50;
+    var joined = new AtomicInteger();
+    var startLatch = new CountDownLatch(1);
+    var doneLatch = new CountDownLatch(numberPlayers);
+    for (int i = 0; i < numberPlayers; i++) {
+      Player player = DefaultPlayer.newInstance("player" + i);
+      new Thread(() -> {
+        try {
+          startLatch.await();
+          room.addPlayer(player, null, false, Room.DEFAULT_SLOT);
+          joined.incrementAndGet();
+        } catch (PlayerJoinedRoomException | InterruptedException exception) {
+          // expected for the players who could not join
+        } finally {
+          doneLatch.countDown();
+        }
+      }).start();
+    }
+    startLatch.countDown();
+    doneLatch.await();
+
+    assertEquals(5, joined.get());
+    assertEquals(5, room.getParticipantCount());
+    assertEquals(5, room.getReadonlyParticipantsList().size());
+    assertEquals(5, room.getPlayerCount());
+  }
+
+  @Test
+  @DisplayName("Role indexes should be updated on joining, switching and leaving")
+  void testRoleIndexes() {
+    DefaultRoom room = createRoomWithPlayerManager(1, 1);
+    Player participant = DefaultPlayer.newInstance("participant");
+    Player spectator = DefaultPlayer.newInstance("spectator");
+    room.addPlayer(participant, null, false, Room.DEFAULT_SLOT);
+    room.addPlayer(spectator, null, true, Room.DEFAULT_SLOT);
+    assertThrows(PlayerJoinedRoomException.class,
+        () -> room.addPlayer(DefaultPlayer.newInstance("late"), null, true, Room.DEFAULT_SLOT));
+
+    assertThrows(Exception.class, () -> room.switchSpectatorToParticipant(spectator,
+        Room.DEFAULT_SLOT));
+    assertEquals(1, room.getParticipantCount());
+
+    room.removePlayer(participant);
+    assertEquals(0, room.getParticipantCount());
+    assertTrue(room.getReadonlyParticipantsList().isEmpty());
+
+    room.switchSpectatorToParticipant(spectator, Room.DEFAULT_SLOT);
+    assertEquals(PlayerRoleInRoom.PARTICIPANT, spectator.getRoleInRoom());
+    assertEquals(1, room.getParticipantCount());
+    assertEquals(0, room.getSpectatorCount());
+    assertEquals(spectator, room.getReadonlyParticipantsList().get(0));
+    assertTrue(room.getReadonlySpectatorsList().isEmpty());
+  }
+
+  private DefaultRoom createRoomWithPlayerManager(int maxParticipants, int maxSpectators) {
+    DefaultRoom room = (DefaultRoom) DefaultRoom.newInstance();
+    room.configurePlayerManager(PlayerManagerImpl.newInstance(EventManager.newInstance()));
+    room.configureRoomCredentialValidatedStrategy(mock(RoomCredentialValidatedStrategy.class));
+    room.configurePlayerSlotGeneratedStrategy(mock(RoomPlayerSlotGeneratedStrategy.class));
+    room.setCapacity(maxParticipants, maxSpectators);
+    return room;
+  }
 }
@@ -24,12 +24,81 @@ THE SOFTWARE.
 
 package com.tenio.core.entity.manager.implement;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.utility.TimeUtility;
+import com.tenio.core.entity.Player;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exception.AddedDuplicatedPlayerException;
+import com.tenio.core.exception.RemovedNonExistentPlayerException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 class PlayerManagerImplTest {
   @Test
   void testNewInstance() {
     PlayerManagerImpl.newInstance(EventManager.newInstance());
   }
+
+  @Test
+  void testAddAndRemovePlayers() {
+    var playerManager = PlayerManagerImpl.newInstance(EventManager.newInstance());
+    var player = playerManager.createPlayer("kong");
+    assertThrows(AddedDuplicatedPlayerException.class, () -> playerManager.addPlayer(player));
+    assertEquals(1, playerManager.getPlayerCount());
+    assertEquals(1, playerManager.getReadonlyPlayersList().size());
+
+    playerManager.removePlayerByIdentity("kong");
+    assertThrows(RemovedNonExistentPlayerException.class,
+        () -> playerManager.removePlayerByIdentity("kong"));
+    assertEquals(0, playerManager.getPlayerCount());
+    assertEquals(0, playerManager.getReadonlyPlayersList().size());
+  }
+
+  @Test
+  void testRemovePlayersWhileComputing() {
+    var playerManager = PlayerManagerImpl.newInstance(EventManager.newInstance());
+    for (int i = 0; i < 10; i++) {
+      playerManager.createPlayer("player" + i);
+    }
+    playerManager.computePlayers(iterator -> {
+      while (iterator.hasNext()) {
+        playerManager.removePlayerByIdentity(iterator.next().getIdentity());
+      }
+    });
+    assertEquals(0, playerManager.getPlayerCount());
+  }
+
+  @Test
+  void testComputeIdlePlayersFollowsActivity() {
+    var currentTime = new AtomicLong(1_000_000L);
+    try (MockedStatic<TimeUtility> time = Mockito.mockStatic(TimeUtility.class)) {
+      time.when(TimeUtility::currentTimeMillis).thenAnswer(invocation -> currentTime.get());
+      var playerManager = PlayerManagerImpl.newInstance(EventManager.newInstance());
+      playerManager.configureMaxIdleTimeInSeconds(10);
+      var player = playerManager.createPlayer("kong");
+      List<Player> idlePlayers = new ArrayList<>();
+
+      currentTime.addAndGet(5_000L);
+      player.setLastReadTime(currentTime.get());
+      currentTime.addAndGet(6_000L);
+      playerManager.computeIdlePlayers(idlePlayers::add);
+      assertTrue(idlePlayers.isEmpty());
+
+      currentTime.addAndGet(5_000L);
+      playerManager.computeIdlePlayers(idlePlayers::add);
+      assertEquals(List.of(player), idlePlayers);
+
+      playerManager.removePlayerByIdentity("kong");
+      currentTime.addAndGet(1_000L);
+      playerManager.computeIdlePlayers(idlePlayers::add);
+      assertEquals(1, idlePlayers.size());
+    }
+  }
 }
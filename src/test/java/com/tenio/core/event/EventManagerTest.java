@@ -26,13 +26,24 @@ package com.tenio.core.event;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.entity.implement.DefaultPlayer;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.entity.manager.implement.PlayerManagerImpl;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.event.implement.EventManager.AsynchronousEmission;
 import com.tenio.core.exception.AddedDuplicatedPlayerException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +84,7 @@ class EventManagerTest {
 
   @AfterEach
   public void tearDown() {
+    eventManager.shutdown();
     playerManager.clear();
     eventManager.clear();
   }
@@ -93,4 +105,130 @@ class EventManagerTest {
 
     Assertions.assertFalse(eventManager.hasSubscriber(ServerEvent.FETCHED_CCU_INFO));
   }
+
+  @Test
+  public void emitTwoParametersShouldReachTypedSubscriber() {
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE,
+        (String first, Integer second) -> first + second);
+    eventManager.subscribe();
+
+    assertEquals("kong1", eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", 1));
+    assertEquals("kong2",
+        eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, new Object[] {"kong", 2}));
+  }
+
+  @Test
+  public void emitTwoParametersShouldFallBackToArraySubscriber() {
+    eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER, params -> params.length);
+    eventManager.subscribe();
+
+    assertEquals(2, eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, "kong", 1));
+  }
+
+  @Test
+  public void emitEventWithoutSubscriberShouldReturnNull() {
+    assertNull(eventManager.emit(ServerEvent.SESSION_WRITE_MESSAGE, "kong", 1));
+    assertNull(eventManager.emit(ServerEvent.SERVER_TEARDOWN, "kong"));
+  }
+
+  @Test
+  public void asynchronousEventShouldBeHandledOffCallerThreadInOrder() throws InterruptedException {
+    var numberOfMessages = 1000;
+    var handledMessages = Collections.synchronizedList(new ArrayList<Integer>());
+    var handledThreads = Collections.synchronizedList(new ArrayList<Thread>());
+    var latch = new CountDownLatch(numberOfMessages);
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE, (String session, Integer message) -> {
+      handledMessages.add(message);
+      handledThreads.add(Thread.currentThread());
+      latch.countDown();
+      return null;
+    });
+    eventManager.subscribe();
+    eventManager.setAsynchronousEventWorkers(4);
+
+    assertTrue(eventManager.isAsynchronous(ServerEvent.SESSION_READ_MESSAGE));
+    for (int i = 0; i < numberOfMessages; i++) {
+      assertSame(AsynchronousEmission.QUEUED,
+          eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", i));
+    }
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    var expectedMessages = new ArrayList<Integer>();
+    for (int i = 0; i < numberOfMessages; i++) {
+      expectedMessages.add(i);
+    }
+    assertEquals(expectedMessages, handledMessages);
+    handledThreads.forEach(thread -> assertNotEquals(Thread.currentThread(), thread));
+  }
+
+  @Test
+  public void nonAsynchronousEventShouldBeHandledInline() {
+    List<Thread> handledThreads = new ArrayList<>();
+    eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER, (String player, Integer message) -> {
+      handledThreads.add(Thread.currentThread());
+      return message;
+    });
+    eventManager.subscribe();
+    eventManager.setAsynchronousEventWorkers(2);
+
+    assertFalse(eventManager.isAsynchronous(ServerEvent.SEND_MESSAGE_TO_PLAYER));
+    assertEquals(1, eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, "kong", 1));
+    assertEquals(List.of(Thread.currentThread()), handledThreads);
+  }
+
+  @Test
+  public void asynchronousEventShouldBeDroppedWhenQueueIsFull() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE, (String session, Integer message) -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    });
+    eventManager.subscribe();
+    eventManager.setAsynchronousEventWorkers(1, false, 1);
+
+    // the first event occupies the worker, the second one fills the queue
+    assertSame(AsynchronousEmission.QUEUED,
+        eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", 1));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertSame(AsynchronousEmission.QUEUED,
+        eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", 2));
+    assertSame(AsynchronousEmission.DROPPED,
+        eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", 3));
+    assertEquals(1L, eventManager.getRejectedAsynchronousEvents());
+    release.countDown();
+  }
+
+  @Test
+  public void sessionLifecycleEventShouldNotOvertakeAsynchronousEvents()
+      throws InterruptedException {
+    var numberOfMessages = 100;
+    var handledEvents = Collections.synchronizedList(new ArrayList<Object>());
+    var latch = new CountDownLatch(1);
+    eventManager.on(ServerEvent.SESSION_READ_MESSAGE, (String session, Integer message) -> {
+      handledEvents.add(message);
+      return null;
+    });
+    eventManager.on(ServerEvent.SESSION_WILL_BE_CLOSED, params -> {
+      handledEvents.add(ServerEvent.SESSION_WILL_BE_CLOSED);
+      latch.countDown();
+      return null;
+    });
+    eventManager.subscribe();
+    eventManager.setAsynchronousEventWorkers(4);
+
+    for (int i = 0; i < numberOfMessages; i++) {
+      eventManager.emit(ServerEvent.SESSION_READ_MESSAGE, "kong", i);
+    }
+    eventManager.emit(ServerEvent.SESSION_WILL_BE_CLOSED, "kong", null, null);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(numberOfMessages + 1, handledEvents.size());
+    assertEquals(ServerEvent.SESSION_WILL_BE_CLOSED, handledEvents.get(numberOfMessages));
+  }
 }
@@ -37,6 +37,8 @@ import com.tenio.core.entity.define.result.PlayerJoinedRoomResult;
 import com.tenio.core.exception.RefusedConnectionAddressException;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.LatencySnapshot;
+import com.tenio.core.network.statistic.RateSnapshot;
 import io.netty.channel.Channel;
 import java.nio.channels.SocketChannel;
 import java.util.Optional;
@@ -175,7 +177,29 @@ class EventHandlerInterfacesTest {
     EventFetchedBandwidthInfo handler =
         (readBytes, readPackets, readDroppedPackets, writtenBytes, writtenPackets, writtenDroppedPacketsByPolicy, writtenDroppedPacketsByFull) -> {
         };
-    handler.handle(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    var snapshot = new RateSnapshot(1L, 1.0, 1.0, 1.0);
+    handler.handle(snapshot, snapshot, snapshot, snapshot, snapshot, snapshot, snapshot);
+  }
+
+  @Test
+  @DisplayName("Test EventFetchedLatencyInfo")
+  void testEventFetchedLatencyInfo() {
+    EventFetchedLatencyInfo handler =
+        (readToEnqueue, enqueueToProcess, handlerExecution, responseEnqueueToWrite) -> {
+        };
+    var snapshot = new LatencySnapshot(1L, 1L, 1L, 1L, 1L);
+    handler.handle(snapshot, snapshot, snapshot, snapshot);
+  }
+
+  @Test
+  @DisplayName("Test EventFetchedCompressionInfo")
+  void testEventFetchedCompressionInfo() {
+    EventFetchedCompressionInfo handler =
+        (compressedPackets, skippedPackets, savedBytes, compressionLatency) -> {
+        };
+    var rateSnapshot = new RateSnapshot(1L, 1.0, 1.0, 1.0);
+    var latencySnapshot = new LatencySnapshot(1L, 1L, 1L, 1L, 1L);
+    handler.handle(rateSnapshot, rateSnapshot, rateSnapshot, latencySnapshot);
   }
 
   @Test
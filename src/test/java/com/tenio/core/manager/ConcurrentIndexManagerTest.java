@@ -0,0 +1,132 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For ConcurrentIndexManager")
+class ConcurrentIndexManagerTest {
+
+  private ConcurrentIndexManager<Long, String> index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ConcurrentIndexManager<>();
+  }
+
+  @Test
+  @DisplayName("Elements should be retrieved by their keys")
+  void testPutAndGet() {
+    assertNull(index.put(1L, "a"));
+    assertNull(index.putIfAbsent(2L, "b"));
+    assertEquals("b", index.putIfAbsent(2L, "c"));
+
+    assertEquals("a", index.get(1L));
+    assertEquals("b", index.get(2L));
+    assertNull(index.get(null));
+    assertTrue(index.containsKey(1L));
+    assertFalse(index.containsKey(null));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  @DisplayName("Elements should be removed by their keys")
+  void testRemove() {
+    index.put(1L, "a");
+    index.put(2L, "b");
+
+    assertEquals("a", index.remove(1L));
+    assertNull(index.remove(1L));
+    assertNull(index.remove(null));
+    assertFalse(index.remove(2L, "c"));
+    assertTrue(index.remove(2L, "b"));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  @DisplayName("A snapshot should be shared until the elements change")
+  void testReadonlySnapshot() {
+    index.put(1L, "a");
+    List<String> snapshot = index.getReadonlySnapshot();
+    assertEquals(List.of("a"), snapshot);
+    assertSame(snapshot, index.getReadonlySnapshot());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.add("b"));
+
+    index.put(2L, "b");
+    List<String> newSnapshot = index.getReadonlySnapshot();
+    assertNotSame(snapshot, newSnapshot);
+    assertEquals(2, newSnapshot.size());
+    assertEquals(1, snapshot.size());
+
+    index.clear();
+    assertTrue(index.getReadonlySnapshot().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Elements could be removed while they are being iterated")
+  void testRemoveWhileIterating() {
+    for (long i = 0; i < 10; i++) {
+      index.put(i, String.valueOf(i));
+    }
+    var iterator = index.iterator();
+    while (iterator.hasNext()) {
+      iterator.next();
+      index.remove(0L);
+    }
+    assertEquals(9, index.size());
+    assertThrows(UnsupportedOperationException.class, () -> index.values().clear());
+  }
+
+  @Test
+  @DisplayName("Removing an element by the iterator should be reflected in the snapshot")
+  void testRemoveByIterator() {
+    for (long i = 0; i < 10; i++) {
+      index.put(i, String.valueOf(i));
+    }
+    assertEquals(10, index.getReadonlySnapshot().size());
+
+    var iterator = index.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().equals("0")) {
+        iterator.remove();
+      }
+    }
+    assertEquals(9, index.size());
+    assertNull(index.get(0L));
+    assertEquals(9, index.getReadonlySnapshot().size());
+  }
+}
@@ -0,0 +1,192 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.network.statistic.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For RingBlockingQueue")
+class RingBlockingQueueTest {
+
+  @Test
+  @DisplayName("The capacity should be rounded up to a power of two")
+  void testCapacity() {
+    assertEquals(2, new RingBlockingQueue<Integer>(1).getCapacity());
+    assertEquals(8, new RingBlockingQueue<Integer>(5).getCapacity());
+    assertEquals(8, new RingBlockingQueue<Integer>(8).getCapacity());
+    assertThrows(IllegalArgumentException.class, () -> new RingBlockingQueue<Integer>(0));
+  }
+
+  @Test
+  @DisplayName("Elements should be taken in their order and a full ring should reject new ones")
+  void testOfferAndPoll() {
+    var queue = new RingBlockingQueue<Integer>(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(queue.offer(i));
+    }
+    assertFalse(queue.offer(4));
+    assertThrows(IllegalStateException.class, () -> queue.add(4));
+    assertEquals(4, queue.size());
+    assertEquals(0, queue.remainingCapacity());
+    assertEquals(0, queue.peek());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i, queue.poll());
+    }
+    assertNull(queue.poll());
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A batch should be published as far as the ring has free slots")
+  void testBatchOffer() {
+    var queue = new RingBlockingQueue<Integer>(4);
+    assertTrue(queue.offer(-1));
+    assertEquals(3, queue.offer(new Integer[] {0, 1, 2, 3, 4}, 0, 5));
+    assertEquals(0, queue.offer(new Integer[] {5}, 0, 1));
+    assertEquals(-1, queue.poll());
+    assertEquals(1, queue.offer(new Integer[] {3, 4}, 0, 2));
+    List<Integer> elements = new ArrayList<>();
+    for (var element : queue) {
+      elements.add(element);
+    }
+    assertEquals(List.of(0, 1, 2, 3), elements);
+  }
+
+  @Test
+  @DisplayName("Draining should take the published elements up to the limit")
+  void testDrainTo() {
+    var queue = new RingBlockingQueue<Integer>(8);
+    for (int i = 0; i < 6; i++) {
+      queue.add(i);
+    }
+    List<Integer> elements = new ArrayList<>();
+    assertEquals(4, queue.drainTo(elements, 4));
+    assertEquals(List.of(0, 1, 2, 3), elements);
+    assertEquals(2, queue.drainTo(elements));
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), elements);
+    assertEquals(0, queue.drainTo(elements));
+  }
+
+  @Test
+  @DisplayName("Blocking calls should wait for the other side and give up after the timeout")
+  void testBlockingCalls() throws InterruptedException {
+    var queue = new RingBlockingQueue<Integer>(2);
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    queue.put(0);
+    queue.put(1);
+    assertFalse(queue.offer(2, 10, TimeUnit.MILLISECONDS));
+
+    var consumer = new Thread(() -> {
+      try {
+        Thread.sleep(20);
+        queue.take();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    consumer.start();
+    // waits until the consumer frees a slot
+    queue.put(2);
+    consumer.join();
+    assertEquals(1, queue.take());
+    assertEquals(2, queue.take());
+
+    var producer = new Thread(() -> {
+      try {
+        Thread.sleep(20);
+        queue.put(3);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    producer.start();
+    assertEquals(3, queue.take());
+    producer.join();
+  }
+
+  @Test
+  @DisplayName("Every element of several producers should be taken exactly once by the consumers")
+  void testConcurrentHandoff() throws InterruptedException {
+    int numberProducers = 4;
+    int numberElements = 20_000;
+    var handoffLatency = LatencyHistogram.newInstance();
+    var queue = new RingBlockingQueue<Integer>(64, handoffLatency);
+    var taken = new AtomicIntegerArray(numberProducers * numberElements);
+    var latch = new CountDownLatch(numberProducers * numberElements);
+    ExecutorService executor = Executors.newCachedThreadPool();
+    for (int i = 0; i < 2; i++) {
+      executor.execute(() -> {
+        List<Integer> elements = new ArrayList<>();
+        try {
+          while (!Thread.currentThread().isInterrupted()) {
+            elements.add(queue.take());
+            queue.drainTo(elements, 16);
+            for (var element : elements) {
+              taken.incrementAndGet(element);
+              latch.countDown();
+            }
+            elements.clear();
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    for (int i = 0; i < numberProducers; i++) {
+      int producer = i;
+      executor.execute(() -> {
+        try {
+          for (int j = 0; j < numberElements; j++) {
+            queue.put(producer * numberElements + j);
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    executor.shutdownNow();
+    for (int i = 0; i < taken.length(); i++) {
+      assertEquals(1, taken.get(i));
+    }
+    assertEquals(numberProducers * numberElements, handoffLatency.getSnapshot().count());
+    assertTrue(queue.getPeakSizeAndReset() <= queue.getCapacity());
+  }
+}
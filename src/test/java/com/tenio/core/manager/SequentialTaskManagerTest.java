@@ -0,0 +1,115 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For SequentialTaskManager")
+class SequentialTaskManagerTest {
+
+  private ExecutorService executor;
+  private List<Throwable> failures;
+  private SequentialTaskManager<Integer> manager;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+    failures = Collections.synchronizedList(new ArrayList<>());
+    manager = new SequentialTaskManager<>(executor, (key, cause) -> failures.add(cause));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Tasks of one key should run in their submission order")
+  void testKeepsOrderPerKey() throws InterruptedException {
+    int numberTasks = 1_000;
+    var latch = new CountDownLatch(numberTasks * 2);
+    List<Integer> processed1 = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> processed2 = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < numberTasks; i++) {
+      int value = i;
+      expected.add(value);
+      manager.execute(1, () -> {
+        processed1.add(value);
+        latch.countDown();
+      });
+      manager.execute(2, () -> {
+        processed2.add(value);
+        latch.countDown();
+      });
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(expected, processed1);
+    assertEquals(expected, processed2);
+    assertEquals(0, manager.getPendingTasks());
+  }
+
+  @Test
+  @DisplayName("A failed task should be reported and the lane should go on")
+  void testFailedTaskDoesNotStopLane() throws InterruptedException {
+    var latch = new CountDownLatch(1);
+    manager.execute(1, () -> {
+      throw new IllegalStateException("failed task");
+    });
+    manager.execute(1, latch::countDown);
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(1, failures.size());
+  }
+
+  @Test
+  @DisplayName("A lane should be released once it has no more tasks")
+  void testReleasesIdleLanes() throws InterruptedException {
+    var latch = new CountDownLatch(1);
+    manager.execute(1, latch::countDown);
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (manager.getActiveLanes() > 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertEquals(0, manager.getActiveLanes());
+  }
+}
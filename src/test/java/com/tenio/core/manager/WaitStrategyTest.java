@@ -0,0 +1,89 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For WaitStrategy")
+class WaitStrategyTest {
+
+  @Test
+  @DisplayName("Every strategy should take an element which is offered later")
+  void testTakeElementOfferedLater() throws InterruptedException {
+    for (var strategy : WaitStrategy.values()) {
+      BlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+      var producer = new Thread(() -> {
+        try {
+          Thread.sleep(20);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+        queue.add(1);
+      });
+      producer.start();
+      assertEquals(1, strategy.take(queue));
+      producer.join();
+    }
+  }
+
+  @Test
+  @DisplayName("Every strategy should give up polling an empty queue after the timeout")
+  void testPollTimeout() throws InterruptedException {
+    for (var strategy : WaitStrategy.values()) {
+      BlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+      var startedTime = System.nanoTime();
+      assertNull(strategy.poll(queue, 10, TimeUnit.MILLISECONDS));
+      assertTrue(System.nanoTime() - startedTime >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+  }
+
+  @Test
+  @DisplayName("An interrupted worker should stop waiting")
+  void testInterrupted() {
+    for (var strategy : WaitStrategy.values()) {
+      Thread.currentThread().interrupt();
+      assertThrows(InterruptedException.class, () -> strategy.take(new LinkedBlockingQueue<>()));
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  @DisplayName("A strategy can be retrieved by its configured value")
+  void testGetByValue() {
+    assertEquals(WaitStrategy.BLOCKING, WaitStrategy.getByValue("blocking"));
+    assertEquals(WaitStrategy.BACKOFF, WaitStrategy.getByValue("backoff"));
+    assertEquals(WaitStrategy.BUSY_SPIN, WaitStrategy.getByValue("busy-spin"));
+    assertNull(WaitStrategy.getByValue("unknown"));
+  }
+}
@@ -25,31 +25,53 @@ THE SOFTWARE.
 package com.tenio.core.network;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.entity.Player;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.protocol.Response;
+import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.jetty.JettyHttp;
 import com.tenio.core.network.kcp.KcpChannel;
 import com.tenio.core.network.netty.NettyWebSocket;
 import com.tenio.core.network.zero.ZeroSocket;
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 @DisplayName("Unit Test Cases For NetworkImpl")
 class NetworkImplTest {
 
+  private EventManager eventManager;
   private NetworkImpl service;
+  private ZeroSocket zeroService;
 
   @BeforeEach
   void setUp() throws Exception {
-    EventManager eventManager = EventManager.newInstance();
+    eventManager = EventManager.newInstance();
     service = (NetworkImpl) NetworkImpl.newInstance(eventManager);
     JettyHttp jettyService = mock(JettyHttp.class);
     KcpChannel kcpChannel = mock(KcpChannel.class);
     NettyWebSocket nettyService = mock(NettyWebSocket.class);
-    ZeroSocket zeroService = mock(ZeroSocket.class);
+    zeroService = mock(ZeroSocket.class);
     // Inject mocks into private final fields
     Field f1 = NetworkImpl.class.getDeclaredField("httpService");
     f1.setAccessible(true);
@@ -71,4 +93,85 @@ class NetworkImplTest {
     assertDoesNotThrow(() -> service.start());
     assertDoesNotThrow(() -> service.shutdown());
   }
+
+  @Test
+  @DisplayName("A delayed writing should not block the caller and can be cancelled")
+  void testWriteInDelay() throws Exception {
+    var response = createResponse();
+    when(response.getRecipientSocketSessions()).thenReturn(List.of(mock(Session.class)));
+
+    var cancelled = service.writeInDelay(response, 10_000L);
+    long scheduledNanoTime = System.nanoTime();
+    var delivered = service.writeInDelay(response, 200L);
+    verify(zeroService, never()).write(any(Packet.class));
+
+    assertTrue(cancelled.cancel(false));
+    verify(zeroService, timeout(1_000L).times(1)).write(any(Packet.class));
+    delivered.get(1_000L, TimeUnit.MILLISECONDS);
+    assertTrue(cancelled.isCancelled());
+
+    // the packet is created when it comes due, so the writing latency does not include the delay
+    var packetCaptor = ArgumentCaptor.forClass(Packet.class);
+    verify(zeroService, atLeastOnce()).write(packetCaptor.capture());
+    assertTrue(packetCaptor.getValue().getCreatedNanoTime() - scheduledNanoTime
+        >= TimeUnit.MILLISECONDS.toNanos(200L));
+  }
+
+  @Test
+  @DisplayName("The sessions' events should be emitted when the writer released the recipients")
+  void testWriteWithReleasedRecipients() {
+    var session = mock(Session.class);
+    var response = createResponse();
+    when(response.getRecipientSocketSessions()).thenReturn(List.of(session));
+    // a writer enqueuing a packet for its single recipient releases the packet's recipients
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Packet.class).setRecipients(null);
+      return null;
+    }).when(zeroService).write(any(Packet.class));
+    var writtenSessions = new CopyOnWriteArrayList<Session>();
+    eventManager.on(ServerEvent.SESSION_WRITE_MESSAGE, (Session recipient, Packet packet) -> {
+      writtenSessions.add(recipient);
+      return null;
+    });
+    eventManager.subscribe();
+
+    assertDoesNotThrow(() -> service.write(response, false));
+
+    assertEquals(List.of(session), writtenSessions);
+  }
+
+  @Test
+  @DisplayName("The players' events of a delayed writing should be emitted when it comes due")
+  void testWriteInDelayToNonSessionPlayer() throws Exception {
+    var response = createResponse();
+    when(response.getNonSessionRecipientPlayers()).thenReturn(List.of(mock(Player.class)));
+    var receivedNanoTimes = new CopyOnWriteArrayList<Long>();
+    eventManager.on(ServerEvent.RECEIVED_MESSAGE_FROM_PLAYER, params -> {
+      receivedNanoTimes.add(System.nanoTime());
+      return null;
+    });
+    eventManager.subscribe();
+
+    var cancelled = service.writeInDelay(response, 10_000L);
+    long scheduledNanoTime = System.nanoTime();
+    var delivered = service.writeInDelay(response, 200L);
+    assertTrue(receivedNanoTimes.isEmpty());
+
+    assertTrue(cancelled.cancel(false));
+    delivered.get(1_000L, TimeUnit.MILLISECONDS);
+
+    assertEquals(1, receivedNanoTimes.size());
+    assertTrue(receivedNanoTimes.get(0) - scheduledNanoTime
+        >= TimeUnit.MILLISECONDS.toNanos(200L));
+  }
+
+  private Response createResponse() {
+    var content = mock(DataCollection.class);
+    when(content.getType()).thenReturn(DataType.ZERO);
+    when(content.toBinaries()).thenReturn(new byte[] {1, 2, 3});
+    var response = mock(Response.class);
+    when(response.getContent()).thenReturn(content);
+    when(response.getDataType()).thenReturn(DataType.ZERO);
+    return response;
+  }
 }
@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.DataType;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For AdaptiveCompressionPolicy")
+class AdaptiveCompressionPolicyTest {
+
+  private NetworkWriterStatistic networkWriterStatistic;
+  private AdaptiveCompressionPolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    networkWriterStatistic = NetworkWriterStatistic.newInstance();
+    policy = AdaptiveCompressionPolicy.newInstance(10, networkWriterStatistic);
+  }
+
+  @Test
+  @DisplayName("Packets of a shape which does not compress should be skipped after warming up")
+  void testSkipIncompressibleShape() {
+    for (int i = 0; i < 8; i++) {
+      assertTrue(policy.shouldCompress(DataType.ZERO, 1000));
+      policy.record(DataType.ZERO, 1000, -1, 5_000L);
+    }
+
+    int compressed = 0;
+    for (int i = 0; i < AdaptiveCompressionPolicy.PROBE_INTERVAL * 2; i++) {
+      if (policy.shouldCompress(DataType.ZERO, 1000)) {
+        compressed++;
+      }
+    }
+
+    assertEquals(2, compressed);
+    assertEquals(0, policy.getSavedPercent(DataType.ZERO, 1000));
+    assertEquals(AdaptiveCompressionPolicy.PROBE_INTERVAL * 2 - 2,
+        networkWriterStatistic.getCompressionSkippedPacketsRate().total());
+    assertEquals(8, networkWriterStatistic.getCompressedPacketsRate().total());
+    assertEquals(0, networkWriterStatistic.getCompressionSavedBytesRate().total());
+  }
+
+  @Test
+  @DisplayName("Packets of a shape which compresses well should always be compressed")
+  void testCompressCompressibleShape() {
+    for (int i = 0; i < 100; i++) {
+      assertTrue(policy.shouldCompress(DataType.MSG_PACK, 1000));
+      policy.record(DataType.MSG_PACK, 1000, 400, 5_000L);
+    }
+
+    assertEquals(60, policy.getSavedPercent(DataType.MSG_PACK, 1000));
+    assertEquals(5_120L, policy.getNanosPerKilobyte(DataType.MSG_PACK, 1000));
+    assertEquals(60_000, networkWriterStatistic.getCompressionSavedBytesRate().total());
+    assertEquals(0, networkWriterStatistic.getCompressionSkippedPacketsRate().total());
+  }
+
+  @Test
+  @DisplayName("Each shape should keep its own averages")
+  void testShapesAreIndependent() {
+    for (int i = 0; i < 8; i++) {
+      policy.record(DataType.ZERO, 1000, -1, 5_000L);
+    }
+
+    assertFalse(policy.shouldCompress(DataType.ZERO, 1000));
+    assertTrue(policy.shouldCompress(DataType.ZERO, 100_000));
+    assertTrue(policy.shouldCompress(DataType.MSG_PACK, 1000));
+    assertEquals(-1, policy.getSavedPercent(DataType.ZERO, 100_000));
+  }
+
+  @Test
+  @DisplayName("A shape which becomes compressible again should be compressed again")
+  void testRecoverCompressibleShape() {
+    for (int i = 0; i < 8; i++) {
+      policy.record(DataType.ZERO, 1000, -1, 5_000L);
+    }
+    assertFalse(policy.shouldCompress(DataType.ZERO, 1000));
+
+    for (int i = 0; i < 8; i++) {
+      policy.record(DataType.ZERO, 1000, 100, 5_000L);
+    }
+
+    assertTrue(policy.shouldCompress(DataType.ZERO, 1000));
+  }
+
+  @Test
+  @DisplayName("An out of range break-even should not be allowed")
+  void testInvalidBreakEven() {
+    assertThrows(IllegalArgumentException.class,
+        () -> AdaptiveCompressionPolicy.newInstance(-1, networkWriterStatistic));
+    assertThrows(IllegalArgumentException.class,
+        () -> AdaptiveCompressionPolicy.newInstance(101, networkWriterStatistic));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.exception.PacketCompressorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For CompressionStream")
+class CompressionStreamTest {
+
+  @Test
+  @DisplayName("Successive packets should be reverted in order and get smaller")
+  void testCompressSuccessivePackets() {
+    var sender = CompressionStream.newInstance();
+    var receiver = CompressionStream.newInstance();
+    var random = new Random(1);
+
+    long originalBytes = 0;
+    long compressedBytes = 0;
+    for (int i = 0; i < 100; i++) {
+      byte[] binaries = ("{\"player\":\"p" + random.nextInt(100) + "\",\"x\":" +
+          random.nextInt(1000) + ",\"y\":" + random.nextInt(1000) + "}")
+          .getBytes(StandardCharsets.UTF_8);
+      byte[] compressed = sender.compress(binaries);
+      originalBytes += binaries.length;
+      compressedBytes += compressed.length;
+      assertArrayEquals(binaries, receiver.uncompress(compressed));
+    }
+
+    assertTrue(compressedBytes * 2 < originalBytes);
+  }
+
+  @Test
+  @DisplayName("Big and incompressible packets should be reverted too")
+  void testCompressBigPackets() {
+    var sender = CompressionStream.newInstance();
+    var receiver = CompressionStream.newInstance();
+    var random = new Random(1);
+    byte[] binaries = new byte[200_000];
+    random.nextBytes(binaries);
+
+    byte[] smallBinaries = new byte[] {1, 2, 3};
+
+    assertArrayEquals(binaries, receiver.uncompress(sender.compress(binaries)));
+    assertArrayEquals(smallBinaries, receiver.uncompress(sender.compress(smallBinaries)));
+  }
+
+  @Test
+  @DisplayName("A closed stream should not be used anymore")
+  void testClosedStream() {
+    var stream = CompressionStream.newInstance();
+    stream.close();
+    stream.close();
+
+    assertThrows(PacketCompressorException.class, () -> stream.compress(new byte[] {1}));
+    assertThrows(PacketCompressorException.class, () -> stream.uncompress(new byte[] {1}));
+  }
+
+  @Test
+  @DisplayName("A packet inflating beyond the maximum size should be rejected")
+  void testUncompressBeyondMaximumSize() {
+    var sender = CompressionStream.newInstance();
+    var receiver = CompressionStream.newInstance(100_000);
+    byte[] fitting = new byte[100_000];
+    byte[] bomb = new byte[10 * 1024 * 1024];
+
+    assertArrayEquals(fitting, receiver.uncompress(sender.compress(fitting)));
+    byte[] compressedBomb = sender.compress(bomb);
+    assertTrue(compressedBomb.length < 64 * 1024);
+    assertThrows(PacketCompressorException.class, () -> receiver.uncompress(compressedBomb));
+    assertThrows(IllegalArgumentException.class, () -> CompressionStream.newInstance(0));
+  }
+}
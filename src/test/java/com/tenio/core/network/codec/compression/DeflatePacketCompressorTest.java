@@ -0,0 +1,157 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.exception.PacketCompressorException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For DeflatePacketCompressor")
+class DeflatePacketCompressorTest {
+
+  private final DeflatePacketCompressor compressor = DeflatePacketCompressor.newInstance();
+
+  @Test
+  @DisplayName("Compressed arrays should be reverted to the original ones")
+  void testCompressArrays() {
+    var random = new Random(1);
+    byte[] randomBinaries = new byte[100_000];
+    random.nextBytes(randomBinaries);
+    byte[] repetitiveBinaries = new byte[100_000];
+
+    assertArrayEquals(randomBinaries,
+        compressor.uncompress(compressor.compress(randomBinaries)));
+    byte[] compressed = compressor.compress(repetitiveBinaries);
+    assertTrue(compressed.length < repetitiveBinaries.length);
+    assertArrayEquals(repetitiveBinaries, compressor.uncompress(compressed));
+  }
+
+  @Test
+  @DisplayName("Compressed buffers should be reverted to the original ones")
+  void testCompressBuffers() {
+    byte[] binaries = createSample(new Random(1));
+    var source = ByteBuffer.wrap(binaries);
+    var compressed = ByteBuffer.allocate(256);
+    compressed.put((byte) 1);
+
+    int compressedBytes = compressor.compress(source, compressed);
+
+    assertEquals(1 + compressedBytes, compressed.position());
+    assertEquals(0, source.remaining());
+
+    compressed.flip().position(1);
+    var uncompressed = ByteBuffer.allocate(256);
+    assertEquals(binaries.length, compressor.uncompress(compressed, uncompressed));
+    assertArrayEquals(binaries, Arrays.copyOf(uncompressed.array(), binaries.length));
+  }
+
+  @Test
+  @DisplayName("A too small target buffer should be left untouched")
+  void testCompressIntoTooSmallBuffer() {
+    byte[] binaries = createSample(new Random(1));
+    var source = ByteBuffer.wrap(binaries);
+    var compressed = ByteBuffer.allocate(4);
+
+    assertEquals(-1, compressor.compress(source, compressed));
+    assertEquals(0, source.position());
+    assertEquals(0, compressed.position());
+
+    var uncompressed = ByteBuffer.allocate(4);
+    var validCompressed = ByteBuffer.wrap(compressor.compress(binaries));
+    assertEquals(-1, compressor.uncompress(validCompressed, uncompressed));
+    assertEquals(0, validCompressed.position());
+  }
+
+  @Test
+  @DisplayName("Truncated data should not be uncompressed")
+  void testUncompressTruncatedData() {
+    byte[] compressed = compressor.compress(createSample(new Random(1)));
+
+    assertThrows(PacketCompressorException.class,
+        () -> compressor.uncompress(Arrays.copyOf(compressed, compressed.length - 4)));
+  }
+
+  @Test
+  @DisplayName("A packet inflating beyond the maximum size should be rejected")
+  void testUncompressBeyondMaximumSize() {
+    var boundedCompressor =
+        DeflatePacketCompressor.newInstance(Deflater.BEST_SPEED, null, 100_000);
+    byte[] fitting = new byte[100_000];
+    byte[] bomb = new byte[10 * 1024 * 1024];
+
+    assertArrayEquals(fitting, boundedCompressor.uncompress(boundedCompressor.compress(fitting)));
+    byte[] compressedBomb = boundedCompressor.compress(bomb);
+    assertTrue(compressedBomb.length < 64 * 1024);
+    assertThrows(PacketCompressorException.class,
+        () -> boundedCompressor.uncompress(compressedBomb));
+    assertThrows(IllegalArgumentException.class,
+        () -> DeflatePacketCompressor.newInstance(Deflater.BEST_SPEED, null, 0));
+  }
+
+  @Test
+  @DisplayName("A trained dictionary should make small messages smaller")
+  void testTrainedDictionary() {
+    var random = new Random(1);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      samples.add(createSample(random));
+    }
+    byte[] dictionary = DeflatePacketCompressor.trainDictionary(samples, 4096);
+    var dictionaryCompressor =
+        DeflatePacketCompressor.newInstance(Deflater.BEST_SPEED, dictionary);
+
+    byte[] message = createSample(random);
+    byte[] compressed = dictionaryCompressor.compress(message);
+
+    assertTrue(dictionary.length > 0 && dictionary.length <= 4096);
+    assertTrue(compressed.length < compressor.compress(message).length);
+    assertArrayEquals(message, dictionaryCompressor.uncompress(compressed));
+  }
+
+  @Test
+  @DisplayName("An invalid compression level should not be accepted")
+  void testInvalidLevel() {
+    assertThrows(IllegalArgumentException.class,
+        () -> DeflatePacketCompressor.newInstance(10, null));
+  }
+
+  private byte[] createSample(Random random) {
+    return ("{\"player\":\"p" + random.nextInt(100) + "\",\"position\":{\"x\":" +
+        random.nextInt(1000) + ",\"y\":" + random.nextInt(1000) + "},\"health\":" +
+        random.nextInt(100) + "}").getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -24,9 +24,22 @@ THE SOFTWARE.
 
 package com.tenio.core.network.codec.decoder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.codec.compression.CompressionStream;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.define.TransportType;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.session.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,4 +66,54 @@ class BinaryPacketDecoderImplTest {
     byte[] binaries = new byte[] {1, 2, 3};
     assertThrows(IllegalArgumentException.class, () -> decoder.decode(binaries));
   }
+
+  @Test
+  @DisplayName("Packets compressed by a session's stream should be decoded in order")
+  void testDecodeStreamCompressedPackets() {
+    var sender = mock(Session.class);
+    when(sender.getCompressionStream()).thenReturn(CompressionStream.newInstance());
+    var receiver = mock(Session.class);
+    when(receiver.getCompressionStream()).thenReturn(CompressionStream.newInstance());
+    var encoder = new BinaryPacketEncoderImpl();
+    encoder.setCompressionThresholdBytes(1);
+
+    int firstFrameSize = 0;
+    for (int i = 0; i < 3; i++) {
+      var message = ZeroUtility.newZeroMap();
+      message.putString("position", "x=" + i + ",y=" + i);
+      var packet = PacketImpl.newInstance();
+      packet.setDataType(DataType.ZERO);
+      packet.setTransportType(TransportType.TCP);
+      packet.setData(message.toBinaries());
+      byte[] frame = encoder.encode(packet, sender).getData();
+
+      assertTrue(CodecUtility.decodeFirstHeaderByte(frame[0]).isStreamCompressed());
+      if (i == 0) {
+        firstFrameSize = frame.length;
+      } else {
+        // the context of the previous packets is carried over
+        assertTrue(frame.length < firstFrameSize);
+      }
+      var decoded = (ZeroMap) decoder.decode(receiver, frame);
+      assertEquals("x=" + i + ",y=" + i, decoded.getString("position"));
+    }
+  }
+
+  @Test
+  @DisplayName("A stream compressed packet should not be decoded without a session's stream")
+  void testDecodeStreamCompressedPacketWithoutStream() {
+    var sender = mock(Session.class);
+    when(sender.getCompressionStream()).thenReturn(CompressionStream.newInstance());
+    var encoder = new BinaryPacketEncoderImpl();
+    encoder.setCompressionThresholdBytes(1);
+    var message = ZeroUtility.newZeroMap();
+    message.putString("key", "value");
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setTransportType(TransportType.TCP);
+    packet.setData(message.toBinaries());
+    byte[] frame = encoder.encode(packet, sender).getData();
+
+    assertThrows(IllegalStateException.class, () -> decoder.decode(frame));
+  }
 }
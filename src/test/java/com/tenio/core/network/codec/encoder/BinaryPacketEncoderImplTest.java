@@ -24,14 +24,36 @@ THE SOFTWARE.
 
 package com.tenio.core.network.codec.encoder;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.tenio.common.data.DataType;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.codec.compression.AdaptiveCompressionPolicy;
+import com.tenio.core.network.codec.compression.CompressionStream;
+import com.tenio.core.network.codec.compression.DeflatePacketCompressor;
+import com.tenio.core.network.codec.encryption.AesGcmPacketEncryptor;
+import com.tenio.core.network.codec.encryption.EncryptionKey;
+import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,4 +85,230 @@ class BinaryPacketEncoderImplTest {
     when(packet.getData()).thenReturn(new byte[] {1, 2, 3});
     assertNotNull(encoder.encode(packet));
   }
+
+  @Test
+  @DisplayName("An encoded packet should not be encoded again")
+  void testEncodeAlreadyEncodedPacket() {
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setData(new byte[] {1, 2, 3});
+
+    encoder.encode(packet);
+    byte[] encodedData = packet.getData();
+
+    assertTrue(packet.isEncoded());
+    assertSame(encodedData, encoder.encode(packet).getData());
+  }
+
+  @Test
+  @DisplayName("Encoding into a buffer should put the same frame as encoding the packet")
+  void testEncodeIntoBuffer() {
+    var expected = newCountingPacket(new byte[] {1, 2, 3});
+    encoder.encode(expected);
+
+    var packet = newCountingPacket(new byte[] {1, 2, 3});
+    var buffer = ByteBuffer.allocate(64);
+    buffer.put((byte) 9);
+
+    int written = encoder.encodeInto(packet, buffer);
+
+    assertEquals(expected.getData().length, written);
+    assertEquals(1 + written, buffer.position());
+    assertArrayEquals(expected.getData(), Arrays.copyOfRange(buffer.array(), 1, 1 + written));
+    assertFalse(packet.isEncoded());
+    assertArrayEquals(new byte[] {1, 2, 3}, packet.getData());
+  }
+
+  @Test
+  @DisplayName("Encoding a big packet into a buffer should use the integer size header")
+  void testEncodeIntoBufferBigPacket() {
+    byte[] binaries = new byte[BinaryPacketEncoder.MAX_BYTES_FOR_NORMAL_SIZE + 10];
+    var packet = newCountingPacket(binaries);
+    var buffer = ByteBuffer.allocate(binaries.length + 16);
+
+    int written = encoder.encodeInto(packet, buffer);
+
+    assertEquals(Byte.BYTES + Integer.BYTES + binaries.length, written);
+    assertEquals(binaries.length, ByteBuffer.wrap(buffer.array(), Byte.BYTES, Integer.BYTES)
+        .getInt());
+  }
+
+  @Test
+  @DisplayName("Encoding into a too small buffer should encode the packet instead")
+  void testEncodeIntoTooSmallBuffer() {
+    var expected = newCountingPacket(new byte[] {1, 2, 3});
+    encoder.encode(expected);
+
+    var packet = newCountingPacket(new byte[] {1, 2, 3});
+    var buffer = ByteBuffer.allocate(4);
+
+    assertEquals(-1, encoder.encodeInto(packet, buffer));
+    assertEquals(0, buffer.position());
+    assertTrue(packet.isEncoded());
+    assertArrayEquals(expected.getData(), packet.getData());
+  }
+
+  @Test
+  @DisplayName("Encoding an encoded packet into a buffer should only copy its frame")
+  void testEncodeIntoBufferEncodedPacket() {
+    var packet = newCountingPacket(new byte[] {1, 2, 3});
+    encoder.encode(packet);
+    byte[] frame = packet.getData();
+    var buffer = ByteBuffer.allocate(64);
+
+    assertEquals(frame.length, encoder.encodeInto(packet, buffer));
+    assertArrayEquals(frame, Arrays.copyOf(buffer.array(), frame.length));
+    assertSame(frame, packet.getData());
+    assertEquals(-1, encoder.encodeInto(packet, ByteBuffer.allocate(frame.length - 1)));
+  }
+
+  @Test
+  @DisplayName("A buffer compressor should put the compressed data straight into the buffer")
+  void testEncodeIntoBufferCompressed() {
+    var compressor = DeflatePacketCompressor.newInstance();
+    encoder.setCompressor(compressor);
+    encoder.setCompressionThresholdBytes(1);
+    byte[] binaries = new byte[1000];
+    var buffer = ByteBuffer.allocate(1024);
+
+    int written = encoder.encodeInto(newCountingPacket(binaries), buffer);
+
+    var packetHeader = CodecUtility.decodeFirstHeaderByte(buffer.get(0));
+    int dataSize = buffer.getShort(1) & 0xFFFF;
+    assertTrue(packetHeader.isCompressed());
+    assertEquals(Byte.BYTES + Short.BYTES + dataSize, written);
+    assertEquals(written, buffer.position());
+    assertArrayEquals(binaries,
+        compressor.uncompress(Arrays.copyOfRange(buffer.array(), 3, written)));
+  }
+
+  @Test
+  @DisplayName("Data which does not get smaller should be encoded without compression")
+  void testEncodeIntoBufferNotCompressible() {
+    encoder.setCompressor(DeflatePacketCompressor.newInstance());
+    encoder.setCompressionThresholdBytes(1);
+    byte[] binaries = new byte[] {1, 2, 3};
+    var buffer = ByteBuffer.allocate(64);
+
+    int written = encoder.encodeInto(newCountingPacket(binaries), buffer);
+
+    assertFalse(CodecUtility.decodeFirstHeaderByte(buffer.get(0)).isCompressed());
+    assertEquals(Byte.BYTES + Short.BYTES + binaries.length, written);
+    assertArrayEquals(binaries, Arrays.copyOfRange(buffer.array(), 3, written));
+  }
+
+  @Test
+  @DisplayName("Packets which do not compress should be skipped by the compression policy")
+  void testEncodeWithCompressionPolicy() {
+    var networkWriterStatistic = NetworkWriterStatistic.newInstance();
+    encoder.setCompressor(DeflatePacketCompressor.newInstance());
+    encoder.setCompressionThresholdBytes(1);
+    encoder.setCompressionPolicy(AdaptiveCompressionPolicy.newInstance(10,
+        networkWriterStatistic));
+    byte[] binaries = new byte[1000];
+    new Random(1).nextBytes(binaries);
+
+    for (int i = 0; i < 8; i++) {
+      encoder.encodeInto(newCountingPacket(binaries), ByteBuffer.allocate(2048));
+    }
+    var buffer = ByteBuffer.allocate(2048);
+    int written = encoder.encodeInto(newCountingPacket(binaries), buffer);
+
+    assertFalse(CodecUtility.decodeFirstHeaderByte(buffer.get(0)).isCompressed());
+    assertEquals(Byte.BYTES + Short.BYTES + binaries.length, written);
+    assertEquals(8, networkWriterStatistic.getCompressedPacketsRate().total());
+    assertEquals(1, networkWriterStatistic.getCompressionSkippedPacketsRate().total());
+  }
+
+  @Test
+  @DisplayName("A session encryptor should put the encrypted data straight into the buffer")
+  void testEncodeIntoBufferEncrypted() {
+    var encryptor = AesGcmPacketEncryptor.newInstance();
+    var session = mock(Session.class);
+    when(session.getEncryptionKey()).thenReturn(EncryptionKey.generate());
+    encoder.setEncryptor(encryptor);
+    byte[] binaries = new byte[] {1, 2, 3};
+    var packet = newCountingPacket(binaries);
+    packet.needsEncrypted(true);
+    var buffer = ByteBuffer.allocate(64);
+
+    int written = encoder.encodeInto(packet, session, buffer);
+
+    int dataSize = encryptor.getEncryptedSize(binaries.length);
+    assertTrue(CodecUtility.decodeFirstHeaderByte(buffer.get(0)).isEncrypted());
+    assertEquals(dataSize, buffer.getShort(1));
+    assertEquals(Byte.BYTES + Short.BYTES + dataSize, written);
+    assertEquals(written, buffer.position());
+    assertFalse(packet.isEncoded());
+
+    var smallBuffer = ByteBuffer.allocate(written - 1);
+    assertEquals(-1, encoder.encodeInto(packet, session, smallBuffer));
+    assertEquals(0, smallBuffer.position());
+    assertTrue(packet.isEncoded());
+    assertEquals(written, packet.getData().length);
+  }
+
+  @Test
+  @DisplayName("A packet which can not be encrypted should never be encoded in plain")
+  void testEncodeWithoutEncryptionKey() {
+    encoder.setEncryptor(AesGcmPacketEncryptor.newInstance());
+    var session = mock(Session.class);
+    var packet = newCountingPacket(new byte[] {1, 2, 3});
+    packet.needsEncrypted(true);
+    var buffer = ByteBuffer.allocate(64);
+
+    assertThrows(PacketEncryptorException.class,
+        () -> encoder.encodeInto(packet, session, buffer));
+    assertEquals(0, buffer.position());
+    assertFalse(packet.isEncoded());
+
+    assertThrows(PacketEncryptorException.class, () -> encoder.encode(packet, session));
+    assertFalse(packet.isEncoded());
+    assertTrue(packet.needsEncrypted());
+  }
+
+  private Packet newCountingPacket(byte[] binaries) {
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setData(binaries);
+    packet.needsDataCounting(true);
+    return packet;
+  }
+
+  @Test
+  @DisplayName("A packet below the threshold should not be passed to the compression stream")
+  void testEncodeWithCompressionStreamBelowThreshold() {
+    var compressionStream = mock(CompressionStream.class);
+    var session = mock(Session.class);
+    when(session.getCompressionStream()).thenReturn(compressionStream);
+    encoder.setCompressionThresholdBytes(100);
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setTransportType(TransportType.TCP);
+    packet.setData(new byte[] {1, 2, 3});
+
+    byte[] frame = encoder.encode(packet, session).getData();
+
+    assertFalse(CodecUtility.decodeFirstHeaderByte(frame[0]).isStreamCompressed());
+    verify(compressionStream, never()).compress(any());
+  }
+
+  @Test
+  @DisplayName("A failed compression stream should be closed and the packet should not be sent")
+  void testEncodeWithFailedCompressionStream() {
+    var compressionStream = mock(CompressionStream.class);
+    when(compressionStream.compress(any())).thenThrow(new IllegalStateException("broken"));
+    var session = mock(Session.class);
+    when(session.getCompressionStream()).thenReturn(compressionStream);
+    encoder.setCompressionThresholdBytes(1);
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setTransportType(TransportType.TCP);
+    packet.setData(new byte[] {1, 2, 3});
+
+    assertThrows(PacketCompressorException.class,
+        () -> encoder.encodeInto(packet, session, ByteBuffer.allocate(64)));
+    verify(compressionStream).close();
+    assertFalse(packet.isEncoded());
+  }
 }
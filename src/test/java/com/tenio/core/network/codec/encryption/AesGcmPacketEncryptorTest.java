@@ -0,0 +1,158 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.codec.encryption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.exception.PacketEncryptorException;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For AesGcmPacketEncryptor")
+class AesGcmPacketEncryptorTest {
+
+  private final byte[] binaries = "{\"player\":\"kong\",\"x\":10,\"y\":20}"
+      .getBytes(StandardCharsets.UTF_8);
+
+  private AesGcmPacketEncryptor encryptor;
+  private EncryptionKey encryptionKey;
+  private Session session;
+
+  @BeforeEach
+  void setUp() {
+    encryptor = AesGcmPacketEncryptor.newInstance();
+    encryptionKey = EncryptionKey.generate();
+    session = mock(Session.class);
+    when(session.getEncryptionKey()).thenReturn(encryptionKey);
+  }
+
+  @Test
+  @DisplayName("The encrypted data should be reverted by the client with the session's key")
+  void testEncrypt() throws Exception {
+    byte[] encrypted = encryptor.encrypt(session, binaries);
+
+    assertEquals(encryptor.getEncryptedSize(binaries.length), encrypted.length);
+    assertNotEquals(0, encrypted[0] & EncryptionKey.SERVER_NONCE_BIT);
+    assertArrayEquals(binaries, clientDecrypt(encrypted));
+  }
+
+  @Test
+  @DisplayName("Each packet should be encrypted with a new nonce")
+  void testEncryptWithNewNonces() {
+    byte[] first = encryptor.encrypt(session, binaries);
+    byte[] second = encryptor.encrypt(session, binaries);
+
+    assertFalse(Arrays.equals(Arrays.copyOf(first, EncryptionKey.NONCE_BYTES),
+        Arrays.copyOf(second, EncryptionKey.NONCE_BYTES)));
+    assertFalse(Arrays.equals(first, second));
+  }
+
+  @Test
+  @DisplayName("The data encrypted by the client should be decrypted with the session's key")
+  void testDecrypt() throws Exception {
+    assertArrayEquals(binaries, encryptor.decrypt(session, clientEncrypt(binaries)));
+  }
+
+  @Test
+  @DisplayName("Reflected, tampered or too short data should not be decrypted")
+  void testDecryptInvalidData() throws Exception {
+    byte[] reflected = encryptor.encrypt(session, binaries);
+    byte[] tampered = clientEncrypt(binaries);
+    tampered[tampered.length - 1] ^= 1;
+
+    assertThrows(PacketEncryptorException.class, () -> encryptor.decrypt(session, reflected));
+    assertThrows(PacketEncryptorException.class, () -> encryptor.decrypt(session, tampered));
+    assertThrows(PacketEncryptorException.class,
+        () -> encryptor.decrypt(session, new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  @DisplayName("The default key should only be used by the sessions have no key")
+  void testDefaultKey() {
+    var keylessSession = mock(Session.class);
+
+    assertThrows(PacketEncryptorException.class,
+        () -> encryptor.encrypt(keylessSession, binaries));
+    assertThrows(PacketEncryptorException.class, () -> encryptor.encrypt(binaries));
+    assertThrows(IllegalArgumentException.class,
+        () -> AesGcmPacketEncryptor.newInstance(new byte[] {1, 2, 3}));
+
+    var defaultEncryptor = AesGcmPacketEncryptor.newInstance(new byte[16]);
+    assertEquals(encryptor.getEncryptedSize(binaries.length),
+        defaultEncryptor.encrypt(keylessSession, binaries).length);
+  }
+
+  @Test
+  @DisplayName("The data should be encrypted straight into a buffer when it has enough room")
+  void testEncryptIntoBuffer() throws Exception {
+    int encryptedSize = encryptor.getEncryptedSize(binaries.length);
+    var source = ByteBuffer.wrap(binaries);
+    var target = ByteBuffer.allocate(encryptedSize + 1);
+    target.put((byte) 9);
+
+    assertEquals(encryptedSize, encryptor.encrypt(session, source, target));
+    assertFalse(source.hasRemaining());
+    assertEquals(encryptedSize + 1, target.position());
+    assertArrayEquals(binaries, clientDecrypt(Arrays.copyOfRange(target.array(), 1,
+        encryptedSize + 1)));
+
+    source.rewind();
+    var smallTarget = ByteBuffer.allocate(encryptedSize - 1);
+    assertEquals(-1, encryptor.encrypt(session, source, smallTarget));
+    assertEquals(0, source.position());
+    assertEquals(0, smallTarget.position());
+  }
+
+  private byte[] clientEncrypt(byte[] data) throws Exception {
+    byte[] encrypted = new byte[encryptor.getEncryptedSize(data.length)];
+    encrypted[EncryptionKey.NONCE_BYTES - 1] = 1;
+    var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    cipher.init(Cipher.ENCRYPT_MODE, encryptionKey.getSecretKey(),
+        new GCMParameterSpec(128, encrypted, 0, EncryptionKey.NONCE_BYTES));
+    cipher.doFinal(data, 0, data.length, encrypted, EncryptionKey.NONCE_BYTES);
+    return encrypted;
+  }
+
+  private byte[] clientDecrypt(byte[] encrypted) throws Exception {
+    var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    cipher.init(Cipher.DECRYPT_MODE, encryptionKey.getSecretKey(),
+        new GCMParameterSpec(128, encrypted, 0, EncryptionKey.NONCE_BYTES));
+    return cipher.doFinal(encrypted, EncryptionKey.NONCE_BYTES,
+        encrypted.length - EncryptionKey.NONCE_BYTES);
+  }
+}
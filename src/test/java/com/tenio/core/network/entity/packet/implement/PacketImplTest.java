@@ -26,6 +26,10 @@ package com.tenio.core.network.entity.packet.implement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.define.TransportType;
@@ -40,4 +44,20 @@ class PacketImplTest {
     assertEquals(TransportType.UNKNOWN, actualNewInstanceResult.getTransportType());
     assertEquals(ResponseGuarantee.NORMAL, actualNewInstanceResult.getGuarantee());
   }
+
+  @Test
+  void testDeepCopySharesEncodedData() {
+    Packet packet = PacketImpl.newInstance();
+    packet.setData(new byte[] {1, 2, 3});
+    packet.setEncoded(true);
+
+    Packet copy = packet.deepCopy();
+    copy.setFragmentBuffer(new byte[] {3});
+
+    assertNotEquals(packet.getId(), copy.getId());
+    assertSame(packet.getData(), copy.getData());
+    assertEquals(packet.getCreatedTime(), copy.getCreatedTime());
+    assertTrue(copy.isEncoded());
+    assertNull(packet.getFragmentBuffer());
+  }
 }
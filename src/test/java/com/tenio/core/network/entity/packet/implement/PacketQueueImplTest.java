@@ -25,9 +25,11 @@ THE SOFTWARE.
 package com.tenio.core.network.entity.packet.implement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import com.tenio.core.network.entity.packet.Packet;
 import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
 import org.junit.jupiter.api.Test;
 
@@ -59,4 +61,23 @@ class PacketQueueImplTest {
     assertEquals("PacketQueue{queue=[], packetQueuePolicy=null, maxSize=0, size=0}", newInstanceResult.toString());
     assertTrue(newInstanceResult.isEmpty());
   }
+
+  @Test
+  void testPeekPackets() {
+    PacketQueueImpl newInstanceResult = PacketQueueImpl.newInstance();
+    newInstanceResult.configureMaxSize(3);
+    newInstanceResult.configurePacketQueuePolicy(mock(PacketQueuePolicy.class));
+    Packet first = PacketImpl.newInstance();
+    Packet second = PacketImpl.newInstance();
+    newInstanceResult.put(first);
+    newInstanceResult.put(second);
+
+    Packet[] packets = new Packet[1];
+    assertEquals(1, newInstanceResult.peek(packets));
+    assertSame(first, packets[0]);
+    packets = new Packet[3];
+    assertEquals(2, newInstanceResult.peek(packets));
+    assertSame(second, packets[1]);
+    assertEquals(2, newInstanceResult.getSize());
+  }
 }
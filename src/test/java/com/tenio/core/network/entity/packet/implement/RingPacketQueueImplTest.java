@@ -0,0 +1,147 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.entity.packet.implement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.tenio.core.exception.PacketQueueFullException;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For RingPacketQueueImpl")
+class RingPacketQueueImplTest {
+
+  private RingPacketQueueImpl packetQueue;
+
+  @BeforeEach
+  void setUp() {
+    packetQueue = RingPacketQueueImpl.newInstance();
+    packetQueue.configureMaxSize(3);
+    packetQueue.configurePacketQueuePolicy(mock(PacketQueuePolicy.class));
+  }
+
+  @Test
+  @DisplayName("Packets should be taken in the first-in first-out order")
+  void testPutAndTake() {
+    Packet first = PacketImpl.newInstance();
+    Packet second = PacketImpl.newInstance();
+    packetQueue.put(first);
+    packetQueue.put(second);
+
+    assertEquals(2, packetQueue.getSize());
+    assertSame(first, packetQueue.peek());
+    assertSame(first, packetQueue.take());
+    assertSame(second, packetQueue.take());
+    assertNull(packetQueue.take());
+    assertNull(packetQueue.peek());
+    assertTrue(packetQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Peeking several packets should keep them in the queue")
+  void testPeekPackets() {
+    Packet first = PacketImpl.newInstance();
+    Packet second = PacketImpl.newInstance();
+    packetQueue.put(first);
+    packetQueue.put(second);
+
+    Packet[] packets = new Packet[3];
+    assertEquals(2, packetQueue.peek(packets));
+    assertSame(first, packets[0]);
+    assertSame(second, packets[1]);
+    assertEquals(2, packetQueue.getSize());
+  }
+
+  @Test
+  @DisplayName("Metrics should be calculated on the configured maximum size")
+  void testSizeMetrics() {
+    packetQueue.put(PacketImpl.newInstance());
+    packetQueue.put(PacketImpl.newInstance());
+    packetQueue.put(PacketImpl.newInstance());
+
+    assertTrue(packetQueue.isFull());
+    assertEquals(100.0f, packetQueue.getPercentageUsed());
+    packetQueue.clear();
+    assertTrue(packetQueue.isEmpty());
+    assertEquals(0.0f, packetQueue.getPercentageUsed());
+  }
+
+  @Test
+  @DisplayName("Putting a packet into the full ring should throw exception")
+  void testPutIntoFullRing() {
+    // the ring has 4 slots for the maximum size of 3
+    for (int i = 0; i < 4; i++) {
+      packetQueue.put(PacketImpl.newInstance());
+    }
+    assertThrows(PacketQueueFullException.class, () -> packetQueue.put(PacketImpl.newInstance()));
+  }
+
+  @Test
+  @DisplayName("Packets put by several producers should be taken exactly once")
+  void testConcurrentProducers() throws InterruptedException {
+    int numberProducers = 4;
+    int numberPackets = 1000;
+    packetQueue.configureMaxSize(numberProducers * numberPackets);
+    var latch = new CountDownLatch(numberProducers);
+    List<Thread> producers = new ArrayList<>();
+    for (int i = 0; i < numberProducers; i++) {
+      var producer = new Thread(() -> {
+        for (int j = 0; j < numberPackets; j++) {
+          packetQueue.put(PacketImpl.newInstance());
+        }
+        latch.countDown();
+      });
+      producers.add(producer);
+      producer.start();
+    }
+
+    Set<Packet> packets = new HashSet<>();
+    while (latch.getCount() > 0 || !packetQueue.isEmpty()) {
+      var packet = packetQueue.take();
+      if (packet != null) {
+        packets.add(packet);
+      }
+    }
+    for (var producer : producers) {
+      producer.join();
+    }
+
+    assertEquals(numberProducers * numberPackets, packets.size());
+  }
+}
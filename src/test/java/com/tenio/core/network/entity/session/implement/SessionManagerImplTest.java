@@ -24,13 +24,93 @@ THE SOFTWARE.
 
 package com.tenio.core.network.entity.session.implement;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.tenio.common.utility.TimeUtility;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.entity.session.manager.SessionManagerImpl;
+import io.netty.channel.Channel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 class SessionManagerImplTest {
   @Test
   void testNewInstance() {
     SessionManagerImpl.newInstance(EventManager.newInstance());
   }
+
+  @Test
+  void testCreateAndRemoveWebSocketSession() {
+    SessionManager sessionManager = SessionManagerImpl.newInstance(EventManager.newInstance());
+    Channel channel = mock(Channel.class);
+    var session = sessionManager.createWebSocketSession(channel);
+
+    assertTrue(session.isActivated());
+    assertSame(session, sessionManager.getSessionByWebSocket(channel));
+    assertEquals(1, sessionManager.getSessionCount());
+    assertNull(sessionManager.getSessionByWebSocket(null));
+    assertNull(sessionManager.getSessionBySocket(null));
+
+    sessionManager.removeSessionByWebSocket(channel);
+    assertNull(sessionManager.getSessionByWebSocket(channel));
+    assertEquals(0, sessionManager.getSessionCount());
+  }
+
+  @Test
+  void testReadonlySessionsListSnapshot() {
+    SessionManager sessionManager = SessionManagerImpl.newInstance(EventManager.newInstance());
+    var session1 = sessionManager.createWebSocketSession(mock(Channel.class));
+    var session2 = sessionManager.createWebSocketSession(mock(Channel.class));
+
+    var snapshot = sessionManager.getReadonlySessionsList();
+    assertEquals(2, snapshot.size());
+    // the snapshot is shared until the sessions change
+    assertSame(snapshot, sessionManager.getReadonlySessionsList());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(session1));
+
+    sessionManager.removeSession(session1);
+    var newSnapshot = sessionManager.getReadonlySessionsList();
+    assertEquals(1, newSnapshot.size());
+    assertSame(session2, newSnapshot.get(0));
+    assertFalse(newSnapshot.contains(session1));
+    assertEquals(2, snapshot.size());
+  }
+
+  @Test
+  void testComputeOrphanSessions() {
+    var currentTime = new AtomicLong(1_000_000L);
+    try (MockedStatic<TimeUtility> time = Mockito.mockStatic(TimeUtility.class)) {
+      time.when(TimeUtility::currentTimeMillis).thenAnswer(invocation -> currentTime.get());
+      SessionManager sessionManager = SessionManagerImpl.newInstance(EventManager.newInstance());
+      var orphanSession = sessionManager.createWebSocketSession(mock(Channel.class));
+      var associatedSession = sessionManager.createWebSocketSession(mock(Channel.class));
+      associatedSession.setAssociatedToPlayer(Session.AssociatedState.DONE);
+      List<Session> orphanSessions = new ArrayList<>();
+
+      currentTime.addAndGet(Session.ORPHAN_ALLOWANCE_TIME_IN_MILLISECONDS - 1_000L);
+      sessionManager.computeOrphanSessions(orphanSessions::add);
+      assertTrue(orphanSessions.isEmpty());
+
+      currentTime.addAndGet(1_000L);
+      sessionManager.computeOrphanSessions(orphanSessions::add);
+      assertEquals(List.of(orphanSession), orphanSessions);
+
+      sessionManager.removeSession(orphanSession);
+      currentTime.addAndGet(1_000L);
+      sessionManager.computeOrphanSessions(orphanSessions::add);
+      assertEquals(1, orphanSessions.size());
+    }
+  }
 }
@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For LatencyHistogram")
+class LatencyHistogramTest {
+
+  @Test
+  @DisplayName("Every value should fall into a bucket which bounds it closely")
+  void testBucketBounds() {
+    long[] values = {0L, 1L, 7L, 8L, 15L, 16L, 17L, 1_000L, 123_456_789L, Long.MAX_VALUE};
+    for (var value : values) {
+      var upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+      assertTrue(upperBound >= value);
+      // the relative error is at most 12.5%
+      assertTrue(upperBound - value <= value / 8, "value " + value);
+    }
+  }
+
+  @Test
+  @DisplayName("Percentiles should be reported within the histogram precision")
+  void testPercentiles() {
+    var histogram = LatencyHistogram.newInstance();
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000L);
+    }
+
+    var snapshot = histogram.getSnapshot();
+    assertEquals(1000L, snapshot.count());
+    assertEquals(1_000_000L, snapshot.max());
+    assertWithinPrecision(500_000L, snapshot.p50());
+    assertWithinPrecision(990_000L, snapshot.p99());
+    assertWithinPrecision(999_000L, snapshot.p999());
+  }
+
+  @Test
+  @DisplayName("Resetting should start a new interval")
+  void testSnapshotAndReset() {
+    var histogram = LatencyHistogram.newInstance();
+    histogram.record(100L);
+    histogram.record(-5L);
+
+    var snapshot = histogram.getSnapshotAndReset();
+    assertEquals(2L, snapshot.count());
+    assertEquals(100L, snapshot.max());
+    assertEquals(new LatencySnapshot(0L, 0L, 0L, 0L, 0L), histogram.getSnapshot());
+  }
+
+  @Test
+  @DisplayName("Merging should combine the recorded values of two histograms")
+  void testMerge() {
+    var first = LatencyHistogram.newInstance();
+    var second = LatencyHistogram.newInstance();
+    first.record(10L);
+    second.record(20L);
+    second.record(30L);
+
+    first.merge(second);
+
+    assertEquals(3L, first.getSnapshot().count());
+    assertEquals(30L, first.getSnapshot().max());
+    assertEquals(2L, second.getSnapshot().count());
+  }
+
+  @Test
+  @DisplayName("Concurrent recording should never lose values")
+  void testConcurrentRecording() throws InterruptedException {
+    var histogram = LatencyHistogram.newInstance();
+    var numberOfThreads = 8;
+    var valuesPerThread = 50_000;
+    var executorService = Executors.newFixedThreadPool(numberOfThreads);
+    var latch = new CountDownLatch(numberOfThreads);
+    for (int i = 0; i < numberOfThreads; i++) {
+      executorService.execute(() -> {
+        for (int j = 0; j < valuesPerThread; j++) {
+          histogram.record(j);
+        }
+        latch.countDown();
+      });
+    }
+    latch.await(10, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    assertEquals((long) numberOfThreads * valuesPerThread, histogram.getSnapshot().count());
+  }
+
+  private void assertWithinPrecision(long expected, long actual) {
+    assertTrue(actual >= expected && actual <= expected + expected / 8,
+        "expected about " + expected + " but was " + actual);
+  }
+}
@@ -47,4 +47,14 @@ class NetworkReaderStatisticTest {
     assertEquals(0L, actualNewInstanceResult.getReadPackets());
     assertEquals(0L, actualNewInstanceResult.getReadDroppedPackets());
   }
+
+  @Test
+  void testToString() {
+    NetworkReaderStatistic networkReaderStatistic = NetworkReaderStatistic.newInstance();
+    networkReaderStatistic.updateReadBytes(10L);
+    networkReaderStatistic.updateReadPackets(2L);
+    networkReaderStatistic.updateReadDroppedPackets(1L);
+    assertEquals("NetworkReaderStatistic{readBytes=10, readPackets=2, readDroppedPackets=1}",
+        networkReaderStatistic.toString());
+  }
 }
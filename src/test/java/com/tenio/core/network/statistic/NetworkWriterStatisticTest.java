@@ -55,4 +55,20 @@ class NetworkWriterStatisticTest {
   void testGetWrittenDroppedPackets() {
     assertEquals(0L, NetworkWriterStatistic.newInstance().getWrittenDroppedPackets());
   }
+
+  @Test
+  void testToString() {
+    NetworkWriterStatistic networkWriterStatistic = NetworkWriterStatistic.newInstance();
+    networkWriterStatistic.updateWrittenBytes(10L);
+    networkWriterStatistic.updateWrittenPackets(2L);
+    networkWriterStatistic.updateWrittenDroppedPacketsByPolicy(1L);
+    networkWriterStatistic.updateWrittenDroppedPacketsByEncoding(3L);
+    networkWriterStatistic.updateCompressedPackets(1L);
+    networkWriterStatistic.updateCompressionSavedBytes(4L);
+    assertEquals("NetworkWriterStatistic{writtenBytes=10, writtenPackets=2, "
+            + "writtenDroppedPacketsByPolicy=1, writtenDroppedPacketsByFull=0, "
+            + "writtenDroppedPacketsByEncoding=3, compressedPackets=1, compressionSkippedPackets=0, compressionSavedBytes=4}",
+        networkWriterStatistic.toString());
+    assertEquals(4L, networkWriterStatistic.getWrittenDroppedPackets());
+  }
 }
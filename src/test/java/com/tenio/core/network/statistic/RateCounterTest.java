@@ -0,0 +1,112 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For RateCounter")
+class RateCounterTest {
+
+  private static final long START_MILLIS = 1_000_000L;
+
+  @Test
+  @DisplayName("Concurrent increments should never be lost")
+  void testConcurrentIncrements() throws InterruptedException {
+    var rateCounter = RateCounter.newInstance();
+    var numberOfThreads = 8;
+    var incrementsPerThread = 100_000;
+    var executorService = Executors.newFixedThreadPool(numberOfThreads);
+    var latch = new CountDownLatch(numberOfThreads);
+    for (int i = 0; i < numberOfThreads; i++) {
+      executorService.execute(() -> {
+        for (int j = 0; j < incrementsPerThread; j++) {
+          rateCounter.add(1);
+        }
+        latch.countDown();
+      });
+    }
+    latch.await(10, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    assertEquals((long) numberOfThreads * incrementsPerThread, rateCounter.getTotal());
+  }
+
+  @Test
+  @DisplayName("Rates should only account increments inside their windows")
+  void testRatesOverWindows() {
+    var clock = new AtomicLong(START_MILLIS);
+    var rateCounter = RateCounter.newInstance(clock::get);
+
+    // 100 per second during 20 seconds
+    for (int second = 0; second < 20; second++) {
+      rateCounter.add(100);
+      clock.addAndGet(1000L);
+    }
+    // then 10 seconds of silence
+    clock.addAndGet(10_000L);
+
+    assertEquals(2000L, rateCounter.getTotal());
+    assertEquals(0.0, rateCounter.getRate(1));
+    assertEquals(0.0, rateCounter.getRate(10));
+    // 2000 increments since the counter was created 30 seconds ago
+    assertEquals(2000.0 / 30, rateCounter.getRate(RateCounter.MAX_WINDOW_SECONDS), 0.01);
+  }
+
+  @Test
+  @DisplayName("The last second rate should follow the current traffic")
+  void testLastSecondRate() {
+    var clock = new AtomicLong(START_MILLIS);
+    var rateCounter = RateCounter.newInstance(clock::get);
+
+    clock.addAndGet(5000L);
+    rateCounter.add(1);
+    clock.addAndGet(1000L);
+    rateCounter.add(500);
+    clock.addAndGet(500L);
+
+    var snapshot = rateCounter.getSnapshot();
+    assertEquals(501L, snapshot.total());
+    // 500 increments during the last 1.5 seconds (the window starts at a full second)
+    assertEquals(500 / 1.5, snapshot.lastSecondRate(), 0.01);
+  }
+
+  @Test
+  @DisplayName("Windows out of range should be refused")
+  void testInvalidWindow() {
+    var rateCounter = RateCounter.newInstance();
+    assertThrows(IllegalArgumentException.class, () -> rateCounter.getRate(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> rateCounter.getRate(RateCounter.MAX_WINDOW_SECONDS + 1));
+  }
+}
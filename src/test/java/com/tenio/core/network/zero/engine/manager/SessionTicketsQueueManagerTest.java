@@ -0,0 +1,73 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For SessionTicketsQueueManager")
+class SessionTicketsQueueManagerTest {
+
+  @Test
+  @DisplayName("Tickets should be partitioned by the session id")
+  void testAddTicket() {
+    var manager = new SessionTicketsQueueManager(2);
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(3L);
+    manager.addTicket(session);
+    manager.addTicket(session);
+    assertEquals(2, manager.getQueueByIndex(1).size());
+    assertEquals(0, manager.getQueueByIndex(0).size());
+    assertNull(manager.pollSpilledTicket(1));
+  }
+
+  @Test
+  @DisplayName("A ticket which does not fit into its full ring should be spilled")
+  void testSpillTicketFromFullRing() {
+    var handoffLatency = LatencyHistogram.newInstance();
+    var manager = new SessionTicketsQueueManager(1, 2, handoffLatency);
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(1L);
+    for (int i = 0; i < 3; i++) {
+      manager.addTicket(session);
+    }
+    assertEquals(2, manager.getSize());
+    assertEquals(session, manager.pollSpilledTicket(0));
+    assertNull(manager.pollSpilledTicket(0));
+
+    manager.getQueueByIndex(0).poll();
+    assertEquals(1, handoffLatency.getSnapshot().count());
+    assertEquals(2, manager.getPeakSizeAndReset());
+    manager.clear();
+    assertEquals(0, manager.getSize());
+  }
+}
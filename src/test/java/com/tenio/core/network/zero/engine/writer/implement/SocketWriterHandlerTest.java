@@ -0,0 +1,270 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.network.zero.engine.writer.implement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tenio.common.data.DataType;
+import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
+import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.exception.PacketCompressorException;
+import com.tenio.core.network.codec.compression.CompressionStream;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.codec.encryption.AesGcmPacketEncryptor;
+import com.tenio.core.network.define.TransportType;
+import com.tenio.core.network.entity.packet.Packet;
+import com.tenio.core.network.entity.packet.PacketQueue;
+import com.tenio.core.network.entity.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.packet.implement.PacketQueueImpl;
+import com.tenio.core.network.entity.packet.policy.PacketQueuePolicy;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.BlockingQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For SocketWriterHandler")
+class SocketWriterHandlerTest {
+
+  private SocketWriterHandler handler;
+  private PacketQueue packetQueue;
+  private Session session;
+  private SocketChannel channel;
+  private BlockingQueue<Session> sessionTicketsQueue;
+  private ByteArrayOutputStream written;
+  private int writableBytes;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    handler = SocketWriterHandler.newInstance();
+    handler.setNetworkWriterStatistic(mock(NetworkWriterStatistic.class));
+    var queueManager = new SessionTicketsQueueManager(1);
+    sessionTicketsQueue = queueManager.getQueueByElementId(1L);
+    handler.setSessionTicketsQueueManager(queueManager);
+    handler.allocateBuffer(1024);
+
+    packetQueue = PacketQueueImpl.newInstance();
+    packetQueue.configureMaxSize(100);
+    packetQueue.configurePacketQueuePolicy(mock(PacketQueuePolicy.class));
+
+    written = new ByteArrayOutputStream();
+    writableBytes = Integer.MAX_VALUE;
+    channel = mock(SocketChannel.class);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.isConnected()).thenReturn(true);
+    when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(invocation -> {
+      ByteBuffer[] buffers = invocation.getArgument(0);
+      int offset = invocation.getArgument(1);
+      int length = invocation.getArgument(2);
+      long count = 0;
+      for (int i = offset; i < offset + length && writableBytes > 0; i++) {
+        while (buffers[i].hasRemaining() && writableBytes > 0) {
+          written.write(buffers[i].get());
+          writableBytes--;
+          count++;
+        }
+      }
+      return count;
+    });
+
+    session = mock(Session.class);
+    when(session.getId()).thenReturn(1L);
+    when(session.isActivated()).thenReturn(true);
+    when(session.fetchSocketChannel()).thenReturn(channel);
+    when(session.fectchSocketSelectionKey()).thenReturn(mock(SelectionKey.class));
+  }
+
+  @Test
+  @DisplayName("Queued packets should be flushed in one gathering write")
+  void testSendBatchInOneWrite() throws IOException {
+    handler.setBatchLimits(16, 1024);
+    var first = createPacket(new byte[] {1, 2});
+    packetQueue.put(first);
+    packetQueue.put(createPacket(new byte[] {3}));
+    packetQueue.put(createPacket(new byte[] {4, 5, 6}));
+
+    handler.send(packetQueue, session, first);
+
+    verify(channel, times(1)).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6}, written.toByteArray());
+    assertTrue(packetQueue.isEmpty());
+    assertTrue(sessionTicketsQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A partially written packet should keep its left unsent bytes at the queue head")
+  void testSendBatchWithPartialWrite() throws IOException {
+    handler.setBatchLimits(16, 1024);
+    var first = createPacket(new byte[] {1, 2});
+    var second = createPacket(new byte[] {3, 4, 5});
+    packetQueue.put(first);
+    packetQueue.put(second);
+    writableBytes = 3;
+
+    handler.send(packetQueue, session, first);
+
+    assertEquals(1, packetQueue.getSize());
+    assertSame(second, packetQueue.peek());
+    assertArrayEquals(new byte[] {4, 5}, second.getFragmentBuffer());
+
+    writableBytes = Integer.MAX_VALUE;
+    handler.send(packetQueue, session, second);
+
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, written.toByteArray());
+    assertTrue(packetQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A batch should respect the bytes limit and reschedule the session")
+  void testSendBatchRespectsBytesLimit() throws IOException {
+    handler.setBatchLimits(16, 3);
+    var first = createPacket(new byte[] {1, 2});
+    packetQueue.put(first);
+    packetQueue.put(createPacket(new byte[] {3, 4}));
+
+    handler.send(packetQueue, session, first);
+
+    assertArrayEquals(new byte[] {1, 2}, written.toByteArray());
+    assertEquals(1, packetQueue.getSize());
+    assertEquals(1, sessionTicketsQueue.size());
+  }
+
+  @Test
+  @DisplayName("Packets which are not encoded yet should be encoded straight into the buffer")
+  void testSendBatchEncodesIntoBuffer() throws IOException {
+    var encoder = new BinaryPacketEncoderImpl();
+    handler.setPacketEncoder(encoder);
+    handler.setBatchLimits(16, 1024);
+    var first = createRawPacket(new byte[] {1, 2});
+    packetQueue.put(first);
+    packetQueue.put(createRawPacket(new byte[] {3, 4, 5}));
+
+    handler.send(packetQueue, session, first);
+
+    var expected = new ByteArrayOutputStream();
+    expected.write(encoder.encode(createRawPacket(new byte[] {1, 2})).getData());
+    expected.write(encoder.encode(createRawPacket(new byte[] {3, 4, 5})).getData());
+    assertArrayEquals(expected.toByteArray(), written.toByteArray());
+    assertTrue(packetQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A batch without any TCP packet should write nothing and reschedule the session")
+  void testSendBatchWithoutTcpPacket() throws IOException {
+    handler.setBatchLimits(16, 1024);
+    var datagramPacket = createPacket(new byte[] {1, 2});
+    datagramPacket.setTransportType(TransportType.UDP);
+    packetQueue.put(datagramPacket);
+
+    handler.send(packetQueue, session, datagramPacket);
+
+    verify(channel, never()).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    assertEquals(1, packetQueue.getSize());
+    assertEquals(1, sessionTicketsQueue.size());
+  }
+
+  @Test
+  @DisplayName("A failed compression stream should drop the session's packets and close it")
+  void testSendBatchWithFailedCompressionStream() throws IOException {
+    var compressionStream = mock(CompressionStream.class);
+    when(compressionStream.compress(any())).thenThrow(new PacketCompressorException("broken"));
+    when(session.getCompressionStream()).thenReturn(compressionStream);
+    var statistic = mock(NetworkWriterStatistic.class);
+    handler.setNetworkWriterStatistic(statistic);
+    var encoder = new BinaryPacketEncoderImpl();
+    encoder.setCompressionThresholdBytes(1);
+    handler.setPacketEncoder(encoder);
+    handler.setBatchLimits(16, 1024);
+    var first = createRawPacket(new byte[] {1, 2});
+    packetQueue.put(first);
+    packetQueue.put(createRawPacket(new byte[] {3, 4, 5}));
+
+    handler.send(packetQueue, session, first);
+
+    verify(channel, never()).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    verify(statistic).updateWrittenDroppedPacketsByEncoding(2);
+    verify(session).close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+        PlayerDisconnectMode.CONNECTION_LOST);
+    assertTrue(packetQueue.isEmpty());
+    assertTrue(sessionTicketsQueue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A packet which can not be encrypted should be dropped and the session closed")
+  void testSendWithoutEncryptionKey() throws IOException {
+    var statistic = mock(NetworkWriterStatistic.class);
+    handler.setNetworkWriterStatistic(statistic);
+    var encoder = new BinaryPacketEncoderImpl();
+    encoder.setEncryptor(AesGcmPacketEncryptor.newInstance());
+    handler.setPacketEncoder(encoder);
+    var packet = createRawPacket(new byte[] {1, 2, 3});
+    packet.needsEncrypted(true);
+    packetQueue.put(packet);
+
+    handler.send(packetQueue, session, packet);
+
+    verify(channel, never()).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    verify(channel, never()).write(any(ByteBuffer.class));
+    verify(statistic).updateWrittenDroppedPacketsByEncoding(1);
+    verify(session).close(ConnectionDisconnectMode.LOST_IN_WRITTEN,
+        PlayerDisconnectMode.CONNECTION_LOST);
+    assertTrue(packetQueue.isEmpty());
+  }
+
+  private Packet createRawPacket(byte[] data) {
+    var packet = PacketImpl.newInstance();
+    packet.setTransportType(TransportType.TCP);
+    packet.setDataType(DataType.ZERO);
+    packet.setData(data);
+    packet.needsDataCounting(true);
+    return packet;
+  }
+
+  private Packet createPacket(byte[] data) {
+    var packet = PacketImpl.newInstance();
+    packet.setTransportType(TransportType.TCP);
+    packet.setData(data);
+    packet.setEncoded(true);
+    return packet;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.handler.frame;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.codec.packet.PacketHeaderType;
+import com.tenio.core.network.codec.packet.PacketReadState;
+import com.tenio.core.network.codec.packet.PendingPacket;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For BinaryPacketFramer")
+class BinaryPacketFramerTest {
+
+  private static final byte HEADER_BYTE =
+      (byte) (PacketHeaderType.COUNTING.getValue() | PacketHeaderType.ZERO.getValue());
+
+  private BinaryPacketFramer framer;
+  private Session session;
+  private PendingPacket pendingPacket;
+  private List<byte[]> framedBinaries;
+
+  @BeforeEach
+  void setUp() {
+    pendingPacket = PendingPacket.newInstance();
+    var readState = new AtomicReference<>(PacketReadState.WAIT_NEW_PACKET);
+    session = mock(Session.class);
+    when(session.getPendingPacket()).thenReturn(pendingPacket);
+    when(session.getPacketReadState()).thenAnswer(invocation -> readState.get());
+    doAnswer(invocation -> {
+      readState.set(invocation.getArgument(0));
+      return null;
+    }).when(session).setPacketReadState(any());
+
+    framedBinaries = new ArrayList<>();
+    var decoder = mock(BinaryPacketDecoder.class);
+    when(decoder.decode(any(Session.class), any(PacketHeader.class), any(byte[].class)))
+        .thenAnswer(invocation -> {
+          framedBinaries.add(invocation.getArgument(2));
+          return null;
+        });
+
+    framer = new BinaryPacketFramer();
+    framer.setBinaryPacketDecoder(decoder);
+    framer.setPacketFramingResult((framedSession, message) -> {
+    });
+  }
+
+  @Test
+  @DisplayName("Coalesced packets in one read should be framed in place")
+  void testFramingCoalescedPackets() {
+    var buffer = ByteBuffer.allocate(64);
+    buffer.put(frame(new byte[] {1, 2, 3}));
+    buffer.put(frame(new byte[] {4, 5}));
+    buffer.flip();
+
+    framer.framing(session, buffer);
+
+    assertEquals(2, framedBinaries.size());
+    assertArrayEquals(new byte[] {1, 2, 3}, framedBinaries.get(0));
+    assertArrayEquals(new byte[] {4, 5}, framedBinaries.get(1));
+    assertFalse(buffer.hasRemaining());
+    assertEquals(PacketReadState.WAIT_NEW_PACKET, session.getPacketReadState());
+  }
+
+  @Test
+  @DisplayName("Packets split into single bytes should be reassembled")
+  void testFramingSplitPackets() {
+    byte[] stream = concat(frame(new byte[] {1, 2, 3}), frame(new byte[] {7, 8, 9}));
+    ByteBuffer accumulationBuffer = null;
+    for (int i = 0; i < stream.length; i++) {
+      framer.framing(session, ByteBuffer.wrap(stream, i, 1));
+      if (i == 4) {
+        accumulationBuffer = pendingPacket.getBuffer();
+      }
+    }
+
+    assertEquals(2, framedBinaries.size());
+    assertArrayEquals(new byte[] {1, 2, 3}, framedBinaries.get(0));
+    assertArrayEquals(new byte[] {7, 8, 9}, framedBinaries.get(1));
+    assertSame(accumulationBuffer, pendingPacket.getBuffer());
+    assertEquals(PacketReadState.WAIT_NEW_PACKET, session.getPacketReadState());
+  }
+
+  @Test
+  @DisplayName("Packet data size above Short.MAX_VALUE should be read as unsigned")
+  void testFramingUnsignedDataSize() {
+    byte[] data = new byte[Short.MAX_VALUE + 10];
+    data[data.length - 1] = 1;
+
+    framer.framing(session, frame(data));
+
+    assertEquals(1, framedBinaries.size());
+    assertArrayEquals(data, framedBinaries.get(0));
+  }
+
+  @Test
+  @DisplayName("Packet without data counting should be dropped")
+  void testFramingPacketWithoutCounting() {
+    var buffer = ByteBuffer.wrap(new byte[] {(byte) PacketHeaderType.ZERO.getValue(), 1, 2});
+
+    framer.framing(session, buffer);
+
+    assertEquals(0, framedBinaries.size());
+    assertFalse(buffer.hasRemaining());
+    assertEquals(PacketReadState.WAIT_NEW_PACKET, session.getPacketReadState());
+  }
+
+  private byte[] frame(byte[] data) {
+    var buffer = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + data.length);
+    buffer.put(HEADER_BYTE);
+    buffer.putShort((short) data.length);
+    buffer.put(data);
+    return buffer.array();
+  }
+
+  private byte[] concat(byte[] first, byte[] second) {
+    return ByteBuffer.allocate(first.length + second.length).put(first).put(second).array();
+  }
+}
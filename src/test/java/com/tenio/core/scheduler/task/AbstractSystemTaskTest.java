@@ -24,13 +24,98 @@ THE SOFTWARE.
 
 package com.tenio.core.scheduler.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.tenio.core.event.implement.EventManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 @DisplayName("Unit Test Cases For AbstractSystemTask")
 class AbstractSystemTaskTest {
 
+  private ScheduledExecutorService scheduledExecutor;
+  private List<Runnable> pendingRuns;
+  private CountingTask task;
+
+  @BeforeEach
+  void setUp() {
+    scheduledExecutor = mock(ScheduledExecutorService.class);
+    pendingRuns = new ArrayList<>();
+    task = new CountingTask();
+    task.configureExecutors(scheduledExecutor, pendingRuns::add);
+  }
+
+  @Test
+  @DisplayName("A trigger should be skipped while the previous run is still active")
+  void testSkipsOverlappingRuns() {
+    Runnable trigger = captureTrigger();
+
+    trigger.run();
+    trigger.run();
+    assertEquals(1, pendingRuns.size());
+    assertEquals(1, task.getMetrics().overruns());
+
+    pendingRuns.remove(0).run();
+    trigger.run();
+    assertEquals(1, pendingRuns.size());
+    pendingRuns.remove(0).run();
+
+    var metrics = task.getMetrics();
+    assertEquals(2, task.executions);
+    assertEquals(2, metrics.runs());
+    assertEquals(1, metrics.overruns());
+    assertTrue(metrics.maxDuration() >= metrics.lastDuration());
+    assertTrue(metrics.totalDuration() >= metrics.maxDuration());
+  }
+
   @Test
-  void placeholder() {
+  @DisplayName("A failed run should release the task for the next trigger")
+  void testFailedRunReleasesTask() {
+    Runnable trigger = captureTrigger();
+    task.failing = true;
+
+    trigger.run();
+    pendingRuns.remove(0).run();
+    trigger.run();
+
+    assertEquals(1, pendingRuns.size());
+    assertEquals(0, task.getMetrics().overruns());
+  }
+
+  private Runnable captureTrigger() {
+    task.run();
+    var captor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduledExecutor).scheduleAtFixedRate(captor.capture(), anyLong(), anyLong(),
+        eq(TimeUnit.SECONDS));
+    return captor.getValue();
+  }
+
+  private static final class CountingTask extends AbstractSystemTask {
+
+    private int executions;
+    private boolean failing;
+
+    CountingTask() {
+      super(mock(EventManager.class));
+    }
+
+    @Override
+    protected void execute() {
+      executions++;
+      if (failing) {
+        throw new IllegalStateException("failed run");
+      }
+    }
   }
 }
@@ -29,8 +29,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
-import java.util.List;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -70,7 +70,11 @@ class AutoCleanOrphanSessionTaskTest {
     Session orphanSession = Mockito.mock(Session.class);
     Mockito.when(orphanSession.isActivated()).thenReturn(true);
     Mockito.when(orphanSession.isOrphan()).thenReturn(true);
-    Mockito.when(sessionManager.getReadonlySessionsList()).thenReturn(List.of(orphanSession));
+    Mockito.doAnswer(invocation -> {
+      Consumer<Session> onOrphan = invocation.getArgument(0);
+      onOrphan.accept(orphanSession);
+      return null;
+    }).when(sessionManager).computeOrphanSessions(Mockito.any());
     Mockito.when(sessionManager.getSessionCount()).thenReturn(1);
     ScheduledFuture<?> future = task.run();
     assertNotNull(future);
@@ -31,8 +31,8 @@ import com.tenio.core.entity.Player;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.server.ServerImpl;
-import java.util.List;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,7 +74,11 @@ class AutoDisconnectPlayerTaskTest {
     Mockito.when(idlePlayer.isNeverDeported()).thenReturn(false);
     Mockito.when(idlePlayer.isIdle()).thenReturn(true);
     Mockito.when(idlePlayer.getIdentity()).thenReturn("player1");
-    Mockito.when(playerManager.getReadonlyPlayersList()).thenReturn(List.of(idlePlayer));
+    Mockito.doAnswer(invocation -> {
+      Consumer<Player> onIdle = invocation.getArgument(0);
+      onIdle.accept(idlePlayer);
+      return null;
+    }).when(playerManager).computeIdlePlayers(Mockito.any());
     Mockito.when(playerManager.getPlayerCount()).thenReturn(1);
     ServerApi api = Mockito.mock(ServerApi.class);
     ServerImpl server = Mockito.mock(ServerImpl.class);
@@ -0,0 +1,165 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2025 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+
+package com.tenio.core.scheduler.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For HashedTimingWheel")
+class HashedTimingWheelTest {
+
+  private HashedTimingWheel<String> wheel;
+  private List<String> expired;
+
+  @BeforeEach
+  void setUp() {
+    wheel = HashedTimingWheel.newInstance(100L, 8, 0L);
+    expired = new ArrayList<>();
+  }
+
+  @Test
+  @DisplayName("Invalid parameters should be rejected")
+  void testInvalidParameters() {
+    assertThrows(IllegalArgumentException.class,
+        () -> HashedTimingWheel.newInstance(0L, 8, 0L));
+    assertThrows(IllegalArgumentException.class,
+        () -> HashedTimingWheel.newInstance(100L, 6, 0L));
+  }
+
+  @Test
+  @DisplayName("A node should only expire once its deadline elapses")
+  void testExpiration() {
+    wheel.schedule("a", 250L);
+    wheel.schedule("b", 500L);
+    assertEquals(2, wheel.size());
+
+    wheel.advance(200L, timeout -> expired.add(timeout.getTarget()));
+    assertTrue(expired.isEmpty());
+
+    wheel.advance(300L, timeout -> expired.add(timeout.getTarget()));
+    assertEquals(List.of("a"), expired);
+    assertEquals(1, wheel.size());
+
+    wheel.advance(500L, timeout -> expired.add(timeout.getTarget()));
+    assertEquals(List.of("a", "b"), expired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  @DisplayName("A deadline further than one revolution should wait for its own tick")
+  void testDeadlineBeyondOneRevolution() {
+    wheel.schedule("a", 1_000L);
+
+    wheel.advance(900L, timeout -> expired.add(timeout.getTarget()));
+    assertTrue(expired.isEmpty());
+
+    wheel.advance(1_000L, timeout -> expired.add(timeout.getTarget()));
+    assertEquals(List.of("a"), expired);
+  }
+
+  @Test
+  @DisplayName("Advancing after a long pause should expire all elapsed deadlines")
+  void testLongPause() {
+    for (int i = 1; i <= 20; i++) {
+      wheel.schedule("node" + i, i * 100L);
+    }
+    wheel.schedule("late", 10_000L);
+
+    wheel.advance(5_000L, timeout -> expired.add(timeout.getTarget()));
+    assertEquals(20, expired.size());
+    assertEquals(1, wheel.size());
+  }
+
+  @Test
+  @DisplayName("Rescheduling should move a node without creating a new one")
+  void testReschedule() {
+    var timeout = wheel.schedule("a", 200L);
+    assertTrue(wheel.reschedule(timeout, 600L));
+    assertEquals(1, wheel.size());
+
+    wheel.advance(300L, node -> expired.add(node.getTarget()));
+    assertTrue(expired.isEmpty());
+
+    wheel.advance(600L, node -> {
+      expired.add(node.getTarget());
+      wheel.reschedule(node, 800L);
+    });
+    assertEquals(List.of("a"), expired);
+    assertEquals(1, wheel.size());
+
+    wheel.advance(800L, node -> expired.add(node.getTarget()));
+    assertEquals(List.of("a", "a"), expired);
+  }
+
+  @Test
+  @DisplayName("A deadline in the past should expire at the next tick")
+  void testPastDeadline() {
+    wheel.advance(1_000L, node -> expired.add(node.getTarget()));
+    wheel.schedule("a", 0L);
+
+    wheel.advance(1_000L, node -> expired.add(node.getTarget()));
+    assertTrue(expired.isEmpty());
+
+    wheel.advance(1_100L, node -> expired.add(node.getTarget()));
+    assertEquals(List.of("a"), expired);
+  }
+
+  @Test
+  @DisplayName("A cancelled node should neither expire nor be rescheduled")
+  void testCancel() {
+    var timeout = wheel.schedule("a", 200L);
+    wheel.schedule("b", 200L);
+    wheel.cancel(timeout);
+
+    assertTrue(timeout.isCancelled());
+    assertFalse(wheel.reschedule(timeout, 300L));
+    assertEquals(1, wheel.size());
+
+    wheel.advance(500L, node -> expired.add(node.getTarget()));
+    assertEquals(List.of("b"), expired);
+  }
+
+  @Test
+  @DisplayName("Clearing should unlink all nodes")
+  void testClear() {
+    var timeout = wheel.schedule("a", 200L);
+    wheel.schedule("b", 300L);
+    wheel.clear();
+
+    assertEquals(0, wheel.size());
+    assertTrue(timeout.isCancelled());
+    wheel.advance(500L, node -> expired.add(node.getTarget()));
+    assertTrue(expired.isEmpty());
+  }
+}